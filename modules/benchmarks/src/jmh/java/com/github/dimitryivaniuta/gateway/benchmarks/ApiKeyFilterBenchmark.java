@@ -0,0 +1,90 @@
+package com.github.dimitryivaniuta.gateway.benchmarks;
+
+import com.github.dimitryivaniuta.gateway.auth.ApiKeyAuthenticationFilter;
+import com.github.dimitryivaniuta.gateway.coherence.CacheCoherenceChannel;
+import com.github.dimitryivaniuta.gateway.config.properties.CacheCoherenceProperties;
+import com.github.dimitryivaniuta.gateway.config.properties.RateLimitProperties;
+import com.github.dimitryivaniuta.gateway.config.properties.SecurityProperties;
+import com.github.dimitryivaniuta.gateway.ratelimit.ApiKeyRateLimiter;
+import com.github.dimitryivaniuta.gateway.service.ActiveApiKey;
+import com.github.dimitryivaniuta.gateway.service.ApiKeyService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ApiKeyAuthenticationFilter} on {@code /graphql}, with the repository lookup stubbed
+ * out so only the filter's own work (header handling, local rate-limit counting, token building,
+ * context update) is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ApiKeyFilterBenchmark {
+
+    private static final String KEY = "bench-api-key";
+
+    private ApiKeyAuthenticationFilter filter;
+
+    @Setup
+    public void setup() {
+        ActiveApiKey activeKey = new ActiveApiKey(UUID.randomUUID(), "bench", "default", Integer.MAX_VALUE);
+
+        // coherence disabled: no listener thread, no caching
+        CacheCoherenceChannel coherence = new CacheCoherenceChannel(
+                new CacheCoherenceProperties(false, 0, 0, 0), new DataSourceProperties(), new SimpleMeterRegistry());
+        ApiKeyService apiKeyService = new ApiKeyService(null, coherence) {
+            @Override
+            public Optional<ActiveApiKey> authenticate(String rawKey) {
+                return KEY.equals(rawKey) ? Optional.of(activeKey) : Optional.empty();
+            }
+        };
+        SecurityProperties properties = new SecurityProperties(
+                false, new SecurityProperties.ApiKey("X-API-Key", null), null);
+        // local counting is measured; sync() is never scheduled here, so no database is needed
+        ApiKeyRateLimiter rateLimiter = new ApiKeyRateLimiter(
+                new RateLimitProperties(true, 0, 0, "bench"), null, "gateway", new SimpleMeterRegistry());
+        filter = new ApiKeyAuthenticationFilter(apiKeyService, rateLimiter, properties);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse validKey() throws Exception {
+        return run(KEY);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse missingHeader() throws Exception {
+        return run(null);
+    }
+
+    private MockHttpServletResponse run(String key) throws Exception {
+        // OncePerRequestFilter marks the request as filtered, so each invocation needs a fresh one
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/graphql");
+        request.setContextPath("/api");
+        request.setServletPath("/graphql");
+        if (key != null) {
+            request.addHeader("X-API-Key", key);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, new MockFilterChain());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.dimitryivaniuta.gateway.benchmarks;
+
+import com.github.dimitryivaniuta.gateway.common.money.MoneyDto;
+import com.github.dimitryivaniuta.gateway.graphql.dataloader.InventoryBatchLoader;
+import com.github.dimitryivaniuta.gateway.graphql.dataloader.InventoryBatchLoader.InventoryItemByOrderDto;
+import com.github.dimitryivaniuta.gateway.graphql.dataloader.PaymentBatchLoader;
+import com.github.dimitryivaniuta.gateway.graphql.type.InventoryItem;
+import com.github.dimitryivaniuta.gateway.graphql.type.Payment;
+import com.github.dimitryivaniuta.gateway.graphql.type.PaymentStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grouping of downstream rows by order id in the inventory and payment batch loaders.
+ *
+ * <p>{@code orders} keys are requested; each order has {@code rowsPerOrder} rows, except
+ * every tenth order which has none (exercises the empty-list fill).</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BatchLoaderGroupingBenchmark {
+
+    @Param({"10", "100"})
+    public int orders;
+
+    @Param({"3"})
+    public int rowsPerOrder;
+
+    private Set<UUID> keys;
+    private List<InventoryItemByOrderDto> inventoryRows;
+    private List<Payment> payments;
+
+    @Setup
+    public void setup() {
+        keys = new LinkedHashSet<>(orders);
+        inventoryRows = new ArrayList<>(orders * rowsPerOrder);
+        payments = new ArrayList<>(orders * rowsPerOrder);
+
+        OffsetDateTime now = OffsetDateTime.now();
+        MoneyDto total = new MoneyDto(new BigDecimal("10.00"), "EUR");
+
+        for (int o = 0; o < orders; o++) {
+            UUID orderId = UUID.randomUUID();
+            keys.add(orderId);
+            if (o % 10 == 9) {
+                continue;
+            }
+            for (int r = 0; r < rowsPerOrder; r++) {
+                inventoryRows.add(new InventoryItemByOrderDto(
+                        orderId, UUID.randomUUID(), "SKU-" + r, "Item " + r, "Description", 10, 1));
+                payments.add(new Payment(
+                        UUID.randomUUID(), orderId, PaymentStatus.CAPTURED, total, "stripe", now, now));
+            }
+        }
+    }
+
+    @Benchmark
+    public Map<UUID, List<InventoryItem>> inventory() {
+        return InventoryBatchLoader.groupByOrderId(keys, inventoryRows);
+    }
+
+    @Benchmark
+    public Map<UUID, List<Payment>> payments() {
+        return PaymentBatchLoader.groupByOrderId(keys, payments);
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.dimitryivaniuta.gateway.benchmarks;
+
+import com.github.dimitryivaniuta.gateway.config.properties.MetricsProperties;
+import com.github.dimitryivaniuta.gateway.observability.GraphQlMetricsInstrumentation;
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overhead of {@link GraphQlMetricsInstrumentation} on an in-memory query shaped like the
+ * gateway's {@code orders { ... inventoryItems { ... } }} (20 orders x 3 async child lists).
+ *
+ * <p>Compare {@code instrumented} with {@code baseline}; {@code fieldSampleRate=1.0} is the
+ * worst case where every request times every non-trivial field.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GraphQlInstrumentationOverheadBenchmark {
+
+    private static final String SDL = """
+            type Query { orders(n: Int!): [Order!]! }
+            type Order { id: ID! status: String! items: [Item!]! }
+            type Item { id: ID! sku: String! quantity: Int! }
+            """;
+
+    private static final String QUERY = """
+            query Orders($n: Int!) { orders(n: $n) { id status items { id sku quantity } } }
+            """;
+
+    @Param({"0.01", "1.0"})
+    public double fieldSampleRate;
+
+    private GraphQL baseline;
+    private GraphQL instrumented;
+    private ExecutionInput input;
+
+    @Setup
+    public void setup() {
+        RuntimeWiring wiring = RuntimeWiring.newRuntimeWiring()
+                .type("Query", t -> t.dataFetcher("orders", env -> orders(env.getArgument("n"))))
+                .type("Order", t -> t.dataFetcher("items", env -> CompletableFuture.completedFuture(items())))
+                .build();
+        GraphQLSchema schema = new SchemaGenerator()
+                .makeExecutableSchema(new SchemaParser().parse(SDL), wiring);
+
+        baseline = GraphQL.newGraphQL(schema).build();
+        instrumented = GraphQL.newGraphQL(schema)
+                .instrumentation(new GraphQlMetricsInstrumentation(
+                        new SimpleMeterRegistry(), new MetricsProperties(fieldSampleRate, 100, null, null)))
+                .build();
+        input = ExecutionInput.newExecutionInput(QUERY)
+                .operationName("Orders")
+                .variables(Map.of("n", 20))
+                .build();
+    }
+
+    @Benchmark
+    public ExecutionResult baseline() {
+        return baseline.execute(input);
+    }
+
+    @Benchmark
+    public ExecutionResult instrumented() {
+        return instrumented.execute(input);
+    }
+
+    private static List<Map<String, Object>> orders(int n) {
+        List<Map<String, Object>> orders = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            orders.add(Map.of("id", "order-" + i, "status", "CONFIRMED"));
+        }
+        return orders;
+    }
+
+    private static List<Map<String, Object>> items() {
+        return List.of(
+                Map.of("id", "item-1", "sku", "SKU-1", "quantity", 1),
+                Map.of("id", "item-2", "sku", "SKU-2", "quantity", 2),
+                Map.of("id", "item-3", "sku", "SKU-3", "quantity", 3));
+    }
+}
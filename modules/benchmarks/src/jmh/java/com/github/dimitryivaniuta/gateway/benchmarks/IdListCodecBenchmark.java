@@ -0,0 +1,64 @@
+package com.github.dimitryivaniuta.gateway.benchmarks;
+
+import com.github.dimitryivaniuta.gateway.common.id.UuidListCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code ids=<uuid>,<uuid>,...} codec: {@code join} runs in every gateway client and
+ * batch loader call, {@code parse} in the matching {@code /internal/*?ids=} endpoints.
+ * {@code toBytes}/{@code fromBytes} are the binary form used by {@code /internal/orders:batchGet}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IdListCodecBenchmark {
+
+    @Param({"1", "20", "200"})
+    public int size;
+
+    private List<UUID> ids;
+    private String csv;
+    private byte[] binary;
+
+    @Setup
+    public void setup() {
+        ids = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        csv = UuidListCodec.join(ids);
+        binary = UuidListCodec.toBytes(ids);
+    }
+
+    @Benchmark
+    public String join() {
+        return UuidListCodec.join(ids);
+    }
+
+    @Benchmark
+    public List<UUID> parse() {
+        return UuidListCodec.parse(csv);
+    }
+
+    @Benchmark
+    public byte[] toBytes() {
+        return UuidListCodec.toBytes(ids);
+    }
+
+    @Benchmark
+    public List<UUID> fromBytes() {
+        return UuidListCodec.fromBytes(binary);
+    }
+}
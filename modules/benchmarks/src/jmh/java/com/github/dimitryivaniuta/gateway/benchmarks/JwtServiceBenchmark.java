@@ -0,0 +1,48 @@
+package com.github.dimitryivaniuta.gateway.benchmarks;
+
+import com.github.dimitryivaniuta.gateway.config.SecurityCryptoConfig;
+import com.github.dimitryivaniuta.gateway.config.properties.SecurityProperties;
+import com.github.dimitryivaniuta.gateway.service.JwtService;
+import com.github.dimitryivaniuta.gateway.service.UserAccount;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JwtService#authenticate(String)}: HS256 signature check, claim validation and
+ * authority extraction, executed for every bearer-authenticated request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setup() {
+        SecurityProperties properties = new SecurityProperties(
+                true,
+                new SecurityProperties.ApiKey("X-API-Key", null),
+                new SecurityProperties.Jwt("graphql-gateway", 3600, "benchmark-secret-benchmark-secret-0123456789"));
+        SecurityCryptoConfig crypto = new SecurityCryptoConfig(properties);
+        jwtService = new JwtService(crypto.jwtDecoder(), crypto.jwtEncoder(), properties);
+
+        UserAccount user = new UserAccount(UUID.randomUUID(), "tenant-1", "bench", null, "ROLE_USER,ROLE_ADMIN", false);
+        token = jwtService.issueToken(user);
+    }
+
+    @Benchmark
+    public JwtAuthenticationToken authenticate() {
+        return jwtService.authenticate(token);
+    }
+}
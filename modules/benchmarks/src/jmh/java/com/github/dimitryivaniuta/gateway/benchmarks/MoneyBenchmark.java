@@ -0,0 +1,76 @@
+package com.github.dimitryivaniuta.gateway.benchmarks;
+
+import com.github.dimitryivaniuta.gateway.common.money.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Money} construction and addition, used for every order line and order total.
+ *
+ * <p>{@code orderTotal} is {@link Money#total}, which order-service uses for order totals, over
+ * a 1,000-line order (minor units, one allocation for the result); {@code orderTotalBigDecimal}
+ * is the previous per-line {@code BigDecimal} multiply/add for comparison. Compare
+ * {@code gc.alloc.rate.norm} of the two.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoneyBenchmark {
+
+    private static final int ORDER_LINES = 1_000;
+
+    private BigDecimal amount;
+    private Money left;
+    private Money right;
+    private List<Line> lines;
+
+    private record Line(Money unitPrice, int quantity) {
+    }
+
+    @Setup
+    public void setup() {
+        amount = new BigDecimal("19.99");
+        left = Money.of(new BigDecimal("100.10"), "EUR");
+        right = Money.of(new BigDecimal("0.35"), "EUR");
+
+        lines = new ArrayList<>(ORDER_LINES);
+        for (int i = 0; i < ORDER_LINES; i++) {
+            lines.add(new Line(Money.ofMinorUnits(199 + i, "EUR"), 1 + i % 5));
+        }
+    }
+
+    @Benchmark
+    public Money of() {
+        return Money.of(amount, "EUR");
+    }
+
+    @Benchmark
+    public Money add() {
+        return left.add(right);
+    }
+
+    @Benchmark
+    public Money orderTotal() {
+        return Money.total(lines, Line::unitPrice, Line::quantity);
+    }
+
+    @Benchmark
+    public Money orderTotalBigDecimal() {
+        String currency = lines.get(0).unitPrice().getCurrencyCode();
+        BigDecimal total = BigDecimal.ZERO;
+        for (Line line : lines) {
+            total = total.add(line.unitPrice().getAmount().multiply(BigDecimal.valueOf(line.quantity())));
+        }
+        return Money.of(total, currency);
+    }
+}
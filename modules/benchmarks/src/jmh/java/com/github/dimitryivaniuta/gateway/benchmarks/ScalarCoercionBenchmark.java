@@ -0,0 +1,69 @@
+package com.github.dimitryivaniuta.gateway.benchmarks;
+
+import com.github.dimitryivaniuta.gateway.util.DateTimeScalar;
+import com.github.dimitryivaniuta.gateway.util.MoneyScalar;
+import graphql.schema.Coercing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coercion cost of the custom {@code Money} and {@code DateTime} scalars.
+ *
+ * <p>{@code serialize} runs once per scalar field in every response, {@code parseValue}
+ * once per scalar in every variables map.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@SuppressWarnings("deprecation")
+public class ScalarCoercionBenchmark {
+
+    private Coercing<?, ?> money;
+    private Coercing<?, ?> dateTime;
+
+    private BigDecimal amount;
+    private String amountText;
+    private OffsetDateTime timestamp;
+    private String timestampText;
+
+    @Setup
+    public void setup() {
+        money = MoneyScalar.INSTANCE.getCoercing();
+        dateTime = DateTimeScalar.INSTANCE.getCoercing();
+
+        amount = new BigDecimal("1234.56");
+        amountText = "1234.56";
+        timestamp = OffsetDateTime.of(2025, 1, 15, 10, 30, 0, 0, ZoneOffset.UTC);
+        timestampText = "2025-01-15T10:30:00Z";
+    }
+
+    @Benchmark
+    public Object moneySerialize() {
+        return money.serialize(amount);
+    }
+
+    @Benchmark
+    public Object moneyParseValue() {
+        return money.parseValue(amountText);
+    }
+
+    @Benchmark
+    public Object dateTimeSerialize() {
+        return dateTime.serialize(timestamp);
+    }
+
+    @Benchmark
+    public Object dateTimeParseValue() {
+        return dateTime.parseValue(timestampText);
+    }
+}
@@ -0,0 +1,105 @@
+package com.github.dimitryivaniuta.gateway.common.id;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Codec for the id lists exchanged between the gateway and the domain services: the
+ * comma-separated text form ({@code GET /internal/orders?ids=<uuid>,<uuid>,...}) and the
+ * binary form (consecutive 16-byte UUIDs, {@code POST /internal/orders:batchGet}).
+ *
+ * <p>Both directions sit on the hot path of every batched lookup, so they avoid
+ * streams and pre-size their buffers from the known UUID length.</p>
+ */
+public final class UuidListCodec {
+
+    /** Length of the canonical textual UUID form, e.g. {@code 123e4567-e89b-12d3-a456-426614174000}. */
+    private static final int UUID_TEXT_LENGTH = 36;
+
+    /** Length of the binary UUID form: most significant 64 bits, then least significant, big-endian. */
+    private static final int UUID_BINARY_LENGTH = 16;
+
+    private UuidListCodec() {
+    }
+
+    /**
+     * Join ids into {@code a,b,c} (iteration order of the collection).
+     */
+    public static String join(Collection<UUID> ids) {
+        StringBuilder sb = new StringBuilder(ids.size() * (UUID_TEXT_LENGTH + 1));
+        for (UUID id : ids) {
+            if (!sb.isEmpty()) {
+                sb.append(',');
+            }
+            sb.append(id);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Parse {@code a,b,c} into ids, preserving order and duplicates.
+     *
+     * <p>Blank segments and surrounding whitespace are ignored.</p>
+     *
+     * @throws IllegalArgumentException if a segment is not a valid UUID
+     */
+    public static List<UUID> parse(String csv) {
+        if (csv == null || csv.isEmpty()) {
+            return List.of();
+        }
+
+        List<UUID> ids = new ArrayList<>(csv.length() / (UUID_TEXT_LENGTH + 1) + 1);
+        int start = 0;
+        int length = csv.length();
+        while (start <= length) {
+            int comma = csv.indexOf(',', start);
+            int end = comma < 0 ? length : comma;
+            String token = csv.substring(start, end).trim();
+            if (!token.isEmpty()) {
+                ids.add(UUID.fromString(token));
+            }
+            if (comma < 0) {
+                break;
+            }
+            start = comma + 1;
+        }
+        return ids;
+    }
+
+    /**
+     * Encode ids as consecutive 16-byte values (iteration order of the collection).
+     */
+    public static byte[] toBytes(Collection<UUID> ids) {
+        ByteBuffer buffer = ByteBuffer.allocate(ids.size() * UUID_BINARY_LENGTH);
+        for (UUID id : ids) {
+            buffer.putLong(id.getMostSignificantBits());
+            buffer.putLong(id.getLeastSignificantBits());
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Decode consecutive 16-byte values into ids, preserving order and duplicates.
+     *
+     * @throws IllegalArgumentException if the length is not a multiple of 16
+     */
+    public static List<UUID> fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return List.of();
+        }
+        if (bytes.length % UUID_BINARY_LENGTH != 0) {
+            throw new IllegalArgumentException(
+                    "Binary id list length must be a multiple of " + UUID_BINARY_LENGTH + ", was " + bytes.length);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        List<UUID> ids = new ArrayList<>(bytes.length / UUID_BINARY_LENGTH);
+        while (buffer.hasRemaining()) {
+            ids.add(new UUID(buffer.getLong(), buffer.getLong()));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.dimitryivaniuta.gateway.common.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Interned ISO 4217 currency descriptor used by {@link Money}.
+ *
+ * <p>One instance per currency is created up front from {@link Currency#getAvailableCurrencies()},
+ * so resolving a code is a single map lookup and instances can be compared by reference.
+ * {@link #scale()} is the number of fraction digits minor units are counted in. It is 2 for
+ * every currency, including three-digit ones such as BHD or KWD: {@link Money#of} has always
+ * normalized to 2 digits, and the order JSON built in the database rounds to 2 as well, so
+ * both paths render the same amount.</p>
+ */
+public final class CurrencyUnit {
+
+    private static final int SCALE = 2;
+
+    private static final Map<String, CurrencyUnit> BY_CODE = new HashMap<>();
+
+    static {
+        for (Currency currency : Currency.getAvailableCurrencies()) {
+            CurrencyUnit unit = new CurrencyUnit(currency.getCurrencyCode(), SCALE);
+            BY_CODE.put(unit.code, unit);
+        }
+    }
+
+    private final String code;
+    private final int scale;
+
+    private CurrencyUnit(String code, int scale) {
+        this.code = code;
+        this.scale = scale;
+    }
+
+    /**
+     * Resolve an ISO 4217 code; surrounding whitespace and lower case are tolerated.
+     *
+     * @throws NullPointerException     if {@code code} is null
+     * @throws IllegalArgumentException if {@code code} is not a known currency
+     */
+    public static CurrencyUnit of(String code) {
+        CurrencyUnit unit = BY_CODE.get(code);
+        if (unit != null) {
+            return unit;
+        }
+        String normalized = code.trim().toUpperCase();
+        unit = BY_CODE.get(normalized);
+        if (unit == null) {
+            throw new IllegalArgumentException("Unknown currency code: '" + code + "'");
+        }
+        return unit;
+    }
+
+    public String code() {
+        return code;
+    }
+
+    public int scale() {
+        return scale;
+    }
+
+    /**
+     * Major-unit amount for a count of minor units.
+     */
+    BigDecimal toMajor(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, scale);
+    }
+
+    /**
+     * Minor units for a major-unit amount, rounded {@code HALF_UP}.
+     *
+     * @throws ArithmeticException if the amount does not fit in a {@code long}
+     */
+    long toMinor(BigDecimal amount) {
+        return amount.setScale(scale, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    @Override
+    public String toString() {
+        return code;
+    }
+}
@@ -1,42 +1,30 @@
 package com.github.dimitryivaniuta.gateway.common.money;
 
-import jakarta.persistence.Column;
-import jakarta.persistence.Embeddable;
-import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
-import lombok.EqualsAndHashCode;
-import lombok.Getter;
-
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.Currency;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 
 /**
  * Immutable value object representing a monetary amount + ISO 4217 currency.
  *
- * - Always use BigDecimal for exact arithmetic.
- * - Scale is normalized to 2 fraction digits by default (can be adjusted).
- * - Designed to be used in JPA entities via @Embedded.
+ * - The amount is held as a {@code long} count of minor units of an interned {@link CurrencyUnit};
+ *   arithmetic is exact and overflow-checked ({@link ArithmeticException}).
+ * - {@link BigDecimal} only appears at the edges: {@link #of}, {@link #getAmount()} and
+ *   {@link #multiply(BigDecimal)} (JSON via {@link MoneyDto}, persistence, GraphQL scalar).
+ * - Amounts are held at 2 fraction digits for every currency (see {@link CurrencyUnit#scale()});
+ *   decimals are normalized using HALF_UP.
  */
-@Embeddable
-@Getter
-@EqualsAndHashCode
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
-public class Money {
-
-    @Column(name = "amount", precision = 19, scale = 4, nullable = false)
-    private BigDecimal amount;
+public final class Money {
 
-    @Column(name = "currency", length = 3, nullable = false)
-    private String currencyCode;
+    private final long minorUnits;
+    private final CurrencyUnit currency;
 
-    /**
-     * JPA requires a no-arg constructor.
-     */
-    @SuppressWarnings("unused")
-    protected Money() {
-        // for JPA
+    private Money(long minorUnits, CurrencyUnit currency) {
+        this.minorUnits = minorUnits;
+        this.currency = currency;
     }
 
     /**
@@ -53,68 +41,157 @@ public class Money {
         Objects.requireNonNull(amount, "amount must not be null");
         Objects.requireNonNull(currencyCode, "currencyCode must not be null");
 
-        if (amount.signum() == 0 || amount.signum() < 0) {
+        if (amount.signum() <= 0) {
             throw new IllegalArgumentException("amount must be positive");
         }
 
-        String normalizedCode = currencyCode.trim().toUpperCase();
         // Will throw IllegalArgumentException if code is invalid (e.g. "XYZ")
-        Currency.getInstance(normalizedCode);
+        CurrencyUnit unit = CurrencyUnit.of(currencyCode);
 
         BigDecimal normalizedAmount = amount.setScale(2, RoundingMode.HALF_UP);
 
-        return new Money(normalizedAmount, normalizedCode);
+        return new Money(unit.toMinor(normalizedAmount), unit);
     }
 
     public static Money ofMinorUnits(long minorUnits, String currencyCode) {
-        Currency currency = Currency.getInstance(currencyCode);
-        int scale = Math.max(currency.getDefaultFractionDigits(), 2);
-        BigDecimal major = BigDecimal.valueOf(minorUnits, scale);
-        return new Money(major, currency.getCurrencyCode());
+        return new Money(minorUnits, CurrencyUnit.of(currencyCode));
+    }
+
+    public static Money ofMinorUnits(long minorUnits, CurrencyUnit currency) {
+        return new Money(minorUnits, Objects.requireNonNull(currency, "currency must not be null"));
+    }
+
+    /**
+     * Sums {@code unitPrice * quantity} over {@code lines} (e.g. order lines) in minor units;
+     * allocates only the result.
+     *
+     * <p>A line's unit price is read before its quantity.</p>
+     *
+     * @throws IllegalArgumentException if there are no lines, a unit price is null, the
+     *                                  currencies differ or the total is not positive.
+     * @throws ArithmeticException      on overflow.
+     */
+    public static <T> Money total(List<? extends T> lines,
+                                  Function<? super T, Money> unitPrice,
+                                  ToIntFunction<? super T> quantity) {
+        if (lines == null || lines.isEmpty()) {
+            throw new IllegalArgumentException("at least one line is required");
+        }
+
+        CurrencyUnit currency = null;
+        long totalMinorUnits = 0L;
+
+        for (T line : lines) {
+            Money price = unitPrice.apply(line);
+            if (price == null) {
+                throw new IllegalArgumentException("unitPrice must not be null");
+            }
+            if (currency == null) {
+                currency = price.currency;
+            } else if (currency != price.currency) {
+                throw new IllegalArgumentException("All lines must have the same currency");
+            }
+            totalMinorUnits = Math.addExact(totalMinorUnits,
+                    Math.multiplyExact(price.minorUnits, quantity.applyAsInt(line)));
+        }
+
+        if (totalMinorUnits <= 0) {
+            throw new IllegalArgumentException("amount must be positive");
+        }
+        return new Money(totalMinorUnits, currency);
+    }
+
+    /**
+     * Amount in major units at the currency's scale; allocates, meant for the edges.
+     */
+    public BigDecimal getAmount() {
+        return currency.toMajor(minorUnits);
+    }
+
+    public String getCurrencyCode() {
+        return currency.code();
+    }
+
+    /**
+     * ISO 4217 code, same as {@link #getCurrencyCode()}.
+     */
+    public String getCurrency() {
+        return currency.code();
+    }
+
+    public CurrencyUnit getCurrencyUnit() {
+        return currency;
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
     }
 
     /**
      * Adds another Money with the same currency.
      *
-     * @throws IllegalArgumentException if currencies differ.
+     * @throws IllegalArgumentException if currencies differ or the sum is not positive.
+     * @throws ArithmeticException      on overflow.
      */
     public Money add(Money other) {
         Objects.requireNonNull(other, "other must not be null");
-        if (!this.currencyCode.equals(other.currencyCode)) {
-            throw new IllegalArgumentException("Currency mismatch: " + this.currencyCode + " vs " + other.currencyCode);
+        assertSameCurrency(other);
+        long sum = Math.addExact(this.minorUnits, other.minorUnits);
+        if (sum <= 0) {
+            throw new IllegalArgumentException("amount must be positive");
         }
-        return Money.of(this.amount.add(other.amount), this.currencyCode);
+        return new Money(sum, this.currency);
     }
 
     public Money subtract(Money other) {
         assertSameCurrency(other);
-        return new Money(this.amount.subtract(other.amount), this.currencyCode);
+        return new Money(Math.subtractExact(this.minorUnits, other.minorUnits), this.currency);
     }
 
     public Money multiply(long factor) {
-        return new Money(this.amount.multiply(BigDecimal.valueOf(factor)), this.currencyCode);
+        return new Money(Math.multiplyExact(this.minorUnits, factor), this.currency);
     }
 
+    /**
+     * Multiplies by a decimal factor, rounding HALF_UP to the minor unit.
+     */
     public Money multiply(BigDecimal factor) {
-        return new Money(this.amount.multiply(factor), this.currencyCode);
+        return new Money(currency.toMinor(getAmount().multiply(factor)), this.currency);
     }
 
     public boolean isZero() {
-        return amount.compareTo(BigDecimal.ZERO) == 0;
+        return minorUnits == 0;
     }
 
     public boolean isPositive() {
-        return amount.compareTo(BigDecimal.ZERO) > 0;
+        return minorUnits > 0;
     }
 
     public boolean isNegative() {
-        return amount.compareTo(BigDecimal.ZERO) < 0;
+        return minorUnits < 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Money other
+                && minorUnits == other.minorUnits
+                && currency == other.currency;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(minorUnits) + currency.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return getAmount().toPlainString() + " " + currency.code();
     }
 
     private void assertSameCurrency(Money other) {
-        if (!this.currencyCode.equals(other.currencyCode)) {
+        if (this.currency != other.currency) {
             throw new IllegalArgumentException(
-                    "Currency mismatch: %s vs %s".formatted(this.currencyCode, other.currencyCode)
+                    "Currency mismatch: %s vs %s".formatted(this.currency.code(), other.currency.code())
             );
         }
     }
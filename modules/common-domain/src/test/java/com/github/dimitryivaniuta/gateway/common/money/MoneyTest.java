@@ -3,6 +3,7 @@ package com.github.dimitryivaniuta.gateway.common.money;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -55,4 +56,54 @@ class MoneyTest {
         assertThat(a.hashCode()).isEqualTo(b.hashCode());
         assertThat(a).isNotEqualTo(c);
     }
+
+    @Test
+    void decimalAndMinorUnitFactoriesAgree() {
+        Money decimal = Money.of(new BigDecimal("10.505"), "eur");
+        Money minor = Money.ofMinorUnits(1051, "EUR");
+
+        assertThat(decimal).isEqualTo(minor);
+        assertThat(decimal.getMinorUnits()).isEqualTo(1051);
+        assertThat(decimal.getAmount()).isEqualByComparingTo("10.51");
+    }
+
+    @Test
+    void threeDigitCurrenciesUseTheSameTwoDigitScale() {
+        Money money = Money.of(new BigDecimal("12.345"), "BHD");
+
+        assertThat(money.getAmount()).isEqualTo(new BigDecimal("12.35"));
+        assertThat(money.getMinorUnits()).isEqualTo(1235);
+        assertThat(money).isEqualTo(Money.ofMinorUnits(1235, "BHD"));
+        assertThat(money.toString()).isEqualTo("12.35 BHD");
+        assertThat(money.getCurrency()).isEqualTo("BHD");
+        assertThat(money.getCurrencyUnit()).isSameAs(CurrencyUnit.of("bhd"));
+    }
+
+    @Test
+    void arithmeticIsExactAndOverflowChecked() {
+        Money price = Money.of(new BigDecimal("0.10"), "USD");
+
+        assertThat(price.add(Money.of(new BigDecimal("0.20"), "USD")).getAmount()).isEqualByComparingTo("0.30");
+        assertThat(price.multiply(3).getMinorUnits()).isEqualTo(30);
+        assertThrows(ArithmeticException.class, () -> price.multiply(Long.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> price.add(Money.of(BigDecimal.ONE, "EUR")));
+    }
+
+    @Test
+    void totalSumsLinesInMinorUnits() {
+        record Line(Money unitPrice, int quantity) {
+        }
+        Money price = Money.of(new BigDecimal("0.10"), "USD");
+
+        Money total = Money.total(List.of(new Line(price, 3), new Line(Money.ofMinorUnits(5, "USD"), 2)),
+                Line::unitPrice, Line::quantity);
+
+        assertThat(total).isEqualTo(Money.ofMinorUnits(40, "USD"));
+        assertThrows(IllegalArgumentException.class, () -> Money.total(
+                List.of(new Line(price, 1), new Line(Money.ofMinorUnits(5, "EUR"), 1)), Line::unitPrice, Line::quantity));
+        assertThrows(IllegalArgumentException.class, () -> Money.total(List.<Line>of(), Line::unitPrice, Line::quantity));
+        assertThrows(ArithmeticException.class, () -> Money.total(
+                List.of(new Line(price, Integer.MAX_VALUE), new Line(Money.ofMinorUnits(Long.MAX_VALUE / 2, "USD"), 2)),
+                Line::unitPrice, Line::quantity));
+    }
 }
@@ -0,0 +1,383 @@
+package com.github.dimitryivaniuta.gateway.admission;
+
+import com.github.dimitryivaniuta.gateway.config.properties.AdmissionProperties;
+import com.github.dimitryivaniuta.gateway.config.properties.FairQueueProperties;
+import com.github.dimitryivaniuta.gateway.web.error.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Admission control for GraphQL execution: bounds in-flight executions and decides, per
+ * {@link RequestPriority}, whether a request may wait for a slot or is shed immediately.
+ *
+ * <p>Requests that find a free slot (and nobody waiting) are admitted at once. Otherwise
+ * they join the wait queue of their priority; a released slot goes to the highest priority
+ * with waiters. Within a priority, tenants are served by weight ({@link TenantFairQueue},
+ * {@link FairQueueProperties}), so a flooding tenant only lengthens its own queue. Overload is detected CoDel-style from the queueing delay observed when
+ * waiters are admitted: once that delay has stayed above the target for a whole interval
+ * the controller is <em>overloaded</em> and sheds new {@link RequestPriority#LOW} requests;
+ * after four intervals of persistent overload {@link RequestPriority#NORMAL} is shed too.
+ * A single admission below the target ends the overload state.</p>
+ *
+ * <p>When the queue is full a new request displaces a waiter of a lower priority (the newest
+ * one of the most backlogged tenant), otherwise the new request is rejected. Every rejection is a
+ * {@link ServiceOverloadedException} (503 + {@code Retry-After}).</p>
+ *
+ * <p>Waiting is non-blocking ({@link Mono}); no thread is held while queued.</p>
+ *
+ * <p>Per-tenant metrics (tag {@code tenant}, bounded by
+ * {@link FairQueueProperties#maxTaggedTenantsOrDefault()}): {@code gateway.fairqueue.depth}
+ * and {@code gateway.fairqueue.wait}.</p>
+ */
+@Component
+public class AdmissionController {
+
+    private static final int WAITING = 0;
+    private static final int GRANTED = 1;
+    private static final int ABANDONED = 2;
+
+    private static final int NORMAL_SHED_AFTER_INTERVALS = 4;
+
+    private static final String OTHER_TENANT = "other";
+
+    private final int maxConcurrent;
+    private final int maxQueue;
+    private final Duration maxQueueTime;
+    private final long targetNanos;
+    private final long intervalNanos;
+    private final long retryAfterSeconds;
+    private final int maxTaggedTenants;
+    private final LongSupplier nanoClock;
+
+    private final Object lock = new Object();
+    // guarded by lock
+    private final Map<RequestPriority, TenantFairQueue<Waiter>> waiters = new EnumMap<>(RequestPriority.class);
+    private int inFlight;
+    private int queued;
+    private long firstAboveTargetNanos;
+    private long overloadedSinceNanos;
+
+    private final MeterRegistry meterRegistry;
+    private final Map<RequestPriority, Map<String, Counter>> rejectedCounters = new EnumMap<>(RequestPriority.class);
+    private final Timer queueWaitTimer;
+    private final Map<String, Timer> tenantWaitTimers = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> tenantDepths = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AdmissionController(AdmissionProperties properties,
+                               FairQueueProperties fairQueueProperties,
+                               MeterRegistry meterRegistry) {
+        this(properties, fairQueueProperties, meterRegistry, System::nanoTime);
+    }
+
+    AdmissionController(AdmissionProperties properties,
+                        FairQueueProperties fairQueueProperties,
+                        MeterRegistry meterRegistry,
+                        LongSupplier nanoClock) {
+        this.maxConcurrent = properties.maxConcurrentOrDefault();
+        this.maxQueue = properties.maxQueueOrDefault();
+        this.maxQueueTime = Duration.ofMillis(properties.maxQueueTimeMsOrDefault());
+        this.targetNanos = TimeUnit.MILLISECONDS.toNanos(properties.targetDelayMsOrDefault());
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(properties.intervalMsOrDefault());
+        this.retryAfterSeconds = properties.retryAfterSecondsOrDefault();
+        this.maxTaggedTenants = fairQueueProperties.maxTaggedTenantsOrDefault();
+        this.nanoClock = nanoClock;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("gateway.admission.inflight", this, AdmissionController::inFlight)
+                .description("GraphQL executions currently admitted")
+                .register(meterRegistry);
+        Gauge.builder("gateway.admission.queued", this, AdmissionController::queued)
+                .description("GraphQL requests waiting for admission")
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("gateway.admission.queue.wait")
+                .description("Time GraphQL requests waited for admission")
+                .register(meterRegistry);
+        for (RequestPriority priority : RequestPriority.values()) {
+            rejectedCounters.put(priority, new ConcurrentHashMap<>());
+            waiters.put(priority, new TenantFairQueue<>(fairQueueProperties::weightOf));
+        }
+    }
+
+    /**
+     * Wait (without blocking) for an execution slot on behalf of {@code tenant}.
+     *
+     * @return the slot, to be {@link Permit#release() released} when execution ends; or an
+     * error signal carrying {@link ServiceOverloadedException} if the request is shed
+     */
+    public Mono<Permit> acquire(RequestPriority priority, String tenant) {
+        return Mono.defer(() -> {
+            long now = nanoClock.getAsLong();
+            Waiter waiter;
+            Waiter displaced = null;
+            synchronized (lock) {
+                if (inFlight < maxConcurrent && queued == 0) {
+                    inFlight++;
+                    observeDelay(0, now);
+                    return Mono.just(new Permit());
+                }
+                if (isShed(priority, now)) {
+                    return reject(priority, "overloaded");
+                }
+                if (queued >= maxQueue) {
+                    displaced = displaceableBy(priority);
+                    if (displaced == null || !displaced.state.compareAndSet(WAITING, ABANDONED)) {
+                        return reject(priority, "queue-full");
+                    }
+                    dequeue(displaced);
+                }
+                waiter = new Waiter(priority, tenant, depthGauge(tenant), now);
+                waiters.get(priority).add(tenant, waiter);
+                waiter.depth.incrementAndGet();
+                queued++;
+            }
+            if (displaced != null) {
+                displaced.sink.tryEmitError(rejection(displaced.priority, "displaced"));
+            }
+            return waiter.sink.asMono()
+                    .timeout(maxQueueTime, Mono.defer(() -> abandon(waiter)))
+                    .doOnCancel(() -> cancel(waiter));
+        });
+    }
+
+    public int inFlight() {
+        synchronized (lock) {
+            return inFlight;
+        }
+    }
+
+    public int queued() {
+        synchronized (lock) {
+            return queued;
+        }
+    }
+
+    /**
+     * Whether the controller currently considers itself overloaded (CoDel state).
+     */
+    public boolean overloaded() {
+        synchronized (lock) {
+            return overloadedSinceNanos != 0;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Internals
+    // -------------------------------------------------------------------------
+
+    /**
+     * Hand the slot of a finished execution to the next waiter, or free it.
+     */
+    private void release() {
+        Waiter next;
+        long now = nanoClock.getAsLong();
+        synchronized (lock) {
+            while (true) {
+                next = pollNext();
+                if (next == null) {
+                    inFlight--;
+                    return;
+                }
+                if (next.state.compareAndSet(WAITING, GRANTED)) {
+                    next.permit = new Permit();
+                    observeDelay(now - next.enqueuedAt, now);
+                    break;
+                }
+            }
+        }
+        queueWaitTimer.record(now - next.enqueuedAt, TimeUnit.NANOSECONDS);
+        tenantWaitTimer(next.tenant).record(now - next.enqueuedAt, TimeUnit.NANOSECONDS);
+        next.sink.tryEmitValue(next.permit);
+    }
+
+    /**
+     * Queue timeout: give up unless the slot was granted in the meantime.
+     */
+    private Mono<Permit> abandon(Waiter waiter) {
+        if (waiter.state.compareAndSet(WAITING, ABANDONED)) {
+            synchronized (lock) {
+                dequeue(waiter);
+            }
+            return reject(waiter.priority, "queue-timeout");
+        }
+        return waiter.sink.asMono();
+    }
+
+    /**
+     * Subscriber went away (e.g. client disconnect): leave the queue or return the granted slot.
+     */
+    private void cancel(Waiter waiter) {
+        if (waiter.state.compareAndSet(WAITING, ABANDONED)) {
+            synchronized (lock) {
+                dequeue(waiter);
+            }
+        } else if (waiter.state.get() == GRANTED) {
+            Permit permit;
+            synchronized (lock) {
+                permit = waiter.permit;
+            }
+            permit.release();
+        }
+    }
+
+    /**
+     * CoDel bookkeeping; caller holds the lock.
+     */
+    private void observeDelay(long delayNanos, long now) {
+        if (delayNanos < targetNanos) {
+            firstAboveTargetNanos = 0;
+            overloadedSinceNanos = 0;
+        } else if (firstAboveTargetNanos == 0) {
+            firstAboveTargetNanos = now + intervalNanos;
+        } else if (now >= firstAboveTargetNanos && overloadedSinceNanos == 0) {
+            overloadedSinceNanos = now;
+        }
+    }
+
+    /**
+     * Caller holds the lock.
+     */
+    private boolean isShed(RequestPriority priority, long now) {
+        if (overloadedSinceNanos == 0) {
+            return false;
+        }
+        return switch (priority) {
+            case LOW -> true;
+            case NORMAL -> now - overloadedSinceNanos >= NORMAL_SHED_AFTER_INTERVALS * intervalNanos;
+            case HIGH, CRITICAL -> false;
+        };
+    }
+
+    /**
+     * Next waiter of the highest priority with waiters; caller holds the lock.
+     */
+    private Waiter pollNext() {
+        for (TenantFairQueue<Waiter> level : waiters.values()) {
+            Waiter next = level.poll();
+            if (next != null) {
+                queued--;
+                next.depth.decrementAndGet();
+                return next;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Caller holds the lock.
+     */
+    private void dequeue(Waiter waiter) {
+        if (waiters.get(waiter.priority).remove(waiter.tenant, waiter)) {
+            queued--;
+            waiter.depth.decrementAndGet();
+        }
+    }
+
+    /**
+     * A waiter of the lowest priority below {@code priority}, if any; caller holds the lock.
+     * Only used when the queue is full.
+     */
+    private Waiter displaceableBy(RequestPriority priority) {
+        RequestPriority[] priorities = RequestPriority.values();
+        for (int i = priorities.length - 1; i > priority.ordinal(); i--) {
+            Waiter candidate = waiters.get(priorities[i]).newestOfLongest();
+            if (candidate != null) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private <T> Mono<T> reject(RequestPriority priority, String reason) {
+        return Mono.error(rejection(priority, reason));
+    }
+
+    private ServiceOverloadedException rejection(RequestPriority priority, String reason) {
+        rejectedCounters.get(priority).computeIfAbsent(reason, r -> Counter.builder("gateway.admission.rejected")
+                        .description("GraphQL requests shed by admission control")
+                        .tag("priority", priority.tag())
+                        .tag("reason", r)
+                        .register(meterRegistry))
+                .increment();
+        return new ServiceOverloadedException("Gateway overloaded (" + reason + ")", retryAfterSeconds);
+    }
+
+    // -------------------------------------------------------------------------
+    // Per-tenant metrics
+    // -------------------------------------------------------------------------
+
+    private String tenantTag(String tenant) {
+        if (tenantDepths.containsKey(tenant) || tenantDepths.size() < maxTaggedTenants) {
+            return tenant;
+        }
+        return OTHER_TENANT;
+    }
+
+    private AtomicInteger depthGauge(String tenant) {
+        return tenantDepths.computeIfAbsent(tenantTag(tenant), t -> {
+            AtomicInteger depth = new AtomicInteger();
+            Gauge.builder("gateway.fairqueue.depth", depth, AtomicInteger::get)
+                    .description("GraphQL requests of the tenant waiting for admission")
+                    .tag("tenant", t)
+                    .register(meterRegistry);
+            return depth;
+        });
+    }
+
+    private Timer tenantWaitTimer(String tenant) {
+        return tenantWaitTimers.computeIfAbsent(tenantTag(tenant), t -> Timer.builder("gateway.fairqueue.wait")
+                .description("Time GraphQL requests of the tenant waited for admission")
+                .tag("tenant", t)
+                .register(meterRegistry));
+    }
+
+    /**
+     * An execution slot; releasing it more than once is harmless.
+     */
+    public final class Permit {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit() {
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                AdmissionController.this.release();
+            }
+        }
+    }
+
+    private static final class Waiter {
+
+        private final RequestPriority priority;
+        private final String tenant;
+        private final AtomicInteger depth;
+        private final long enqueuedAt;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private final Sinks.One<Permit> sink = Sinks.one();
+        private Permit permit; // assigned under the controller lock when granted
+
+        private Waiter(RequestPriority priority, String tenant, AtomicInteger depth, long enqueuedAt) {
+            this.priority = priority;
+            this.tenant = tenant;
+            this.depth = depth;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.dimitryivaniuta.gateway.admission;
+
+import com.github.dimitryivaniuta.gateway.config.properties.AdmissionProperties;
+
+import java.util.Map;
+
+/**
+ * Derives the {@link RequestPriority} of a GraphQL request from configuration.
+ *
+ * <p>Most specific match first: persisted query id, operation name, authenticated principal
+ * (e.g. {@code api-key:<uuid>}), then the default for the operation type (mutation or query).</p>
+ */
+public class PriorityResolver {
+
+    private final Map<String, RequestPriority> byPersistedQuery;
+    private final Map<String, RequestPriority> byOperation;
+    private final Map<String, RequestPriority> byPrincipal;
+    private final RequestPriority defaultQuery;
+    private final RequestPriority defaultMutation;
+
+    public PriorityResolver(AdmissionProperties properties) {
+        this.byPersistedQuery = properties.persistedQueryPrioritiesOrEmpty();
+        this.byOperation = properties.operationPrioritiesOrEmpty();
+        this.byPrincipal = properties.principalPrioritiesOrEmpty();
+        this.defaultQuery = properties.defaultQueryPriorityOrDefault();
+        this.defaultMutation = properties.defaultMutationPriorityOrDefault();
+    }
+
+    public RequestPriority resolve(String persistedQueryId, String operationName, String document, String principal) {
+        RequestPriority priority;
+        if (persistedQueryId != null && (priority = byPersistedQuery.get(persistedQueryId)) != null) {
+            return priority;
+        }
+        if (operationName != null && (priority = byOperation.get(operationName)) != null) {
+            return priority;
+        }
+        if (principal != null && (priority = byPrincipal.get(principal)) != null) {
+            return priority;
+        }
+        return isMutation(document) ? defaultMutation : defaultQuery;
+    }
+
+    /**
+     * Cheap check of the first operation keyword, skipping whitespace and comments.
+     * Persisted-only requests (no document) count as queries unless configured otherwise.
+     */
+    static boolean isMutation(String document) {
+        if (document == null) {
+            return false;
+        }
+        int i = 0;
+        int length = document.length();
+        while (i < length) {
+            char c = document.charAt(i);
+            if (c == '#') {
+                while (i < length && document.charAt(i) != '\n') {
+                    i++;
+                }
+            } else if (Character.isWhitespace(c) || c == ',' || c == '\uFEFF') {
+                i++;
+            } else {
+                break;
+            }
+        }
+        return document.startsWith("mutation", i);
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.dimitryivaniuta.gateway.admission;
+
+/**
+ * Admission priority of a GraphQL request, highest first.
+ *
+ * <p>Under overload {@link AdmissionController} sheds {@link #LOW} first, then {@link #NORMAL};
+ * {@link #HIGH} and {@link #CRITICAL} are only rejected when the wait queue is full or their
+ * queueing time runs out. Waiting requests are admitted in priority order.</p>
+ */
+public enum RequestPriority {
+    CRITICAL,
+    HIGH,
+    NORMAL,
+    LOW;
+
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
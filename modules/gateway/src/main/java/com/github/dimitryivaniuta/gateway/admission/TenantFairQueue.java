@@ -0,0 +1,112 @@
+package com.github.dimitryivaniuta.gateway.admission;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * Waiters of one admission priority, in a FIFO queue per tenant.
+ *
+ * <p>Waiters are taken deficit-round-robin over the backlogged tenants: on its turn a
+ * tenant's deficit grows by its weight and it may start that many requests (every request
+ * costs one unit). A tenant flooding the gateway therefore only lengthens its own queue;
+ * others keep getting their weighted share of slots.</p>
+ *
+ * <p>Not thread-safe; {@link AdmissionController} guards it with its lock.</p>
+ */
+final class TenantFairQueue<W> {
+
+    private final ToIntFunction<String> weights;
+    // tenants with at least one waiter; the rest are dropped so idle tenants cost nothing
+    private final Map<String, TenantQueue<W>> queues = new HashMap<>();
+    private final ArrayDeque<TenantQueue<W>> active = new ArrayDeque<>();
+    private int size;
+
+    TenantFairQueue(ToIntFunction<String> weights) {
+        this.weights = weights;
+    }
+
+    void add(String tenant, W waiter) {
+        TenantQueue<W> queue = queues.computeIfAbsent(tenant, t -> {
+            TenantQueue<W> created = new TenantQueue<>(t, weights.applyAsInt(t));
+            active.addLast(created);
+            return created;
+        });
+        queue.waiters.addLast(waiter);
+        size++;
+    }
+
+    /**
+     * Remove and return the next waiter by DRR, or {@code null} if nobody waits.
+     */
+    W poll() {
+        TenantQueue<W> queue = active.peekFirst();
+        if (queue == null) {
+            return null;
+        }
+        if (queue.deficit < 1) {
+            queue.deficit += queue.weight;
+        }
+        W waiter = queue.waiters.pollFirst();
+        size--;
+        if (queue.waiters.isEmpty()) {
+            deactivate(queue);
+        } else if (--queue.deficit < 1) {
+            active.addLast(active.pollFirst());
+        }
+        return waiter;
+    }
+
+    boolean remove(String tenant, W waiter) {
+        TenantQueue<W> queue = queues.get(tenant);
+        if (queue == null || !queue.waiters.remove(waiter)) {
+            return false;
+        }
+        size--;
+        if (queue.waiters.isEmpty()) {
+            deactivate(queue);
+        }
+        return true;
+    }
+
+    /**
+     * The newest waiter of the tenant with the longest queue: the one to give up when the
+     * wait queue is full. Linear in the number of backlogged tenants.
+     */
+    W newestOfLongest() {
+        TenantQueue<W> longest = null;
+        for (TenantQueue<W> queue : active) {
+            if (longest == null || queue.waiters.size() > longest.waiters.size()) {
+                longest = queue;
+            }
+        }
+        return longest == null ? null : longest.waiters.peekLast();
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void deactivate(TenantQueue<W> queue) {
+        active.remove(queue);
+        queues.remove(queue.tenant);
+    }
+
+    private static final class TenantQueue<W> {
+
+        private final String tenant;
+        private final int weight;
+        private final ArrayDeque<W> waiters = new ArrayDeque<>();
+        private int deficit;
+
+        private TenantQueue(String tenant, int weight) {
+            this.tenant = tenant;
+            this.weight = weight;
+        }
+    }
+}
@@ -1,13 +1,17 @@
 package com.github.dimitryivaniuta.gateway.auth;
 
 import com.github.dimitryivaniuta.gateway.config.properties.SecurityProperties;
-import com.github.dimitryivaniuta.gateway.persistence.entity.ApiKeyEntity;
+import com.github.dimitryivaniuta.gateway.observability.AuthTiming;
+import com.github.dimitryivaniuta.gateway.ratelimit.ApiKeyRateLimiter;
+import com.github.dimitryivaniuta.gateway.service.ActiveApiKey;
 import com.github.dimitryivaniuta.gateway.service.ApiKeyService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -30,6 +34,8 @@ import java.util.Optional;
  * <ol>
  *   <li>Extract header (default “X-API-Key” or configurable).</li>
  *   <li>If present, validate via {@link ApiKeyService} (enabled, not expired, rate limit etc.).</li>
+ *   <li>If valid but over its {@code rate_limit_per_minute} ({@link ApiKeyRateLimiter}), respond
+ *       HTTP 429 with {@code Retry-After}.</li>
  *   <li>If valid, build an {@link Authentication} and set it in the {@code SecurityContext}.</li>
  *   <li>If invalid, respond HTTP 401 Unauthorized and stop filter chain.</li>
  *   <li>If header missing, simply move on—possibly other auth (JWT) may apply.</li>
@@ -40,6 +46,7 @@ import java.util.Optional;
 public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
 
     private final ApiKeyService apiKeyService;
+    private final ApiKeyRateLimiter rateLimiter;
     private final String headerName;
     private final String staticKeyOrNull;
 
@@ -47,10 +54,13 @@ public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
      * Constructor.
      *
      * @param apiKeyService service to validate API keys.
+     * @param rateLimiter   per-key rate limiter.
      */
     public ApiKeyAuthenticationFilter(ApiKeyService apiKeyService,
+                                      ApiKeyRateLimiter rateLimiter,
                                       SecurityProperties securityProperties) {
         this.apiKeyService = apiKeyService;
+        this.rateLimiter = rateLimiter;
         SecurityProperties.ApiKey apiProps = securityProperties.apiKey();
         this.headerName = apiProps != null ? apiProps.headerOrDefault() : "X-API-Key";
         this.staticKeyOrNull = apiProps != null ? apiProps.staticKeyOrNull() : null;
@@ -72,13 +82,15 @@ public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
         String token = headerValue.trim();
 
         // 1) DB-backed API key
-        Optional<ApiKeyEntity> apiKeyOpt = apiKeyService.authenticate(token);
+        long started = System.nanoTime();
+        Optional<ActiveApiKey> apiKeyOpt = apiKeyService.authenticate(token);
+        AuthTiming.add(request, System.nanoTime() - started);
 
         if (apiKeyOpt.isEmpty()) {
             // 2) Optional static key fallback
             if (staticKeyOrNull != null && staticKeyOrNull.equals(token)) {
                 log.debug("Authenticated using static API key for {}", request.getRequestURI());
-                authenticateAs("static-api-key");
+                authenticateAs(new ApiKeyIdentity("static-api-key", null));
                 filterChain.doFilter(request, response);
                 return;
             }
@@ -89,13 +101,19 @@ public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        ApiKeyEntity apiKey = apiKeyOpt.get();
-        authenticateAs("api-key:" + apiKey.getId());
+        ActiveApiKey apiKey = apiKeyOpt.get();
+        if (!rateLimiter.tryAcquire(apiKey.id(), apiKey.rateLimitPerMinute())) {
+            log.debug("Rate limit exceeded for API key '{}'", apiKey.name());
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(rateLimiter.retryAfterSeconds()));
+            return;
+        }
+        authenticateAs(new ApiKeyIdentity("api-key:" + apiKey.id(), apiKey.tenantId()));
 
         filterChain.doFilter(request, response);
     }
 
-    private void authenticateAs(String principal) {
+    private void authenticateAs(ApiKeyIdentity identity) {
         Authentication existing = SecurityContextHolder.getContext().getAuthentication();
         if (existing != null && existing.isAuthenticated()) {
             return;
@@ -103,13 +121,13 @@ public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
 
         UsernamePasswordAuthenticationToken auth =
                 new UsernamePasswordAuthenticationToken(
-                        principal,
+                        identity.principal(),
                         null,
                         List.of(new SimpleGrantedAuthority("ROLE_API_CLIENT"))
                 );
+        auth.setDetails(identity);
 
-        // details set in filter; WebAuthenticationDetailsSource requires HttpServletRequest,
-        // so we leave it out here and set only principal/authorities.
+        // details carry the key identity (incl. tenant) instead of WebAuthenticationDetails
         SecurityContextHolder.getContext().setAuthentication(auth);
     }
 
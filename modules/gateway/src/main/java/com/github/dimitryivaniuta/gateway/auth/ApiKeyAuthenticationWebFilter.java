@@ -0,0 +1,140 @@
+package com.github.dimitryivaniuta.gateway.auth;
+
+import com.github.dimitryivaniuta.gateway.config.properties.SecurityProperties;
+import com.github.dimitryivaniuta.gateway.observability.AuthTiming;
+import com.github.dimitryivaniuta.gateway.ratelimit.ApiKeyRateLimiter;
+import com.github.dimitryivaniuta.gateway.service.ActiveApiKey;
+import com.github.dimitryivaniuta.gateway.service.ApiKeyService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reactive counterpart of {@link ApiKeyAuthenticationFilter} for the WebFlux deployment mode.
+ *
+ * <p>Same contract: a missing header passes through, a valid DB-backed or static key
+ * authenticates the request with {@code ROLE_API_CLIENT}, a DB-backed key over its rate
+ * limit gets 429, anything else is rejected with 401. The authentication is published through the Reactor context
+ * ({@link ReactiveSecurityContextHolder}) rather than a thread-local.</p>
+ *
+ * <p>The API key lookup is a blocking JPA call and is therefore moved off the event loop
+ * onto {@link Schedulers#boundedElastic()}.</p>
+ */
+@Slf4j
+public class ApiKeyAuthenticationWebFilter implements WebFilter {
+
+    private static final String GRAPHQL_PATH = "/graphql";
+
+    private final ApiKeyService apiKeyService;
+    private final ApiKeyRateLimiter rateLimiter;
+    private final String headerName;
+    private final String staticKeyOrNull;
+
+    public ApiKeyAuthenticationWebFilter(ApiKeyService apiKeyService,
+                                         ApiKeyRateLimiter rateLimiter,
+                                         SecurityProperties securityProperties) {
+        this.apiKeyService = apiKeyService;
+        this.rateLimiter = rateLimiter;
+        SecurityProperties.ApiKey apiProps = securityProperties.apiKey();
+        this.headerName = apiProps != null ? apiProps.headerOrDefault() : "X-API-Key";
+        this.staticKeyOrNull = apiProps != null ? apiProps.staticKeyOrNull() : null;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+
+        if (!GRAPHQL_PATH.equals(request.getPath().pathWithinApplication().value())) {
+            return chain.filter(exchange);
+        }
+
+        String headerValue = request.getHeaders().getFirst(headerName);
+        if (headerValue == null || headerValue.isBlank()) {
+            return chain.filter(exchange);
+        }
+
+        String token = headerValue.trim();
+
+        return Mono.fromCallable(() -> {
+                    long started = System.nanoTime();
+                    try {
+                        return apiKeyService.authenticate(token);
+                    } finally {
+                        AuthTiming.add(exchange, System.nanoTime() - started);
+                    }
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(apiKeyOpt -> {
+                    if (apiKeyOpt.isPresent() && !withinRateLimit(apiKeyOpt.get())) {
+                        return tooManyRequests(exchange);
+                    }
+                    return resolveIdentity(apiKeyOpt, token)
+                            .map(identity -> authenticateAs(identity, exchange, chain))
+                            .orElseGet(() -> {
+                                log.warn("Invalid API key from {} on {} {}", request.getRemoteAddress(),
+                                        request.getMethod(), request.getPath());
+                                exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+                                return exchange.getResponse().setComplete();
+                            });
+                });
+    }
+
+    private boolean withinRateLimit(ActiveApiKey apiKey) {
+        return rateLimiter.tryAcquire(apiKey.id(), apiKey.rateLimitPerMinute());
+    }
+
+    private Mono<Void> tooManyRequests(ServerWebExchange exchange) {
+        exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(rateLimiter.retryAfterSeconds()));
+        return exchange.getResponse().setComplete();
+    }
+
+    /**
+     * Continue the chain as the API key identity unless an earlier filter (JWT) already authenticated.
+     */
+    private Mono<Void> authenticateAs(ApiKeyIdentity identity, ServerWebExchange exchange, WebFilterChain chain) {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .filter(Authentication::isAuthenticated)
+                .hasElement()
+                .flatMap(alreadyAuthenticated -> alreadyAuthenticated
+                        ? chain.filter(exchange)
+                        : chain.filter(exchange)
+                        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authenticationFor(identity))));
+    }
+
+    private Optional<ApiKeyIdentity> resolveIdentity(Optional<ActiveApiKey> apiKeyOpt, String token) {
+        if (apiKeyOpt.isPresent()) {
+            ActiveApiKey apiKey = apiKeyOpt.get();
+            return Optional.of(new ApiKeyIdentity("api-key:" + apiKey.id(), apiKey.tenantId()));
+        }
+        if (staticKeyOrNull != null && staticKeyOrNull.equals(token)) {
+            return Optional.of(new ApiKeyIdentity("static-api-key", null));
+        }
+        return Optional.empty();
+    }
+
+    private static Authentication authenticationFor(ApiKeyIdentity identity) {
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                identity.principal(),
+                null,
+                List.of(new SimpleGrantedAuthority("ROLE_API_CLIENT"))
+        );
+        authentication.setDetails(identity);
+        return authentication;
+    }
+}
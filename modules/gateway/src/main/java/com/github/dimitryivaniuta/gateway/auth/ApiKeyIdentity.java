@@ -0,0 +1,10 @@
+package com.github.dimitryivaniuta.gateway.auth;
+
+/**
+ * Authentication details of an API-key authenticated request.
+ *
+ * @param principal principal name ({@code api-key:<uuid>} or {@code static-api-key})
+ * @param tenantId  tenant of the key; {@code null} for the static key
+ */
+public record ApiKeyIdentity(String principal, String tenantId) {
+}
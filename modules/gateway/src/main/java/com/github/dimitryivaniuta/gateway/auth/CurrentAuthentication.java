@@ -0,0 +1,45 @@
+package com.github.dimitryivaniuta.gateway.auth;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import reactor.core.publisher.Mono;
+
+/**
+ * Access to the authentication of the current request from GraphQL interceptors, which run
+ * on the servlet thread (thread-local security context) or in WebFlux (Reactor context).
+ */
+public final class CurrentAuthentication {
+
+    private CurrentAuthentication() {
+    }
+
+    /**
+     * Must be called at interceptor entry on the servlet stack, before any thread hop.
+     */
+    public static Mono<Authentication> get() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null) {
+            return Mono.just(authentication);
+        }
+        return ReactiveSecurityContextHolder.getContext()
+                .mapNotNull(SecurityContext::getAuthentication);
+    }
+
+    /**
+     * Tenant of an authenticated request: the {@code tenant} JWT claim or the API key's tenant.
+     *
+     * @return tenant id or {@code null} if unknown
+     */
+    public static String tenantOf(Authentication authentication) {
+        if (authentication instanceof JwtAuthenticationToken jwt) {
+            return jwt.getToken().getClaimAsString("tenant");
+        }
+        if (authentication != null && authentication.getDetails() instanceof ApiKeyIdentity identity) {
+            return identity.tenantId();
+        }
+        return null;
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.dimitryivaniuta.gateway.auth;
 
+import com.github.dimitryivaniuta.gateway.observability.AuthTiming;
 import com.github.dimitryivaniuta.gateway.service.JwtService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -77,7 +78,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             // Delegate decoding + authority extraction to JwtService
-            JwtAuthenticationToken authentication = jwtService.authenticate(token);
+            long started = System.nanoTime();
+            JwtAuthenticationToken authentication;
+            try {
+                authentication = jwtService.authenticate(token);
+            } finally {
+                AuthTiming.add(request, System.nanoTime() - started);
+            }
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
@@ -0,0 +1,78 @@
+package com.github.dimitryivaniuta.gateway.auth;
+
+import com.github.dimitryivaniuta.gateway.observability.AuthTiming;
+import com.github.dimitryivaniuta.gateway.service.JwtService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link JwtAuthenticationFilter} for the WebFlux deployment mode.
+ *
+ * <p>Decodes {@code Authorization: Bearer <token>} via {@link JwtService} and publishes
+ * the resulting {@link JwtAuthenticationToken} in the Reactor context. An already
+ * authenticated context (e.g. API key) is left untouched; an invalid token yields 401.</p>
+ *
+ * <p>Decoding is pure CPU work (HMAC verification), so it runs inline on the event loop.</p>
+ */
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationWebFilter.class);
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtService jwtService;
+
+    public JwtAuthenticationWebFilter(JwtService jwtService) {
+        this.jwtService = jwtService;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String authHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+            return chain.filter(exchange);
+        }
+
+        String token = authHeader.substring(BEARER_PREFIX.length()).trim();
+
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .filter(Authentication::isAuthenticated)
+                .hasElement()
+                .flatMap(alreadyAuthenticated -> {
+                    if (alreadyAuthenticated) {
+                        return chain.filter(exchange);
+                    }
+
+                    JwtAuthenticationToken authentication;
+                    long started = System.nanoTime();
+                    try {
+                        authentication = jwtService.authenticate(token);
+                    } catch (JwtException ex) {
+                        log.warn("Invalid JWT on {} {}: {}", request.getMethod(), request.getPath(), ex.getMessage());
+                        exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+                        return exchange.getResponse().setComplete();
+                    }
+
+                    AuthTiming.add(exchange, System.nanoTime() - started);
+                    log.debug("JWT authentication successful for subject='{}' on {} {}",
+                            authentication.getName(), request.getMethod(), request.getPath());
+
+                    return chain.filter(exchange)
+                            .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+                });
+    }
+}
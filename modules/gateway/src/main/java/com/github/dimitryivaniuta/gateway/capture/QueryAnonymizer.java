@@ -0,0 +1,142 @@
+package com.github.dimitryivaniuta.gateway.capture;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Strips values from captured GraphQL requests while keeping their structure.
+ *
+ * <ul>
+ *   <li>Documents: string and block-string literals are replaced by {@code "***"}, int and
+ *       float literals by {@code 0} (still valid for either type, so captures stay replayable).
+ *       Enum and boolean literals are kept: they come from the schema's closed value sets,
+ *       and a masked enum would no longer validate on replay.</li>
+ *   <li>Variables: strings and numbers are replaced by a salted pseudonym of their value
+ *       ({@code "String#9c41d07a2be3"}, {@code "Int#..."}, {@code "Float#..."}); booleans and
+ *       nulls by their shape ({@code "Boolean"}, {@code "Null"}). Objects and lists keep their
+ *       structure element by element. Equal values get equal pseudonyms under the same salt,
+ *       so a replay can reproduce key repetition (cache hits, batch de-duplication) without
+ *       the values ever being written to disk.</li>
+ * </ul>
+ */
+public final class QueryAnonymizer {
+
+    public static final String MASK = "\"***\"";
+    public static final String NUMBER_MASK = "0";
+
+    private static final String PSEUDONYM_ALGORITHM = "HmacSHA256";
+    private static final int PSEUDONYM_HEX_CHARS = 12;
+
+    private static final Pattern BLOCK_STRING = Pattern.compile("\"\"\"[\\s\\S]*?\"\"\"");
+    private static final Pattern STRING = Pattern.compile("\"(?:[^\"\\\\]|\\\\.)*\"");
+    // not part of a name ("order2", "$id1"); strings are masked first, so none are inside one
+    private static final Pattern NUMBER = Pattern.compile("(?<![\\w$.])-?\\d+(?:\\.\\d+)?(?:[eE][+-]?\\d+)?(?![\\w.])");
+
+    private QueryAnonymizer() {
+    }
+
+    public static String maskLiterals(String document) {
+        if (document == null || document.isEmpty()) {
+            return document;
+        }
+        String masked = BLOCK_STRING.matcher(document).replaceAll(MASK);
+        masked = STRING.matcher(masked).replaceAll(MASK);
+        return NUMBER.matcher(masked).replaceAll(NUMBER_MASK);
+    }
+
+    /**
+     * Replaces every string and number in {@code value} with {@code "<Type>#<hmac>"}, where
+     * the HMAC-SHA256 of the value under {@code salt} is cut to 12
+     * hex characters.
+     */
+    public static Object pseudonymsOf(Object value, byte[] salt) {
+        try {
+            Mac mac = Mac.getInstance(PSEUDONYM_ALGORITHM);
+            mac.init(new SecretKeySpec(salt, PSEUDONYM_ALGORITHM));
+            return pseudonymsOf(value, mac);
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException(PSEUDONYM_ALGORITHM + " not available", ex);
+        }
+    }
+
+    private static Object pseudonymsOf(Object value, Mac mac) {
+        if (value instanceof String s) {
+            return pseudonym("String", s, mac);
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return pseudonym("Int", value.toString(), mac);
+        }
+        if (value instanceof Number) {
+            return pseudonym("Float", value.toString(), mac);
+        }
+        if (value instanceof Map<?, ?> map) {
+            Map<String, Object> out = new LinkedHashMap<>();
+            map.forEach((k, v) -> out.put(String.valueOf(k), pseudonymsOf(v, mac)));
+            return out;
+        }
+        if (value instanceof List<?> list) {
+            List<Object> out = new ArrayList<>(list.size());
+            list.forEach(element -> out.add(pseudonymsOf(element, mac)));
+            return out;
+        }
+        return shapeOf(value);
+    }
+
+    private static String pseudonym(String type, String value, Mac mac) {
+        byte[] digest = mac.doFinal(value.getBytes(StandardCharsets.UTF_8));
+        return type + "#" + HexFormat.of().formatHex(digest, 0, PSEUDONYM_HEX_CHARS / 2);
+    }
+
+    public static Object shapeOf(Object value) {
+        if (value == null) {
+            return "Null";
+        }
+        if (value instanceof String) {
+            return "String";
+        }
+        if (value instanceof Boolean) {
+            return "Boolean";
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return "Int";
+        }
+        if (value instanceof Number) {
+            return "Float";
+        }
+        if (value instanceof Map<?, ?> map) {
+            Map<String, Object> out = new LinkedHashMap<>();
+            map.forEach((k, v) -> out.put(String.valueOf(k), shapeOf(v)));
+            return out;
+        }
+        if (value instanceof List<?> list) {
+            Map<String, Object> out = new LinkedHashMap<>();
+            out.put("@list", list.size());
+            out.put("@of", list.isEmpty() ? "Null" : shapeOf(list.get(0)));
+            return out;
+        }
+        return value.getClass().getSimpleName();
+    }
+
+    /**
+     * Short, stable fingerprint of a (masked) document, for grouping records by operation shape.
+     */
+    public static String fingerprint(String document) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(document.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
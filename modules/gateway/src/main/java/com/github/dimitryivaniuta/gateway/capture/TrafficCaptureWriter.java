@@ -0,0 +1,213 @@
+package com.github.dimitryivaniuta.gateway.capture;
+
+import com.github.dimitryivaniuta.gateway.config.properties.CaptureProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Asynchronous, bounded JSONL writer for captured traffic.
+ *
+ * <p>Request threads only {@link #offer(String)} a line into a bounded queue; a single daemon
+ * thread appends lines to {@code traffic-<timestamp>.jsonl}. When the active file exceeds
+ * {@link CaptureProperties#maxFileBytesOrDefault()} it is gzip-compressed (commons-compress)
+ * into {@code .jsonl.gz} and a new file is started; only the newest
+ * {@link CaptureProperties#maxFilesOrDefault()} compressed files are kept.</p>
+ *
+ * <p>Capture must never slow down or fail a request: when the queue is full the record is
+ * dropped and counted ({@code gateway.capture.dropped}).</p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "gateway.capture", name = "enabled", havingValue = "true")
+public class TrafficCaptureWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(TrafficCaptureWriter.class);
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final String ACTIVE_SUFFIX = ".jsonl";
+    private static final String COMPRESSED_SUFFIX = ".jsonl.gz";
+
+    private final Path directory;
+    private final long maxFileBytes;
+    private final int maxFiles;
+    private final BlockingQueue<String> queue;
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+    private final Thread worker;
+
+    private volatile boolean running = true;
+
+    private Path activeFile;
+    private BufferedWriter activeWriter;
+    private long activeBytes;
+    private int sequence;
+
+    public TrafficCaptureWriter(CaptureProperties properties, MeterRegistry meterRegistry) throws IOException {
+        this.directory = Path.of(properties.directoryOrDefault());
+        this.maxFileBytes = properties.maxFileBytesOrDefault();
+        this.maxFiles = properties.maxFilesOrDefault();
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacityOrDefault());
+
+        this.droppedCounter = Counter.builder("gateway.capture.dropped")
+                .description("Captured requests dropped because the capture queue was full")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("gateway.capture.written")
+                .description("Captured requests written to disk")
+                .register(meterRegistry);
+
+        Files.createDirectories(directory);
+        compressLeftovers();
+
+        this.worker = new Thread(this::drain, "traffic-capture-writer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+
+        log.info("Traffic capture enabled: directory={}, maxFileBytes={}, maxFiles={}",
+                directory.toAbsolutePath(), maxFileBytes, maxFiles);
+    }
+
+    /**
+     * Queue one JSON line (without trailing newline) for writing.
+     *
+     * @return {@code false} if the record was dropped
+     */
+    public boolean offer(String jsonLine) {
+        if (queue.offer(jsonLine)) {
+            return true;
+        }
+        droppedCounter.increment();
+        return false;
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    // -------------------------------------------------------------------------
+    // Writer thread
+    // -------------------------------------------------------------------------
+
+    private void drain() {
+        try {
+            while (running || !queue.isEmpty()) {
+                String line;
+                try {
+                    line = queue.poll(1, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    line = queue.poll();
+                    running = false;
+                }
+                try {
+                    if (line != null) {
+                        write(line);
+                    } else if (activeWriter != null) {
+                        activeWriter.flush();
+                    }
+                } catch (IOException ex) {
+                    log.warn("Failed to write traffic capture record: {}", ex.getMessage());
+                }
+            }
+        } finally {
+            try {
+                rotate();
+            } catch (IOException ex) {
+                log.warn("Failed to finalize traffic capture file {}: {}", activeFile, ex.getMessage());
+            }
+        }
+    }
+
+    private void write(String line) throws IOException {
+        if (activeWriter == null) {
+            open();
+        }
+        activeWriter.write(line);
+        activeWriter.newLine();
+        activeBytes += line.length() + 1L;
+        writtenCounter.increment();
+
+        if (activeBytes >= maxFileBytes) {
+            rotate();
+        }
+    }
+
+    private void open() throws IOException {
+        String name = "traffic-%s-%05d%s".formatted(LocalDateTime.now().format(FILE_TIMESTAMP), sequence++, ACTIVE_SUFFIX);
+        activeFile = directory.resolve(name);
+        activeWriter = Files.newBufferedWriter(activeFile, StandardCharsets.UTF_8);
+        activeBytes = 0;
+    }
+
+    private void rotate() throws IOException {
+        if (activeWriter == null) {
+            return;
+        }
+        activeWriter.close();
+        activeWriter = null;
+        compress(activeFile);
+        activeFile = null;
+        prune();
+    }
+
+    private void compress(Path source) throws IOException {
+        String fileName = source.getFileName().toString();
+        Path target = source.resolveSibling(fileName.substring(0, fileName.length() - ACTIVE_SUFFIX.length())
+                + COMPRESSED_SUFFIX);
+        try (InputStream in = Files.newInputStream(source);
+             OutputStream out = new GzipCompressorOutputStream(Files.newOutputStream(target))) {
+            in.transferTo(out);
+        }
+        Files.delete(source);
+    }
+
+    private void compressLeftovers() throws IOException {
+        for (Path leftover : list(ACTIVE_SUFFIX)) {
+            compress(leftover);
+        }
+        prune();
+    }
+
+    private void prune() throws IOException {
+        List<Path> compressed = list(COMPRESSED_SUFFIX);
+        for (int i = 0; i < compressed.size() - maxFiles; i++) {
+            Files.deleteIfExists(compressed.get(i));
+        }
+    }
+
+    /**
+     * Files in the capture directory with the given suffix, oldest first (names sort by timestamp).
+     */
+    private List<Path> list(String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(p -> {
+                        String name = p.getFileName().toString();
+                        return name.startsWith("traffic-") && name.endsWith(suffix);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.github.dimitryivaniuta.gateway.coherence;
+
+import com.github.dimitryivaniuta.gateway.config.properties.CacheCoherenceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Broadcasts cache invalidations between gateway replicas over PostgreSQL {@code LISTEN/NOTIFY}.
+ *
+ * <p>Triggers on {@code persisted_query}, {@code api_key} and {@code users} (migration
+ * {@code V20251201_000007}) send {@code <table>:<key>} on channel {@value #CHANNEL} for every
+ * committed change, whichever replica (or admin script) made it. A daemon thread on every
+ * replica, started and stopped with the application context, holds one dedicated connection
+ * (outside the Hikari pool) listening on that channel and evicts the key from the
+ * {@link CoherentCache} registered for the table, typically within milliseconds of the commit.</p>
+ *
+ * <p>Notifications sent while a replica is not listening are lost, so the caches are only
+ * {@link #isLive() live} while the connection is up. On every (re)connect all caches are
+ * cleared once {@code LISTEN} is in place and refill from the tables on demand; no entry
+ * needs a TTL to converge.</p>
+ */
+@Component
+public class CacheCoherenceChannel implements SmartLifecycle {
+
+    public static final String CHANNEL = "gateway_cache";
+
+    private static final Logger log = LoggerFactory.getLogger(CacheCoherenceChannel.class);
+
+    private static final long VALIDATION_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final CacheCoherenceProperties properties;
+    private final DataSourceProperties dataSource;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, CoherentCache<?>> caches = new ConcurrentHashMap<>();
+    private final Counter reconnects;
+
+    private volatile boolean live;
+    private volatile boolean running;
+    private volatile Thread listener;
+    private volatile Connection connection;
+
+    public CacheCoherenceChannel(CacheCoherenceProperties properties,
+                                 DataSourceProperties dataSource,
+                                 MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.dataSource = dataSource;
+        this.meterRegistry = meterRegistry;
+        this.reconnects = Counter.builder("gateway.coherence.reconnects")
+                .description("Times the cache invalidation listener (re)connected and cleared the caches")
+                .register(meterRegistry);
+        Gauge.builder("gateway.coherence.live", this, channel -> channel.live ? 1 : 0)
+                .description("1 while the cache invalidation listener is connected")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Create the cache fed by invalidations of {@code topic} (the table name).
+     */
+    public <V> CoherentCache<V> register(String topic) {
+        CoherentCache<V> cache = new CoherentCache<>(topic, properties.maxEntriesOrDefault(), this::isLive);
+        if (caches.putIfAbsent(topic, cache) != null) {
+            throw new IllegalStateException("Cache already registered for " + topic);
+        }
+        Gauge.builder("gateway.coherence.entries", cache, CoherentCache::size)
+                .description("Entries held by the coherent cache")
+                .tag("cache", topic)
+                .register(meterRegistry);
+        return cache;
+    }
+
+    public boolean isLive() {
+        return live;
+    }
+
+    @Override
+    public void start() {
+        if (!properties.enabledOrDefault()) {
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(this::listen, "cache-coherence-listener");
+        thread.setDaemon(true);
+        thread.start();
+        this.listener = thread;
+    }
+
+    @Override
+    public void stop() {
+        Thread thread = this.listener;
+        if (thread == null) {
+            return;
+        }
+        running = false;
+        thread.interrupt();
+        closeQuietly(connection);
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        this.listener = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return listener != null;
+    }
+
+    // -------------------------------------------------------------------------
+    // Listener thread
+    // -------------------------------------------------------------------------
+
+    private void listen() {
+        boolean failedBefore = false;
+        while (running) {
+            try (Connection conn = DriverManager.getConnection(
+                    dataSource.determineUrl(), dataSource.determineUsername(), dataSource.determinePassword())) {
+                connection = conn;
+                try (Statement statement = conn.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                // events up to now may have been missed: start from the tables again
+                invalidateAll();
+                live = true;
+                reconnects.increment();
+                log.info("Cache coherence listener connected on channel '{}'", CHANNEL);
+                failedBefore = false;
+
+                receive(conn);
+            } catch (SQLException | RuntimeException ex) {
+                if (running && !failedBefore) {
+                    log.warn("Cache coherence listener disconnected, caches bypassed until it reconnects: {}",
+                            ex.getMessage());
+                }
+                failedBefore = true;
+            } finally {
+                live = false;
+                connection = null;
+                invalidateAll();
+            }
+            backoff();
+        }
+    }
+
+    private void receive(Connection conn) throws SQLException {
+        PGConnection pg = conn.unwrap(PGConnection.class);
+        int timeoutMs = (int) properties.pollTimeoutMsOrDefault();
+        long lastValidated = System.nanoTime();
+        while (running) {
+            PGNotification[] notifications = pg.getNotifications(timeoutMs);
+            if (notifications != null && notifications.length > 0) {
+                for (PGNotification notification : notifications) {
+                    apply(notification.getParameter());
+                }
+                lastValidated = System.nanoTime();
+            } else if (System.nanoTime() - lastValidated > VALIDATION_INTERVAL_NANOS) {
+                // a half-open socket would otherwise look like a quiet channel forever
+                try (Statement statement = conn.createStatement()) {
+                    statement.execute("SELECT 1");
+                }
+                lastValidated = System.nanoTime();
+            }
+        }
+    }
+
+    void apply(String payload) {
+        int separator = payload.indexOf(':');
+        if (separator <= 0) {
+            log.debug("Ignoring malformed cache invalidation '{}'", payload);
+            return;
+        }
+        CoherentCache<?> cache = caches.get(payload.substring(0, separator));
+        if (cache != null) {
+            cache.invalidate(payload.substring(separator + 1));
+        }
+    }
+
+    private void invalidateAll() {
+        caches.values().forEach(CoherentCache::invalidateAll);
+    }
+
+    private void backoff() {
+        if (!running) {
+            return;
+        }
+        try {
+            Thread.sleep(properties.reconnectBackoffMsOrDefault());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private static void closeQuietly(Connection conn) {
+        if (conn == null) {
+            return;
+        }
+        try {
+            conn.close();
+        } catch (SQLException ignored) {
+            // shutting down
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.dimitryivaniuta.gateway.coherence;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * Read-through cache whose entries stay valid until an invalidation event arrives, with no TTL.
+ *
+ * <p>Correctness relies on two rules:</p>
+ * <ul>
+ *   <li>Nothing is read from or written to the cache while the coherence channel is not
+ *       listening, because events could be missed.</li>
+ *   <li>A loaded value is only stored if no invalidation happened since the load started
+ *       (the epoch guard). Otherwise a read racing with a commit could put back the row
+ *       that the commit's event has just evicted.</li>
+ * </ul>
+ *
+ * <p>Only present values are cached, so a key that does not exist yet needs no event to
+ * become visible.</p>
+ */
+public final class CoherentCache<V> {
+
+    private final String topic;
+    private final int maxEntries;
+    private final BooleanSupplier live;
+    private final ConcurrentHashMap<String, V> entries = new ConcurrentHashMap<>();
+
+    // guarded by this; bumped by every invalidation
+    private long epoch;
+
+    CoherentCache(String topic, int maxEntries, BooleanSupplier live) {
+        this.topic = topic;
+        this.maxEntries = maxEntries;
+        this.live = live;
+    }
+
+    public String topic() {
+        return topic;
+    }
+
+    /**
+     * Cached value for {@code key}, or the loader's result (stored if still current).
+     */
+    public Optional<V> get(String key, Function<String, Optional<V>> loader) {
+        if (!live.getAsBoolean()) {
+            return loader.apply(key);
+        }
+        V cached = entries.get(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long observed = epoch();
+        Optional<V> loaded = loader.apply(key);
+        loaded.ifPresent(value -> putIfCurrent(key, value, observed));
+        return loaded;
+    }
+
+    public synchronized void invalidate(String key) {
+        epoch++;
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        epoch++;
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private synchronized long epoch() {
+        return epoch;
+    }
+
+    private synchronized void putIfCurrent(String key, V value, long observed) {
+        if (epoch != observed || !live.getAsBoolean()) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            // no recency tracking on the hot path; dropping an arbitrary entry is enough
+            Iterator<String> victim = entries.keySet().iterator();
+            if (victim.hasNext()) {
+                victim.next();
+                victim.remove();
+            }
+        }
+        entries.put(key, value);
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.dimitryivaniuta.gateway.config;
+
+import com.github.dimitryivaniuta.gateway.graphql.dataloader.InventoryBatchLoader;
+import com.github.dimitryivaniuta.gateway.graphql.dataloader.OrderBatchLoader;
+import com.github.dimitryivaniuta.gateway.graphql.dataloader.PaymentBatchLoader;
+import com.github.dimitryivaniuta.gateway.graphql.type.InventoryItem;
+import com.github.dimitryivaniuta.gateway.graphql.type.Order;
+import com.github.dimitryivaniuta.gateway.graphql.type.Payment;
+import com.github.dimitryivaniuta.gateway.observability.DataLoaderMetrics;
+import com.github.dimitryivaniuta.gateway.observability.DownstreamService;
+import com.github.dimitryivaniuta.gateway.observability.RequestExecutionStats;
+import com.github.dimitryivaniuta.gateway.observability.tracing.ExecutionTrace;
+import com.github.dimitryivaniuta.gateway.resilience.StaleReadGuard;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Registers the gateway batch loaders with Spring GraphQL.
+ *
+ * <p>Spring GraphQL builds a fresh {@link org.dataloader.DataLoaderRegistry} per request from
+ * the {@link BatchLoaderRegistry}; loaders are registered under the names the
+ * {@code @SchemaMapping} handlers use for their {@code DataLoader} parameters
+ * ({@code orderBatchLoader}, {@code inventoryBatchLoader}, {@code paymentBatchLoader}).</p>
+ */
+@Configuration
+public class DataLoaderConfig {
+
+    private final DataLoaderMetrics metrics;
+    private final StaleReadGuard staleReads;
+
+    public DataLoaderConfig(BatchLoaderRegistry registry,
+                            OrderBatchLoader orderBatchLoader,
+                            InventoryBatchLoader inventoryBatchLoader,
+                            PaymentBatchLoader paymentBatchLoader,
+                            DataLoaderMetrics metrics,
+                            StaleReadGuard staleReads) {
+        this.metrics = metrics;
+        this.staleReads = staleReads;
+
+        registry.forTypePair(UUID.class, Order.class)
+                .withName("orderBatchLoader")
+                .registerMappedBatchLoader((keys, env) ->
+                        dispatch("orderBatchLoader", DownstreamService.ORDER, StaleReadGuard.ORDERS, keys, orderBatchLoader::fetch));
+
+        registry.forTypePair(UUID.class, listOf(InventoryItem.class))
+                .withName("inventoryBatchLoader")
+                .registerMappedBatchLoader((keys, env) ->
+                        dispatch("inventoryBatchLoader", DownstreamService.INVENTORY, StaleReadGuard.INVENTORY_BY_ORDER, keys, inventoryBatchLoader::fetch));
+
+        registry.forTypePair(UUID.class, listOf(Payment.class))
+                .withName("paymentBatchLoader")
+                .registerMappedBatchLoader((keys, env) ->
+                        dispatch("paymentBatchLoader", DownstreamService.PAYMENT, StaleReadGuard.PAYMENTS_BY_ORDER, keys, paymentBatchLoader::fetch));
+    }
+
+    /**
+     * Common batch dispatch: records the batch size (metric and per-request cost), guards the
+     * fetch with the stale-read fallback and, for traced requests, records a {@code DATALOADER}
+     * span covering the whole batch fetch.
+     */
+    private <V> Mono<Map<UUID, V>> dispatch(String name,
+                                            DownstreamService service,
+                                            String staleResource,
+                                            Set<UUID> keys,
+                                            Function<Set<UUID>, Mono<Map<UUID, V>>> fetch) {
+        metrics.recordBatch(name, keys.size());
+        return Mono.deferContextual(context -> {
+            RequestExecutionStats.from(context).ifPresent(stats -> stats.recordBatch(name, keys.size()));
+            ExecutionTrace trace = ExecutionTrace.from(context);
+            Mono<Map<UUID, V>> batch = staleReads.read(staleResource, service, keys, fetch.apply(keys));
+            if (trace == null) {
+                return batch;
+            }
+            long started = System.nanoTime();
+            return batch.doFinally(signal -> trace.span(ExecutionTrace.Kind.DATALOADER,
+                    name + " [" + keys.size() + " keys]", started, System.nanoTime()));
+        });
+    }
+
+    @SuppressWarnings({"unchecked", "unused"})
+    private static <T> Class<List<T>> listOf(Class<T> elementType) {
+        return (Class<List<T>>) (Class<?>) List.class;
+    }
+}
@@ -2,6 +2,7 @@ package com.github.dimitryivaniuta.gateway.config;
 
 import com.github.dimitryivaniuta.gateway.util.DateTimeScalar;
 import com.github.dimitryivaniuta.gateway.util.MoneyScalar;
+import com.github.dimitryivaniuta.gateway.web.error.ErrorLogLimiter;
 import graphql.GraphQLError;
 import graphql.GraphqlErrorBuilder;
 import graphql.scalars.ExtendedScalars;
@@ -68,18 +69,21 @@ public class GraphQlConfig {
 
     /**
      * Maps exceptions from data fetchers into client-visible GraphQL errors, while logging
-     * full details server-side.
+     * full details server-side. Stack traces are rate limited per field and exception type
+     * by {@link ErrorLogLimiter}.
      */
     @Bean
-    public DataFetcherExceptionResolver dataFetcherExceptionResolver() {
+    public DataFetcherExceptionResolver dataFetcherExceptionResolver(ErrorLogLimiter errorLogLimiter) {
         return new DataFetcherExceptionResolverAdapter() {
             @Override
             protected GraphQLError resolveToSingleError(@NotNull Throwable ex, @NotNull DataFetchingEnvironment env) {
-                log.error("GraphQL error at path {} on field '{}': {}",
-                        env.getExecutionStepInfo().getPath(),
-                        env.getField().getName(),
-                        ex.toString(),
-                        ex);
+                if (errorLogLimiter.shouldLog(ErrorLogLimiter.coordinate(env), ex)) {
+                    log.error("GraphQL error at path {} on field '{}': {}",
+                            env.getExecutionStepInfo().getPath(),
+                            env.getField().getName(),
+                            ex.toString(),
+                            ex);
+                }
 
                 return GraphqlErrorBuilder.newError(env)
                         .message("Internal error while resolving field '%s'.".formatted(env.getField().getName()))
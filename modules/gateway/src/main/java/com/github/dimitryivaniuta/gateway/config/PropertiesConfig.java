@@ -1,8 +1,20 @@
 package com.github.dimitryivaniuta.gateway.config;
 
+import com.github.dimitryivaniuta.gateway.config.properties.CaptureProperties;
+import com.github.dimitryivaniuta.gateway.config.properties.ExecutionProperties;
+import com.github.dimitryivaniuta.gateway.config.properties.LoginProperties;
+import com.github.dimitryivaniuta.gateway.config.properties.MetricsProperties;
 import com.github.dimitryivaniuta.gateway.config.properties.OrderServiceProperties;
 import com.github.dimitryivaniuta.gateway.config.properties.SecurityProperties;
 import com.github.dimitryivaniuta.gateway.config.properties.CorsProperties;
+import com.github.dimitryivaniuta.gateway.config.properties.TracingProperties;
+import com.github.dimitryivaniuta.gateway.config.properties.SlowOperationProperties;
+import com.github.dimitryivaniuta.gateway.config.properties.ErrorLoggingProperties;
+import com.github.dimitryivaniuta.gateway.config.properties.StaleReadProperties;
+import com.github.dimitryivaniuta.gateway.config.properties.AdmissionProperties;
+import com.github.dimitryivaniuta.gateway.config.properties.FairQueueProperties;
+import com.github.dimitryivaniuta.gateway.config.properties.CacheCoherenceProperties;
+import com.github.dimitryivaniuta.gateway.config.properties.RateLimitProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
@@ -10,7 +22,19 @@ import org.springframework.context.annotation.Configuration;
 @EnableConfigurationProperties({
         SecurityProperties.class,
         CorsProperties.class,
-        OrderServiceProperties.class
+        OrderServiceProperties.class,
+        LoginProperties.class,
+        ExecutionProperties.class,
+        CaptureProperties.class,
+        MetricsProperties.class,
+        TracingProperties.class,
+        SlowOperationProperties.class,
+        ErrorLoggingProperties.class,
+        StaleReadProperties.class,
+        AdmissionProperties.class,
+        FairQueueProperties.class,
+        CacheCoherenceProperties.class,
+        RateLimitProperties.class
 })
 public class PropertiesConfig {
     // no beans needed – just a registration point
@@ -0,0 +1,136 @@
+package com.github.dimitryivaniuta.gateway.config;
+
+import com.github.dimitryivaniuta.gateway.auth.ApiKeyAuthenticationWebFilter;
+import com.github.dimitryivaniuta.gateway.auth.JwtAuthenticationWebFilter;
+import com.github.dimitryivaniuta.gateway.config.properties.CorsProperties;
+import com.github.dimitryivaniuta.gateway.ratelimit.ApiKeyRateLimiter;
+import com.github.dimitryivaniuta.gateway.config.properties.SecurityProperties;
+import com.github.dimitryivaniuta.gateway.config.properties.TracingProperties;
+import com.github.dimitryivaniuta.gateway.service.ApiKeyService;
+import com.github.dimitryivaniuta.gateway.service.JwtService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher.MatchResult;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatchers;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsConfigurationSource;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+
+import java.util.List;
+
+/**
+ * Spring Security configuration for the reactive (WebFlux / Reactor Netty) deployment mode.
+ *
+ * <p>Mirrors {@link SecurityConfig} rule for rule so that both modes expose the same
+ * security contract:
+ * <ul>
+ *   <li>Stateless: no security context is stored between requests.</li>
+ *   <li>Health/info and GraphiQL are always open.</li>
+ *   <li>{@code security.require-auth=true} requires JWT or API key for everything else
+ *       and denies {@code GET /graphql}, except the WebSocket upgrade of GraphQL over
+ *       WebSocket (reactive only, {@code spring.graphql.websocket.path}), which must be
+ *       authenticated like {@code POST /graphql}.</li>
+ * </ul>
+ *
+ * <p>Authentication is carried in the Reactor context, which downstream code reads via
+ * {@link org.springframework.security.core.context.ReactiveSecurityContextHolder}
+ * (see {@link WebClientConfig#jwtPropagationFilter()}).</p>
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableWebFluxSecurity
+@RequiredArgsConstructor
+public class ReactiveSecurityConfig {
+
+    private final SecurityProperties securityProperties;
+
+    private final CorsProperties corsProperties;
+
+    private final TracingProperties tracingProperties;
+
+    /**
+     * Main reactive security filter chain.
+     *
+     * <p>The authentication filters are created here rather than exposed as beans: WebFlux
+     * registers every {@code WebFilter} bean globally, so a bean would run a second time
+     * outside the chain (charging the API key rate limit twice per request).</p>
+     */
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http,
+                                                         ApiKeyService apiKeyService,
+                                                         ApiKeyRateLimiter rateLimiter,
+                                                         JwtService jwtService) {
+        http.securityContextRepository(NoOpServerSecurityContextRepository.getInstance());
+        http.csrf(ServerHttpSecurity.CsrfSpec::disable);
+        http.cors(Customizer.withDefaults());
+        http.formLogin(ServerHttpSecurity.FormLoginSpec::disable);
+        http.httpBasic(ServerHttpSecurity.HttpBasicSpec::disable);
+
+        http.authorizeExchange(exchanges -> {
+            exchanges
+                    .pathMatchers("/actuator/health/**", "/actuator/info").permitAll()
+                    .pathMatchers("/graphiql", "/graphiql/**", "/vendor/graphiql/**").permitAll();
+
+            if (securityProperties.requireAuth()) {
+                String traceAuthority = tracingProperties.headerAuthorityOrNull();
+                if (traceAuthority != null) {
+                    exchanges.pathMatchers("/actuator/graphqltraces/**").hasAuthority(traceAuthority);
+                }
+                exchanges
+                        .pathMatchers(HttpMethod.POST, "/graphql").authenticated()
+                        .matchers(webSocketUpgrade("/graphql")).authenticated()
+                        .pathMatchers(HttpMethod.GET, "/graphql").denyAll()
+                        .anyExchange().authenticated();
+            } else {
+                exchanges
+                        .pathMatchers("/graphql").permitAll()
+                        .anyExchange().permitAll();
+            }
+        });
+
+        // Same precedence as the servlet chain: JWT first, API key only if still unauthenticated.
+        http.addFilterAt(new JwtAuthenticationWebFilter(jwtService), SecurityWebFiltersOrder.AUTHENTICATION);
+        http.addFilterAt(new ApiKeyAuthenticationWebFilter(apiKeyService, rateLimiter, securityProperties),
+                SecurityWebFiltersOrder.AUTHENTICATION);
+
+        return http.build();
+    }
+
+    /**
+     * {@code GET path} carrying {@code Upgrade: websocket}, i.e. the GraphQL over WebSocket handshake.
+     */
+    private static ServerWebExchangeMatcher webSocketUpgrade(String path) {
+        ServerWebExchangeMatcher get = ServerWebExchangeMatchers.pathMatchers(HttpMethod.GET, path);
+        return exchange -> get.matches(exchange).flatMap(result ->
+                result.isMatch() && "websocket".equalsIgnoreCase(exchange.getRequest().getHeaders().getUpgrade())
+                        ? MatchResult.match()
+                        : MatchResult.notMatch());
+    }
+
+    /**
+     * Reactive CORS configuration, identical to the servlet one.
+     */
+    @Bean
+    public CorsConfigurationSource corsConfigurationSource() {
+        CorsConfiguration cfg = new CorsConfiguration();
+        cfg.setAllowedOrigins(corsProperties.resolvedAllowedOrigins());
+        cfg.setAllowedMethods(List.of("GET", "POST", "OPTIONS"));
+        cfg.setAllowedHeaders(List.of("Authorization", "Content-Type", "X-API-Key"));
+        cfg.setAllowCredentials(false);
+        cfg.setMaxAge(3_600L);
+
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", cfg);
+        return source;
+    }
+}
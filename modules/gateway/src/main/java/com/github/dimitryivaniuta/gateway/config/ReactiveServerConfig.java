@@ -0,0 +1,31 @@
+package com.github.dimitryivaniuta.gateway.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Reactive deployment mode: the gateway runs on Reactor Netty end to end.
+ *
+ * <p>Enabled with the {@code reactive} profile (see {@code application-reactive.yml}),
+ * which sets {@code spring.main.web-application-type=reactive}. Because Tomcat stays on
+ * the classpath for the default servlet mode, Spring Boot would otherwise pick Tomcat as
+ * the reactive server too; declaring the Netty factory explicitly pins the runtime to Netty.</p>
+ *
+ * <pre>
+ * SPRING_PROFILES_ACTIVE=reactive java -jar gateway.jar
+ * </pre>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveServerConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        log.info("Gateway web stack: reactive (Reactor Netty)");
+        return new NettyReactiveWebServerFactory();
+    }
+}
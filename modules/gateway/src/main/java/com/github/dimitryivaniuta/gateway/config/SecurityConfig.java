@@ -3,11 +3,13 @@ package com.github.dimitryivaniuta.gateway.config;
 import com.github.dimitryivaniuta.gateway.auth.ApiKeyAuthenticationFilter;
 import com.github.dimitryivaniuta.gateway.auth.JwtAuthenticationFilter;
 import com.github.dimitryivaniuta.gateway.config.properties.CorsProperties;
+import com.github.dimitryivaniuta.gateway.ratelimit.ApiKeyRateLimiter;
 import com.github.dimitryivaniuta.gateway.config.properties.SecurityProperties;
+import com.github.dimitryivaniuta.gateway.config.properties.TracingProperties;
 import com.github.dimitryivaniuta.gateway.service.ApiKeyService;
 import com.github.dimitryivaniuta.gateway.service.JwtService;
-import com.nimbusds.jose.jwk.source.ImmutableSecret;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,22 +19,12 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
-import org.springframework.security.oauth2.jwt.JwtDecoder;
-import org.springframework.security.oauth2.jwt.JwtEncoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
-import javax.crypto.SecretKey;
-import javax.crypto.spec.SecretKeySpec;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -64,11 +56,18 @@ import java.util.List;
  *       <ul>
  *         <li>/graphql and all other non-actuator paths require authentication
  *             (JWT and/or API key).</li>
+ *         <li>{@code /actuator/graphqltraces} requires the trace authority
+ *             ({@code gateway.tracing.header-authority}).</li>
  *       </ul>
  *   </li>
  * </ul>
+ *
+ * <p>Servlet stack only. The reactive deployment mode uses
+ * {@link ReactiveSecurityConfig} with the same rules; token/password crypto beans
+ * shared by both live in {@link SecurityCryptoConfig}.</p>
  */
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @EnableWebSecurity
 @EnableMethodSecurity
 @RequiredArgsConstructor
@@ -79,6 +78,8 @@ public class SecurityConfig {
 
     private final CorsProperties corsProperties;
 
+    private final TracingProperties tracingProperties;
+
     /**
      * Main HTTP security configuration and filter chain.
      */
@@ -114,6 +115,11 @@ public class SecurityConfig {
 
             if (securityProperties.requireAuth()) {
                 // Lockdown mode – all non-actuator endpoints require authentication.
+                String traceAuthority = tracingProperties.headerAuthorityOrNull();
+                if (traceAuthority != null) {
+                    // traces expose internals: same authority as the trace header
+                    registry.requestMatchers("/actuator/graphqltraces/**").hasAuthority(traceAuthority);
+                }
                 registry
                         .requestMatchers(HttpMethod.POST, "/graphql").authenticated()
                         .requestMatchers(HttpMethod.GET, "/graphql").denyAll()
@@ -156,49 +162,17 @@ public class SecurityConfig {
         return source;
     }
 
-    /**
-     * Symmetric signing key for JWTs (HS256) - JWT encoder (HS256) using security.jwt.secret..
-     *
-     * <p>Use a long, random secret in production and store it securely (e.g. Vault, Secrets Manager).</p>
-     */
-    @Bean
-    public JwtEncoder jwtEncoder() {
-        SecretKey key = new SecretKeySpec(securityProperties.jwt().secretRequired()
-                .getBytes(StandardCharsets.UTF_8), "HmacSHA256");
-        return new NimbusJwtEncoder(new ImmutableSecret<>(key));
-    }
-
-    /**
-     * Symmetric JWT decoder (HS256) using the same secret as the encoder.
-     */
-    @Bean
-    public JwtDecoder jwtDecoder() {
-        SecretKey key = new SecretKeySpec(securityProperties.jwt().secretRequired()
-                .getBytes(StandardCharsets.UTF_8), "HmacSHA256");
-        return NimbusJwtDecoder.withSecretKey(key)
-                .macAlgorithm(MacAlgorithm.HS256)
-                .build();
-    }
-
-    /**
-     * BCrypt encoder for user passwords (USERS table).
-     * Password encoder placeholder for future username/password flows.
-     * Not used by API-key/JWT flows directly.
-     */
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
     /**
      * API-key authentication filter that delegates validation to {@link ApiKeyService}.
      *
      * @param apiKeyService  service used to look up active API keys
+     * @param rateLimiter    cluster-wide per-key rate limiter
      */
     @Bean
-    public ApiKeyAuthenticationFilter apiKeyAuthenticationFilter(ApiKeyService apiKeyService) {
+    public ApiKeyAuthenticationFilter apiKeyAuthenticationFilter(ApiKeyService apiKeyService,
+                                                                 ApiKeyRateLimiter rateLimiter) {
 
-        return new ApiKeyAuthenticationFilter(apiKeyService, securityProperties);
+        return new ApiKeyAuthenticationFilter(apiKeyService, rateLimiter, securityProperties);
     }
 
     /**
@@ -209,6 +183,4 @@ public class SecurityConfig {
     public JwtAuthenticationFilter jwtAuthenticationFilter(JwtService jwtService) {
         return new JwtAuthenticationFilter(jwtService);
     }
-
-
 }
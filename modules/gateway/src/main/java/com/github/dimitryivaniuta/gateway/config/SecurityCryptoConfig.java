@@ -0,0 +1,63 @@
+package com.github.dimitryivaniuta.gateway.config;
+
+import com.github.dimitryivaniuta.gateway.config.properties.SecurityProperties;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Token and password crypto shared by the servlet ({@link SecurityConfig}) and the
+ * reactive ({@link ReactiveSecurityConfig}) security setups.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class SecurityCryptoConfig {
+
+    private final SecurityProperties securityProperties;
+
+    /**
+     * Symmetric signing key for JWTs (HS256) - JWT encoder (HS256) using security.jwt.secret..
+     *
+     * <p>Use a long, random secret in production and store it securely (e.g. Vault, Secrets Manager).</p>
+     */
+    @Bean
+    public JwtEncoder jwtEncoder() {
+        SecretKey key = new SecretKeySpec(securityProperties.jwt().secretRequired()
+                .getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        return new NimbusJwtEncoder(new ImmutableSecret<>(key));
+    }
+
+    /**
+     * Symmetric JWT decoder (HS256) using the same secret as the encoder.
+     */
+    @Bean
+    public JwtDecoder jwtDecoder() {
+        SecretKey key = new SecretKeySpec(securityProperties.jwt().secretRequired()
+                .getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        return NimbusJwtDecoder.withSecretKey(key)
+                .macAlgorithm(MacAlgorithm.HS256)
+                .build();
+    }
+
+    /**
+     * BCrypt encoder for user passwords (USERS table).
+     * Password encoder placeholder for future username/password flows.
+     * Not used by API-key/JWT flows directly.
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return new BCryptPasswordEncoder();
+    }
+}
@@ -0,0 +1,80 @@
+package com.github.dimitryivaniuta.gateway.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.graphql.data.method.annotation.support.AnnotatedControllerConfigurer;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+
+/**
+ * Runs the blocking parts of the servlet gateway on Java 21 virtual threads.
+ *
+ * <p>Activated with {@code gateway.execution.virtual-threads=true}. In this mode:
+ * <ul>
+ *   <li>Tomcat dispatches every request on a fresh virtual thread instead of its
+ *       bounded platform worker pool.</li>
+ *   <li>Blocking (non-async) GraphQL controller methods are invoked on a virtual-thread
+ *       executor, so their {@code .block()} calls park cheaply instead of holding a carrier.</li>
+ *   <li>The application task executor (MVC async, {@code @Async}) uses virtual threads.</li>
+ * </ul>
+ *
+ * <p>Pinning (a virtual thread blocking while stuck to its carrier, e.g. inside
+ * {@code synchronized}) is reported by
+ * {@link com.github.dimitryivaniuta.gateway.observability.VirtualThreadPinningMonitor}.</p>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "gateway.execution", name = "virtual-threads", havingValue = "true")
+public class VirtualThreadExecutionConfig {
+
+    /**
+     * Tomcat connector executor: one virtual thread per request.
+     */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        log.info("Gateway execution mode: virtual threads");
+        return protocolHandler -> protocolHandler.setExecutor(new VirtualThreadExecutor("tomcat-vt-"));
+    }
+
+    /**
+     * Replaces Spring Boot's pooled application task executor with a virtual-thread one.
+     */
+    @Bean(name = {
+            TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME
+    })
+    public SimpleAsyncTaskExecutor applicationTaskExecutor() {
+        return virtualThreadExecutor("task-vt-");
+    }
+
+    /**
+     * Makes Spring GraphQL invoke blocking controller methods on virtual threads.
+     *
+     * <p>Declared {@code static} because it is a {@link BeanPostProcessor}.</p>
+     */
+    @Bean
+    public static BeanPostProcessor graphQlVirtualThreadExecutorPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof AnnotatedControllerConfigurer configurer) {
+                    configurer.setExecutor(virtualThreadExecutor("graphql-vt-"));
+                    configurer.setBlockingMethodPredicate(handlerMethod -> true);
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+}
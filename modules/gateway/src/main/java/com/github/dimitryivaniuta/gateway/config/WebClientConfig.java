@@ -1,23 +1,34 @@
 package com.github.dimitryivaniuta.gateway.config;
 
-//import io.netty.channel.ChannelOption;
-//import io.netty.handler.timeout.ReadTimeoutHandler;
-//import io.netty.handler.timeout.WriteTimeoutHandler;
 import com.github.dimitryivaniuta.gateway.config.properties.OrderServiceProperties;
+import com.github.dimitryivaniuta.gateway.observability.DownstreamMetricsFilter;
+import com.github.dimitryivaniuta.gateway.observability.DownstreamService;
+import com.github.dimitryivaniuta.gateway.observability.DownstreamStatsFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 
 import org.springframework.util.unit.DataSize;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.web.reactive.function.client.*;
+import reactor.netty.http.client.HttpClient;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Central configuration for reactive {@link WebClient} instances used by the gateway
@@ -66,16 +77,16 @@ public class WebClientConfig {
      *   <li>Write timeout: 10 seconds</li>
      * </ul>
      */
-//    @Bean
-//    public ClientHttpConnector webClientHttpConnector() {
-//        HttpClient httpClient = HttpClient.create()
-//                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 5_000)
-//                .responseTimeout(Duration.ofSeconds(10))
-//                .doOnConnected(conn -> conn
-//                        .addHandlerLast(new ReadTimeoutHandler(10, TimeUnit.SECONDS))
-//                        .addHandlerLast(new WriteTimeoutHandler(10, TimeUnit.SECONDS)));
-//        return new ReactorClientHttpConnector(httpClient);
-//    }
+    @Bean
+    public ClientHttpConnector webClientHttpConnector() {
+        HttpClient httpClient = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 5_000)
+                .responseTimeout(Duration.ofSeconds(10))
+                .doOnConnected(conn -> conn
+                        .addHandlerLast(new ReadTimeoutHandler(10, TimeUnit.SECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(10, TimeUnit.SECONDS)));
+        return new ReactorClientHttpConnector(httpClient);
+    }
 
     /**
      * Base {@link WebClient.Builder} used by all downstream clients.
@@ -100,24 +111,48 @@ public class WebClientConfig {
      * WebClient for the Order service.
      */
     @Bean(name = "orderWebClient")
-    public WebClient orderWebClient(WebClient.Builder builder, ServicesProperties servicesProperties) {
-        return builder.baseUrl(servicesProperties.order().baseUrl()).build();
+    public WebClient orderWebClient(WebClient.Builder builder,
+                                    ServicesProperties servicesProperties,
+                                    ExchangeFilterFunction jwtPropagationFilter,
+                                    MeterRegistry meterRegistry) {
+        return builder.clone()
+                .baseUrl(servicesProperties.order().baseUrl())
+                .filter(jwtPropagationFilter)
+                .filter(new DownstreamStatsFilter(DownstreamService.ORDER))
+                .filter(new DownstreamMetricsFilter(DownstreamService.ORDER, meterRegistry))
+                .build();
     }
 
     /**
      * WebClient for the Inventory service.
      */
     @Bean(name = "inventoryWebClient")
-    public WebClient inventoryWebClient(WebClient.Builder builder, ServicesProperties servicesProperties) {
-        return builder.baseUrl(servicesProperties.inventory().baseUrl()).build();
+    public WebClient inventoryWebClient(WebClient.Builder builder,
+                                        ServicesProperties servicesProperties,
+                                        ExchangeFilterFunction jwtPropagationFilter,
+                                        MeterRegistry meterRegistry) {
+        return builder.clone()
+                .baseUrl(servicesProperties.inventory().baseUrl())
+                .filter(jwtPropagationFilter)
+                .filter(new DownstreamStatsFilter(DownstreamService.INVENTORY))
+                .filter(new DownstreamMetricsFilter(DownstreamService.INVENTORY, meterRegistry))
+                .build();
     }
 
     /**
      * WebClient for the Payment service.
      */
     @Bean(name = "paymentWebClient")
-    public WebClient paymentWebClient(WebClient.Builder builder, ServicesProperties servicesProperties) {
-        return builder.baseUrl(servicesProperties.payment().baseUrl()).build();
+    public WebClient paymentWebClient(WebClient.Builder builder,
+                                      ServicesProperties servicesProperties,
+                                      ExchangeFilterFunction jwtPropagationFilter,
+                                      MeterRegistry meterRegistry) {
+        return builder.clone()
+                .baseUrl(servicesProperties.payment().baseUrl())
+                .filter(jwtPropagationFilter)
+                .filter(new DownstreamStatsFilter(DownstreamService.PAYMENT))
+                .filter(new DownstreamMetricsFilter(DownstreamService.PAYMENT, meterRegistry))
+                .build();
     }
 
     // -------------------------------------------------------------------------
@@ -141,25 +176,38 @@ public class WebClientConfig {
     }
 
 
+    /**
+     * Propagates the caller's JWT to downstream services as a Bearer token.
+     *
+     * <p>The authentication is taken from the thread-bound {@link SecurityContextHolder}
+     * (servlet mode) and, when that is empty, from the Reactor context via
+     * {@link ReactiveSecurityContextHolder} (reactive mode, where no thread owns the request).</p>
+     */
     @Bean
     public ExchangeFilterFunction jwtPropagationFilter() {
         return (request, next) -> {
             Authentication auth = SecurityContextHolder.getContext().getAuthentication();
 
             if (auth instanceof JwtAuthenticationToken jwtAuth) {
-                String tokenValue = jwtAuth.getToken().getTokenValue();
-
-                ClientRequest mutated = ClientRequest.from(request)
-                        .headers(headers -> headers.setBearerAuth(tokenValue))
-                        .build();
-
-                return next.exchange(mutated);
+                return next.exchange(withBearer(request, jwtAuth));
             }
 
-            return next.exchange(request);
+            return ReactiveSecurityContextHolder.getContext()
+                    .map(SecurityContext::getAuthentication)
+                    .filter(JwtAuthenticationToken.class::isInstance)
+                    .map(reactiveAuth -> withBearer(request, (JwtAuthenticationToken) reactiveAuth))
+                    .defaultIfEmpty(request)
+                    .flatMap(next::exchange);
         };
     }
 
+    private static ClientRequest withBearer(ClientRequest request, JwtAuthenticationToken jwtAuth) {
+        String tokenValue = jwtAuth.getToken().getTokenValue();
+        return ClientRequest.from(request)
+                .headers(headers -> headers.setBearerAuth(tokenValue))
+                .build();
+    }
+
     @Bean
     public WebClient orderServiceWebClient(WebClient.Builder builder,
                                            ExchangeFilterFunction jwtPropagationFilter,
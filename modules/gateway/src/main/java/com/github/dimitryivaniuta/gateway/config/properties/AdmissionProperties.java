@@ -0,0 +1,100 @@
+package com.github.dimitryivaniuta.gateway.config.properties;
+
+import com.github.dimitryivaniuta.gateway.admission.RequestPriority;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * Priority-aware admission control in front of GraphQL execution.
+ *
+ * <p>Prefix: {@code gateway.admission}</p>
+ *
+ * <pre>
+ * gateway:
+ *   admission:
+ *     enabled: true
+ *     max-concurrent: 200            # GraphQL executions in flight
+ *     max-queue: 1000                # requests waiting for a slot; beyond that requests are rejected
+ *     max-queue-time-ms: 2000        # longest wait for a slot before rejecting
+ *     target-delay-ms: 5             # CoDel target: acceptable standing queueing delay
+ *     interval-ms: 100               # CoDel interval: how long the delay may stay above target
+ *     retry-after-seconds: 1
+ *     default-query-priority: NORMAL
+ *     default-mutation-priority: HIGH
+ *     operation-priorities:          # by operation name
+ *       Checkout: CRITICAL
+ *       ExportOrders: LOW
+ *     persisted-query-priorities:    # by persisted query id
+ *       orders-export-v1: LOW
+ *     principal-priorities:          # by authenticated principal, e.g. "api-key:&lt;uuid&gt;"
+ *       "api-key:5b0c...": LOW
+ * </pre>
+ *
+ * <p>The most specific match wins: persisted query id, then operation name, then principal,
+ * then the default for the operation type.</p>
+ */
+@ConfigurationProperties(prefix = "gateway.admission")
+public record AdmissionProperties(
+        Boolean enabled,
+        int maxConcurrent,
+        int maxQueue,
+        long maxQueueTimeMs,
+        long targetDelayMs,
+        long intervalMs,
+        long retryAfterSeconds,
+        RequestPriority defaultQueryPriority,
+        RequestPriority defaultMutationPriority,
+        Map<String, RequestPriority> operationPriorities,
+        Map<String, RequestPriority> persistedQueryPriorities,
+        Map<String, RequestPriority> principalPriorities
+) {
+
+    public boolean enabledOrDefault() {
+        return enabled == null || enabled;
+    }
+
+    public int maxConcurrentOrDefault() {
+        return maxConcurrent > 0 ? maxConcurrent : 200;
+    }
+
+    public int maxQueueOrDefault() {
+        return maxQueue > 0 ? maxQueue : 1_000;
+    }
+
+    public long maxQueueTimeMsOrDefault() {
+        return maxQueueTimeMs > 0 ? maxQueueTimeMs : 2_000L;
+    }
+
+    public long targetDelayMsOrDefault() {
+        return targetDelayMs > 0 ? targetDelayMs : 5L;
+    }
+
+    public long intervalMsOrDefault() {
+        return intervalMs > 0 ? intervalMs : 100L;
+    }
+
+    public long retryAfterSecondsOrDefault() {
+        return retryAfterSeconds > 0 ? retryAfterSeconds : 1L;
+    }
+
+    public RequestPriority defaultQueryPriorityOrDefault() {
+        return defaultQueryPriority != null ? defaultQueryPriority : RequestPriority.NORMAL;
+    }
+
+    public RequestPriority defaultMutationPriorityOrDefault() {
+        return defaultMutationPriority != null ? defaultMutationPriority : RequestPriority.HIGH;
+    }
+
+    public Map<String, RequestPriority> operationPrioritiesOrEmpty() {
+        return operationPriorities != null ? operationPriorities : Map.of();
+    }
+
+    public Map<String, RequestPriority> persistedQueryPrioritiesOrEmpty() {
+        return persistedQueryPriorities != null ? persistedQueryPriorities : Map.of();
+    }
+
+    public Map<String, RequestPriority> principalPrioritiesOrEmpty() {
+        return principalPriorities != null ? principalPriorities : Map.of();
+    }
+}
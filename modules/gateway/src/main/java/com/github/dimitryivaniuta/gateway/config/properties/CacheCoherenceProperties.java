@@ -0,0 +1,46 @@
+package com.github.dimitryivaniuta.gateway.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * In-process caches of persisted queries and auth data, kept coherent across gateway
+ * replicas through PostgreSQL {@code LISTEN/NOTIFY}.
+ *
+ * <p>Prefix: {@code gateway.cache-coherence}</p>
+ *
+ * <pre>
+ * gateway:
+ *   cache-coherence:
+ *     enabled: true
+ *     max-entries: 10000          # per cache (persisted queries, API keys, users)
+ *     poll-timeout-ms: 500        # wait for notifications before checking the connection
+ *     reconnect-backoff-ms: 1000  # delay before re-opening a lost listener connection
+ * </pre>
+ *
+ * <p>When disabled, or while the listener connection is down, lookups go straight to the
+ * database and nothing is cached.</p>
+ */
+@ConfigurationProperties(prefix = "gateway.cache-coherence")
+public record CacheCoherenceProperties(
+        Boolean enabled,
+        int maxEntries,
+        long pollTimeoutMs,
+        long reconnectBackoffMs
+) {
+
+    public boolean enabledOrDefault() {
+        return enabled == null || enabled;
+    }
+
+    public int maxEntriesOrDefault() {
+        return maxEntries > 0 ? maxEntries : 10_000;
+    }
+
+    public long pollTimeoutMsOrDefault() {
+        return pollTimeoutMs > 0 ? pollTimeoutMs : 500L;
+    }
+
+    public long reconnectBackoffMsOrDefault() {
+        return reconnectBackoffMs > 0 ? reconnectBackoffMs : 1_000L;
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.dimitryivaniuta.gateway.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+
+/**
+ * Sampled capture of production GraphQL traffic for later replay.
+ *
+ * <p>Prefix: {@code gateway.capture}</p>
+ *
+ * <pre>
+ * gateway:
+ *   capture:
+ *     enabled: false
+ *     sample-rate: 0.01              # fraction of requests captured (0..1)
+ *     directory: ./capture
+ *     max-file-bytes: 67108864       # rotate (and gzip) the active file after 64 MiB
+ *     max-files: 20                  # compressed files kept, oldest deleted first
+ *     queue-capacity: 10000          # records buffered for the writer; overflow is dropped
+ *     pseudonym-salt: ""             # HMAC key for variable pseudonyms; blank = random per process
+ * </pre>
+ *
+ * <p>Records are JSON lines; literals in documents are masked and variable values are
+ * replaced by salted pseudonyms, so no request payload values are written to disk. Set the
+ * same salt on every replica (from a secret) when captures from several instances are replayed
+ * together, so that one value maps to one pseudonym across all of them.</p>
+ */
+@ConfigurationProperties(prefix = "gateway.capture")
+public record CaptureProperties(
+        boolean enabled,
+        double sampleRate,
+        String directory,
+        long maxFileBytes,
+        int maxFiles,
+        int queueCapacity,
+        String pseudonymSalt
+) {
+
+    public double sampleRateOrDefault() {
+        return sampleRate > 0 && sampleRate <= 1 ? sampleRate : 0.01;
+    }
+
+    public String directoryOrDefault() {
+        return directory != null && !directory.isBlank() ? directory : "./capture";
+    }
+
+    public long maxFileBytesOrDefault() {
+        return maxFileBytes > 0 ? maxFileBytes : 64L * 1024 * 1024;
+    }
+
+    public int maxFilesOrDefault() {
+        return maxFiles > 0 ? maxFiles : 20;
+    }
+
+    public int queueCapacityOrDefault() {
+        return queueCapacity > 0 ? queueCapacity : 10_000;
+    }
+
+    /**
+     * The configured salt, or 32 random bytes when none is set (a new one on every call).
+     */
+    public byte[] pseudonymSaltOrRandom() {
+        if (pseudonymSalt != null && !pseudonymSalt.isBlank()) {
+            return pseudonymSalt.getBytes(StandardCharsets.UTF_8);
+        }
+        byte[] salt = new byte[32];
+        new SecureRandom().nextBytes(salt);
+        return salt;
+    }
+}
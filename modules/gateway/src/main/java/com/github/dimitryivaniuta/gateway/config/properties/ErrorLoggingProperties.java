@@ -0,0 +1,36 @@
+package com.github.dimitryivaniuta.gateway.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Rate limiting of GraphQL resolver error logs.
+ *
+ * <p>Prefix: {@code gateway.error-logging}</p>
+ *
+ * <pre>
+ * gateway:
+ *   error-logging:
+ *     window-ms: 60000              # aggregation window per (field coordinate, exception type)
+ *     stack-traces-per-window: 5    # occurrences logged with a stack trace; the rest are only counted
+ *     max-keys: 1000                # distinct keys tracked; further keys share one bucket
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "gateway.error-logging")
+public record ErrorLoggingProperties(
+        long windowMs,
+        int stackTracesPerWindow,
+        int maxKeys
+) {
+
+    public long windowMsOrDefault() {
+        return windowMs > 0 ? windowMs : 60_000L;
+    }
+
+    public int stackTracesPerWindowOrDefault() {
+        return stackTracesPerWindow > 0 ? stackTracesPerWindow : 5;
+    }
+
+    public int maxKeysOrDefault() {
+        return maxKeys > 0 ? maxKeys : 1_000;
+    }
+}
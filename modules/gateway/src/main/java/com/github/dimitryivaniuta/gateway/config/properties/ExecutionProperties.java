@@ -0,0 +1,33 @@
+package com.github.dimitryivaniuta.gateway.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Thread execution model of the gateway.
+ *
+ * <p>Prefix: {@code gateway.execution}</p>
+ *
+ * <pre>
+ * gateway:
+ *   execution:
+ *     virtual-threads: false        # true = Tomcat, GraphQL controllers and async tasks on virtual threads
+ *     pinned-threshold: 20ms        # report virtual threads pinned to a carrier for longer than this
+ * </pre>
+ *
+ * <p>This is the only virtual-thread switch in the gateway configuration; Spring Boot's
+ * {@code spring.threads.virtual.enabled} is deliberately left unset so the two cannot disagree.</p>
+ */
+@ConfigurationProperties(prefix = "gateway.execution")
+public record ExecutionProperties(
+        boolean virtualThreads,
+        Duration pinnedThreshold
+) {
+
+    public Duration pinnedThresholdOrDefault() {
+        return pinnedThreshold != null && !pinnedThreshold.isNegative() && !pinnedThreshold.isZero()
+                ? pinnedThreshold
+                : Duration.ofMillis(20);
+    }
+}
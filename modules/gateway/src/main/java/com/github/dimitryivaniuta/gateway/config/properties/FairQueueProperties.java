@@ -0,0 +1,54 @@
+package com.github.dimitryivaniuta.gateway.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * Weighted fair queuing of GraphQL executions across tenants.
+ *
+ * <p>Prefix: {@code gateway.fair-queue}</p>
+ *
+ * <pre>
+ * gateway:
+ *   fair-queue:
+ *     enabled: true
+ *     default-weight: 1
+ *     weights:                    # relative share per tenant when several are backlogged
+ *       acme: 4
+ *       batch-exports: 1
+ *     max-tagged-tenants: 50      # tenants reported with their own metric tag; the rest as "other"
+ * </pre>
+ *
+ * <p>Fair queuing orders the wait queue of the
+ * {@link com.github.dimitryivaniuta.gateway.admission.AdmissionController}; slots, queue
+ * length and queue time are the {@code gateway.admission.*} limits. Disabled, all tenants
+ * share one FIFO queue per priority.</p>
+ *
+ * <p>The tenant is the {@code tenant} JWT claim or the tenant of the API key; unauthenticated
+ * requests share the {@code anonymous} tenant.</p>
+ */
+@ConfigurationProperties(prefix = "gateway.fair-queue")
+public record FairQueueProperties(
+        Boolean enabled,
+        int defaultWeight,
+        Map<String, Integer> weights,
+        int maxTaggedTenants
+) {
+
+    public boolean enabledOrDefault() {
+        return enabled == null || enabled;
+    }
+
+    public int weightOf(String tenant) {
+        Integer weight = weights != null ? weights.get(tenant) : null;
+        if (weight != null && weight > 0) {
+            return weight;
+        }
+        return defaultWeight > 0 ? defaultWeight : 1;
+    }
+
+    public int maxTaggedTenantsOrDefault() {
+        return maxTaggedTenants > 0 ? maxTaggedTenants : 50;
+    }
+}
@@ -0,0 +1,49 @@
+package com.github.dimitryivaniuta.gateway.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Tuning of the credential login path ({@code POST /auth/token}).
+ *
+ * <p>Prefix: {@code security.login}</p>
+ *
+ * <pre>
+ * security:
+ *   login:
+ *     verifier-threads: 0                  # 0 = half of the available processors
+ *     queue-capacity: 256                  # pending verifications before shedding
+ *     retry-after-seconds: 1
+ *     last-login-flush-interval-ms: 5000
+ * </pre>
+ *
+ * <p>Password hashes are verified on a dedicated, bounded pool so that a burst of
+ * logins can only consume {@code verifier-threads} cores; anything beyond the queue
+ * is rejected with {@code 503 Service Unavailable} instead of piling up on servlet threads.</p>
+ */
+@ConfigurationProperties(prefix = "security.login")
+public record LoginProperties(
+        int verifierThreads,
+        int queueCapacity,
+        long retryAfterSeconds,
+        long lastLoginFlushIntervalMs
+) {
+
+    public int verifierThreadsOrDefault() {
+        if (verifierThreads > 0) {
+            return verifierThreads;
+        }
+        return Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+
+    public int queueCapacityOrDefault() {
+        return queueCapacity > 0 ? queueCapacity : 256;
+    }
+
+    public long retryAfterSecondsOrDefault() {
+        return retryAfterSeconds > 0 ? retryAfterSeconds : 1L;
+    }
+
+    public long lastLoginFlushIntervalMsOrDefault() {
+        return lastLoginFlushIntervalMs > 0 ? lastLoginFlushIntervalMs : 5_000L;
+    }
+}
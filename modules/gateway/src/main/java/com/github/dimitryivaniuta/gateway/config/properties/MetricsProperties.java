@@ -0,0 +1,44 @@
+package com.github.dimitryivaniuta.gateway.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * GraphQL and downstream metrics.
+ *
+ * <p>Prefix: {@code gateway.metrics}</p>
+ *
+ * <pre>
+ * gateway:
+ *   metrics:
+ *     field-sample-rate: 0.01       # fraction of requests whose non-trivial field resolvers are timed
+ *     max-operation-names: 100      # distinct operation tag values; the rest are reported as "other"
+ *     server-timing: true           # Server-Timing header on /graphql responses
+ *     cost-extension: true          # extensions.cost block in GraphQL responses
+ * </pre>
+ *
+ * <p>Operation tags use the persisted query id when present, otherwise the operation name.</p>
+ */
+@ConfigurationProperties(prefix = "gateway.metrics")
+public record MetricsProperties(
+        double fieldSampleRate,
+        int maxOperationNames,
+        Boolean serverTiming,
+        Boolean costExtension
+) {
+
+    public double fieldSampleRateOrDefault() {
+        return fieldSampleRate > 0 && fieldSampleRate <= 1 ? fieldSampleRate : 0.01;
+    }
+
+    public int maxOperationNamesOrDefault() {
+        return maxOperationNames > 0 ? maxOperationNames : 100;
+    }
+
+    public boolean serverTimingOrDefault() {
+        return serverTiming == null || serverTiming;
+    }
+
+    public boolean costExtensionOrDefault() {
+        return costExtension == null || costExtension;
+    }
+}
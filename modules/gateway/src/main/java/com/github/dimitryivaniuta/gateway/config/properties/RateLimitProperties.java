@@ -0,0 +1,48 @@
+package com.github.dimitryivaniuta.gateway.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.UUID;
+
+/**
+ * Cluster-wide API key rate limiting ({@code api_key.rate_limit_per_minute}).
+ *
+ * <p>Prefix: {@code gateway.rate-limit}</p>
+ *
+ * <pre>
+ * gateway:
+ *   rate-limit:
+ *     enabled: true
+ *     sync-interval-ms: 1000       # how often replicas publish and re-read usage
+ *     replica-ttl-ms: 10000        # replicas silent for longer no longer count
+ *     replica-id: ${HOSTNAME:}     # defaults to HOSTNAME (the pod name) or a random id
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "gateway.rate-limit")
+public record RateLimitProperties(
+        Boolean enabled,
+        long syncIntervalMs,
+        long replicaTtlMs,
+        String replicaId
+) {
+
+    public boolean enabledOrDefault() {
+        return enabled == null || enabled;
+    }
+
+    public long syncIntervalMsOrDefault() {
+        return syncIntervalMs > 0 ? syncIntervalMs : 1_000L;
+    }
+
+    public long replicaTtlMsOrDefault() {
+        return replicaTtlMs > 0 ? replicaTtlMs : 10_000L;
+    }
+
+    public String replicaIdOrDefault() {
+        if (replicaId != null && !replicaId.isBlank()) {
+            return replicaId;
+        }
+        String hostname = System.getenv("HOSTNAME");
+        return hostname != null && !hostname.isBlank() ? hostname : UUID.randomUUID().toString();
+    }
+}
@@ -0,0 +1,39 @@
+package com.github.dimitryivaniuta.gateway.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Slow-operation log.
+ *
+ * <p>Prefix: {@code gateway.slow-operations}</p>
+ *
+ * <pre>
+ * gateway:
+ *   slow-operations:
+ *     enabled: true
+ *     threshold-ms: 1000          # requests taking at least this long are logged
+ *     buffer-capacity: 1024       # entries waiting for the log writer; the oldest is overwritten when full
+ * </pre>
+ *
+ * <p>Entries are written by a background thread to the {@code gateway.slow-operations} logger,
+ * so they can be routed to their own appender.</p>
+ */
+@ConfigurationProperties(prefix = "gateway.slow-operations")
+public record SlowOperationProperties(
+        Boolean enabled,
+        long thresholdMs,
+        int bufferCapacity
+) {
+
+    public boolean enabledOrDefault() {
+        return enabled == null || enabled;
+    }
+
+    public long thresholdMsOrDefault() {
+        return thresholdMs > 0 ? thresholdMs : 1_000L;
+    }
+
+    public int bufferCapacityOrDefault() {
+        return bufferCapacity > 0 ? bufferCapacity : 1_024;
+    }
+}
@@ -0,0 +1,42 @@
+package com.github.dimitryivaniuta.gateway.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Stale-while-revalidate fallback for read fields.
+ *
+ * <p>Prefix: {@code gateway.stale-reads}</p>
+ *
+ * <pre>
+ * gateway:
+ *   stale-reads:
+ *     enabled: true
+ *     timeout-ms: 2000             # downstream read timeout before falling back
+ *     max-entries: 10000           # entities kept per resource (LRU)
+ *     max-age-ms: 600000           # older entries are never served
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "gateway.stale-reads")
+public record StaleReadProperties(
+        Boolean enabled,
+        long timeoutMs,
+        int maxEntries,
+        long maxAgeMs
+) {
+
+    public boolean enabledOrDefault() {
+        return enabled == null || enabled;
+    }
+
+    public long timeoutMsOrDefault() {
+        return timeoutMs > 0 ? timeoutMs : 2_000L;
+    }
+
+    public int maxEntriesOrDefault() {
+        return maxEntries > 0 ? maxEntries : 10_000;
+    }
+
+    public long maxAgeMsOrDefault() {
+        return maxAgeMs > 0 ? maxAgeMs : 600_000L;
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.dimitryivaniuta.gateway.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Per-request execution tracing.
+ *
+ * <p>Prefix: {@code gateway.tracing}</p>
+ *
+ * <pre>
+ * gateway:
+ *   tracing:
+ *     header: X-Gateway-Trace     # "X-Gateway-Trace: 1" traces the request and returns extensions.tracing
+ *     header-enabled: true        # set false to ignore the header (sampling only)
+ *     header-authority: SCOPE_ADMIN  # authority a caller needs for the header (and the actuator endpoint); "" = anyone
+ *     sample-rate: 0.0            # fraction of other requests traced into the ring buffer only
+ *     buffer-size: 200            # traces kept for /actuator/graphqltraces
+ *     max-spans: 2000             # spans kept per trace; the rest are counted as dropped
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "gateway.tracing")
+public record TracingProperties(
+        String header,
+        Boolean headerEnabled,
+        String headerAuthority,
+        double sampleRate,
+        int bufferSize,
+        int maxSpans
+) {
+
+    public String headerOrDefault() {
+        return header != null && !header.isBlank() ? header : "X-Gateway-Trace";
+    }
+
+    public boolean headerEnabledOrDefault() {
+        return headerEnabled == null || headerEnabled;
+    }
+
+    /**
+     * Authority required to trace by header, or {@code null} if anyone may.
+     */
+    public String headerAuthorityOrNull() {
+        if (headerAuthority == null) {
+            return "SCOPE_ADMIN";
+        }
+        return headerAuthority.isBlank() ? null : headerAuthority;
+    }
+
+    public double sampleRateOrDefault() {
+        return sampleRate > 0 && sampleRate <= 1 ? sampleRate : 0.0;
+    }
+
+    public int bufferSizeOrDefault() {
+        return bufferSize > 0 ? bufferSize : 200;
+    }
+
+    public int maxSpansOrDefault() {
+        return maxSpans > 0 ? maxSpans : 2_000;
+    }
+}
@@ -1,14 +1,15 @@
 package com.github.dimitryivaniuta.gateway.graphql.dataloader;
 
+import com.github.dimitryivaniuta.gateway.common.id.UuidListCodec;
 import com.github.dimitryivaniuta.gateway.graphql.type.InventoryItem;
 import org.dataloader.MappedBatchLoader;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
 
 /**
  * Batched loader for inventory items by order id.
@@ -28,7 +29,7 @@ public class InventoryBatchLoader implements MappedBatchLoader<UUID, List<Invent
      * Downstream contract: inventory-service returns an array of items with an "orderId" field.
      * We use a DTO here and then map to GraphQL InventoryItem + group by orderId.
      */
-    private record InventoryItemByOrderDto(
+    public record InventoryItemByOrderDto(
             UUID orderId,
             UUID id,
             String sku,
@@ -40,13 +41,19 @@ public class InventoryBatchLoader implements MappedBatchLoader<UUID, List<Invent
 
     @Override
     public CompletableFuture<Map<UUID, List<InventoryItem>>> load(Set<UUID> keys) {
+        return fetch(keys).toFuture();
+    }
+
+    /**
+     * Reactive variant of {@link #load(Set)}; used by the registered DataLoader so the
+     * Reactor context of the GraphQL request reaches the WebClient call.
+     */
+    public Mono<Map<UUID, List<InventoryItem>>> fetch(Set<UUID> keys) {
         if (keys == null || keys.isEmpty()) {
-            return CompletableFuture.completedFuture(Collections.emptyMap());
+            return Mono.just(Collections.emptyMap());
         }
 
-        String orderIdsParam = keys.stream()
-                .map(UUID::toString)
-                .collect(Collectors.joining(","));
+        String orderIdsParam = UuidListCodec.join(keys);
 
         return inventoryWebClient.get()
                 .uri(uriBuilder -> uriBuilder
@@ -56,25 +63,29 @@ public class InventoryBatchLoader implements MappedBatchLoader<UUID, List<Invent
                 .retrieve()
                 .bodyToFlux(InventoryItemByOrderDto.class)
                 .collectList()
-                .map(list -> {
-                    Map<UUID, List<InventoryItem>> result = new HashMap<>();
-                    for (InventoryItemByOrderDto dto : list) {
-                        InventoryItem item = InventoryItem.builder()
-                                .id(dto.id())
-                                .name(dto.name())
-                                .description(dto.description())
-                                .sku(dto.sku())
-                                .availableQuantity(dto.availableQuantity())
-                                .reservedQuantity(dto.reservedQuantity())
-                                .build();
-                        result.computeIfAbsent(dto.orderId(), k -> new ArrayList<>())
-                                .add(item);
-                    }
-                    // Ensure all requested keys exist in map (empty lists for missing)
-                    keys.forEach(k -> result.computeIfAbsent(k, ignored -> List.of()));
-                    return result;
-                })
-                .toFuture();
+                .map(list -> groupByOrderId(keys, list));
     }
-}
 
+    /**
+     * Group downstream rows by order id and make sure every requested key is present
+     * (empty list for orders without items), as DataLoader expects.
+     */
+    public static Map<UUID, List<InventoryItem>> groupByOrderId(Set<UUID> keys, List<InventoryItemByOrderDto> rows) {
+        Map<UUID, List<InventoryItem>> result = new HashMap<>();
+        for (InventoryItemByOrderDto dto : rows) {
+            InventoryItem item = InventoryItem.builder()
+                    .id(dto.id())
+                    .name(dto.name())
+                    .description(dto.description())
+                    .sku(dto.sku())
+                    .availableQuantity(dto.availableQuantity())
+                    .reservedQuantity(dto.reservedQuantity())
+                    .build();
+            result.computeIfAbsent(dto.orderId(), k -> new ArrayList<>())
+                    .add(item);
+        }
+        // Ensure all requested keys exist in map (empty lists for missing)
+        keys.forEach(k -> result.computeIfAbsent(k, ignored -> List.of()));
+        return result;
+    }
+}
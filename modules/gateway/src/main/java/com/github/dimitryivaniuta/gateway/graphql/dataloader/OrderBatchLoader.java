@@ -1,11 +1,14 @@
 package com.github.dimitryivaniuta.gateway.graphql.dataloader;
 
+import com.github.dimitryivaniuta.gateway.common.id.UuidListCodec;
 import com.github.dimitryivaniuta.gateway.graphql.type.Order;
 import org.dataloader.MappedBatchLoader;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.util.Collections;
 import java.util.Map;
@@ -19,10 +22,16 @@ import java.util.stream.Collectors;
  * Batched loader for Orders by id.
  *
  * <p>Used by DataLoader "orderBatchLoader", e.g. for Payment.order field resolution.</p>
+ *
+ * <p>Keys go to {@code POST /internal/orders:batchGet} as raw 16-byte UUIDs: less than half
+ * the size of the comma-separated text form, no URL length limit, and no text parsing on
+ * the order-service side.</p>
  */
 @Component("orderBatchLoader")
 public class OrderBatchLoader implements MappedBatchLoader<UUID, Order> {
 
+    private static final String BATCH_GET_PATH = "/internal/orders:batchGet";
+
     private final WebClient orderWebClient;
 
     public OrderBatchLoader(@Qualifier("orderWebClient") WebClient orderWebClient) {
@@ -32,19 +41,22 @@ public class OrderBatchLoader implements MappedBatchLoader<UUID, Order> {
     @NotNull
     @Override
     public CompletableFuture<Map<UUID, Order>> load(Set<UUID> keys) {
+        return fetch(keys).toFuture();
+    }
+
+    /**
+     * Reactive variant of {@link #load(Set)}; used by the registered DataLoader so the
+     * Reactor context of the GraphQL request reaches the WebClient call.
+     */
+    public Mono<Map<UUID, Order>> fetch(Set<UUID> keys) {
         if (keys.isEmpty()) {
-            return CompletableFuture.completedFuture(Collections.emptyMap());
+            return Mono.just(Collections.emptyMap());
         }
 
-        String idsParam = keys.stream()
-                .map(UUID::toString)
-                .collect(Collectors.joining(","));
-
-        return orderWebClient.get()
-                .uri(uriBuilder -> uriBuilder
-                        .path("/internal/orders")
-                        .queryParam("ids", idsParam)
-                        .build())
+        return orderWebClient.post()
+                .uri(BATCH_GET_PATH)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .bodyValue(UuidListCodec.toBytes(keys))
                 .retrieve()
                 .bodyToFlux(Order.class)
                 .collectList()
@@ -55,7 +67,6 @@ public class OrderBatchLoader implements MappedBatchLoader<UUID, Order> {
                                         Function.identity()
                                 )
                         )
-                )
-                .toFuture();
+                );
     }
 }
@@ -1,14 +1,15 @@
 package com.github.dimitryivaniuta.gateway.graphql.dataloader;
 
+import com.github.dimitryivaniuta.gateway.common.id.UuidListCodec;
 import com.github.dimitryivaniuta.gateway.graphql.type.Payment;
 import org.dataloader.MappedBatchLoader;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
 
 /**
  * Batched loader for payments by order id.
@@ -26,13 +27,19 @@ public class PaymentBatchLoader implements MappedBatchLoader<UUID, List<Payment>
 
     @Override
     public CompletableFuture<Map<UUID, List<Payment>>> load(Set<UUID> keys) {
+        return fetch(keys).toFuture();
+    }
+
+    /**
+     * Reactive variant of {@link #load(Set)}; used by the registered DataLoader so the
+     * Reactor context of the GraphQL request reaches the WebClient call.
+     */
+    public Mono<Map<UUID, List<Payment>>> fetch(Set<UUID> keys) {
         if (keys.isEmpty()) {
-            return CompletableFuture.completedFuture(Collections.emptyMap());
+            return Mono.just(Collections.emptyMap());
         }
 
-        String orderIdsParam = keys.stream()
-                .map(UUID::toString)
-                .collect(Collectors.joining(","));
+        String orderIdsParam = UuidListCodec.join(keys);
 
         return paymentWebClient.get()
                 .uri(uriBuilder -> uriBuilder
@@ -42,17 +49,21 @@ public class PaymentBatchLoader implements MappedBatchLoader<UUID, List<Payment>
                 .retrieve()
                 .bodyToFlux(Payment.class)
                 .collectList()
-                .map(list -> {
-                    Map<UUID, List<Payment>> result = new HashMap<>();
-                    for (Payment payment : list) {
-                        UUID orderId = payment.orderId();
-                        result.computeIfAbsent(orderId, k -> new ArrayList<>())
-                                .add(payment);
-                    }
-                    // Ensure all requested keys present
-                    keys.forEach(k -> result.computeIfAbsent(k, ignored -> List.of()));
-                    return result;
-                })
-                .toFuture();
+                .map(list -> groupByOrderId(keys, list));
+    }
+
+    /**
+     * Group payments by order id and make sure every requested key is present
+     * (empty list for orders without payments), as DataLoader expects.
+     */
+    public static Map<UUID, List<Payment>> groupByOrderId(Set<UUID> keys, List<Payment> payments) {
+        Map<UUID, List<Payment>> result = new HashMap<>();
+        for (Payment payment : payments) {
+            result.computeIfAbsent(payment.orderId(), k -> new ArrayList<>())
+                    .add(payment);
+        }
+        // Ensure all requested keys present
+        keys.forEach(k -> result.computeIfAbsent(k, ignored -> List.of()));
+        return result;
     }
 }
@@ -0,0 +1,83 @@
+package com.github.dimitryivaniuta.gateway.graphql.interceptor;
+
+import com.github.dimitryivaniuta.gateway.admission.AdmissionController;
+import com.github.dimitryivaniuta.gateway.admission.PriorityResolver;
+import com.github.dimitryivaniuta.gateway.admission.RequestPriority;
+import com.github.dimitryivaniuta.gateway.auth.CurrentAuthentication;
+import com.github.dimitryivaniuta.gateway.config.properties.AdmissionProperties;
+import com.github.dimitryivaniuta.gateway.config.properties.FairQueueProperties;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.graphql.server.WebGraphQlInterceptor;
+import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.graphql.server.WebGraphQlResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Puts every GraphQL request through the {@link AdmissionController} before any execution
+ * work (persisted query lookup included) is done.
+ *
+ * <p>Shed requests fail with {@code ServiceOverloadedException}, which Spring MVC and
+ * WebFlux render as {@code 503} with {@code Retry-After}. The execution slot is released
+ * when the response completes, errors or is cancelled.</p>
+ *
+ * <p>The principal and tenant are read once, here at chain entry: a queued request resumes
+ * on the thread of the request that released its slot, where the security context
+ * thread-local belongs to someone else.</p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 3)
+@ConditionalOnProperty(prefix = "gateway.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionInterceptor implements WebGraphQlInterceptor {
+
+    static final String ANONYMOUS_TENANT = "anonymous";
+
+    /** The single tenant everyone belongs to when fair queuing is disabled. */
+    static final String SHARED_TENANT = "all";
+
+    private final AdmissionController admissionController;
+    private final PriorityResolver priorityResolver;
+    private final boolean fairQueuing;
+
+    public AdmissionInterceptor(AdmissionController admissionController,
+                                AdmissionProperties properties,
+                                FairQueueProperties fairQueueProperties) {
+        this.admissionController = admissionController;
+        this.priorityResolver = new PriorityResolver(properties);
+        this.fairQueuing = fairQueueProperties.enabledOrDefault();
+    }
+
+    @Override
+    public Mono<WebGraphQlResponse> intercept(@NotNull WebGraphQlRequest request, @NotNull Chain chain) {
+        return CurrentAuthentication.get()
+                .flatMap(authentication -> admit(request, authentication))
+                .switchIfEmpty(Mono.defer(() -> admit(request, null)))
+                .flatMap(permit -> chain.next(request).doFinally(signal -> permit.release()));
+    }
+
+    private Mono<AdmissionController.Permit> admit(WebGraphQlRequest request, Authentication authentication) {
+        RequestPriority priority = priority(request, authentication != null ? authentication.getName() : null);
+        return admissionController.acquire(priority, tenant(authentication));
+    }
+
+    private String tenant(Authentication authentication) {
+        if (!fairQueuing) {
+            return SHARED_TENANT;
+        }
+        String tenant = CurrentAuthentication.tenantOf(authentication);
+        return tenant != null ? tenant : ANONYMOUS_TENANT;
+    }
+
+    private RequestPriority priority(WebGraphQlRequest request, String principal) {
+        Object persistedId = request.getExtensions().get(PersistedQueryInterceptor.EXT_KEY_PERSISTED_ID);
+        return priorityResolver.resolve(
+                persistedId instanceof String id ? id : null,
+                request.getOperationName(),
+                request.getDocument(),
+                principal);
+    }
+}
@@ -9,9 +9,10 @@ import org.springframework.graphql.server.WebGraphQlRequest;
 import org.springframework.graphql.server.WebGraphQlResponse;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.Callable;
 
 /**
  * Interceptor providing support for persisted GraphQL queries.
@@ -25,7 +26,8 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class PersistedQueryInterceptor implements WebGraphQlInterceptor {
 
-    private static final String EXT_KEY_PERSISTED_ID = "persistedQueryId";
+    /** Request extension carrying the persisted query id; read by the other interceptors too. */
+    public static final String EXT_KEY_PERSISTED_ID = "persistedQueryId";
 
     private final PersistedQueryService persistedQueryService;
 
@@ -43,34 +45,47 @@ public class PersistedQueryInterceptor implements WebGraphQlInterceptor {
 
         if (document.isBlank()) {
             // Lookup existing persisted query and inject it.
-            Optional<String> docOpt = persistedQueryService.findDocumentById(persistedId);
-
-            if (docOpt.isEmpty()) {
-                log.warn("Persisted query not found for id='{}', operationName='{}'",
-                        persistedId, operationName);
-                // Continue without document; engine will report error.
-                return chain.next(request);
-            }
-
-            String resolvedDoc = docOpt.get();
-            log.debug("Resolved persisted query id='{}', operationName='{}'", persistedId, operationName);
-
-            request.configureExecutionInput((input, builder) ->
-                    builder.query(resolvedDoc).build()
-            );
-
-            return chain.next(request);
+            return blocking(() -> persistedQueryService.findDocumentById(persistedId))
+                    .flatMap(docOpt -> {
+                        if (docOpt.isEmpty()) {
+                            log.warn("Persisted query not found for id='{}', operationName='{}'",
+                                    persistedId, operationName);
+                            // Continue without document; engine will report error.
+                            return chain.next(request);
+                        }
+
+                        String resolvedDoc = docOpt.get();
+                        log.debug("Resolved persisted query id='{}', operationName='{}'", persistedId, operationName);
+
+                        request.configureExecutionInput((input, builder) ->
+                                builder.query(resolvedDoc).build()
+                        );
+
+                        return chain.next(request);
+                    });
         }
 
         // Document present + ID -> store or update mapping (best-effort).
-        try {
-            persistedQueryService.saveOrUpdate(persistedId, document, operationName);
-            log.debug("Stored/updated persisted query id='{}', operationName='{}'", persistedId, operationName);
-        } catch (Exception ex) {
-            log.warn("Failed to store persisted query id='{}': {}", persistedId, ex.getMessage());
-        }
+        return blocking(() -> {
+            try {
+                persistedQueryService.saveOrUpdate(persistedId, document, operationName);
+                log.debug("Stored/updated persisted query id='{}', operationName='{}'", persistedId, operationName);
+            } catch (Exception ex) {
+                log.warn("Failed to store persisted query id='{}': {}", persistedId, ex.getMessage());
+            }
+            return Boolean.TRUE;
+        }).then(Mono.defer(() -> chain.next(request)));
+    }
 
-        return chain.next(request);
+    /**
+     * Runs a blocking (JPA) call. On the servlet stack it stays on the request thread;
+     * on a non-blocking thread (Reactor Netty event loop) it is moved to the bounded elastic pool.
+     */
+    private static <T> Mono<T> blocking(Callable<T> call) {
+        Mono<T> mono = Mono.fromCallable(call);
+        return Schedulers.isInNonBlockingThread()
+                ? mono.subscribeOn(Schedulers.boundedElastic())
+                : mono;
     }
 
     private String extractPersistedQueryId(WebGraphQlRequest request) {
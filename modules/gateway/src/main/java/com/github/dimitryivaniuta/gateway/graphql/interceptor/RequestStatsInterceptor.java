@@ -0,0 +1,49 @@
+package com.github.dimitryivaniuta.gateway.graphql.interceptor;
+
+import com.github.dimitryivaniuta.gateway.config.properties.MetricsProperties;
+import com.github.dimitryivaniuta.gateway.observability.AuthTiming;
+import com.github.dimitryivaniuta.gateway.observability.RequestExecutionStats;
+import com.github.dimitryivaniuta.gateway.observability.ServerTiming;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.graphql.server.WebGraphQlInterceptor;
+import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.graphql.server.WebGraphQlResponse;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Outermost interceptor: attaches a fresh {@link RequestExecutionStats} to every GraphQL request.
+ *
+ * <p>The stats object is written into the Reactor context (for interceptors, controllers,
+ * batch loaders and WebClient filters) and into the {@code GraphQLContext} (for
+ * instrumentation), both under the key {@code RequestExecutionStats.class}.</p>
+ *
+ * <p>Being outermost, it also stamps the {@link ServerTiming} header on the response once
+ * the rest of the chain has completed.</p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestStatsInterceptor implements WebGraphQlInterceptor {
+
+    private final boolean serverTiming;
+
+    public RequestStatsInterceptor(MetricsProperties properties) {
+        this.serverTiming = properties.serverTimingOrDefault();
+    }
+
+    @Override
+    public Mono<WebGraphQlResponse> intercept(@NotNull WebGraphQlRequest request, @NotNull Chain chain) {
+        RequestExecutionStats stats = new RequestExecutionStats();
+        request.configureExecutionInput((input, builder) ->
+                builder.graphQLContext(context -> context.put(RequestExecutionStats.class, stats)).build());
+        Mono<WebGraphQlResponse> response = chain.next(request);
+        if (serverTiming) {
+            long authNanos = AuthTiming.nanos(request.getAttributes());
+            response = response.doOnNext(result -> result.getResponseHeaders()
+                    .add(ServerTiming.HEADER, ServerTiming.format(stats, authNanos)));
+        }
+        return response.contextWrite(context -> context.put(RequestExecutionStats.class, stats));
+    }
+}
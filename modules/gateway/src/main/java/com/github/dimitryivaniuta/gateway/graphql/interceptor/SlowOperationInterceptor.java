@@ -0,0 +1,59 @@
+package com.github.dimitryivaniuta.gateway.graphql.interceptor;
+
+import com.github.dimitryivaniuta.gateway.config.properties.SlowOperationProperties;
+import com.github.dimitryivaniuta.gateway.observability.RequestExecutionStats;
+import com.github.dimitryivaniuta.gateway.observability.slowlog.SlowOperation;
+import com.github.dimitryivaniuta.gateway.observability.slowlog.SlowOperationLog;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.graphql.server.WebGraphQlInterceptor;
+import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.graphql.server.WebGraphQlResponse;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hands requests slower than {@link SlowOperationProperties#thresholdMsOrDefault()} to the
+ * {@link SlowOperationLog}. Fast requests cost one clock read and a comparison.
+ *
+ * <p>Runs right inside {@link RequestStatsInterceptor}, before {@link PersistedQueryInterceptor}
+ * resolves persisted ids, so it sees the id the client sent.</p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@ConditionalOnProperty(prefix = "gateway.slow-operations", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SlowOperationInterceptor implements WebGraphQlInterceptor {
+
+    private final SlowOperationLog slowOperationLog;
+    private final long thresholdNanos;
+
+    public SlowOperationInterceptor(SlowOperationLog slowOperationLog, SlowOperationProperties properties) {
+        this.slowOperationLog = slowOperationLog;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(properties.thresholdMsOrDefault());
+    }
+
+    @Override
+    public Mono<WebGraphQlResponse> intercept(@NotNull WebGraphQlRequest request, @NotNull Chain chain) {
+        return Mono.deferContextual(context -> {
+            long started = System.nanoTime();
+            return chain.next(request).doOnNext(response -> {
+                long elapsed = System.nanoTime() - started;
+                if (elapsed >= thresholdNanos) {
+                    Object persistedId = request.getExtensions().get(PersistedQueryInterceptor.EXT_KEY_PERSISTED_ID);
+                    slowOperationLog.offer(new SlowOperation(
+                            System.currentTimeMillis(),
+                            request.getOperationName(),
+                            persistedId instanceof String id ? id : null,
+                            request.getVariables(),
+                            elapsed,
+                            response.getErrors().size(),
+                            RequestExecutionStats.from(context).orElse(null)));
+                }
+            });
+        });
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.dimitryivaniuta.gateway.graphql.interceptor;
+
+import com.github.dimitryivaniuta.gateway.auth.CurrentAuthentication;
+import com.github.dimitryivaniuta.gateway.config.properties.TracingProperties;
+import com.github.dimitryivaniuta.gateway.observability.tracing.ExecutionTrace;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.graphql.server.WebGraphQlInterceptor;
+import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.graphql.server.WebGraphQlResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides whether a request is traced and, if so, attaches an {@link ExecutionTrace}.
+ *
+ * <p>A request is traced when it carries the trace header ({@code X-Gateway-Trace: 1} by
+ * default; the trace is then also returned in {@code extensions.tracing}) or when it is
+ * picked by {@link TracingProperties#sampleRateOrDefault() sampling} (ring buffer only).
+ * Untraced requests are passed through unchanged.</p>
+ *
+ * <p>The header is only honoured for callers holding
+ * {@link TracingProperties#headerAuthorityOrNull() the trace authority} ({@code SCOPE_ADMIN}
+ * by default): traces expose the schema paths and timings of the gateway's internals. For
+ * anyone else the header is ignored and the request is sampled like any other.</p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class TracingInterceptor implements WebGraphQlInterceptor {
+
+    private final String header;
+    private final boolean headerEnabled;
+    private final String headerAuthority;
+    private final double sampleRate;
+    private final int maxSpans;
+
+    public TracingInterceptor(TracingProperties properties) {
+        this.header = properties.headerOrDefault();
+        this.headerEnabled = properties.headerEnabledOrDefault();
+        this.headerAuthority = properties.headerAuthorityOrNull();
+        this.sampleRate = properties.sampleRateOrDefault();
+        this.maxSpans = properties.maxSpansOrDefault();
+    }
+
+    @Override
+    public Mono<WebGraphQlResponse> intercept(@NotNull WebGraphQlRequest request, @NotNull Chain chain) {
+        if (!headerEnabled || !isTruthy(request.getHeaders().getFirst(header))) {
+            return sampled(request, chain);
+        }
+        if (headerAuthority == null) {
+            return traced(request, chain, true);
+        }
+        return CurrentAuthentication.get()
+                .filter(this::mayTrace)
+                .flatMap(authentication -> traced(request, chain, true))
+                .switchIfEmpty(Mono.defer(() -> sampled(request, chain)));
+    }
+
+    private Mono<WebGraphQlResponse> sampled(WebGraphQlRequest request, Chain chain) {
+        if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            return traced(request, chain, false);
+        }
+        return chain.next(request);
+    }
+
+    private Mono<WebGraphQlResponse> traced(WebGraphQlRequest request, Chain chain, boolean requested) {
+        ExecutionTrace trace = new ExecutionTrace(request.getOperationName(), requested, maxSpans);
+        request.configureExecutionInput((input, builder) ->
+                builder.graphQLContext(context -> context.put(ExecutionTrace.class, trace)).build());
+        return chain.next(request)
+                .contextWrite(context -> context.put(ExecutionTrace.class, trace));
+    }
+
+    private boolean mayTrace(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .anyMatch(authority -> headerAuthority.equals(authority.getAuthority()));
+    }
+
+    private static boolean isTruthy(String value) {
+        return value != null && (value.equals("1") || value.equalsIgnoreCase("true"));
+    }
+}
@@ -0,0 +1,98 @@
+package com.github.dimitryivaniuta.gateway.graphql.interceptor;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.dimitryivaniuta.gateway.capture.QueryAnonymizer;
+import com.github.dimitryivaniuta.gateway.capture.TrafficCaptureWriter;
+import com.github.dimitryivaniuta.gateway.config.properties.CaptureProperties;
+import com.github.dimitryivaniuta.gateway.observability.RequestExecutionStats;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.graphql.server.WebGraphQlInterceptor;
+import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.graphql.server.WebGraphQlResponse;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples GraphQL requests and hands anonymized records to the {@link TrafficCaptureWriter}.
+ *
+ * <p>One JSON line per captured request:
+ * <pre>
+ * {"ts":1736937000000,"operationName":"OrdersById","persistedQueryId":null,
+ *  "document":"query OrdersById($ids: [ID!]!) { ... }","fingerprint":"4f1c...",
+ *  "variables":{"ids":["String#9c41d07a2be3","String#07e5a1f4c290"],"first":"Int#5b2e8d013fa7"},
+ *  "durationMicros":18250,"downstreamCalls":{"order":1,"inventory":1,"payment":1},"errors":0}
+ * </pre>
+ *
+ * <p>Runs right inside {@link RequestStatsInterceptor} and before {@link PersistedQueryInterceptor},
+ * so it sees the request exactly as the client sent it (persisted id and/or document).</p>
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(prefix = "gateway.capture", name = "enabled", havingValue = "true")
+public class TrafficCaptureInterceptor implements WebGraphQlInterceptor {
+
+    private final TrafficCaptureWriter writer;
+    private final ObjectMapper objectMapper;
+    private final double sampleRate;
+    private final byte[] pseudonymSalt;
+
+    public TrafficCaptureInterceptor(TrafficCaptureWriter writer,
+                                     ObjectMapper objectMapper,
+                                     CaptureProperties properties) {
+        this.writer = writer;
+        this.objectMapper = objectMapper;
+        this.sampleRate = properties.sampleRateOrDefault();
+        this.pseudonymSalt = properties.pseudonymSaltOrRandom();
+    }
+
+    @Override
+    public Mono<WebGraphQlResponse> intercept(@NotNull WebGraphQlRequest request, @NotNull Chain chain) {
+        if (ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return chain.next(request);
+        }
+
+        long started = System.nanoTime();
+        return Mono.deferContextual(context -> chain.next(request)
+                .doOnNext(response -> capture(request, response,
+                        System.nanoTime() - started,
+                        RequestExecutionStats.from(context).orElse(null))));
+    }
+
+    private void capture(WebGraphQlRequest request,
+                         WebGraphQlResponse response,
+                         long elapsedNanos,
+                         RequestExecutionStats stats) {
+        try {
+            Object persistedId = request.getExtensions().get(PersistedQueryInterceptor.EXT_KEY_PERSISTED_ID);
+            String document = QueryAnonymizer.maskLiterals(request.getDocument());
+            boolean hasDocument = document != null && !document.isBlank();
+
+            Map<String, Object> record = new LinkedHashMap<>();
+            record.put("ts", System.currentTimeMillis());
+            record.put("operationName", request.getOperationName());
+            record.put("persistedQueryId", persistedId instanceof String s ? s : null);
+            record.put("document", hasDocument ? document : null);
+            record.put("fingerprint", hasDocument ? QueryAnonymizer.fingerprint(document) : null);
+            record.put("variables", QueryAnonymizer.pseudonymsOf(request.getVariables(), pseudonymSalt));
+            record.put("durationMicros", TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+            record.put("downstreamCalls", stats != null ? stats.callsByService() : Map.of());
+            record.put("errors", response.getErrors().size());
+
+            writer.offer(objectMapper.writeValueAsString(record));
+        } catch (JsonProcessingException | RuntimeException ex) {
+            // Capture is best-effort and must never affect the response.
+            log.debug("Skipping traffic capture record: {}", ex.getMessage());
+        }
+    }
+}
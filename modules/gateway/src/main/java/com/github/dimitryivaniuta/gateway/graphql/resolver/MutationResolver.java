@@ -1,5 +1,6 @@
 package com.github.dimitryivaniuta.gateway.graphql.resolver;
 
+import com.github.dimitryivaniuta.gateway.graphql.type.CreateOrdersPayload;
 import com.github.dimitryivaniuta.gateway.graphql.type.InventoryItem;
 import com.github.dimitryivaniuta.gateway.graphql.type.Order;
 import com.github.dimitryivaniuta.gateway.graphql.type.Payment;
@@ -12,12 +13,19 @@ import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
 
 /**
  * Root GraphQL mutations for the gateway.
  *
  * <p>Each mutation delegates to the corresponding domain service
  * and returns the created/updated resource.</p>
+ *
+ * <p>Handlers are non-blocking ({@link Mono}) so they work on the servlet and the
+ * reactive stack alike.</p>
  */
 @Controller
 @Slf4j
@@ -39,7 +47,7 @@ public class MutationResolver {
      * Mutation: createOrder(input: CreateOrderInput!): Order!
      */
     @MutationMapping
-    public Order createOrder(@Argument CreateOrderInput input) {
+    public Mono<Order> createOrder(@Argument CreateOrderInput input) {
         log.debug("Creating order for customerId={}, items={}",
                 input.customerId(), input.items() != null ? input.items().size() : 0);
 
@@ -47,15 +55,30 @@ public class MutationResolver {
                 .uri("/internal/orders")
                 .bodyValue(input)
                 .retrieve()
-                .bodyToMono(Order.class)
-                .block();
+                .bodyToMono(Order.class);
+    }
+
+    /**
+     * Mutation: createOrders(inputs: [CreateOrderInput!]!): CreateOrdersPayload!
+     *
+     * <p>One call to the order-service bulk endpoint, which batches the inserts.</p>
+     */
+    @MutationMapping
+    public Mono<CreateOrdersPayload> createOrders(@Argument List<CreateOrderInput> inputs) {
+        log.debug("Creating {} orders in bulk", inputs.size());
+
+        return orderWebClient.post()
+                .uri("/internal/orders/bulk")
+                .bodyValue(Map.of("orders", inputs))
+                .retrieve()
+                .bodyToMono(CreateOrdersPayload.class);
     }
 
     /**
      * Mutation: updateInventoryItem(input: UpdateInventoryItemInput!): InventoryItem!
      */
     @MutationMapping
-    public InventoryItem updateInventoryItem(@Argument UpdateInventoryItemInput input) {
+    public Mono<InventoryItem> updateInventoryItem(@Argument UpdateInventoryItemInput input) {
         log.debug("Updating inventory item id={}, availableQuantity={}, reservedQuantity={}",
                 input.id(), input.availableQuantity(), input.reservedQuantity());
 
@@ -65,15 +88,14 @@ public class MutationResolver {
                         .build(input.id()))
                 .bodyValue(input)
                 .retrieve()
-                .bodyToMono(InventoryItem.class)
-                .block();
+                .bodyToMono(InventoryItem.class);
     }
 
     /**
      * Mutation: capturePayment(input: CapturePaymentInput!): Payment!
      */
     @MutationMapping
-    public Payment capturePayment(@Argument CapturePaymentInput input) {
+    public Mono<Payment> capturePayment(@Argument CapturePaymentInput input) {
         log.debug("Capturing payment for orderId={}, amount={}, currency={}",
                 input.orderId(), input.total().amount(), input.total().currency());
 
@@ -81,7 +103,6 @@ public class MutationResolver {
                 .uri("/internal/payments/capture")
                 .bodyValue(input)
                 .retrieve()
-                .bodyToMono(Payment.class)
-                .block();
+                .bodyToMono(Payment.class);
     }
 }
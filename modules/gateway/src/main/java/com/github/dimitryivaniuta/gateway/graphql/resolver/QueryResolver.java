@@ -1,8 +1,11 @@
 package com.github.dimitryivaniuta.gateway.graphql.resolver;
 
+import com.github.dimitryivaniuta.gateway.common.id.UuidListCodec;
 import com.github.dimitryivaniuta.gateway.graphql.type.InventoryItem;
 import com.github.dimitryivaniuta.gateway.graphql.type.Order;
 import com.github.dimitryivaniuta.gateway.graphql.type.Payment;
+import com.github.dimitryivaniuta.gateway.observability.DownstreamService;
+import com.github.dimitryivaniuta.gateway.resilience.StaleReadGuard;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -10,6 +13,7 @@ import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.util.*;
 import java.util.function.Function;
@@ -20,6 +24,10 @@ import java.util.stream.Collectors;
  *
  * <p>Delegates to downstream domain services (order, inventory, payment)
  * via WebClient and maps responses to GraphQL types.</p>
+ *
+ * <p>Handlers return {@link Mono} so they never block a request thread and run
+ * unchanged on both the servlet and the reactive (Netty) stack; Spring GraphQL
+ * propagates the Reactor context (including the security context) into them.</p>
  */
 @Controller
 public class QueryResolver {
@@ -30,21 +38,27 @@ public class QueryResolver {
     private final WebClient inventoryWebClient;
     private final WebClient paymentWebClient;
 
+    private final StaleReadGuard staleReads;
+
     public QueryResolver(@Qualifier("orderWebClient") WebClient orderWebClient,
                          @Qualifier("inventoryWebClient") WebClient inventoryWebClient,
-                         @Qualifier("paymentWebClient") WebClient paymentWebClient) {
+                         @Qualifier("paymentWebClient") WebClient paymentWebClient,
+                         StaleReadGuard staleReads) {
         this.orderWebClient = orderWebClient;
         this.inventoryWebClient = inventoryWebClient;
         this.paymentWebClient = paymentWebClient;
+        this.staleReads = staleReads;
     }
 
     /**
      * Query: orders(ids: [ID!]!): [Order!]!
      */
     @QueryMapping
-    public List<Order> orders(@Argument List<UUID> ids) {
+    public Mono<List<Order>> orders(@Argument List<UUID> ids) {
         return fetchAndOrderByIds(
                 orderWebClient,
+                DownstreamService.ORDER,
+                StaleReadGuard.ORDERS,
                 "/internal/orders",
                 "ids",
                 ids,
@@ -57,9 +71,11 @@ public class QueryResolver {
      * Query: inventoryItems(ids: [ID!]!): [InventoryItem!]!
      */
     @QueryMapping
-    public List<InventoryItem> inventoryItems(@Argument List<UUID> ids) {
+    public Mono<List<InventoryItem>> inventoryItems(@Argument List<UUID> ids) {
         return fetchAndOrderByIds(
                 inventoryWebClient,
+                DownstreamService.INVENTORY,
+                StaleReadGuard.INVENTORY_ITEMS,
                 "/internal/inventory",
                 "ids",
                 ids,
@@ -72,9 +88,11 @@ public class QueryResolver {
      * Query: payments(ids: [ID!]!): [Payment!]!
      */
     @QueryMapping
-    public List<Payment> payments(@Argument List<UUID> ids) {
+    public Mono<List<Payment>> payments(@Argument List<UUID> ids) {
         return fetchAndOrderByIds(
                 paymentWebClient,
+                DownstreamService.PAYMENT,
+                StaleReadGuard.PAYMENTS,
                 "/internal/payments",
                 "ids",
                 ids,
@@ -86,28 +104,29 @@ public class QueryResolver {
     /**
      * Helper that:
      * <ul>
-     *   <li>Makes a single GET call with comma-separated IDs.</li>
+     *   <li>Makes a single non-blocking GET call with comma-separated IDs.</li>
      *   <li>Maps the response to type T.</li>
+     *   <li>Falls back to the stale-read store if the call fails (see {@link StaleReadGuard}).</li>
      *   <li>Reorders the result list to match the original ID order.</li>
      * </ul>
      */
-    private <T> List<T> fetchAndOrderByIds(WebClient client,
-                                           String path,
-                                           String paramName,
-                                           List<UUID> ids,
-                                           Class<T> elementType,
-                                           Function<T, UUID> idExtractor) {
+    private <T> Mono<List<T>> fetchAndOrderByIds(WebClient client,
+                                                 DownstreamService service,
+                                                 String staleResource,
+                                                 String path,
+                                                 String paramName,
+                                                 List<UUID> ids,
+                                                 Class<T> elementType,
+                                                 Function<T, UUID> idExtractor) {
         if (ids == null || ids.isEmpty()) {
-            return List.of();
+            return Mono.just(List.of());
         }
 
-        String idsParam = ids.stream()
-                .map(UUID::toString)
-                .collect(Collectors.joining(","));
+        String idsParam = UuidListCodec.join(ids);
 
         log.debug("Fetching {} for {}={}", elementType.getSimpleName(), paramName, idsParam);
 
-        List<T> fetched = client.get()
+        Mono<Map<UUID, T>> fetch = client.get()
                 .uri(uriBuilder -> uriBuilder
                         .path(path)
                         .queryParam(paramName, idsParam)
@@ -115,20 +134,18 @@ public class QueryResolver {
                 .retrieve()
                 .bodyToFlux(elementType)
                 .collectList()
-                .blockOptional()
-                .orElseGet(List::of);
-
-        Map<UUID, T> byId = fetched.stream()
-                .collect(Collectors.toMap(
-                        idExtractor,
-                        Function.identity(),
-                        (a, b) -> a // should not happen if IDs are unique
-                ));
+                .map(fetched -> fetched.stream()
+                        .collect(Collectors.toMap(
+                                idExtractor,
+                                Function.identity(),
+                                (a, b) -> a // should not happen if IDs are unique
+                        )));
 
-        // Preserve request order and drop unknown IDs gracefully.
-        return ids.stream()
-                .map(byId::get)
-                .filter(Objects::nonNull)
-                .toList();
+        return staleReads.read(staleResource, service, ids, fetch)
+                // Preserve request order and drop unknown IDs gracefully.
+                .map(byId -> ids.stream()
+                        .map(byId::get)
+                        .filter(Objects::nonNull)
+                        .toList());
     }
 }
@@ -0,0 +1,23 @@
+package com.github.dimitryivaniuta.gateway.graphql.type;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Java representation of the GraphQL CreateOrdersPayload (and its CreateOrderResult items).
+ *
+ * Mirrors the order-service {@code POST /internal/orders/bulk} response.
+ */
+public record CreateOrdersPayload(
+        int created,
+        int failed,
+        List<CreateOrderResult> results
+) {
+
+    public record CreateOrderResult(
+            int index,
+            UUID id,
+            String error
+    ) {
+    }
+}
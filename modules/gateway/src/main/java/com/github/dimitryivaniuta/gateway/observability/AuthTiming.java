@@ -0,0 +1,37 @@
+package com.github.dimitryivaniuta.gateway.observability;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Map;
+
+/**
+ * Carries the time spent in authentication filters to the GraphQL layer as a request
+ * attribute, so it can be reported in the {@code Server-Timing} header.
+ *
+ * <p>Servlet filters write a servlet request attribute, WebFlux filters an exchange
+ * attribute; Spring GraphQL exposes both through {@code WebGraphQlRequest#getAttributes()}.</p>
+ */
+public final class AuthTiming {
+
+    public static final String ATTRIBUTE = AuthTiming.class.getName() + ".nanos";
+
+    private AuthTiming() {
+    }
+
+    public static void add(HttpServletRequest request, long nanos) {
+        Object current = request.getAttribute(ATTRIBUTE);
+        request.setAttribute(ATTRIBUTE, current instanceof Long previous ? previous + nanos : nanos);
+    }
+
+    public static void add(ServerWebExchange exchange, long nanos) {
+        exchange.getAttributes().merge(ATTRIBUTE, nanos, (previous, added) -> (Long) previous + (Long) added);
+    }
+
+    /**
+     * Recorded authentication time, or {@code -1} when no authentication filter ran.
+     */
+    public static long nanos(Map<String, Object> attributes) {
+        return attributes.get(ATTRIBUTE) instanceof Long nanos ? nanos : -1;
+    }
+}
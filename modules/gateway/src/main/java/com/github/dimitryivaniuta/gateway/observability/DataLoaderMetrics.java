@@ -0,0 +1,38 @@
+package com.github.dimitryivaniuta.gateway.observability;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DataLoader batch metrics, recorded by the registered batch loaders on every dispatch.
+ *
+ * <ul>
+ *   <li>{@code gateway.dataloader.batch.size} – keys per dispatched batch; tag {@code loader}.
+ *       Its count is the number of dispatches.</li>
+ * </ul>
+ *
+ * <p>A batch size that stays at 1 means batching is not effective for that loader.</p>
+ */
+@Component
+public class DataLoaderMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, DistributionSummary> batchSizes = new ConcurrentHashMap<>();
+
+    public DataLoaderMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void recordBatch(String loader, int keys) {
+        batchSizes.computeIfAbsent(loader, name -> DistributionSummary.builder("gateway.dataloader.batch.size")
+                        .description("Keys per DataLoader batch dispatch")
+                        .baseUnit("keys")
+                        .tag("loader", name)
+                        .register(meterRegistry))
+                .record(keys);
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.dimitryivaniuta.gateway.observability;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Micrometer metrics for calls to one downstream service.
+ *
+ * <ul>
+ *   <li>{@code gateway.downstream.requests} – time until response headers; tags
+ *       {@code service}, {@code method}, {@code uri}, {@code status}.</li>
+ *   <li>{@code gateway.downstream.response.size} – response body bytes actually read; tags
+ *       {@code service}, {@code uri}.</li>
+ * </ul>
+ *
+ * <p>{@code uri} is the request path with UUID and numeric segments replaced by {@code {id}},
+ * and without the query string, so it stays low-cardinality.</p>
+ */
+public class DownstreamMetricsFilter implements ExchangeFilterFunction {
+
+    private static final Pattern ID_SEGMENT = Pattern.compile(
+            "/(?:[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}|\\d+)(?=/|$)");
+
+    private final DownstreamService service;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> sizes = new ConcurrentHashMap<>();
+
+    public DownstreamMetricsFilter(DownstreamService service, MeterRegistry meterRegistry) {
+        this.service = service;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        String method = request.method().name();
+        String uri = uriTemplate(request.url().getRawPath());
+        long started = System.nanoTime();
+
+        return next.exchange(request)
+                .doOnError(error -> timer(method, uri, "IO_ERROR")
+                        .record(System.nanoTime() - started, TimeUnit.NANOSECONDS))
+                .map(response -> {
+                    timer(method, uri, String.valueOf(response.statusCode().value()))
+                            .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+
+                    AtomicLong bytes = new AtomicLong();
+                    DistributionSummary size = size(uri);
+                    return response.mutate()
+                            .body(body -> body
+                                    .doOnNext(buffer -> bytes.addAndGet(buffer.readableByteCount()))
+                                    .doOnComplete(() -> size.record(bytes.get())))
+                            .build();
+                });
+    }
+
+    static String uriTemplate(String path) {
+        return path == null || path.isEmpty() ? "/" : ID_SEGMENT.matcher(path).replaceAll("/{id}");
+    }
+
+    private Timer timer(String method, String uri, String status) {
+        return timers.computeIfAbsent(method + ' ' + uri + ' ' + status, key -> Timer.builder("gateway.downstream.requests")
+                .description("Downstream HTTP call time until response headers")
+                .tag("service", service.tag())
+                .tag("method", method)
+                .tag("uri", uri)
+                .tag("status", status)
+                .register(meterRegistry));
+    }
+
+    private DistributionSummary size(String uri) {
+        return sizes.computeIfAbsent(uri, key -> DistributionSummary.builder("gateway.downstream.response.size")
+                .description("Downstream HTTP response body size")
+                .baseUnit("bytes")
+                .tag("service", service.tag())
+                .tag("uri", uri)
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,17 @@
+package com.github.dimitryivaniuta.gateway.observability;
+
+/**
+ * Downstream domain services called by the gateway.
+ */
+public enum DownstreamService {
+    ORDER,
+    INVENTORY,
+    PAYMENT;
+
+    /**
+     * Lower-case name used in metric tags, logs and capture records.
+     */
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
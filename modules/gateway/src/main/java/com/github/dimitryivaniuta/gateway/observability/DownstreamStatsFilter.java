@@ -0,0 +1,58 @@
+package com.github.dimitryivaniuta.gateway.observability;
+
+import com.github.dimitryivaniuta.gateway.observability.tracing.ExecutionTrace;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * Counts calls to one downstream service, and the time they take until the response
+ * headers arrive, into the {@link RequestExecutionStats} of the GraphQL request that
+ * triggered them (looked up in the Reactor context).
+ *
+ * <p>When the request is traced, each call is also recorded as an {@code HTTP} span of its
+ * {@link ExecutionTrace}.</p>
+ *
+ * <p>Calls outside a GraphQL request, or from code that blocks and thereby drops the
+ * Reactor context, are not counted.</p>
+ */
+public class DownstreamStatsFilter implements ExchangeFilterFunction {
+
+    private final DownstreamService service;
+
+    public DownstreamStatsFilter(DownstreamService service) {
+        this.service = service;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.deferContextual(context -> {
+            RequestExecutionStats stats = context.getOrDefault(RequestExecutionStats.class, null);
+            ExecutionTrace trace = ExecutionTrace.from(context);
+            if (stats == null && trace == null) {
+                return next.exchange(request);
+            }
+            if (stats != null) {
+                stats.recordCall(service);
+            }
+            long started = System.nanoTime();
+            Mono<ClientResponse> exchange = next.exchange(request);
+            if (stats != null) {
+                exchange = exchange.doFinally(signal ->
+                        stats.recordDownstreamTime(service, System.nanoTime() - started));
+            }
+            if (trace == null) {
+                return exchange;
+            }
+            String name = service.tag() + ' ' + request.method().name() + ' ' + request.url().getPath();
+            return exchange
+                    .doOnSuccess(response -> trace.span(ExecutionTrace.Kind.HTTP,
+                            name + " -> " + (response != null ? response.statusCode().value() : "-"),
+                            started, System.nanoTime()))
+                    .doOnError(error -> trace.span(ExecutionTrace.Kind.HTTP,
+                            name + " -> " + error.getClass().getSimpleName(), started, System.nanoTime()));
+        });
+    }
+}
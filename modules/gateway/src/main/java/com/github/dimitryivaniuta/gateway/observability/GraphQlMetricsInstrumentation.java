@@ -0,0 +1,149 @@
+package com.github.dimitryivaniuta.gateway.observability;
+
+import com.github.dimitryivaniuta.gateway.config.properties.MetricsProperties;
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationCreateStateParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationValidationParameters;
+import graphql.language.Document;
+import graphql.schema.DataFetcher;
+import graphql.validation.ValidationError;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * graphql-java instrumentation publishing gateway GraphQL metrics to Micrometer.
+ *
+ * <ul>
+ *   <li>{@code gateway.graphql.operation} – end-to-end execution time; tags {@code operation}, {@code outcome}.</li>
+ *   <li>{@code gateway.graphql.parse} / {@code gateway.graphql.validate} – document parse and validation time; tag {@code operation}.</li>
+ *   <li>{@code gateway.graphql.field} – resolver time of non-trivial fields, including time spent waiting
+ *       on DataLoader batches; tag {@code coordinate} ({@code Type.field}). Only a
+ *       {@link MetricsProperties#fieldSampleRateOrDefault() sample} of requests is timed.</li>
+ * </ul>
+ *
+ * <p>Tag values are bounded: coordinates by the schema, operations by {@link OperationTagLimiter}.
+ * Timers are cached per tag combination so the hot path is a map lookup plus a clock read.</p>
+ */
+@Component
+public class GraphQlMetricsInstrumentation extends SimplePerformantInstrumentation {
+
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_ERROR = "error";
+
+    private final MeterRegistry meterRegistry;
+    private final OperationTagLimiter operationTags;
+    private final double fieldSampleRate;
+
+    private final Map<String, Timer> operationTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> parseTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> validateTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> fieldTimers = new ConcurrentHashMap<>();
+
+    public GraphQlMetricsInstrumentation(MeterRegistry meterRegistry, MetricsProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.operationTags = new OperationTagLimiter(properties.maxOperationNamesOrDefault());
+        this.fieldSampleRate = properties.fieldSampleRateOrDefault();
+    }
+
+    @Override
+    public InstrumentationState createState(InstrumentationCreateStateParameters parameters) {
+        ExecutionInput input = parameters.getExecutionInput();
+        String operation = operationTags.tagFor(input.getExtensions(), input.getOperationName());
+        boolean sampleFields = ThreadLocalRandom.current().nextDouble() < fieldSampleRate;
+        return new MetricsState(operation, sampleFields);
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecution(InstrumentationExecutionParameters parameters,
+                                                                  InstrumentationState state) {
+        if (!(state instanceof MetricsState metrics)) {
+            return super.beginExecution(parameters, state);
+        }
+        long started = System.nanoTime();
+        return SimpleInstrumentationContext.whenCompleted((result, error) -> {
+            boolean failed = error != null || (result != null && !result.getErrors().isEmpty());
+            String outcome = failed ? OUTCOME_ERROR : OUTCOME_SUCCESS;
+            operationTimers.computeIfAbsent(metrics.operation() + '|' + outcome, key -> Timer.builder("gateway.graphql.operation")
+                            .description("GraphQL operation execution time")
+                            .tag("operation", metrics.operation())
+                            .tag("outcome", outcome)
+                            .register(meterRegistry))
+                    .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        });
+    }
+
+    @Override
+    public InstrumentationContext<Document> beginParse(InstrumentationExecutionParameters parameters,
+                                                       InstrumentationState state) {
+        if (!(state instanceof MetricsState metrics)) {
+            return super.beginParse(parameters, state);
+        }
+        long started = System.nanoTime();
+        return SimpleInstrumentationContext.whenCompleted((document, error) ->
+                timer(parseTimers, "gateway.graphql.parse", "GraphQL document parse time", metrics.operation())
+                        .record(System.nanoTime() - started, TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public InstrumentationContext<List<ValidationError>> beginValidation(InstrumentationValidationParameters parameters,
+                                                                         InstrumentationState state) {
+        if (!(state instanceof MetricsState metrics)) {
+            return super.beginValidation(parameters, state);
+        }
+        long started = System.nanoTime();
+        return SimpleInstrumentationContext.whenCompleted((errors, error) ->
+                timer(validateTimers, "gateway.graphql.validate", "GraphQL document validation time", metrics.operation())
+                        .record(System.nanoTime() - started, TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public DataFetcher<?> instrumentDataFetcher(DataFetcher<?> dataFetcher,
+                                                InstrumentationFieldFetchParameters parameters,
+                                                InstrumentationState state) {
+        if (!(state instanceof MetricsState metrics) || !metrics.sampleFields() || parameters.isTrivialDataFetcher()) {
+            return dataFetcher;
+        }
+        String coordinate = parameters.getExecutionStepInfo().getObjectType().getName()
+                + '.' + parameters.getField().getName();
+        Timer timer = fieldTimers.computeIfAbsent(coordinate, key -> Timer.builder("gateway.graphql.field")
+                .description("GraphQL field resolver time (sampled)")
+                .tag("coordinate", coordinate)
+                .register(meterRegistry));
+
+        return environment -> {
+            long started = System.nanoTime();
+            Object result = dataFetcher.get(environment);
+            if (result instanceof CompletionStage<?> stage) {
+                return stage.whenComplete((value, error) ->
+                        timer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS));
+            }
+            timer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            return result;
+        };
+    }
+
+    private Timer timer(Map<String, Timer> cache, String name, String description, String operation) {
+        return cache.computeIfAbsent(operation, key -> Timer.builder(name)
+                .description(description)
+                .tag("operation", operation)
+                .register(meterRegistry));
+    }
+
+    private record MetricsState(String operation, boolean sampleFields) implements InstrumentationState {
+    }
+}
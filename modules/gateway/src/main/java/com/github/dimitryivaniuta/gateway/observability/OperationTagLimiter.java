@@ -0,0 +1,58 @@
+package com.github.dimitryivaniuta.gateway.observability;
+
+import com.github.dimitryivaniuta.gateway.graphql.interceptor.PersistedQueryInterceptor;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the {@code operation} metric tag low-cardinality.
+ *
+ * <p>The first {@code maxValues} distinct values are passed through; anything after that is
+ * reported as {@value #OTHER}. Values are client-controlled (operation names, persisted ids),
+ * so without a cap a single misbehaving client could create unbounded time series.</p>
+ */
+public final class OperationTagLimiter {
+
+    public static final String OTHER = "other";
+    public static final String ANONYMOUS = "anonymous";
+
+    private static final int MAX_VALUE_LENGTH = 64;
+
+    private final int maxValues;
+    private final Set<String> admitted = ConcurrentHashMap.newKeySet();
+
+    public OperationTagLimiter(int maxValues) {
+        this.maxValues = maxValues;
+    }
+
+    /**
+     * Tag value for a request: persisted id if present, else operation name, else {@value #ANONYMOUS}.
+     */
+    public String tagFor(Map<String, Object> extensions, String operationName) {
+        Object persistedId = extensions != null ? extensions.get(PersistedQueryInterceptor.EXT_KEY_PERSISTED_ID) : null;
+        if (persistedId instanceof String id && !id.isBlank()) {
+            return limit(id);
+        }
+        if (operationName != null && !operationName.isBlank()) {
+            return limit(operationName);
+        }
+        return ANONYMOUS;
+    }
+
+    String limit(String value) {
+        if (value.length() > MAX_VALUE_LENGTH) {
+            return OTHER;
+        }
+        if (admitted.contains(value)) {
+            return value;
+        }
+        // Racy by design: the cap may be exceeded by a few values under contention, never unboundedly.
+        if (admitted.size() < maxValues) {
+            admitted.add(value);
+            return value;
+        }
+        return OTHER;
+    }
+}
@@ -0,0 +1,103 @@
+package com.github.dimitryivaniuta.gateway.observability;
+
+import com.github.dimitryivaniuta.gateway.config.properties.MetricsProperties;
+import graphql.ExecutionResult;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationCreateStateParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationValidationParameters;
+import graphql.language.Document;
+import graphql.validation.ValidationError;
+import org.dataloader.DataLoaderRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Fills the per-request {@link RequestExecutionStats} with parse/validate time and
+ * DataLoader cache hits, and reports the request cost in {@code extensions.cost}:
+ *
+ * <pre>
+ * "cost": {
+ *   "downstreamCalls": 3,
+ *   "downstreamCallsByService": { "order": 1, "inventory": 1, "payment": 1 },
+ *   "dataLoaderBatches": 3,
+ *   "keysLoaded": 120,
+ *   "cacheHits": 40
+ * }
+ * </pre>
+ *
+ * <p>Cache hits come from the statistics the per-request {@link DataLoaderRegistry} keeps anyway.</p>
+ */
+@Component
+public class RequestCostInstrumentation extends SimplePerformantInstrumentation {
+
+    private final boolean costExtension;
+
+    public RequestCostInstrumentation(MetricsProperties properties) {
+        this.costExtension = properties.costExtensionOrDefault();
+    }
+
+    @Override
+    public InstrumentationState createState(InstrumentationCreateStateParameters parameters) {
+        RequestExecutionStats stats = parameters.getExecutionInput().getGraphQLContext().get(RequestExecutionStats.class);
+        return stats != null ? new CostState(stats) : null;
+    }
+
+    @Override
+    public InstrumentationContext<Document> beginParse(InstrumentationExecutionParameters parameters,
+                                                       InstrumentationState state) {
+        if (!(state instanceof CostState cost)) {
+            return super.beginParse(parameters, state);
+        }
+        long started = System.nanoTime();
+        return SimpleInstrumentationContext.whenCompleted((document, error) ->
+                cost.stats().recordParse(System.nanoTime() - started));
+    }
+
+    @Override
+    public InstrumentationContext<List<ValidationError>> beginValidation(InstrumentationValidationParameters parameters,
+                                                                         InstrumentationState state) {
+        if (!(state instanceof CostState cost)) {
+            return super.beginValidation(parameters, state);
+        }
+        long started = System.nanoTime();
+        return SimpleInstrumentationContext.whenCompleted((errors, error) ->
+                cost.stats().recordValidate(System.nanoTime() - started));
+    }
+
+    @Override
+    public CompletableFuture<ExecutionResult> instrumentExecutionResult(ExecutionResult executionResult,
+                                                                        InstrumentationExecutionParameters parameters,
+                                                                        InstrumentationState state) {
+        if (!(state instanceof CostState cost)) {
+            return super.instrumentExecutionResult(executionResult, parameters, state);
+        }
+        RequestExecutionStats stats = cost.stats();
+        DataLoaderRegistry registry = parameters.getExecutionInput().getDataLoaderRegistry();
+        if (registry != null) {
+            stats.recordCacheHits(registry.getStatistics().getCacheHitCount());
+        }
+        if (!costExtension) {
+            return CompletableFuture.completedFuture(executionResult);
+        }
+
+        Map<String, Object> extension = new LinkedHashMap<>();
+        extension.put("downstreamCalls", stats.totalCalls());
+        extension.put("downstreamCallsByService", stats.callsByService());
+        extension.put("dataLoaderBatches", stats.batches());
+        extension.put("keysLoaded", stats.keysLoaded());
+        extension.put("cacheHits", stats.cacheHits());
+        return CompletableFuture.completedFuture(
+                executionResult.transform(builder -> builder.addExtension("cost", extension)));
+    }
+
+    private record CostState(RequestExecutionStats stats) implements InstrumentationState {
+    }
+}
@@ -0,0 +1,165 @@
+package com.github.dimitryivaniuta.gateway.observability;
+
+import reactor.util.context.ContextView;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Per-request execution counters of one GraphQL request.
+ *
+ * <p>Created by {@link com.github.dimitryivaniuta.gateway.graphql.interceptor.RequestStatsInterceptor}
+ * and made available both in the Reactor context and in the {@code GraphQLContext}
+ * (key: this class). Downstream calls and their time are recorded by {@link DownstreamStatsFilter},
+ * DataLoader batches by {@code DataLoaderConfig}, parse/validate time and DataLoader cache hits
+ * by {@link RequestCostInstrumentation}.</p>
+ *
+ * <p>All counters are primitive slots allocated once per request; recording never allocates.</p>
+ *
+ * <p>Thread-safe: fields of one request may be resolved concurrently.</p>
+ */
+public final class RequestExecutionStats {
+
+    private static final DownstreamService[] SERVICES = DownstreamService.values();
+
+    /**
+     * Individual batch sizes kept per request (for the slow-operation log); later batches are only counted.
+     */
+    private static final int MAX_RECORDED_BATCHES = 32;
+
+    private final long startedNanos = System.nanoTime();
+    private final AtomicIntegerArray calls = new AtomicIntegerArray(SERVICES.length);
+    private final AtomicLongArray downstreamNanos = new AtomicLongArray(SERVICES.length);
+    private final AtomicInteger batches = new AtomicInteger();
+    private final AtomicInteger keysLoaded = new AtomicInteger();
+    private final AtomicReferenceArray<String> batchLoaders = new AtomicReferenceArray<>(MAX_RECORDED_BATCHES);
+    private final AtomicIntegerArray batchSizes = new AtomicIntegerArray(MAX_RECORDED_BATCHES);
+
+    private volatile long parseNanos;
+    private volatile long validateNanos;
+    private volatile long cacheHits;
+    private volatile boolean stale;
+
+    /**
+     * Stats of the current request, if the Reactor context carries one.
+     */
+    public static Optional<RequestExecutionStats> from(ContextView context) {
+        return context.getOrEmpty(RequestExecutionStats.class);
+    }
+
+    public void recordCall(DownstreamService service) {
+        calls.incrementAndGet(service.ordinal());
+    }
+
+    /**
+     * Add the wall time of one finished downstream call; concurrent calls add up.
+     */
+    public void recordDownstreamTime(DownstreamService service, long nanos) {
+        downstreamNanos.addAndGet(service.ordinal(), nanos);
+    }
+
+    public void recordBatch(String loader, int keys) {
+        int slot = batches.getAndIncrement();
+        keysLoaded.addAndGet(keys);
+        if (slot < MAX_RECORDED_BATCHES) {
+            batchSizes.set(slot, keys);
+            batchLoaders.set(slot, loader);
+        }
+    }
+
+    public void recordParse(long nanos) {
+        parseNanos = nanos;
+    }
+
+    public void recordValidate(long nanos) {
+        validateNanos = nanos;
+    }
+
+    public void recordCacheHits(long hits) {
+        cacheHits = hits;
+    }
+
+    /**
+     * Flag the request as (partly) answered from the stale-read store.
+     */
+    public void markStale() {
+        stale = true;
+    }
+
+    public int calls(DownstreamService service) {
+        return calls.get(service.ordinal());
+    }
+
+    public int totalCalls() {
+        int total = 0;
+        for (int i = 0; i < SERVICES.length; i++) {
+            total += calls.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * Calls per service keyed by {@link DownstreamService#tag()}, in declaration order.
+     */
+    public Map<String, Integer> callsByService() {
+        Map<String, Integer> out = new LinkedHashMap<>(SERVICES.length * 2);
+        for (DownstreamService service : SERVICES) {
+            out.put(service.tag(), calls.get(service.ordinal()));
+        }
+        return out;
+    }
+
+    public long downstreamNanos(DownstreamService service) {
+        return downstreamNanos.get(service.ordinal());
+    }
+
+    public int batches() {
+        return batches.get();
+    }
+
+    /**
+     * Sizes of the first recorded batches, grouped by loader name in dispatch order.
+     */
+    public Map<String, List<Integer>> batchSizesByLoader() {
+        Map<String, List<Integer>> out = new LinkedHashMap<>();
+        int recorded = Math.min(batches.get(), MAX_RECORDED_BATCHES);
+        for (int i = 0; i < recorded; i++) {
+            String loader = batchLoaders.get(i);
+            if (loader != null) {
+                out.computeIfAbsent(loader, key -> new ArrayList<>()).add(batchSizes.get(i));
+            }
+        }
+        return out;
+    }
+
+    public int keysLoaded() {
+        return keysLoaded.get();
+    }
+
+    public long parseNanos() {
+        return parseNanos;
+    }
+
+    public long validateNanos() {
+        return validateNanos;
+    }
+
+    public long cacheHits() {
+        return cacheHits;
+    }
+
+    public boolean stale() {
+        return stale;
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startedNanos;
+    }
+}
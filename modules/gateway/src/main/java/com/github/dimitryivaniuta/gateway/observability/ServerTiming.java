@@ -0,0 +1,47 @@
+package com.github.dimitryivaniuta.gateway.observability;
+
+/**
+ * Renders a {@code Server-Timing} header value from {@link RequestExecutionStats}:
+ *
+ * <pre>
+ * Server-Timing: auth;dur=1.2, parse;dur=0.3, validate;dur=0.1, exec;dur=48.5, order;dur=31.0, payment;dur=12.4
+ * </pre>
+ *
+ * <p>{@code exec} is the time spent in the GraphQL layer (interceptors included); downstream
+ * entries are the summed time of that service's calls and only appear when it was called.
+ * {@code auth} appears when an authentication filter recorded its time.</p>
+ */
+public final class ServerTiming {
+
+    public static final String HEADER = "Server-Timing";
+
+    private static final DownstreamService[] SERVICES = DownstreamService.values();
+
+    private ServerTiming() {
+    }
+
+    public static String format(RequestExecutionStats stats, long authNanos) {
+        StringBuilder out = new StringBuilder(128);
+        if (authNanos >= 0) {
+            append(out, "auth", authNanos);
+        }
+        append(out, "parse", stats.parseNanos());
+        append(out, "validate", stats.validateNanos());
+        append(out, "exec", stats.elapsedNanos());
+        for (DownstreamService service : SERVICES) {
+            if (stats.calls(service) > 0) {
+                append(out, service.tag(), stats.downstreamNanos(service));
+            }
+        }
+        return out.toString();
+    }
+
+    private static void append(StringBuilder out, String metric, long nanos) {
+        if (!out.isEmpty()) {
+            out.append(", ");
+        }
+        // milliseconds with one decimal, without going through String.format
+        long tenths = Math.max(0, (nanos + 50_000) / 100_000);
+        out.append(metric).append(";dur=").append(tenths / 10).append('.').append(tenths % 10);
+    }
+}
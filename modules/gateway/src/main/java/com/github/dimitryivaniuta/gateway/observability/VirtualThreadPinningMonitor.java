@@ -0,0 +1,126 @@
+package com.github.dimitryivaniuta.gateway.observability;
+
+import com.github.dimitryivaniuta.gateway.config.properties.ExecutionProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streams JFR {@code jdk.VirtualThreadPinned} events while the gateway runs in
+ * virtual-thread mode and surfaces them as metrics and (rate-limited) log lines.
+ *
+ * <p>Metrics:
+ * <ul>
+ *   <li>{@code gateway.virtual.threads.pinned} – timer of pinned durations above the threshold.</li>
+ * </ul>
+ *
+ * <p>Each distinct pinning site (first application frame) is logged at most once per
+ * {@link #LOG_INTERVAL}, so a hot pinning spot cannot flood the logs.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "gateway.execution", name = "virtual-threads", havingValue = "true")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final Duration LOG_INTERVAL = Duration.ofMinutes(1);
+    private static final int MAX_TRACKED_SITES = 1_000;
+
+    private final Duration threshold;
+    private final Timer pinnedTimer;
+    private final Map<String, Long> lastLoggedAtBySite = new ConcurrentHashMap<>();
+
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(ExecutionProperties executionProperties, MeterRegistry meterRegistry) {
+        this.threshold = executionProperties.pinnedThresholdOrDefault();
+        this.pinnedTimer = Timer.builder("gateway.virtual.threads.pinned")
+                .description("Virtual threads pinned to their carrier longer than the configured threshold")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onPinned);
+        recording.startAsync();
+        this.stream = recording;
+        log.info("Virtual thread pinning monitor started (threshold={})", threshold);
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = this.stream;
+        if (recording != null) {
+            recording.close();
+            this.stream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    void onPinned(RecordedEvent event) {
+        Duration duration = event.getDuration();
+        pinnedTimer.record(duration);
+
+        String site = pinningSite(event.getStackTrace());
+        long now = System.nanoTime();
+        Long last = lastLoggedAtBySite.get(site);
+        if (last != null && now - last < LOG_INTERVAL.toNanos()) {
+            return;
+        }
+        if (last == null && lastLoggedAtBySite.size() >= MAX_TRACKED_SITES) {
+            lastLoggedAtBySite.clear();
+        }
+        lastLoggedAtBySite.put(site, now);
+
+        log.warn("Virtual thread pinned for {} ms at {} (thread={})",
+                duration.toMillis(), site, event.getThread() != null ? event.getThread().getJavaName() : "?");
+    }
+
+    /**
+     * First non-JDK frame of the pinned stack, which is where the fix usually belongs.
+     */
+    private static String pinningSite(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "unknown";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        RecordedFrame fallback = null;
+        for (RecordedFrame frame : frames) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            if (fallback == null) {
+                fallback = frame;
+            }
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return describe(frame);
+            }
+        }
+        return fallback != null ? describe(fallback) : "unknown";
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,20 @@
+package com.github.dimitryivaniuta.gateway.observability.slowlog;
+
+import com.github.dimitryivaniuta.gateway.observability.RequestExecutionStats;
+
+import java.util.Map;
+
+/**
+ * Raw data of one slow request, captured on the request thread without any formatting;
+ * hashing and rendering happen on the log writer thread.
+ */
+public record SlowOperation(
+        long timestampMillis,
+        String operationName,
+        String persistedQueryId,
+        Map<String, Object> variables,
+        long durationNanos,
+        int errors,
+        RequestExecutionStats stats
+) {
+}
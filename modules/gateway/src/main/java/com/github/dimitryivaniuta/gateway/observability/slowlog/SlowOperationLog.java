@@ -0,0 +1,155 @@
+package com.github.dimitryivaniuta.gateway.observability.slowlog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.dimitryivaniuta.gateway.capture.QueryAnonymizer;
+import com.github.dimitryivaniuta.gateway.config.properties.SlowOperationProperties;
+import com.github.dimitryivaniuta.gateway.observability.DownstreamService;
+import com.github.dimitryivaniuta.gateway.observability.RequestExecutionStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous writer of the slow-operation log.
+ *
+ * <p>Request threads only {@link #offer(SlowOperation) offer} raw entries into a bounded
+ * ring buffer and never block: when the buffer is full the oldest entry is discarded
+ * and counted ({@code gateway.slowlog.dropped}). A single daemon thread renders each entry
+ * as one JSON line on the {@code gateway.slow-operations} logger:</p>
+ *
+ * <pre>
+ * {"ts":"2025-01-15T10:30:00Z","operationName":"OrdersWithDetails","persistedQueryId":"orders-v1",
+ *  "variablesHash":"9c2f41d0a7b3e815","durationMs":1843,"errors":0,
+ *  "cost":{"downstreamCalls":3,"dataLoaderBatches":3,"keysLoaded":600,"cacheHits":0},
+ *  "downstreamMs":{"order":212,"inventory":1520,"payment":95},
+ *  "batchSizes":{"orderBatchLoader":[200],"inventoryBatchLoader":[200],"paymentBatchLoader":[200]}}
+ * </pre>
+ *
+ * <p>Variables are only hashed, never logged.</p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "gateway.slow-operations", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SlowOperationLog {
+
+    private static final Logger log = LoggerFactory.getLogger(SlowOperationLog.class);
+    private static final Logger slowLog = LoggerFactory.getLogger("gateway.slow-operations");
+
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<SlowOperation> buffer;
+    private final Counter loggedCounter;
+    private final Counter droppedCounter;
+    private final Thread worker;
+
+    private volatile boolean running = true;
+
+    public SlowOperationLog(ObjectMapper objectMapper,
+                            SlowOperationProperties properties,
+                            MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.buffer = new ArrayBlockingQueue<>(properties.bufferCapacityOrDefault());
+        this.loggedCounter = Counter.builder("gateway.slowlog.logged")
+                .description("Slow GraphQL operations written to the slow-operation log")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("gateway.slowlog.dropped")
+                .description("Slow-operation log entries discarded because the buffer was full")
+                .register(meterRegistry);
+
+        this.worker = new Thread(this::drain, "slow-operation-log");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Queue an entry; never blocks. If the buffer is full the oldest entry makes room.
+     */
+    public void offer(SlowOperation operation) {
+        while (!buffer.offer(operation)) {
+            if (buffer.poll() != null) {
+                droppedCounter.increment();
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    // -------------------------------------------------------------------------
+    // Writer thread
+    // -------------------------------------------------------------------------
+
+    private void drain() {
+        while (running || !buffer.isEmpty()) {
+            SlowOperation operation;
+            try {
+                operation = buffer.poll(1, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                operation = buffer.poll();
+                running = false;
+            }
+            if (operation == null) {
+                continue;
+            }
+            try {
+                slowLog.warn(objectMapper.writeValueAsString(render(operation)));
+                loggedCounter.increment();
+            } catch (JsonProcessingException | RuntimeException ex) {
+                log.debug("Skipping slow-operation log entry: {}", ex.getMessage());
+            }
+        }
+    }
+
+    private Map<String, Object> render(SlowOperation operation) throws JsonProcessingException {
+        RequestExecutionStats stats = operation.stats();
+
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("ts", Instant.ofEpochMilli(operation.timestampMillis()).toString());
+        entry.put("operationName", operation.operationName());
+        entry.put("persistedQueryId", operation.persistedQueryId());
+        entry.put("variablesHash", variablesHash(operation.variables()));
+        entry.put("durationMs", TimeUnit.NANOSECONDS.toMillis(operation.durationNanos()));
+        entry.put("errors", operation.errors());
+        if (stats != null) {
+            Map<String, Object> cost = new LinkedHashMap<>();
+            cost.put("downstreamCalls", stats.totalCalls());
+            cost.put("dataLoaderBatches", stats.batches());
+            cost.put("keysLoaded", stats.keysLoaded());
+            cost.put("cacheHits", stats.cacheHits());
+            entry.put("cost", cost);
+
+            Map<String, Long> downstreamMs = new LinkedHashMap<>();
+            for (DownstreamService service : DownstreamService.values()) {
+                if (stats.calls(service) > 0) {
+                    downstreamMs.put(service.tag(), TimeUnit.NANOSECONDS.toMillis(stats.downstreamNanos(service)));
+                }
+            }
+            entry.put("downstreamMs", downstreamMs);
+            entry.put("batchSizes", stats.batchSizesByLoader());
+        }
+        return entry;
+    }
+
+    private String variablesHash(Map<String, Object> variables) throws JsonProcessingException {
+        if (variables == null || variables.isEmpty()) {
+            return null;
+        }
+        // Sorted keys so equal variable sets hash equally regardless of client key order
+        return QueryAnonymizer.fingerprint(objectMapper.writeValueAsString(new TreeMap<>(variables)));
+    }
+}
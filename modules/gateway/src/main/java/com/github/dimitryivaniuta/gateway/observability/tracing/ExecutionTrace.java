@@ -0,0 +1,145 @@
+package com.github.dimitryivaniuta.gateway.observability.tracing;
+
+import graphql.GraphQLContext;
+import reactor.util.context.ContextView;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Timing trace of one sampled GraphQL request.
+ *
+ * <p>Only exists for traced requests: it is put into the Reactor context and the
+ * {@code GraphQLContext} (key: this class) by the tracing interceptor, and every
+ * component that records spans first checks for its presence. Untraced requests
+ * therefore pay a single context lookup.</p>
+ *
+ * <p>Spans are appended lock-free into a fixed-size array; once it is full further
+ * spans are only counted.</p>
+ */
+public final class ExecutionTrace {
+
+    /**
+     * Span categories, in the order they typically occur.
+     */
+    public enum Kind { PARSE, VALIDATE, FIELD, DATALOADER, HTTP }
+
+    private final String id = UUID.randomUUID().toString();
+    private final String operation;
+    private final boolean returnInResponse;
+    private final Instant startedAt = Instant.now();
+    private final long startedNanos = System.nanoTime();
+
+    private final AtomicReferenceArray<Span> spans;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private volatile long durationNanos = -1;
+
+    public ExecutionTrace(String operation, boolean returnInResponse, int maxSpans) {
+        this.operation = operation;
+        this.returnInResponse = returnInResponse;
+        this.spans = new AtomicReferenceArray<>(maxSpans);
+    }
+
+    public static ExecutionTrace from(ContextView context) {
+        return context.getOrDefault(ExecutionTrace.class, null);
+    }
+
+    public static ExecutionTrace from(GraphQLContext context) {
+        return context != null ? context.get(ExecutionTrace.class) : null;
+    }
+
+    /**
+     * Record a finished span; {@code start}/{@code end} are {@link System#nanoTime()} readings.
+     */
+    public void span(Kind kind, String name, long startNanos, long endNanos) {
+        int slot = next.getAndIncrement();
+        if (slot < spans.length()) {
+            spans.set(slot, new Span(kind, name, startNanos - startedNanos, endNanos - startNanos));
+        }
+    }
+
+    public void finish() {
+        if (durationNanos < 0) {
+            durationNanos = System.nanoTime() - startedNanos;
+        }
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public String operation() {
+        return operation;
+    }
+
+    public boolean returnInResponse() {
+        return returnInResponse;
+    }
+
+    public Instant startedAt() {
+        return startedAt;
+    }
+
+    public long durationMicros() {
+        long duration = durationNanos >= 0 ? durationNanos : System.nanoTime() - startedNanos;
+        return TimeUnit.NANOSECONDS.toMicros(duration);
+    }
+
+    public int spanCount() {
+        return Math.min(next.get(), spans.length());
+    }
+
+    /**
+     * Summary without spans, for listings.
+     */
+    public Map<String, Object> toSummary() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("traceId", id);
+        out.put("operation", operation);
+        out.put("startedAt", startedAt.toString());
+        out.put("durationMicros", durationMicros());
+        out.put("spanCount", spanCount());
+        return out;
+    }
+
+    /**
+     * Full trace, as returned in {@code extensions.tracing}; spans sorted by start time.
+     */
+    public Map<String, Object> toMap() {
+        int recorded = spanCount();
+        List<Span> sorted = new ArrayList<>(recorded);
+        for (int i = 0; i < recorded; i++) {
+            Span span = spans.get(i);
+            if (span != null) {
+                sorted.add(span);
+            }
+        }
+        sorted.sort((a, b) -> Long.compare(a.startOffsetNanos(), b.startOffsetNanos()));
+
+        List<Map<String, Object>> spanMaps = new ArrayList<>(sorted.size());
+        for (Span span : sorted) {
+            Map<String, Object> s = new LinkedHashMap<>();
+            s.put("kind", span.kind().name());
+            s.put("name", span.name());
+            s.put("startOffsetMicros", TimeUnit.NANOSECONDS.toMicros(span.startOffsetNanos()));
+            s.put("durationMicros", TimeUnit.NANOSECONDS.toMicros(span.durationNanos()));
+            spanMaps.add(s);
+        }
+
+        Map<String, Object> out = toSummary();
+        out.put("droppedSpans", Math.max(0, next.get() - spans.length()));
+        out.put("spans", spanMaps);
+        return out;
+    }
+
+    private record Span(Kind kind, String name, long startOffsetNanos, long durationNanos) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.github.dimitryivaniuta.gateway.observability.tracing;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Actuator endpoint browsing the {@link TraceBuffer}.
+ *
+ * <ul>
+ *   <li>{@code GET /actuator/graphqltraces} – summaries of buffered traces, newest first.</li>
+ *   <li>{@code GET /actuator/graphqltraces/{traceId}} – one trace with all its spans.</li>
+ * </ul>
+ */
+@Component
+@Endpoint(id = "graphqltraces")
+public class GraphQlTracesEndpoint {
+
+    private final TraceBuffer buffer;
+
+    public GraphQlTracesEndpoint(TraceBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @ReadOperation
+    public List<Map<String, Object>> traces() {
+        return buffer.recent().stream().map(ExecutionTrace::toSummary).toList();
+    }
+
+    @ReadOperation
+    public Map<String, Object> trace(@Selector String traceId) {
+        ExecutionTrace trace = buffer.find(traceId);
+        return trace != null ? trace.toMap() : null;
+    }
+}
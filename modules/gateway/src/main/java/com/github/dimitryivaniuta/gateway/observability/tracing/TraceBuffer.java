@@ -0,0 +1,54 @@
+package com.github.dimitryivaniuta.gateway.observability.tracing;
+
+import com.github.dimitryivaniuta.gateway.config.properties.TracingProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size ring buffer of the most recent finished traces (newest overwrites oldest).
+ */
+@Component
+public class TraceBuffer {
+
+    private final AtomicReferenceArray<ExecutionTrace> slots;
+    private final AtomicLong written = new AtomicLong();
+
+    public TraceBuffer(TracingProperties properties) {
+        this.slots = new AtomicReferenceArray<>(properties.bufferSizeOrDefault());
+    }
+
+    public void add(ExecutionTrace trace) {
+        long sequence = written.getAndIncrement();
+        slots.set((int) (sequence % slots.length()), trace);
+    }
+
+    /**
+     * Buffered traces, newest first.
+     */
+    public List<ExecutionTrace> recent() {
+        long end = written.get();
+        int available = (int) Math.min(end, slots.length());
+        List<ExecutionTrace> out = new ArrayList<>(available);
+        for (long seq = end - 1; seq >= end - available; seq--) {
+            ExecutionTrace trace = slots.get((int) (seq % slots.length()));
+            if (trace != null) {
+                out.add(trace);
+            }
+        }
+        return out;
+    }
+
+    public ExecutionTrace find(String traceId) {
+        for (int i = 0; i < slots.length(); i++) {
+            ExecutionTrace trace = slots.get(i);
+            if (trace != null && trace.id().equals(traceId)) {
+                return trace;
+            }
+        }
+        return null;
+    }
+}
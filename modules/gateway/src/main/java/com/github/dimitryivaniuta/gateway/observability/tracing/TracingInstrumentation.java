@@ -0,0 +1,107 @@
+package com.github.dimitryivaniuta.gateway.observability.tracing;
+
+import com.github.dimitryivaniuta.gateway.observability.tracing.ExecutionTrace.Kind;
+import graphql.ExecutionResult;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationCreateStateParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationValidationParameters;
+import graphql.language.Document;
+import graphql.schema.DataFetcher;
+import graphql.validation.ValidationError;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Records parse, validation and field resolver spans into the request's {@link ExecutionTrace},
+ * then publishes the finished trace to the {@link TraceBuffer} and, when asked for,
+ * into {@code extensions.tracing}.
+ *
+ * <p>Requests without a trace get no instrumentation state, and every hook returns the
+ * no-op context or the original data fetcher.</p>
+ */
+@Component
+public class TracingInstrumentation extends SimplePerformantInstrumentation {
+
+    private final TraceBuffer buffer;
+
+    public TracingInstrumentation(TraceBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public InstrumentationState createState(InstrumentationCreateStateParameters parameters) {
+        ExecutionTrace trace = ExecutionTrace.from(parameters.getExecutionInput().getGraphQLContext());
+        return trace != null ? new TraceState(trace) : null;
+    }
+
+    @Override
+    public InstrumentationContext<Document> beginParse(InstrumentationExecutionParameters parameters,
+                                                       InstrumentationState state) {
+        if (!(state instanceof TraceState traced)) {
+            return super.beginParse(parameters, state);
+        }
+        long started = System.nanoTime();
+        return SimpleInstrumentationContext.whenCompleted((document, error) ->
+                traced.trace().span(Kind.PARSE, "parse", started, System.nanoTime()));
+    }
+
+    @Override
+    public InstrumentationContext<List<ValidationError>> beginValidation(InstrumentationValidationParameters parameters,
+                                                                         InstrumentationState state) {
+        if (!(state instanceof TraceState traced)) {
+            return super.beginValidation(parameters, state);
+        }
+        long started = System.nanoTime();
+        return SimpleInstrumentationContext.whenCompleted((errors, error) ->
+                traced.trace().span(Kind.VALIDATE, "validate", started, System.nanoTime()));
+    }
+
+    @Override
+    public DataFetcher<?> instrumentDataFetcher(DataFetcher<?> dataFetcher,
+                                                InstrumentationFieldFetchParameters parameters,
+                                                InstrumentationState state) {
+        if (!(state instanceof TraceState traced) || parameters.isTrivialDataFetcher()) {
+            return dataFetcher;
+        }
+        ExecutionTrace trace = traced.trace();
+        return environment -> {
+            String path = environment.getExecutionStepInfo().getPath().toString();
+            long started = System.nanoTime();
+            Object result = dataFetcher.get(environment);
+            if (result instanceof CompletionStage<?> stage) {
+                return stage.whenComplete((value, error) ->
+                        trace.span(Kind.FIELD, path, started, System.nanoTime()));
+            }
+            trace.span(Kind.FIELD, path, started, System.nanoTime());
+            return result;
+        };
+    }
+
+    @Override
+    public CompletableFuture<ExecutionResult> instrumentExecutionResult(ExecutionResult executionResult,
+                                                                        InstrumentationExecutionParameters parameters,
+                                                                        InstrumentationState state) {
+        if (!(state instanceof TraceState traced)) {
+            return super.instrumentExecutionResult(executionResult, parameters, state);
+        }
+        ExecutionTrace trace = traced.trace();
+        trace.finish();
+        buffer.add(trace);
+        if (!trace.returnInResponse()) {
+            return CompletableFuture.completedFuture(executionResult);
+        }
+        return CompletableFuture.completedFuture(
+                executionResult.transform(builder -> builder.addExtension("tracing", trace.toMap())));
+    }
+
+    private record TraceState(ExecutionTrace trace) implements InstrumentationState {
+    }
+}
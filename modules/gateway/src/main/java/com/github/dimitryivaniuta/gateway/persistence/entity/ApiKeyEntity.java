@@ -24,8 +24,9 @@ import java.time.OffsetDateTime;
  * <ul>
  *   <li>{@code key} – public API key token presented by clients, unique.</li>
  *   <li>{@code name} – human-readable label, e.g. tenant or application name.</li>
+ *   <li>{@code tenantId} – tenant the key belongs to (same identifiers as {@code users.tenant_id}).</li>
  *   <li>{@code enabled} – simple on/off switch.</li>
- *   <li>{@code rateLimitPerMinute} – per-key rate limit (enforced externally/in future).</li>
+ *   <li>{@code rateLimitPerMinute} – per-key rate limit, enforced cluster-wide by {@code ApiKeyRateLimiter}.</li>
  *   <li>{@code createdAt} – audit timestamp (UTC).</li>
  * </ul>
  */
@@ -50,6 +51,10 @@ public class ApiKeyEntity extends AbstractUuidEntity {
     @Column(name = "name", nullable = false, length = 128)
     private String name;
 
+    @Column(name = "tenant_id", nullable = false, length = 64)
+    @Builder.Default
+    private String tenantId = "default";
+
     @Column(name = "enabled", nullable = false)
     private boolean enabled = true;
 
@@ -2,6 +2,7 @@ package com.github.dimitryivaniuta.gateway.persistence.repository;
 
 import com.github.dimitryivaniuta.gateway.persistence.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -12,6 +13,10 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
 
     /**
      * Find an enabled user by tenant and username.
+     *
+     * <p>Runs in its own short read-only transaction so that callers (login) do not
+     * keep a connection open while verifying the password.</p>
      */
+    @Transactional(readOnly = true)
     Optional<UserEntity> findByTenantIdAndUsernameAndEnabledIsTrue(String tenantId, String username);
 }
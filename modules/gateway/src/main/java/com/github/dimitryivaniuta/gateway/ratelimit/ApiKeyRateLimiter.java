@@ -0,0 +1,265 @@
+package com.github.dimitryivaniuta.gateway.ratelimit;
+
+import com.github.dimitryivaniuta.gateway.config.properties.RateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Approximate cluster-wide enforcement of {@code api_key.rate_limit_per_minute} with no network
+ * call on the request path.
+ *
+ * <p>Each replica counts requests per key in fixed one-minute windows and admits a request
+ * while its local count is below its local <em>allowance</em>. Every
+ * {@link RateLimitProperties#syncIntervalMsOrDefault() sync interval} a replica publishes its
+ * counts to the UNLOGGED {@code api_key_usage} table and reads everybody's back. It then
+ * rescales its allowance: it keeps what it has used, plus a share of the remaining budget
+ * ({@code limit - global usage}) proportional to its part of the key's traffic. The share
+ * has a floor of half an even split, so a replica that has not seen the key yet can still
+ * serve it.</p>
+ *
+ * <p>Between two syncs the replicas can jointly overshoot only the part of the remaining
+ * budget that the share floors over-allocate. In steady traffic this stays within a few
+ * percent of the limit. When the table cannot be reached, each replica keeps its last
+ * allowances and starts new windows with an even split of the limit.</p>
+ */
+@Component
+public class ApiKeyRateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(ApiKeyRateLimiter.class);
+
+    static final long WINDOW_MILLIS = 60_000L;
+
+    /** Heartbeat row: counts the replicas taking part, whatever keys they serve. */
+    private static final UUID HEARTBEAT = new UUID(0L, 0L);
+
+    private final boolean enabled;
+    private final String replicaId;
+    private final long replicaTtlMs;
+    private final JdbcTemplate jdbcTemplate;
+    private final LongSupplier clock;
+    private final String upsertSql;
+    private final String selectSql;
+    private final String cleanupSql;
+    private final Counter rejected;
+
+    private final ConcurrentHashMap<UUID, KeyUsage> usage = new ConcurrentHashMap<>();
+
+    private volatile int activeReplicas = 1;
+    private volatile GlobalView global = new GlobalView(-1L, Map.of());
+    private boolean syncFailing;
+
+    @Autowired
+    public ApiKeyRateLimiter(RateLimitProperties properties,
+                             JdbcTemplate jdbcTemplate,
+                             @Value("${spring.jpa.properties.hibernate.default_schema:gateway}") String schema,
+                             MeterRegistry meterRegistry) {
+        this(properties, jdbcTemplate, schema, meterRegistry, System::currentTimeMillis);
+    }
+
+    ApiKeyRateLimiter(RateLimitProperties properties,
+                      JdbcTemplate jdbcTemplate,
+                      String schema,
+                      MeterRegistry meterRegistry,
+                      LongSupplier clock) {
+        this.enabled = properties.enabledOrDefault();
+        this.replicaId = properties.replicaIdOrDefault();
+        this.replicaTtlMs = properties.replicaTtlMsOrDefault();
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.upsertSql = "INSERT INTO " + schema + ".api_key_usage (api_key_id, replica_id, window_start, used, updated_at) "
+                + "VALUES (?, ?, ?, ?, NOW()) "
+                + "ON CONFLICT (api_key_id, replica_id, window_start) "
+                + "DO UPDATE SET used = EXCLUDED.used, updated_at = EXCLUDED.updated_at";
+        this.selectSql = "SELECT api_key_id, replica_id, used FROM " + schema + ".api_key_usage "
+                + "WHERE window_start = ? AND updated_at > NOW() - (? * INTERVAL '1 millisecond')";
+        this.cleanupSql = "DELETE FROM " + schema + ".api_key_usage WHERE window_start < ?";
+
+        this.rejected = Counter.builder("gateway.ratelimit.rejected")
+                .description("API key requests rejected with 429 by the rate limiter")
+                .register(meterRegistry);
+        Gauge.builder("gateway.ratelimit.replicas", this, limiter -> limiter.activeReplicas)
+                .description("Gateway replicas taking part in API key rate limiting")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Count one request for the key; {@code false} means it is over its limit. A missing or
+     * non-positive limit means unlimited.
+     */
+    public boolean tryAcquire(UUID keyId, Integer limitPerMinute) {
+        if (!enabled || limitPerMinute == null || limitPerMinute <= 0) {
+            return true;
+        }
+        long window = currentWindow();
+        KeyUsage key = usage.computeIfAbsent(keyId, id -> new KeyUsage());
+        if (key.tryAcquire(window, limitPerMinute, keyId)) {
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /**
+     * Seconds until the current window ends, for {@code Retry-After}.
+     */
+    public long retryAfterSeconds() {
+        long remainingMillis = WINDOW_MILLIS - Math.floorMod(clock.getAsLong(), WINDOW_MILLIS);
+        return Math.max(1L, (remainingMillis + 999L) / 1_000L);
+    }
+
+    // -------------------------------------------------------------------------
+    // Sync with the other replicas
+    // -------------------------------------------------------------------------
+
+    /**
+     * Publish local counts, read the global view and rescale local allowances.
+     */
+    @Scheduled(fixedDelayString = "${gateway.rate-limit.sync-interval-ms:1000}")
+    public void sync() {
+        if (!enabled) {
+            return;
+        }
+        long window = currentWindow();
+        Timestamp windowStart = new Timestamp(window * WINDOW_MILLIS);
+
+        Map<UUID, Integer> published = new HashMap<>();
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{HEARTBEAT, replicaId, windowStart, 0});
+        usage.forEach((keyId, key) -> {
+            int used = key.usedIn(window);
+            if (used >= 0) {
+                published.put(keyId, used);
+                rows.add(new Object[]{keyId, replicaId, windowStart, used});
+            } else if (key.idleSince(window - 1)) {
+                usage.remove(keyId, key);
+            }
+        });
+
+        try {
+            jdbcTemplate.batchUpdate(upsertSql, rows);
+
+            Set<String> replicas = new HashSet<>();
+            Map<UUID, Integer> globalUsed = new HashMap<>();
+            jdbcTemplate.query(selectSql, rs -> {
+                UUID keyId = rs.getObject("api_key_id", UUID.class);
+                if (HEARTBEAT.equals(keyId)) {
+                    replicas.add(rs.getString("replica_id"));
+                } else {
+                    globalUsed.merge(keyId, rs.getInt("used"), Integer::sum);
+                }
+            }, windowStart, replicaTtlMs);
+
+            jdbcTemplate.update(cleanupSql, new Timestamp((window - 1) * WINDOW_MILLIS));
+
+            int active = Math.max(1, replicas.size());
+            activeReplicas = active;
+            global = new GlobalView(window, globalUsed);
+            published.forEach((keyId, mine) -> {
+                KeyUsage key = usage.get(keyId);
+                if (key != null) {
+                    key.rescale(window, mine, globalUsed.getOrDefault(keyId, mine), active);
+                }
+            });
+            if (syncFailing) {
+                log.info("API key usage sync recovered ({} replicas)", active);
+                syncFailing = false;
+            }
+        } catch (DataAccessException ex) {
+            if (!syncFailing) {
+                log.warn("API key usage sync failed, enforcing with the last known allowances: {}", ex.getMessage());
+                syncFailing = true;
+            }
+        }
+    }
+
+    int activeReplicas() {
+        return activeReplicas;
+    }
+
+    private long currentWindow() {
+        return Math.floorDiv(clock.getAsLong(), WINDOW_MILLIS);
+    }
+
+    /**
+     * Allowance for a key this replica starts counting in {@code window}: an even split of what
+     * the last global view says is left.
+     */
+    private int initialAllowance(UUID keyId, long window, int limit) {
+        GlobalView view = global;
+        int remaining = view.window() == window ? limit - view.usedByKey().getOrDefault(keyId, 0) : limit;
+        if (remaining <= 0) {
+            return 0;
+        }
+        return (remaining + activeReplicas - 1) / activeReplicas;
+    }
+
+    private record GlobalView(long window, Map<UUID, Integer> usedByKey) {
+    }
+
+    private final class KeyUsage {
+
+        // all guarded by this
+        private long window = -1L;
+        private int used;
+        private int allowance;
+        private int limit;
+
+        synchronized boolean tryAcquire(long now, int limitPerMinute, UUID keyId) {
+            if (window != now || limit != limitPerMinute) {
+                if (window != now) {
+                    used = 0;
+                }
+                window = now;
+                limit = limitPerMinute;
+                allowance = Math.max(used, initialAllowance(keyId, now, limitPerMinute));
+            }
+            if (used >= allowance) {
+                return false;
+            }
+            used++;
+            return true;
+        }
+
+        /**
+         * Local count in {@code current}, or -1 if the key was not used in that window.
+         */
+        synchronized int usedIn(long current) {
+            return window == current ? used : -1;
+        }
+
+        synchronized boolean idleSince(long oldestKept) {
+            return window < oldestKept;
+        }
+
+        synchronized void rescale(long current, int mine, int globalUsed, int active) {
+            if (window != current) {
+                return;
+            }
+            int remaining = Math.max(0, limit - globalUsed);
+            double share = globalUsed > 0
+                    ? Math.max((double) mine / globalUsed, 0.5 / active)
+                    : 1.0 / active;
+            allowance = mine + (int) (remaining * Math.min(1.0, share));
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.github.dimitryivaniuta.gateway.resilience;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Small thread-safe LRU map with a fixed capacity; the least recently accessed entry is
+ * evicted first. Access is serialized, which is fine for the write-rarely, read-on-failure
+ * use of the stale store.
+ */
+public final class BoundedLruCache<K, V> {
+
+    private final LinkedHashMap<K, V> entries;
+
+    public BoundedLruCache(int capacity) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        return entries.get(key);
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, value);
+    }
+
+    public synchronized void putAll(Map<? extends K, ? extends V> values) {
+        entries.putAll(values);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,183 @@
+package com.github.dimitryivaniuta.gateway.resilience;
+
+import com.github.dimitryivaniuta.gateway.config.properties.StaleReadProperties;
+import com.github.dimitryivaniuta.gateway.observability.DownstreamService;
+import com.github.dimitryivaniuta.gateway.observability.RequestExecutionStats;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+
+/**
+ * Stale-while-revalidate wrapper for downstream reads.
+ *
+ * <p>Every read goes through a per-service circuit breaker (named after
+ * {@link DownstreamService#tag()}) and a timeout. Successful results are copied into a
+ * bounded per-resource {@link BoundedLruCache} on a background scheduler. When the read
+ * fails, times out or is short-circuited, the last known value of each requested key
+ * (not older than {@link StaleReadProperties#maxAgeMsOrDefault()}) is served instead and
+ * the request is flagged stale, which {@link StaleResultInstrumentation} turns into
+ * {@code extensions.stale: true}. If no key has a stale value the original error is
+ * propagated.</p>
+ *
+ * <p>Only for read fields: mutations must never be answered from the stale store.</p>
+ */
+@Component
+public class StaleReadGuard {
+
+    private static final Logger log = LoggerFactory.getLogger(StaleReadGuard.class);
+
+    // Stale store names, one per entity shape and key
+    public static final String ORDERS = "orders";
+    public static final String INVENTORY_ITEMS = "inventoryItems";
+    public static final String PAYMENTS = "payments";
+    public static final String INVENTORY_BY_ORDER = "inventoryByOrder";
+    public static final String PAYMENTS_BY_ORDER = "paymentsByOrder";
+
+    private final Map<DownstreamService, CircuitBreaker> circuitBreakers = new EnumMap<>(DownstreamService.class);
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration timeout;
+    private final int maxEntries;
+    private final long maxAgeMs;
+    private final LongSupplier clock;
+    private final Scheduler refreshScheduler = Schedulers.newSingle("stale-store-refresh", true);
+
+    private final Map<String, BoundedLruCache<UUID, Entry>> stores = new ConcurrentHashMap<>();
+    private final Map<String, Counter> servedCounters = new ConcurrentHashMap<>();
+
+    @Autowired
+    public StaleReadGuard(CircuitBreakerRegistry circuitBreakerRegistry,
+                          StaleReadProperties properties,
+                          MeterRegistry meterRegistry) {
+        this(circuitBreakerRegistry, properties, meterRegistry, System::currentTimeMillis);
+    }
+
+    StaleReadGuard(CircuitBreakerRegistry circuitBreakerRegistry,
+                   StaleReadProperties properties,
+                   MeterRegistry meterRegistry,
+                   LongSupplier clock) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = properties.enabledOrDefault();
+        this.timeout = Duration.ofMillis(properties.timeoutMsOrDefault());
+        this.maxEntries = properties.maxEntriesOrDefault();
+        this.maxAgeMs = properties.maxAgeMsOrDefault();
+        this.clock = clock;
+
+        // Timeouts count as failures next to runtime exceptions
+        CircuitBreakerConfig config = CircuitBreakerConfig.from(circuitBreakerRegistry.getDefaultConfig())
+                .recordExceptions(RuntimeException.class, TimeoutException.class)
+                .build();
+        for (DownstreamService service : DownstreamService.values()) {
+            circuitBreakers.put(service, circuitBreakerRegistry.circuitBreaker(service.tag(), config));
+        }
+    }
+
+    /**
+     * Guard a keyed read.
+     *
+     * @param resource name of the stale store (one per entity shape, e.g. {@code orders})
+     * @param service  downstream service whose circuit breaker protects the read
+     * @param keys     requested keys
+     * @param fetch    the downstream read; keys missing from its result are simply absent
+     */
+    public <V> Mono<Map<UUID, V>> read(String resource,
+                                       DownstreamService service,
+                                       Collection<UUID> keys,
+                                       Mono<Map<UUID, V>> fetch) {
+        if (!enabled || keys.isEmpty()) {
+            return fetch;
+        }
+        return fetch
+                .timeout(timeout)
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreakers.get(service)))
+                .doOnNext(fresh -> refresh(resource, fresh))
+                .onErrorResume(error -> Mono.deferContextual(context -> {
+                    Map<UUID, V> stale = lookup(resource, keys);
+                    if (stale.isEmpty()) {
+                        return Mono.error(error);
+                    }
+                    log.debug("Serving {} stale {} of {} requested after {}",
+                            stale.size(), resource, keys.size(), error.toString());
+                    servedCounter(resource).increment(stale.size());
+                    RequestExecutionStats.from(context).ifPresent(RequestExecutionStats::markStale);
+                    return Mono.just(stale);
+                }));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refreshScheduler.dispose();
+    }
+
+    private void refresh(String resource, Map<UUID, ?> fresh) {
+        if (fresh.isEmpty()) {
+            return;
+        }
+        long now = clock.getAsLong();
+        refreshScheduler.schedule(() -> {
+            Map<UUID, Entry> entries = new HashMap<>(fresh.size() * 2);
+            fresh.forEach((key, value) -> entries.put(key, new Entry(value, now)));
+            store(resource).putAll(entries);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> Map<UUID, V> lookup(String resource, Collection<UUID> keys) {
+        BoundedLruCache<UUID, Entry> store = stores.get(resource);
+        if (store == null) {
+            return Map.of();
+        }
+        long oldest = clock.getAsLong() - maxAgeMs;
+        Map<UUID, V> out = new HashMap<>();
+        for (UUID key : keys) {
+            Entry entry = store.get(key);
+            if (entry != null && entry.storedAt() >= oldest) {
+                out.put(key, (V) entry.value());
+            }
+        }
+        return out;
+    }
+
+    private BoundedLruCache<UUID, Entry> store(String resource) {
+        return stores.computeIfAbsent(resource, name -> {
+            BoundedLruCache<UUID, Entry> store = new BoundedLruCache<>(maxEntries);
+            Gauge.builder("gateway.stale.entries", store, BoundedLruCache::size)
+                    .description("Entities held in the stale-read store")
+                    .tag("resource", name)
+                    .register(meterRegistry);
+            return store;
+        });
+    }
+
+    private Counter servedCounter(String resource) {
+        return servedCounters.computeIfAbsent(resource, name -> Counter.builder("gateway.stale.served")
+                .description("Entities served from the stale-read store after a failed downstream read")
+                .tag("resource", name)
+                .register(meterRegistry));
+    }
+
+    private record Entry(Object value, long storedAt) {
+    }
+}
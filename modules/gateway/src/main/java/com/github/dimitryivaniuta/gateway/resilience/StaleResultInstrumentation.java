@@ -0,0 +1,30 @@
+package com.github.dimitryivaniuta.gateway.resilience;
+
+import com.github.dimitryivaniuta.gateway.observability.RequestExecutionStats;
+import graphql.ExecutionResult;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Adds {@code extensions.stale: true} to responses that {@link StaleReadGuard} answered,
+ * at least in part, from the stale-read store.
+ */
+@Component
+public class StaleResultInstrumentation extends SimplePerformantInstrumentation {
+
+    @Override
+    public CompletableFuture<ExecutionResult> instrumentExecutionResult(ExecutionResult executionResult,
+                                                                        InstrumentationExecutionParameters parameters,
+                                                                        InstrumentationState state) {
+        RequestExecutionStats stats = parameters.getExecutionInput().getGraphQLContext().get(RequestExecutionStats.class);
+        if (stats == null || !stats.stale()) {
+            return CompletableFuture.completedFuture(executionResult);
+        }
+        return CompletableFuture.completedFuture(
+                executionResult.transform(builder -> builder.addExtension("stale", true)));
+    }
+}
@@ -0,0 +1,27 @@
+package com.github.dimitryivaniuta.gateway.service;
+
+import com.github.dimitryivaniuta.gateway.persistence.entity.ApiKeyEntity;
+
+import java.util.UUID;
+
+/**
+ * Immutable view of an enabled API key, as cached by {@link ApiKeyService}.
+ *
+ * <p>Cache entries are shared by every request thread, so they are snapshots rather than
+ * (detached, mutable) {@link ApiKeyEntity} instances.</p>
+ */
+public record ActiveApiKey(
+        UUID id,
+        String name,
+        String tenantId,
+        int rateLimitPerMinute
+) {
+
+    public static ActiveApiKey of(ApiKeyEntity entity) {
+        return new ActiveApiKey(
+                entity.getId(),
+                entity.getName(),
+                entity.getTenantId(),
+                entity.getRateLimitPerMinute());
+    }
+}
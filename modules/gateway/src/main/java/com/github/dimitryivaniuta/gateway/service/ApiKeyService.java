@@ -1,11 +1,11 @@
 package com.github.dimitryivaniuta.gateway.service;
 
-import com.github.dimitryivaniuta.gateway.persistence.entity.ApiKeyEntity;
+import com.github.dimitryivaniuta.gateway.coherence.CacheCoherenceChannel;
+import com.github.dimitryivaniuta.gateway.coherence.CoherentCache;
 import com.github.dimitryivaniuta.gateway.persistence.repository.ApiKeyRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.util.Optional;
@@ -16,44 +16,48 @@ import java.util.Optional;
  * <p>Responsibilities:
  * <ul>
  *   <li>Normalize raw API key values coming from HTTP headers.</li>
- *   <li>Look up active (enabled) keys from PostgreSQL via {@link ApiKeyRepository}.</li>
+ *   <li>Look up active (enabled) keys from PostgreSQL via {@link ApiKeyRepository}, through a
+ *       cache kept coherent across replicas by {@link CacheCoherenceChannel}.</li>
  *   <li>Expose a simple API for filters/controllers to verify API keys.</li>
  * </ul>
  *
  * <p>Rate limiting and tenant resolution are intentionally kept out of this service.</p>
  */
 @Service
-@Transactional(readOnly = true)
 public class ApiKeyService {
 
     private static final Logger log = LoggerFactory.getLogger(ApiKeyService.class);
 
     private final ApiKeyRepository apiKeyRepository;
+    private final CoherentCache<ActiveApiKey> activeKeys;
 
-    public ApiKeyService(ApiKeyRepository apiKeyRepository) {
+    public ApiKeyService(ApiKeyRepository apiKeyRepository, CacheCoherenceChannel coherenceChannel) {
         this.apiKeyRepository = apiKeyRepository;
+        this.activeKeys = coherenceChannel.register("api_key");
     }
 
     /**
-     * Authenticate an API key by verifying that it maps to an enabled {@link ApiKeyEntity}.
+     * Authenticate an API key by verifying that it maps to an enabled key.
+     *
+     * <p>Not transactional on purpose: a cache hit must not borrow a pooled connection.</p>
      *
      * @param rawKey value from the HTTP header (e.g. {@code X-API-Key})
-     * @return an active API key entity if authentication succeeds
+     * @return the active API key if authentication succeeds
      */
-    public Optional<ApiKeyEntity> authenticate(String rawKey) {
+    public Optional<ActiveApiKey> authenticate(String rawKey) {
         if (!StringUtils.hasText(rawKey)) {
             return Optional.empty();
         }
 
         String normalized = rawKey.trim();
-        Optional<ApiKeyEntity> result = apiKeyRepository.findByKeyAndEnabledIsTrue(normalized);
+        Optional<ActiveApiKey> result = activeKeys.get(normalized,
+                key -> apiKeyRepository.findByKeyAndEnabledIsTrue(key).map(ActiveApiKey::of));
 
         if (result.isEmpty()) {
             log.debug("API key authentication failed: no active key for token '{}'", normalized);
         } else {
-            ApiKeyEntity entity = result.get();
             log.debug("API key authentication succeeded for key='{}', name='{}'",
-                    normalized, entity.getName());
+                    normalized, result.get().name());
         }
 
         return result;
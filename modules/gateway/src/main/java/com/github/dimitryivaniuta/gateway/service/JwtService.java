@@ -1,7 +1,6 @@
 package com.github.dimitryivaniuta.gateway.service;
 
 import com.github.dimitryivaniuta.gateway.config.properties.SecurityProperties;
-import com.github.dimitryivaniuta.gateway.persistence.entity.UserEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.core.GrantedAuthority;
@@ -72,12 +71,12 @@ public class JwtService {
      *   <li>{@code scope} – space-delimited roles (ROLE_*)</li>
      * </ul>
      */
-    public String issueToken(UserEntity user) {
+    public String issueToken(UserAccount user) {
         Instant now = Instant.now();
         Instant expiresAt = now.plusSeconds(securityProperties.jwt().ttlSeconds());
 
         // Derive scopes from roles
-        List<String> roles = Arrays.stream(user.getRoles().split(","))
+        List<String> roles = Arrays.stream(user.roles().split(","))
                 .map(String::trim)
                 .filter(s -> !s.isEmpty())
                 .toList();
@@ -102,8 +101,8 @@ public class JwtService {
                 .issuer(securityProperties.jwt().issuer())   // e.g. http://localhost:8080
                 .issuedAt(now)
                 .expiresAt(expiresAt)
-                .subject(user.getUsername())
-                .claim("tenant", user.getTenantId())
+                .subject(user.username())
+                .claim("tenant", user.tenantId())
                 .claim("scope", scopeClaim)                  // validated in order-service
                 .build();
 
@@ -112,7 +111,7 @@ public class JwtService {
 
         Jwt jwt = jwtEncoder.encode(params);
         log.debug("Issued JWT for tenant='{}', username='{}', scopes='{}', expiresAt={}",
-                user.getTenantId(), user.getUsername(), scopeClaim, expiresAt);
+                user.tenantId(), user.username(), scopeClaim, expiresAt);
 
         return jwt.getTokenValue();
     }
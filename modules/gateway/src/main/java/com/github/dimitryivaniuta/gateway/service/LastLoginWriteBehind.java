@@ -0,0 +1,87 @@
+package com.github.dimitryivaniuta.gateway.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind buffer for {@code users.last_login_at}.
+ *
+ * <p>Successful logins only record the timestamp in memory. A scheduled task flushes
+ * the buffer as a single JDBC batch, so a login never waits on (or holds) a write
+ * transaction. Repeated logins of the same user between two flushes are coalesced
+ * into one row update carrying the latest timestamp.</p>
+ *
+ * <p>The update bypasses the JPA entity on purpose: last-login bookkeeping must not
+ * bump the optimistic-lock version or {@code updated_at} of the user record.</p>
+ */
+@Component
+public class LastLoginWriteBehind {
+
+    private static final Logger log = LoggerFactory.getLogger(LastLoginWriteBehind.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String updateSql;
+    private final ConcurrentHashMap<UUID, OffsetDateTime> pending = new ConcurrentHashMap<>();
+
+    public LastLoginWriteBehind(JdbcTemplate jdbcTemplate,
+                                @Value("${spring.jpa.properties.hibernate.default_schema:gateway}") String schema) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.updateSql = "UPDATE " + schema + ".users SET last_login_at = ? "
+                + "WHERE id = ? AND (last_login_at IS NULL OR last_login_at < ?)";
+    }
+
+    /**
+     * Record a successful login; the write happens on the next flush.
+     */
+    public void record(UUID userId, OffsetDateTime loggedInAt) {
+        pending.merge(userId, loggedInAt, (current, next) -> next.isAfter(current) ? next : current);
+    }
+
+    /**
+     * Flush buffered timestamps in one batch.
+     */
+    @Scheduled(fixedDelayString = "${security.login.last-login-flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batch = new ArrayList<>(pending.size());
+        for (UUID userId : pending.keySet()) {
+            OffsetDateTime at = pending.remove(userId);
+            if (at != null) {
+                batch.add(new Object[]{at, userId, at});
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(updateSql, batch);
+            log.debug("Flushed last-login timestamps for {} user(s)", batch.size());
+        } catch (DataAccessException ex) {
+            log.warn("Failed to flush {} last-login timestamp(s), will retry: {}", batch.size(), ex.getMessage());
+            for (Object[] row : batch) {
+                record((UUID) row[1], (OffsetDateTime) row[0]);
+            }
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,105 @@
+package com.github.dimitryivaniuta.gateway.service;
+
+import com.github.dimitryivaniuta.gateway.config.properties.LoginProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs password hash verification (BCrypt) on a dedicated, CPU-sized pool.
+ *
+ * <p>BCrypt is deliberately expensive (tens of milliseconds of pure CPU per check).
+ * Running it on servlet threads lets a login burst occupy the whole request pool and
+ * starve GraphQL traffic. This component:
+ * <ul>
+ *   <li>caps verification parallelism to {@link LoginProperties#verifierThreadsOrDefault()} threads,</li>
+ *   <li>bounds the backlog to {@link LoginProperties#queueCapacityOrDefault()} pending checks,</li>
+ *   <li>sheds excess load immediately by throwing {@link RejectedExecutionException}.</li>
+ * </ul>
+ *
+ * <p>The pool is intentionally not exposed as an {@code Executor} bean so it is never
+ * picked up by Spring's async/task infrastructure.</p>
+ */
+@Component
+public class PasswordVerifier {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordVerifier.class);
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Counter rejectedCounter;
+
+    public PasswordVerifier(PasswordEncoder passwordEncoder,
+                            LoginProperties loginProperties,
+                            MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+
+        int threads = loginProperties.verifierThreadsOrDefault();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(loginProperties.queueCapacityOrDefault()),
+                new VerifierThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.rejectedCounter = Counter.builder("gateway.login.verifications.rejected")
+                .description("Password verifications shed because the verifier queue was full")
+                .register(meterRegistry);
+        Gauge.builder("gateway.login.verifications.queued", executor, e -> e.getQueue().size())
+                .description("Password verifications waiting for a verifier thread")
+                .register(meterRegistry);
+
+        log.info("Password verifier pool started: threads={}, queueCapacity={}",
+                threads, loginProperties.queueCapacityOrDefault());
+    }
+
+    /**
+     * Verify a raw password against a stored hash off the calling thread.
+     *
+     * @param rawPassword  user-supplied password
+     * @param passwordHash stored hash
+     * @return future completing with {@code true} when the password matches
+     * @throws RejectedExecutionException if the verifier backlog is full
+     */
+    public CompletableFuture<Boolean> matches(String rawPassword, String passwordHash) {
+        try {
+            return CompletableFuture.supplyAsync(
+                    () -> passwordEncoder.matches(rawPassword, passwordHash), executor);
+        } catch (RejectedExecutionException ex) {
+            rejectedCounter.increment();
+            throw ex;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private static final class VerifierThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-verifier-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
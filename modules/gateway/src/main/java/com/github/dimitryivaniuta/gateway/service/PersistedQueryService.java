@@ -1,5 +1,7 @@
 package com.github.dimitryivaniuta.gateway.service;
 
+import com.github.dimitryivaniuta.gateway.coherence.CacheCoherenceChannel;
+import com.github.dimitryivaniuta.gateway.coherence.CoherentCache;
 import com.github.dimitryivaniuta.gateway.persistence.entity.PersistedQueryEntity;
 import com.github.dimitryivaniuta.gateway.persistence.repository.PersistedQueryRepository;
 import org.slf4j.Logger;
@@ -11,6 +13,10 @@ import java.util.Optional;
 
 /**
  * Service for storing and resolving persisted GraphQL queries.
+ *
+ * <p>Resolved documents are cached in-process. Changes made by {@link #saveOrUpdate} on any
+ * replica reach every replica's cache through {@link CacheCoherenceChannel} (the local one
+ * included), so the cache needs no expiry.</p>
  */
 @Service
 public class PersistedQueryService {
@@ -18,18 +24,19 @@ public class PersistedQueryService {
     private static final Logger log = LoggerFactory.getLogger(PersistedQueryService.class);
 
     private final PersistedQueryRepository repository;
+    private final CoherentCache<String> documents;
 
-    public PersistedQueryService(PersistedQueryRepository repository) {
+    public PersistedQueryService(PersistedQueryRepository repository, CacheCoherenceChannel coherenceChannel) {
         this.repository = repository;
+        this.documents = coherenceChannel.register("persisted_query");
     }
 
     /**
-     * Resolve query document by persisted ID.
+     * Resolve query document by persisted ID; served from the cache when possible.
      */
-    @Transactional(readOnly = true)
     public Optional<String> findDocumentById(String queryId) {
-        return repository.findByQueryId(queryId)
-                .map(PersistedQueryEntity::getDocument);
+        return documents.get(queryId, id -> repository.findByQueryId(id)
+                .map(PersistedQueryEntity::getDocument));
     }
 
     /**
@@ -0,0 +1,39 @@
+package com.github.dimitryivaniuta.gateway.service;
+
+import com.github.dimitryivaniuta.gateway.persistence.entity.UserEntity;
+
+import java.util.UUID;
+
+/**
+ * Immutable view of an enabled user, as cached by {@link UserService}.
+ *
+ * <p>Cache entries are shared by every login thread, so they are snapshots rather than
+ * (detached, mutable) {@link UserEntity} instances; changes such as the last-login time go
+ * to the database only.</p>
+ */
+public record UserAccount(
+        UUID id,
+        String tenantId,
+        String username,
+        String passwordHash,
+        String roles,
+        boolean locked
+) {
+
+    public static UserAccount of(UserEntity entity) {
+        return new UserAccount(
+                entity.getId(),
+                entity.getTenantId(),
+                entity.getUsername(),
+                entity.getPasswordHash(),
+                entity.getRoles(),
+                entity.isLocked());
+    }
+
+    @Override
+    public String toString() {
+        // never log the password hash
+        return "UserAccount[id=" + id + ", tenantId=" + tenantId + ", username=" + username
+                + ", roles=" + roles + ", locked=" + locked + "]";
+    }
+}
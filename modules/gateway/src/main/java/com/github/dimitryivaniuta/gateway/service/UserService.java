@@ -1,5 +1,7 @@
 package com.github.dimitryivaniuta.gateway.service;
 
+import com.github.dimitryivaniuta.gateway.coherence.CacheCoherenceChannel;
+import com.github.dimitryivaniuta.gateway.coherence.CoherentCache;
 import com.github.dimitryivaniuta.gateway.persistence.entity.UserEntity;
 import com.github.dimitryivaniuta.gateway.persistence.repository.UserRepository;
 import org.slf4j.Logger;
@@ -11,15 +13,17 @@ import org.springframework.util.StringUtils;
 
 import java.time.OffsetDateTime;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Domain service for user management and credential-based authentication.
  *
  * <p>Responsibilities:
  * <ul>
- *   <li>Look up users by tenant and username.</li>
- *   <li>Verify raw password using a {@link PasswordEncoder}.</li>
- *   <li>Update last-login information.</li>
+ *   <li>Look up users by tenant and username, through a cache kept coherent across
+ *       replicas by {@link CacheCoherenceChannel}.</li>
+ *   <li>Verify raw password on the bounded {@link PasswordVerifier} pool.</li>
+ *   <li>Record last-login information through {@link LastLoginWriteBehind}.</li>
  * </ul>
  */
 @Service
@@ -29,53 +33,72 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordVerifier passwordVerifier;
+    private final LastLoginWriteBehind lastLoginWriteBehind;
+    private final CoherentCache<UserAccount> enabledUsers;
 
     public UserService(UserRepository userRepository,
-                       PasswordEncoder passwordEncoder) {
+                       PasswordEncoder passwordEncoder,
+                       PasswordVerifier passwordVerifier,
+                       LastLoginWriteBehind lastLoginWriteBehind,
+                       CacheCoherenceChannel coherenceChannel) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.passwordVerifier = passwordVerifier;
+        this.lastLoginWriteBehind = lastLoginWriteBehind;
+        this.enabledUsers = coherenceChannel.register("users");
     }
 
     /**
      * Authenticate a user by tenant, username and raw password.
      *
+     * <p>Only the user lookup touches the database (on a cache miss); the password check runs on the
+     * verifier pool after the read transaction has completed, and the last-login
+     * timestamp is written behind in a later batch.</p>
+     *
      * @param tenantId   tenant identifier (cannot be null/blank)
      * @param username   login name (cannot be null/blank)
      * @param rawPassword user-supplied password in plain text
-     * @return authenticated user, or empty if credentials are invalid
+     * @return future with the authenticated user, or empty if credentials are invalid
+     * @throws java.util.concurrent.RejectedExecutionException if the verifier pool is saturated
      */
-    @Transactional
-    public Optional<UserEntity> authenticate(String tenantId, String username, String rawPassword) {
+    public CompletableFuture<Optional<UserAccount>> authenticate(String tenantId, String username, String rawPassword) {
         if (!StringUtils.hasText(tenantId) || !StringUtils.hasText(username) || !StringUtils.hasText(rawPassword)) {
-            return Optional.empty();
+            return CompletableFuture.completedFuture(Optional.empty());
         }
 
-        Optional<UserEntity> userOpt = userRepository.findByTenantIdAndUsernameAndEnabledIsTrue(
-                tenantId.trim(), username.trim());
+        String tenant = tenantId.trim();
+        String name = username.trim();
+        // cache key matches the invalidation key sent by the users trigger
+        Optional<UserAccount> userOpt = enabledUsers.get(tenant + "/" + name,
+                key -> userRepository.findByTenantIdAndUsernameAndEnabledIsTrue(tenant, name).map(UserAccount::of));
 
         if (userOpt.isEmpty()) {
             log.debug("Authentication failed: no enabled user for tenant='{}', username='{}'", tenantId, username);
-            return Optional.empty();
+            return CompletableFuture.completedFuture(Optional.empty());
         }
 
-        UserEntity user = userOpt.get();
+        UserAccount user = userOpt.get();
 
-        if (user.isLocked()) {
+        if (user.locked()) {
             log.debug("Authentication failed: user locked tenant='{}', username='{}'", tenantId, username);
-            return Optional.empty();
+            return CompletableFuture.completedFuture(Optional.empty());
         }
 
-        if (!passwordEncoder.matches(rawPassword, user.getPasswordHash())) {
-            log.debug("Authentication failed: invalid password for tenant='{}', username='{}'", tenantId, username);
-            return Optional.empty();
-        }
+        return passwordVerifier.matches(rawPassword, user.passwordHash())
+                .thenApply(matches -> {
+                    if (!matches) {
+                        log.debug("Authentication failed: invalid password for tenant='{}', username='{}'",
+                                tenantId, username);
+                        return Optional.empty();
+                    }
 
-        user.setLastLoginAt(OffsetDateTime.now());
-        // flush lastLoginAt but keep transaction lightweight
-        userRepository.save(user);
+                    // database only: the cached snapshot is shared and stays as loaded
+                    lastLoginWriteBehind.record(user.id(), OffsetDateTime.now());
 
-        log.debug("Authentication successful for tenant='{}', username='{}'", tenantId, username);
-        return Optional.of(user);
+                    log.debug("Authentication successful for tenant='{}', username='{}'", tenantId, username);
+                    return Optional.of(user);
+                });
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.github.dimitryivaniuta.gateway.service.client;
 
+import com.github.dimitryivaniuta.gateway.common.id.UuidListCodec;
 import com.github.dimitryivaniuta.gateway.graphql.type.InventoryItem;
 import com.github.dimitryivaniuta.gateway.graphql.type.input.UpdateInventoryItemInput;
 import lombok.RequiredArgsConstructor;
@@ -75,9 +76,7 @@ public class InventoryClient {
             return Collections.emptyMap();
         }
 
-        String idsParam = ids.stream()
-                .map(UUID::toString)
-                .collect(Collectors.joining(","));
+        String idsParam = UuidListCodec.join(ids);
 
         log.debug("Fetching inventory items for ids={}", idsParam);
 
@@ -115,9 +114,7 @@ public class InventoryClient {
             return Collections.emptyMap();
         }
 
-        String orderIdsParam = orderIds.stream()
-                .map(UUID::toString)
-                .collect(Collectors.joining(","));
+        String orderIdsParam = UuidListCodec.join(orderIds);
 
         log.debug("Fetching inventory items by orderIds={}", orderIdsParam);
 
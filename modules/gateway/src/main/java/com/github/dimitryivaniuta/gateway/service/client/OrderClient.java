@@ -1,5 +1,6 @@
 package com.github.dimitryivaniuta.gateway.service.client;
 
+import com.github.dimitryivaniuta.gateway.common.id.UuidListCodec;
 import com.github.dimitryivaniuta.gateway.graphql.type.Order;
 import com.github.dimitryivaniuta.gateway.graphql.type.input.CreateOrderInput;
 import lombok.RequiredArgsConstructor;
@@ -67,9 +68,7 @@ public class OrderClient {
             return Collections.emptyMap();
         }
 
-        String idsParam = ids.stream()
-                .map(UUID::toString)
-                .collect(Collectors.joining(","));
+        String idsParam = UuidListCodec.join(ids);
 
         log.debug("Fetching orders for ids={}", idsParam);
 
@@ -1,5 +1,6 @@
 package com.github.dimitryivaniuta.gateway.service.client;
 
+import com.github.dimitryivaniuta.gateway.common.id.UuidListCodec;
 import com.github.dimitryivaniuta.gateway.graphql.type.Payment;
 import com.github.dimitryivaniuta.gateway.graphql.type.input.CapturePaymentInput;
 import lombok.extern.slf4j.Slf4j;
@@ -61,9 +62,7 @@ public class PaymentClient {
             return Collections.emptyMap();
         }
 
-        String idsParam = ids.stream()
-                .map(UUID::toString)
-                .collect(Collectors.joining(","));
+        String idsParam = UuidListCodec.join(ids);
 
         log.debug("Fetching payments for ids={}", idsParam);
 
@@ -101,9 +100,7 @@ public class PaymentClient {
             return Collections.emptyMap();
         }
 
-        String orderIdsParam = orderIds.stream()
-                .map(UUID::toString)
-                .collect(Collectors.joining(","));
+        String orderIdsParam = UuidListCodec.join(orderIds);
 
         log.debug("Fetching payments by orderIds={}", orderIdsParam);
 
@@ -1,5 +1,6 @@
 package com.github.dimitryivaniuta.gateway.util;
 
+import com.github.dimitryivaniuta.gateway.common.money.Money;
 import graphql.language.FloatValue;
 import graphql.language.IntValue;
 import graphql.language.StringValue;
@@ -17,7 +18,9 @@ import java.math.BigDecimal;
  * <p>Represents a monetary amount as a decimal number without currency information.
  * Typical usage is to pair this scalar with a separate {@code currency} field.</p>
  *
- * <p>Java type: {@link BigDecimal}, GraphQL type: {@code String} (for consistent JSON representation).</p>
+ * <p>Java type: {@link BigDecimal}, GraphQL type: {@code String} (for consistent JSON representation).
+ * A {@link Money} result is serialized from its amount; this is one of the edges where
+ * minor units become a decimal.</p>
  */
 public final class MoneyScalar {
 
@@ -37,6 +40,9 @@ public final class MoneyScalar {
                     if (dataFetcherResult instanceof BigDecimal bd) {
                         return bd.toPlainString();
                     }
+                    if (dataFetcherResult instanceof Money money) {
+                        return money.getAmount().toPlainString();
+                    }
                     if (dataFetcherResult instanceof Number number) {
                         return BigDecimal.valueOf(number.doubleValue()).toPlainString();
                     }
@@ -48,7 +54,7 @@ public final class MoneyScalar {
                         }
                     }
                     throw new CoercingSerializeException(
-                            "Expected BigDecimal/Number/String for Money but was: " + dataFetcherResult.getClass().getName());
+                            "Expected BigDecimal/Money/Number/String for Money but was: " + dataFetcherResult.getClass().getName());
                 }
 
                 @Override
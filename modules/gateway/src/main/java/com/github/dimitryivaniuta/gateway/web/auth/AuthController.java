@@ -1,12 +1,14 @@
 package com.github.dimitryivaniuta.gateway.web.auth;
 
+import com.github.dimitryivaniuta.gateway.config.properties.LoginProperties;
 import com.github.dimitryivaniuta.gateway.config.properties.SecurityProperties;
-import com.github.dimitryivaniuta.gateway.persistence.entity.UserEntity;
 import com.github.dimitryivaniuta.gateway.service.JwtService;
+import com.github.dimitryivaniuta.gateway.service.UserAccount;
 import com.github.dimitryivaniuta.gateway.service.UserService;
 import com.github.dimitryivaniuta.gateway.web.auth.dto.CurrentUserResponse;
 import com.github.dimitryivaniuta.gateway.web.auth.dto.LoginRequest;
 import com.github.dimitryivaniuta.gateway.web.auth.dto.TokenResponse;
+import com.github.dimitryivaniuta.gateway.web.error.ServiceOverloadedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -16,10 +18,13 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 /**
@@ -50,13 +55,16 @@ public class AuthController {
     private final UserService userService;
     private final JwtService jwtService;
     private final SecurityProperties securityProperties;
+    private final LoginProperties loginProperties;
 
     public AuthController(UserService userService,
                           JwtService jwtService,
-                          SecurityProperties securityProperties) {
+                          SecurityProperties securityProperties,
+                          LoginProperties loginProperties) {
         this.userService = userService;
         this.jwtService = jwtService;
         this.securityProperties = securityProperties;
+        this.loginProperties = loginProperties;
     }
 
     /**
@@ -72,39 +80,52 @@ public class AuthController {
      * }
      * </pre>
      *
-     * @return 200 OK with token response, or 401 if credentials are invalid.
+     * <p>Login is asynchronous: the request thread is released while the
+     * hash is checked on the verifier pool. When that pool is saturated the request is
+     * shed with {@code 503} and a {@code Retry-After} hint instead of queueing unboundedly.</p>
+     *
+     * @return 200 OK with token response, 401 if credentials are invalid,
+     * or 503 if login capacity is exhausted.
      */
     @PostMapping("/token")
-    public ResponseEntity<TokenResponse> issueToken(@RequestBody LoginRequest request) {
-        Optional<UserEntity> userOpt = userService.authenticate(
-                request.tenantId(), request.username(), request.password());
-
-        if (userOpt.isEmpty()) {
-            log.debug("Login failed for tenant='{}', username='{}'",
-                    request.tenantId(), request.username());
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid credentials");
-        }
+    public Mono<ResponseEntity<TokenResponse>> issueToken(@RequestBody LoginRequest request) {
+        // The user lookup is a blocking JPA call: keep it off servlet and event-loop threads alike.
+        return Mono.fromFuture(() -> userService.authenticate(
+                        request.tenantId(), request.username(), request.password()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorMap(RejectedExecutionException.class, ex -> {
+                    log.warn("Login shed for tenant='{}': password verifier saturated", request.tenantId());
+                    return new ServiceOverloadedException("Login capacity exhausted, retry later",
+                            loginProperties.retryAfterSecondsOrDefault());
+                })
+                .map(userOpt -> {
+                    if (userOpt.isEmpty()) {
+                        log.debug("Login failed for tenant='{}', username='{}'",
+                                request.tenantId(), request.username());
+                        throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid credentials");
+                    }
+                    return ResponseEntity.ok(toTokenResponse(userOpt.get()));
+                });
+    }
 
-        UserEntity user = userOpt.get();
+    private TokenResponse toTokenResponse(UserAccount user) {
         String token = jwtService.issueToken(user);
 
-        List<String> roles = Arrays.stream(user.getRoles().split(","))
+        List<String> roles = Arrays.stream(user.roles().split(","))
                 .map(String::trim)
                 .filter(s -> !s.isEmpty())
                 .toList();
 
         long expiresIn = securityProperties.jwt().ttlSecondsOrDefault();
 
-        TokenResponse response = new TokenResponse(
+        return new TokenResponse(
                 token,
                 "Bearer",
                 expiresIn,
-                user.getTenantId(),
-                user.getUsername(),
+                user.tenantId(),
+                user.username(),
                 roles
         );
-
-        return ResponseEntity.ok(response);
     }
 
     /**
@@ -0,0 +1,169 @@
+package com.github.dimitryivaniuta.gateway.web.error;
+
+import com.github.dimitryivaniuta.gateway.config.properties.ErrorLoggingProperties;
+import graphql.schema.DataFetchingEnvironment;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Aggregates resolver errors by (field coordinate, exception type) so that one failing
+ * downstream does not produce one stack trace per affected field.
+ *
+ * <p>Within each window only the first {@link ErrorLoggingProperties#stackTracesPerWindowOrDefault()}
+ * occurrences of a key are logged with a stack trace; the rest are counted
+ * ({@code gateway.graphql.errors.suppressed}, tag {@code exception}) and reported in one
+ * summary line when the window closes:</p>
+ *
+ * <pre>
+ * GraphQL error summary: Order.payments PaymentServiceException x200 in last 60000 ms (195 stack traces suppressed)
+ * </pre>
+ */
+@Component
+public class ErrorLogLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(ErrorLogLimiter.class);
+    private static final String OVERFLOW_COORDINATE = "*";
+
+    private final long windowMs;
+    private final int stackTracesPerWindow;
+    private final int maxKeys;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier clock;
+
+    private final Map<Key, Window> windows = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ErrorLogLimiter(ErrorLoggingProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::currentTimeMillis);
+    }
+
+    ErrorLogLimiter(ErrorLoggingProperties properties, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.windowMs = properties.windowMsOrDefault();
+        this.stackTracesPerWindow = properties.stackTracesPerWindowOrDefault();
+        this.maxKeys = properties.maxKeysOrDefault();
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    /**
+     * {@code Type.field} of the field being resolved.
+     */
+    public static String coordinate(DataFetchingEnvironment env) {
+        return env.getExecutionStepInfo().getObjectType().getName() + '.' + env.getField().getName();
+    }
+
+    /**
+     * Count one occurrence and decide whether it may be logged with its stack trace.
+     *
+     * @return {@code true} for the first occurrences of the key in the current window
+     */
+    public boolean shouldLog(String coordinate, Throwable error) {
+        String effectiveCoordinate = windows.size() >= maxKeys && !windows.containsKey(new Key(coordinate, error.getClass()))
+                ? OVERFLOW_COORDINATE
+                : coordinate;
+        Key key = new Key(effectiveCoordinate, error.getClass());
+        Window window = windows.computeIfAbsent(key, k -> new Window(suppressedCounter(k.type())));
+
+        long now = clock.getAsLong();
+        boolean allowed;
+        Summary closed = null;
+        synchronized (window) {
+            if (now - window.startedAt >= windowMs) {
+                closed = window.close(key, now);
+            }
+            window.count++;
+            allowed = window.count <= stackTracesPerWindow;
+            if (!allowed) {
+                window.suppressed++;
+            }
+        }
+        if (closed != null) {
+            closed.log(windowMs);
+        }
+        if (!allowed) {
+            window.suppressedCounter.increment();
+        }
+        return allowed;
+    }
+
+    /**
+     * Emit summaries for windows that have ended with nothing new arriving, and forget idle keys.
+     */
+    @Scheduled(fixedDelayString = "${gateway.error-logging.window-ms:60000}")
+    public void flush() {
+        long now = clock.getAsLong();
+        List<Summary> closed = new ArrayList<>();
+        windows.forEach((key, window) -> {
+            synchronized (window) {
+                if (now - window.startedAt < windowMs) {
+                    return;
+                }
+                if (window.count == 0) {
+                    windows.remove(key, window);
+                    return;
+                }
+                Summary summary = window.close(key, now);
+                if (summary != null) {
+                    closed.add(summary);
+                }
+            }
+        });
+        closed.forEach(summary -> summary.log(windowMs));
+    }
+
+    private Counter suppressedCounter(Class<?> type) {
+        return Counter.builder("gateway.graphql.errors.suppressed")
+                .description("GraphQL resolver errors whose stack trace was not logged")
+                .tag("exception", type.getSimpleName())
+                .register(meterRegistry);
+    }
+
+    private record Key(String coordinate, Class<?> type) {
+    }
+
+    private record Summary(Key key, int count, int suppressed) {
+
+        void log(long windowMs) {
+            log.warn("GraphQL error summary: {} {} x{} in last {} ms ({} stack traces suppressed)",
+                    key.coordinate(), key.type().getSimpleName(), count, windowMs, suppressed);
+        }
+    }
+
+    /**
+     * Counts of one key in the current window; guarded by its own monitor.
+     */
+    private static final class Window {
+
+        private final Counter suppressedCounter;
+        private long startedAt;
+        private int count;
+        private int suppressed;
+
+        private Window(Counter suppressedCounter) {
+            this.suppressedCounter = suppressedCounter;
+            this.startedAt = Long.MIN_VALUE / 2;
+        }
+
+        /**
+         * Start a new window; returns a summary of the old one if anything was suppressed in it.
+         */
+        private Summary close(Key key, long now) {
+            Summary summary = suppressed > 0 ? new Summary(key, count, suppressed) : null;
+            startedAt = now;
+            count = 0;
+            suppressed = 0;
+            return summary;
+        }
+    }
+}
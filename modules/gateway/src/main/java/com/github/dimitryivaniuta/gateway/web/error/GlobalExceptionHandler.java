@@ -2,6 +2,7 @@ package com.github.dimitryivaniuta.gateway.web.error;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
@@ -17,9 +18,13 @@ import java.time.Instant;
  * Global REST exception handler for the gateway (non-GraphQL endpoints).
  *
  * <p>Produces a stable JSON error structure for all exceptions.</p>
+ *
+ * <p>Servlet stack only; in reactive mode WebFlux renders {@link ResponseStatusException}s
+ * (including their headers) natively.</p>
  */
 @Slf4j
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class GlobalExceptionHandler {
 
     /**
@@ -45,7 +50,10 @@ public class GlobalExceptionHandler {
         log.debug("ResponseStatusException [{}] on {} {}: {}",
                 status.value(), request.getMethod(), request.getRequestURI(), ex.getReason(), ex);
 
-        return buildResponse(status, ex.getReason(), request);
+        ResponseEntity<ApiErrorResponse> response = buildResponse(status, ex.getReason(), request);
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(ex.getHeaders())
+                .body(response.getBody());
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -14,12 +14,19 @@ import java.util.Map;
  * Central GraphQL error handler for the gateway.
  *
  * <p>Transforms Java exceptions thrown from resolvers into GraphQL errors
- * with consistent extensions and logging.</p>
+ * with consistent extensions and logging. Internal errors are logged with their stack trace
+ * subject to {@link ErrorLogLimiter}.</p>
  */
 @Slf4j
 @Controller
 public class GraphQlErrorHandler {
 
+    private final ErrorLogLimiter errorLogLimiter;
+
+    public GraphQlErrorHandler(ErrorLogLimiter errorLogLimiter) {
+        this.errorLogLimiter = errorLogLimiter;
+    }
+
     @GraphQlExceptionHandler(IllegalArgumentException.class)
     public GraphQLError handleIllegalArgument(IllegalArgumentException ex,
                                               DataFetchingEnvironment env) {
@@ -30,7 +37,9 @@ public class GraphQlErrorHandler {
     @GraphQlExceptionHandler(RuntimeException.class)
     public GraphQLError handleRuntimeException(RuntimeException ex,
                                                DataFetchingEnvironment env) {
-        log.error("GraphQL INTERNAL_ERROR at {}: {}", env.getExecutionStepInfo().getPath(), ex.getMessage(), ex);
+        if (errorLogLimiter.shouldLog(ErrorLogLimiter.coordinate(env), ex)) {
+            log.error("GraphQL INTERNAL_ERROR at {}: {}", env.getExecutionStepInfo().getPath(), ex.getMessage(), ex);
+        }
         return buildError("Internal error", env, ErrorType.INTERNAL_ERROR, "INTERNAL_ERROR");
     }
 
@@ -40,7 +49,9 @@ public class GraphQlErrorHandler {
     @GraphQlExceptionHandler(Exception.class)
     public GraphQLError handleException(Exception ex,
                                         DataFetchingEnvironment env) {
-        log.error("GraphQL INTERNAL_ERROR (checked) at {}: {}", env.getExecutionStepInfo().getPath(), ex.getMessage(), ex);
+        if (errorLogLimiter.shouldLog(ErrorLogLimiter.coordinate(env), ex)) {
+            log.error("GraphQL INTERNAL_ERROR (checked) at {}: {}", env.getExecutionStepInfo().getPath(), ex.getMessage(), ex);
+        }
         return buildError("Internal error", env, ErrorType.INTERNAL_ERROR, "INTERNAL_ERROR");
     }
 
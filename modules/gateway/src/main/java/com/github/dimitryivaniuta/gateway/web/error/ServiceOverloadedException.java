@@ -0,0 +1,32 @@
+package com.github.dimitryivaniuta.gateway.web.error;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Signals that a request was shed because a bounded gateway resource is saturated.
+ *
+ * <p>Rendered as {@code 503 Service Unavailable} with a {@code Retry-After} header so
+ * that well-behaved clients back off instead of retrying immediately.</p>
+ */
+public class ServiceOverloadedException extends ResponseStatusException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String reason, long retryAfterSeconds) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, reason);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        return headers;
+    }
+}
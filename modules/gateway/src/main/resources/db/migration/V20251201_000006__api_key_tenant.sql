@@ -0,0 +1,5 @@
+-- API keys belong to a tenant, like users (users.tenant_id); used for per-tenant fair scheduling.
+ALTER TABLE api_key
+    ADD COLUMN IF NOT EXISTS tenant_id VARCHAR(64) NOT NULL DEFAULT 'default';
+
+CREATE INDEX IF NOT EXISTS idx_api_key_tenant_id ON api_key (tenant_id);
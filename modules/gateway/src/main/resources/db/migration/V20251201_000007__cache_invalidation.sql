@@ -0,0 +1,41 @@
+-- Cache invalidation events for gateway replicas (CacheCoherenceChannel).
+-- Every committed change to a cached row is broadcast on channel 'gateway_cache'
+-- as '<table>:<cache key>'; NOTIFY is transactional, so listeners only see committed changes.
+
+CREATE OR REPLACE FUNCTION notify_cache_invalidation() RETURNS trigger AS $$
+DECLARE
+    changed RECORD;
+    row_key TEXT;
+BEGIN
+    -- on UPDATE/DELETE the old key is the one replicas may have cached
+    IF TG_OP = 'INSERT' THEN
+        changed := NEW;
+    ELSE
+        changed := OLD;
+    END IF;
+
+    IF TG_TABLE_NAME = 'persisted_query' THEN
+        row_key := changed.query_id;
+    ELSIF TG_TABLE_NAME = 'api_key' THEN
+        row_key := changed."key";
+    ELSE
+        row_key := changed.tenant_id || '/' || changed.username;
+    END IF;
+
+    PERFORM pg_notify('gateway_cache', TG_TABLE_NAME || ':' || row_key);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_persisted_query_invalidate
+    AFTER INSERT OR DELETE OR UPDATE OF query_id, document, operation_name ON persisted_query
+    FOR EACH ROW EXECUTE FUNCTION notify_cache_invalidation();
+
+CREATE TRIGGER trg_api_key_invalidate
+    AFTER INSERT OR DELETE OR UPDATE OF "key", enabled, tenant_id, rate_limit_per_minute ON api_key
+    FOR EACH ROW EXECUTE FUNCTION notify_cache_invalidation();
+
+-- last_login_at (write-behind) and updated_at bookkeeping do not invalidate
+CREATE TRIGGER trg_users_invalidate
+    AFTER INSERT OR DELETE OR UPDATE OF tenant_id, username, password_hash, roles, enabled, locked ON users
+    FOR EACH ROW EXECUTE FUNCTION notify_cache_invalidation();
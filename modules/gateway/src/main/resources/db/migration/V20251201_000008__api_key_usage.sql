@@ -0,0 +1,13 @@
+-- Per-replica API key consumption in the current rate-limit window (ApiKeyRateLimiter).
+-- UNLOGGED: the rows are rewritten every sync interval and worthless after a crash,
+-- so they skip the WAL. The nil api_key_id row is each replica's heartbeat.
+CREATE UNLOGGED TABLE IF NOT EXISTS api_key_usage (
+    api_key_id   uuid        NOT NULL,
+    replica_id   VARCHAR(64) NOT NULL,
+    window_start TIMESTAMPTZ NOT NULL,
+    used         INTEGER     NOT NULL,
+    updated_at   TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (api_key_id, replica_id, window_start)
+);
+
+CREATE INDEX IF NOT EXISTS idx_api_key_usage_window_start ON api_key_usage (window_start);
@@ -0,0 +1,127 @@
+package com.github.dimitryivaniuta.gateway.admission;
+
+import com.github.dimitryivaniuta.gateway.admission.AdmissionController.Permit;
+import com.github.dimitryivaniuta.gateway.config.properties.AdmissionProperties;
+import com.github.dimitryivaniuta.gateway.config.properties.FairQueueProperties;
+import com.github.dimitryivaniuta.gateway.web.error.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdmissionControllerTest {
+
+    private static final String TENANT = "acme";
+
+    private final AtomicLong nanos = new AtomicLong(1_000_000_000L);
+
+    private AdmissionController controller(int maxConcurrent, int maxQueue) {
+        AdmissionProperties properties = new AdmissionProperties(true, maxConcurrent, maxQueue, 10_000L, 5L, 100L,
+                1L, null, null, null, null, null);
+        FairQueueProperties fairQueue = new FairQueueProperties(true, 1, Map.of("acme", 3), 10);
+        return new AdmissionController(properties, fairQueue, new SimpleMeterRegistry(), nanos::get);
+    }
+
+    @Test
+    void releasedSlotGoesToHighestPriorityWaiter() {
+        AdmissionController controller = controller(1, 10);
+        Permit first = controller.acquire(RequestPriority.NORMAL, TENANT).block();
+
+        List<RequestPriority> admitted = new ArrayList<>();
+        controller.acquire(RequestPriority.LOW, TENANT).subscribe(p -> admitted.add(RequestPriority.LOW));
+        controller.acquire(RequestPriority.CRITICAL, TENANT).subscribe(p -> admitted.add(RequestPriority.CRITICAL));
+        assertThat(controller.queued()).isEqualTo(2);
+
+        first.release();
+
+        assertThat(admitted).containsExactly(RequestPriority.CRITICAL);
+        assertThat(controller.inFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void fullQueueDisplacesLowerPriorityWaiterAndRejectsEqualOnes() {
+        AdmissionController controller = controller(1, 1);
+        controller.acquire(RequestPriority.NORMAL, TENANT).block();
+
+        List<Throwable> lowErrors = new ArrayList<>();
+        controller.acquire(RequestPriority.LOW, TENANT).subscribe(p -> { }, lowErrors::add);
+        controller.acquire(RequestPriority.HIGH, TENANT).subscribe();
+
+        assertThat(lowErrors).singleElement().isInstanceOf(ServiceOverloadedException.class);
+        assertThatThrownBy(() -> controller.acquire(RequestPriority.HIGH, TENANT).block(Duration.ofSeconds(1)))
+                .isInstanceOf(ServiceOverloadedException.class);
+    }
+
+    @Test
+    void persistentQueueingDelayShedsLowPriorityFirst() {
+        AdmissionController controller = controller(1, 100);
+        Permit running = controller.acquire(RequestPriority.HIGH, TENANT).block();
+
+        // Two admissions after waiting well above the 5 ms target, one interval apart
+        for (int i = 0; i < 2; i++) {
+            Mono<Permit> waiting = controller.acquire(RequestPriority.HIGH, TENANT);
+            List<Permit> granted = new ArrayList<>();
+            waiting.subscribe(granted::add);
+            nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(150));
+            running.release();
+            running = granted.get(0);
+        }
+
+        assertThat(controller.overloaded()).isTrue();
+        assertThatThrownBy(() -> controller.acquire(RequestPriority.LOW, TENANT).block(Duration.ofSeconds(1)))
+                .isInstanceOf(ServiceOverloadedException.class);
+
+        List<Permit> critical = new ArrayList<>();
+        controller.acquire(RequestPriority.CRITICAL, TENANT).subscribe(critical::add);
+        assertThat(controller.queued()).isEqualTo(1);
+    }
+
+    @Test
+    void backloggedTenantsAreServedByWeight() {
+        AdmissionController controller = controller(1, 100);
+        Permit running = controller.acquire(RequestPriority.NORMAL, "acme").block();
+
+        List<String> order = new ArrayList<>();
+        List<Permit> granted = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            controller.acquire(RequestPriority.NORMAL, "acme").subscribe(p -> { order.add("acme"); granted.add(p); });
+        }
+        for (int i = 0; i < 3; i++) {
+            controller.acquire(RequestPriority.NORMAL, "globex").subscribe(p -> { order.add("globex"); granted.add(p); });
+        }
+        assertThat(controller.queued()).isEqualTo(9);
+
+        running.release();
+        while (granted.size() < 9) {
+            granted.get(granted.size() - 1).release();
+        }
+
+        assertThat(order).containsExactly(
+                "acme", "acme", "acme", "globex", "acme", "acme", "acme", "globex", "globex");
+        granted.get(8).release();
+        assertThat(controller.inFlight()).isZero();
+    }
+
+    @Test
+    void priorityOutranksTheTenantsTurn() {
+        AdmissionController controller = controller(1, 100);
+        Permit running = controller.acquire(RequestPriority.NORMAL, "acme").block();
+
+        List<String> order = new ArrayList<>();
+        controller.acquire(RequestPriority.NORMAL, "acme").subscribe(p -> order.add("acme"));
+        controller.acquire(RequestPriority.CRITICAL, "globex").subscribe(p -> order.add("globex"));
+
+        running.release();
+
+        assertThat(order).containsExactly("globex");
+    }
+}
@@ -0,0 +1,80 @@
+package com.github.dimitryivaniuta.gateway.capture;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryAnonymizerTest {
+
+    @Test
+    void maskLiterals_replacesStringAndBlockStringLiterals() {
+        String document = """
+                query { orders(ids: ["a1", "b\\"2"]) { id } search(text: \"""secret
+                text\""") }""";
+
+        String masked = QueryAnonymizer.maskLiterals(document);
+
+        assertThat(masked).doesNotContain("a1", "secret", "b\\\"2");
+        assertThat(masked).contains("orders(ids: [\"***\", \"***\"])", "search(text: \"***\")");
+    }
+
+    @Test
+    void maskLiterals_replacesNumbersButKeepsNamesEnumsAndBooleans() {
+        String document = "query Top3($first2: Int = 25) { orders(first: 10, minTotal: -12.5e2, status: PAID, open: true) "
+                + "{ line2: id } }";
+
+        String masked = QueryAnonymizer.maskLiterals(document);
+
+        assertThat(masked).isEqualTo("query Top3($first2: Int = 0) { orders(first: 0, minTotal: 0, status: PAID, open: true) "
+                + "{ line2: id } }");
+    }
+
+    @Test
+    void shapeOf_keepsStructureButNoValues() {
+        Map<String, Object> variables = new LinkedHashMap<>();
+        variables.put("ids", List.of("3f0c...", "9a1b..."));
+        variables.put("input", Map.of("quantity", 5));
+        variables.put("flag", true);
+        variables.put("missing", null);
+
+        Object shape = QueryAnonymizer.shapeOf(variables);
+
+        assertThat(shape).isEqualTo(Map.of(
+                "ids", Map.of("@list", 2, "@of", "String"),
+                "input", Map.of("quantity", "Int"),
+                "flag", "Boolean",
+                "missing", "Null"));
+    }
+
+    @Test
+    void pseudonymsOf_isStablePerValueAndSaltButKeepsNoValues() {
+        byte[] salt = "capture-salt".getBytes(StandardCharsets.UTF_8);
+        Map<String, Object> variables = new LinkedHashMap<>();
+        variables.put("ids", List.of("order-1", "order-2", "order-1"));
+        variables.put("input", Map.of("quantity", 5, "price", 12.5));
+        variables.put("flag", true);
+        variables.put("missing", null);
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> recorded = (Map<String, Object>) QueryAnonymizer.pseudonymsOf(variables, salt);
+
+        List<?> ids = (List<?>) recorded.get("ids");
+        assertThat(ids).hasSize(3);
+        assertThat(ids.get(0)).isEqualTo(ids.get(2)).isNotEqualTo(ids.get(1));
+        assertThat((String) ids.get(0)).matches("String#[0-9a-f]{12}");
+        Map<?, ?> input = (Map<?, ?>) recorded.get("input");
+        assertThat((String) input.get("quantity")).startsWith("Int#");
+        assertThat((String) input.get("price")).startsWith("Float#");
+        assertThat(recorded).containsEntry("flag", "Boolean").containsEntry("missing", "Null");
+        assertThat(recorded.toString()).doesNotContain("order-1", "order-2", "12.5");
+
+        assertThat(QueryAnonymizer.pseudonymsOf(variables, salt)).isEqualTo(recorded);
+        assertThat(QueryAnonymizer.pseudonymsOf(variables, "other-salt".getBytes(StandardCharsets.UTF_8)))
+                .isNotEqualTo(recorded);
+    }
+}
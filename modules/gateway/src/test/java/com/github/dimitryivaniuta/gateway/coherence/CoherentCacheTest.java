@@ -0,0 +1,49 @@
+package com.github.dimitryivaniuta.gateway.coherence;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CoherentCacheTest {
+
+    private final AtomicBoolean live = new AtomicBoolean(true);
+    private final CoherentCache<String> cache = new CoherentCache<>("persisted_query", 100, live::get);
+
+    @Test
+    void servesCachedValueUntilInvalidated() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("q1", key -> Optional.of("v" + loads.incrementAndGet()));
+        assertThat(cache.get("q1", key -> Optional.of("v" + loads.incrementAndGet()))).contains("v1");
+
+        cache.invalidate("q1");
+        assertThat(cache.get("q1", key -> Optional.of("v" + loads.incrementAndGet()))).contains("v2");
+    }
+
+    @Test
+    void loadRacingWithInvalidationIsNotStored() {
+        Optional<String> loaded = cache.get("q1", key -> {
+            // the commit's event arrives while the old row is being read
+            cache.invalidate("q1");
+            return Optional.of("old");
+        });
+
+        assertThat(loaded).contains("old");
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void bypassesCacheWhileChannelIsDown() {
+        live.set(false);
+        cache.get("q1", key -> Optional.of("v1"));
+        assertThat(cache.size()).isZero();
+
+        live.set(true);
+        cache.get("q1", key -> Optional.of("v1"));
+        assertThat(cache.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,168 @@
+package com.github.dimitryivaniuta.gateway.config;
+
+import com.github.dimitryivaniuta.gateway.config.properties.CorsProperties;
+import com.github.dimitryivaniuta.gateway.config.properties.SecurityProperties;
+import com.github.dimitryivaniuta.gateway.config.properties.TracingProperties;
+import com.github.dimitryivaniuta.gateway.ratelimit.ApiKeyRateLimiter;
+import com.github.dimitryivaniuta.gateway.service.ActiveApiKey;
+import com.github.dimitryivaniuta.gateway.service.ApiKeyService;
+import com.github.dimitryivaniuta.gateway.service.JwtService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.reactive.context.AnnotationConfigReactiveWebApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.reactive.config.EnableWebFlux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * The reactive chain with {@code security.require-auth=true}, built from a real application
+ * context so that globally registered {@code WebFilter} beans would show up as well.
+ */
+class ReactiveSecurityConfigTest {
+
+    private static final ActiveApiKey API_KEY = new ActiveApiKey(UUID.randomUUID(), "test", "tenant-a", 60);
+
+    private final ApiKeyService apiKeyService = mock(ApiKeyService.class);
+    private final ApiKeyRateLimiter rateLimiter = mock(ApiKeyRateLimiter.class);
+    private final JwtService jwtService = mock(JwtService.class);
+
+    private AnnotationConfigReactiveWebApplicationContext context;
+    private WebTestClient client;
+
+    @BeforeEach
+    void startContext() {
+        context = new AnnotationConfigReactiveWebApplicationContext();
+        context.registerBean(ApiKeyService.class, () -> apiKeyService);
+        context.registerBean(ApiKeyRateLimiter.class, () -> rateLimiter);
+        context.registerBean(JwtService.class, () -> jwtService);
+        context.register(TestApp.class, ReactiveSecurityConfig.class);
+        context.refresh();
+        client = WebTestClient.bindToApplicationContext(context).build();
+    }
+
+    @AfterEach
+    void closeContext() {
+        context.close();
+    }
+
+    @Test
+    void validApiKeyAuthenticatesAndChargesTheRateLimitOnce() {
+        when(apiKeyService.authenticate("key-1")).thenReturn(Optional.of(API_KEY));
+        when(rateLimiter.tryAcquire(API_KEY.id(), API_KEY.rateLimitPerMinute())).thenReturn(true);
+
+        client.post().uri("/graphql").header("X-API-Key", "key-1").exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("api-key:" + API_KEY.id());
+
+        verify(apiKeyService, times(1)).authenticate("key-1");
+        verify(rateLimiter, times(1)).tryAcquire(any(), any());
+    }
+
+    @Test
+    void apiKeyOverItsLimitGets429WithRetryAfter() {
+        when(apiKeyService.authenticate("key-1")).thenReturn(Optional.of(API_KEY));
+        when(rateLimiter.tryAcquire(API_KEY.id(), API_KEY.rateLimitPerMinute())).thenReturn(false);
+        when(rateLimiter.retryAfterSeconds()).thenReturn(17L);
+
+        client.post().uri("/graphql").header("X-API-Key", "key-1").exchange()
+                .expectStatus().isEqualTo(429)
+                .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "17");
+
+        verify(rateLimiter, times(1)).tryAcquire(any(), any());
+    }
+
+    @Test
+    void validJwtAuthenticates() {
+        when(jwtService.authenticate("good-token")).thenReturn(jwtAuthentication("alice"));
+
+        client.post().uri("/graphql").header(HttpHeaders.AUTHORIZATION, "Bearer good-token").exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("alice");
+
+        verify(jwtService, times(1)).authenticate("good-token");
+    }
+
+    @Test
+    void missingOrInvalidCredentialsGet401() {
+        when(jwtService.authenticate("bad-token")).thenThrow(new JwtException("expired"));
+        when(apiKeyService.authenticate(anyString())).thenReturn(Optional.empty());
+
+        client.post().uri("/graphql").exchange()
+                .expectStatus().isUnauthorized();
+        client.post().uri("/graphql").header(HttpHeaders.AUTHORIZATION, "Bearer bad-token").exchange()
+                .expectStatus().isUnauthorized();
+        client.post().uri("/graphql").header("X-API-Key", "unknown").exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    // -------------------------------------------------------------------------
+    // Helpers
+    // -------------------------------------------------------------------------
+
+    private static JwtAuthenticationToken jwtAuthentication(String subject) {
+        Jwt jwt = new Jwt("good-token", Instant.now(), Instant.now().plusSeconds(300),
+                Map.of("alg", "HS256"), Map.of("sub", subject));
+        return new JwtAuthenticationToken(jwt, List.of(), subject);
+    }
+
+    @Configuration
+    @EnableWebFlux
+    static class TestApp {
+
+        @Bean
+        SecurityProperties securityProperties() {
+            return new SecurityProperties(true, new SecurityProperties.ApiKey(null, null), null);
+        }
+
+        @Bean
+        CorsProperties corsProperties() {
+            return new CorsProperties(List.of());
+        }
+
+        @Bean
+        TracingProperties tracingProperties() {
+            return new TracingProperties(null, null, null, 0, 0, 0);
+        }
+
+        @Bean
+        WhoAmIController whoAmIController() {
+            return new WhoAmIController();
+        }
+    }
+
+    @RestController
+    static class WhoAmIController {
+
+        @PostMapping("/graphql")
+        Mono<String> whoAmI() {
+            return ReactiveSecurityContextHolder.getContext()
+                    .map(SecurityContext::getAuthentication)
+                    .map(Authentication::getName);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.github.dimitryivaniuta.gateway.config;
+
+import com.github.dimitryivaniuta.gateway.service.client.OrderClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.reactive.JdkClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the platform-thread and virtual-thread execution modes on the blocking
+ * client path ({@link OrderClient#getOrdersByIds} → {@code .block()}).
+ *
+ * <p>Each run fires {@code benchmark.concurrency} (default 5,000) concurrent calls
+ * against a stub downstream that answers after {@code benchmark.downstreamDelayMs}
+ * (default 200 ms). The platform run uses a fixed pool of 200 threads, which is what
+ * Tomcat gives the gateway by default; the virtual run uses one virtual thread per call,
+ * which is what {@code gateway.execution.virtual-threads=true} gives it.</p>
+ *
+ * <p>The JDK HTTP client connector is used on purpose so that connection-pool limits
+ * of the default connector do not hide the effect of the threading model.</p>
+ *
+ * <p>Run with {@code ./gradlew :modules:gateway:benchmarkTest}.</p>
+ */
+@Tag("benchmark")
+class VirtualThreadModeBenchmark {
+
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 5_000);
+    private static final long DOWNSTREAM_DELAY_MS = Long.getLong("benchmark.downstreamDelayMs", 200L);
+    private static final int PLATFORM_POOL_SIZE = 200;
+
+    private static MockWebServer downstream;
+    private static OrderClient orderClient;
+
+    @BeforeAll
+    static void startDownstream() throws Exception {
+        downstream = new MockWebServer();
+        downstream.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return new MockResponse()
+                        .setHeadersDelay(DOWNSTREAM_DELAY_MS, TimeUnit.MILLISECONDS)
+                        .setResponseCode(200)
+                        .setBody("[]")
+                        .addHeader("Content-Type", "application/json");
+            }
+        });
+        downstream.start();
+
+        WebClient webClient = WebClient.builder()
+                .clientConnector(new JdkClientHttpConnector(HttpClient.newHttpClient()))
+                .baseUrl(downstream.url("/").toString())
+                .build();
+        orderClient = new OrderClient(webClient);
+    }
+
+    @AfterAll
+    static void stopDownstream() throws Exception {
+        downstream.shutdown();
+    }
+
+    @Test
+    void platformThreads() throws Exception {
+        run("platform(" + PLATFORM_POOL_SIZE + ")", Executors.newFixedThreadPool(PLATFORM_POOL_SIZE));
+    }
+
+    @Test
+    void virtualThreads() throws Exception {
+        run("virtual", Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    private void run(String mode, ExecutorService executor) throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+
+        List<UUID> ids = List.of(UUID.randomUUID());
+        long[] latenciesNanos = new long[CONCURRENCY];
+        AtomicInteger failures = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>(CONCURRENCY);
+
+        long started = System.nanoTime();
+        try (executor) {
+            for (int i = 0; i < CONCURRENCY; i++) {
+                final int slot = i;
+                final long submittedAt = System.nanoTime();
+                futures.add(executor.submit(() -> {
+                    try {
+                        orderClient.getOrdersByIds(ids);
+                    } catch (RuntimeException ex) {
+                        failures.incrementAndGet();
+                    } finally {
+                        latenciesNanos[slot] = System.nanoTime() - submittedAt;
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long elapsedNanos = System.nanoTime() - started;
+
+        Arrays.sort(latenciesNanos);
+        System.out.printf(
+                "[virtual-thread-benchmark] mode=%s calls=%d downstreamDelay=%dms elapsed=%dms "
+                        + "throughput=%.0f/s p50=%dms p99=%dms max=%dms peakPlatformThreads=%d failures=%d%n",
+                mode,
+                CONCURRENCY,
+                DOWNSTREAM_DELAY_MS,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                CONCURRENCY / (elapsedNanos / 1_000_000_000.0),
+                TimeUnit.NANOSECONDS.toMillis(percentile(latenciesNanos, 0.50)),
+                TimeUnit.NANOSECONDS.toMillis(percentile(latenciesNanos, 0.99)),
+                TimeUnit.NANOSECONDS.toMillis(latenciesNanos[latenciesNanos.length - 1]),
+                threads.getPeakThreadCount(),
+                failures.get());
+
+        assertThat(failures.get()).isZero();
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
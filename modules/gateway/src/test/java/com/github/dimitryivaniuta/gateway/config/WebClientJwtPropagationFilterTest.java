@@ -2,6 +2,7 @@ package com.github.dimitryivaniuta.gateway.config;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
@@ -39,8 +40,7 @@ class WebClientJwtPropagationFilterTest {
 
         var filter = config.jwtPropagationFilter();
 
-        ClientRequest request = ClientRequest.create()
-                .url(URI.create("http://order-service/internal/orders"))
+        ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create("http://order-service/internal/orders"))
                 .build();
 
         final String[] authHeader = new String[1];
@@ -61,8 +61,7 @@ class WebClientJwtPropagationFilterTest {
     void jwtPropagationFilter_doesNotAddHeader_whenNoAuthentication() {
         var filter = config.jwtPropagationFilter();
 
-        ClientRequest request = ClientRequest.create()
-                .url(URI.create("http://order-service/internal/orders"))
+        ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create("http://order-service/internal/orders"))
                 .build();
 
         final String[] authHeader = new String[1];
@@ -0,0 +1,153 @@
+package com.github.dimitryivaniuta.gateway.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.dimitryivaniuta.gateway.GatewayApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * End-to-end load harness for the gateway.
+ *
+ * <p>Boots {@link GatewayApplication} in-process against PostgreSQL (Testcontainers unless
+ * {@code loadtest.jdbc-url} is set) and {@link StubDownstreams} for the three domain services,
+ * then:</p>
+ * <ol>
+ *   <li>warms up with the configured mix,</li>
+ *   <li>calibrates every operation sequentially (downstream calls, CPU, allocation per request),</li>
+ *   <li>runs the mix open-loop at the target RPS and records HdrHistogram latencies,</li>
+ *   <li>writes a {@link LoadReport} and, if a baseline is given, prints the comparison.</li>
+ * </ol>
+ *
+ * <p>Run with {@code ./gradlew :modules:gateway:loadTest -Dloadtest.rps=300 -Dloadtest.baseline=...};
+ * all settings are listed on {@link LoadTestConfig}.</p>
+ */
+public final class GatewayLoadTest {
+
+    private GatewayLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        ObjectMapper objectMapper = new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+        List<LoadOperation> mix = resolveMix(config);
+        int[] weights = LoadGenerator.cumulativeWeights(mix, config.mix());
+
+        PostgreSQLContainer<?> postgres = config.jdbcUrl().isBlank()
+                ? new PostgreSQLContainer<>("postgres:latest")
+                        .withDatabaseName("gateway_loadtest")
+                        .withUsername("test")
+                        .withPassword("test")
+                : null;
+
+        boolean regressed = false;
+        try (StubDownstreams stubs = new StubDownstreams(config)) {
+            stubs.start();
+            if (postgres != null) {
+                postgres.start();
+            }
+
+            try (ConfigurableApplicationContext gateway = new SpringApplicationBuilder(GatewayApplication.class)
+                    .properties(applicationProperties(config, stubs, postgres))
+                    .run()) {
+
+                String port = gateway.getEnvironment().getRequiredProperty("local.server.port");
+                URI graphqlUri = URI.create("http://localhost:" + port + "/api/graphql");
+                LoadGenerator generator = new LoadGenerator(config, graphqlUri, objectMapper);
+
+                log("warm-up %ds at %d rps", config.warmup().toSeconds(), config.rps());
+                generator.runOpenLoop(mix, weights, config.warmup());
+
+                Map<String, LoadGenerator.Calibration> calibrations = new TreeMap<>();
+                for (LoadOperation op : mix) {
+                    LoadGenerator.Calibration calibration = generator.calibrate(op, config.calibrationRequests(), stubs);
+                    calibrations.put(op.name(), calibration);
+                    log("calibrated %s: %s", op.name(), calibration);
+                }
+
+                log("measuring %ds at %d rps", config.duration().toSeconds(), config.rps());
+                long started = System.nanoTime();
+                Map<String, OperationStats> stats = generator.runOpenLoop(mix, weights, config.duration());
+                double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+                LoadReport report = new LoadReport(config, stats, calibrations, elapsedSeconds);
+                report.write(objectMapper, config.report());
+                log("report written to %s", config.report().toAbsolutePath());
+                stats.forEach((name, s) -> log("%-18s count=%d errors=%d p50=%dus p99=%dus max=%dus",
+                        name, s.count(), s.errors(),
+                        s.latencyMicros().getValueAtPercentile(50),
+                        s.latencyMicros().getValueAtPercentile(99),
+                        s.latencyMicros().getMaxValue()));
+
+                if (config.baseline() != null) {
+                    List<String> diff = report.compareWith(objectMapper, config.baseline(), config.tolerance());
+                    log("comparison with baseline %s (tolerance %.0f%%):", config.baseline(), config.tolerance() * 100);
+                    diff.forEach(line -> System.out.println("  " + line));
+
+                    regressed = diff.stream().anyMatch(line -> line.startsWith("REGRESSION"));
+                }
+            }
+        } finally {
+            if (postgres != null) {
+                postgres.stop();
+            }
+        }
+
+        if (regressed && config.failOnRegression()) {
+            System.exit(1);
+        }
+    }
+
+    private static List<LoadOperation> resolveMix(LoadTestConfig config) {
+        Map<String, LoadOperation> catalog = LoadOperation.catalog();
+        List<LoadOperation> mix = new ArrayList<>();
+        for (String name : config.mix().keySet()) {
+            LoadOperation op = catalog.get(name);
+            if (op == null) {
+                throw new IllegalArgumentException("Unknown operation '%s' in loadtest.mix, known: %s"
+                        .formatted(name, new TreeMap<>(catalog).keySet()));
+            }
+            mix.add(op);
+        }
+        return mix;
+    }
+
+    private static Map<String, Object> applicationProperties(LoadTestConfig config,
+                                                             StubDownstreams stubs,
+                                             PostgreSQLContainer<?> postgres) {
+        Map<String, Object> props = new LinkedHashMap<>();
+        props.put("server.port", 0);
+        props.put("services.order.base-url", stubs.orderBaseUrl());
+        props.put("services.inventory.base-url", stubs.inventoryBaseUrl());
+        props.put("services.payment.base-url", stubs.paymentBaseUrl());
+        props.put("spring.graphql.graphiql.enabled", false);
+        props.put("logging.level.root", "WARN");
+
+        if (postgres != null) {
+            props.put("spring.datasource.url", postgres.getJdbcUrl());
+            props.put("spring.datasource.username", postgres.getUsername());
+            props.put("spring.datasource.password", postgres.getPassword());
+        } else {
+            props.put("spring.datasource.url", config.jdbcUrl());
+        }
+
+        // Explicit overrides win, e.g. -Dloadtest.app.gateway.execution.virtual-threads=true
+        props.putAll(config.appProperties());
+        return props;
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.printf("[loadtest] " + format + "%n", args);
+    }
+}
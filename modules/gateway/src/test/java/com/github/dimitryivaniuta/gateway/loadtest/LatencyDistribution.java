@@ -0,0 +1,39 @@
+package com.github.dimitryivaniuta.gateway.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Response latency model of a stub downstream.
+ *
+ * <p>Spec syntax (milliseconds):
+ * <ul>
+ *   <li>{@code fixed:5}</li>
+ *   <li>{@code uniform:2:20}</li>
+ *   <li>{@code lognormal:8:0.6} – median 8 ms, sigma 0.6 (long right tail, typical for real services)</li>
+ * </ul>
+ */
+interface LatencyDistribution {
+
+    long nextMillis();
+
+    static LatencyDistribution parse(String spec) {
+        String[] parts = spec.trim().split(":");
+        return switch (parts[0]) {
+            case "fixed" -> {
+                long ms = Long.parseLong(parts[1]);
+                yield () -> ms;
+            }
+            case "uniform" -> {
+                long min = Long.parseLong(parts[1]);
+                long max = Long.parseLong(parts[2]);
+                yield () -> ThreadLocalRandom.current().nextLong(min, max + 1);
+            }
+            case "lognormal" -> {
+                double mu = Math.log(Double.parseDouble(parts[1]));
+                double sigma = Double.parseDouble(parts[2]);
+                yield () -> Math.round(Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian()));
+            }
+            default -> throw new IllegalArgumentException("Unknown latency distribution: " + spec);
+        };
+    }
+}
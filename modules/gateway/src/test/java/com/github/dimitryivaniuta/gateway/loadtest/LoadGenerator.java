@@ -0,0 +1,197 @@
+package com.github.dimitryivaniuta.gateway.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives the gateway over HTTP.
+ *
+ * <ul>
+ *   <li>{@link #runOpenLoop} fires requests at a fixed arrival rate, one virtual thread per
+ *       request, regardless of how fast the gateway answers (open-loop model).</li>
+ *   <li>{@link #calibrate} sends one operation sequentially and attributes downstream calls,
+ *       CPU and allocation to it; in the mixed open-loop run these cannot be split per operation.</li>
+ * </ul>
+ */
+final class LoadGenerator {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestConfig config;
+    private final URI graphqlUri;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+
+    LoadGenerator(LoadTestConfig config, URI graphqlUri, ObjectMapper objectMapper) {
+        this.config = config;
+        this.graphqlUri = graphqlUri;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * Run the weighted mix at {@code config.rps()} for {@code duration}.
+     *
+     * @return stats per operation name
+     */
+    Map<String, OperationStats> runOpenLoop(List<LoadOperation> mix, int[] cumulativeWeights, Duration duration) {
+        Map<String, OperationStats> stats = new TreeMap<>();
+        mix.forEach(op -> stats.put(op.name(), new OperationStats()));
+
+        long intervalNanos = 1_000_000_000L / Math.max(1, config.rps());
+        long durationNanos = duration.toNanos();
+        int totalWeight = cumulativeWeights[cumulativeWeights.length - 1];
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            long start = System.nanoTime();
+            for (long i = 0; ; i++) {
+                long intendedAt = start + i * intervalNanos;
+                if (intendedAt - start >= durationNanos) {
+                    break;
+                }
+                long wait = intendedAt - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                LoadOperation op = pick(mix, cumulativeWeights, ThreadLocalRandom.current().nextInt(totalWeight));
+                OperationStats sink = stats.get(op.name());
+                clients.submit(() -> {
+                    boolean ok = send(op);
+                    sink.record(System.nanoTime() - intendedAt, ok);
+                });
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Send {@code requests} instances of one operation back to back and attribute the
+     * downstream calls, process CPU time and heap allocation to it.
+     */
+    Calibration calibrate(LoadOperation op, int requests, StubDownstreams stubs) {
+        com.sun.management.OperatingSystemMXBean os =
+                (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        Map<String, Long> callsBefore = stubs.snapshot();
+        long cpuBefore = os.getProcessCpuTime();
+        long allocBefore = threads.getTotalThreadAllocatedBytes();
+        int errors = 0;
+
+        for (int i = 0; i < requests; i++) {
+            if (!send(op)) {
+                errors++;
+            }
+        }
+
+        long cpuNanos = os.getProcessCpuTime() - cpuBefore;
+        long allocBytes = threads.getTotalThreadAllocatedBytes() - allocBefore;
+        Map<String, Long> callsAfter = stubs.snapshot();
+
+        Map<String, Double> callsPerRequest = new TreeMap<>();
+        callsAfter.forEach((key, after) -> {
+            long delta = after - callsBefore.getOrDefault(key, 0L);
+            if (delta > 0) {
+                callsPerRequest.put(key, (double) delta / requests);
+            }
+        });
+
+        return new Calibration(
+                callsPerRequest,
+                cpuNanos / 1_000.0 / requests,
+                (double) allocBytes / requests,
+                errors);
+    }
+
+    static int[] cumulativeWeights(List<LoadOperation> mix, Map<String, Integer> weights) {
+        int[] cumulative = new int[mix.size()];
+        int sum = 0;
+        for (int i = 0; i < mix.size(); i++) {
+            sum += Math.max(0, weights.get(mix.get(i).name()));
+            cumulative[i] = sum;
+        }
+        if (sum == 0) {
+            throw new IllegalArgumentException("loadtest.mix has no positive weight");
+        }
+        return cumulative;
+    }
+
+    private static LoadOperation pick(List<LoadOperation> mix, int[] cumulativeWeights, int roll) {
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return mix.get(i);
+            }
+        }
+        return mix.get(mix.size() - 1);
+    }
+
+    /**
+     * @return {@code true} for HTTP 200 without GraphQL {@code errors}
+     */
+    private boolean send(LoadOperation op) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(graphqlUri)
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .header("Accept", "application/graphql-response+json, application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(body(op)))
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            return response.statusCode() == 200 && !response.body().contains("\"errors\"");
+        } catch (IOException ex) {
+            return false;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private byte[] body(LoadOperation op) throws JsonProcessingException {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("operationName", operationName(op.document()));
+        payload.put("query", op.document());
+        payload.put("variables", op.variables().apply(config));
+        return objectMapper.writeValueAsBytes(payload);
+    }
+
+    private static String operationName(String document) {
+        String[] tokens = document.trim().split("[\\s($]+", 3);
+        return tokens.length > 1 ? tokens[1] : null;
+    }
+
+    /**
+     * Per-request cost of one operation, measured in isolation.
+     *
+     * <p>CPU and allocation are process-wide and therefore include the harness client and the
+     * stub servers; they are meant for comparing two runs, not as absolute gateway cost.</p>
+     */
+    record Calibration(
+            Map<String, Double> downstreamCallsPerRequest,
+            double cpuMicrosPerRequest,
+            double allocBytesPerRequest,
+            int errors
+    ) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.github.dimitryivaniuta.gateway.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * A GraphQL operation in the load mix: document plus a variables generator.
+ */
+record LoadOperation(
+        String name,
+        String document,
+        Function<LoadTestConfig, Map<String, Object>> variables
+) {
+
+    /**
+     * Operations known to the harness, selected by name in {@code loadtest.mix}.
+     */
+    static Map<String, LoadOperation> catalog() {
+        return Map.of(
+                "ordersById", new LoadOperation("ordersById", """
+                        query OrdersById($ids: [ID!]!) {
+                          orders(ids: $ids) { id externalId status createdAt }
+                        }""", LoadOperation::randomIds),
+                "ordersWithDetails", new LoadOperation("ordersWithDetails", """
+                        query OrdersWithDetails($ids: [ID!]!) {
+                          orders(ids: $ids) {
+                            id status createdAt
+                            inventoryItems { id sku name availableQuantity }
+                            payments { id status provider createdAt }
+                          }
+                        }""", LoadOperation::randomIds),
+                "inventoryItems", new LoadOperation("inventoryItems", """
+                        query InventoryItems($ids: [ID!]!) {
+                          inventoryItems(ids: $ids) { id sku name description availableQuantity reservedQuantity }
+                        }""", LoadOperation::randomIds)
+        );
+    }
+
+    private static Map<String, Object> randomIds(LoadTestConfig config) {
+        List<String> ids = new ArrayList<>(config.idsPerRequest());
+        for (int i = 0; i < config.idsPerRequest(); i++) {
+            ids.add(UUID.randomUUID().toString());
+        }
+        return Map.of("ids", ids);
+    }
+}
@@ -0,0 +1,163 @@
+package com.github.dimitryivaniuta.gateway.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Load-test report: a JSON document with sorted keys so two reports diff cleanly, and
+ * a comparison against a saved baseline report.
+ *
+ * <pre>
+ * {
+ *   "config":     { ... workload settings ... },
+ *   "summary":    { "requests", "errors", "achievedRps" },
+ *   "operations": {
+ *     "ordersById": {
+ *       "count", "errors",
+ *       "latencyMicros": { "p50", "p90", "p99", "p999", "max", "mean" },
+ *       "downstreamCallsPerRequest": { "order GET /internal/orders": 1.0 },
+ *       "cpuMicrosPerRequest", "allocBytesPerRequest"
+ *     }
+ *   }
+ * }
+ * </pre>
+ */
+final class LoadReport {
+
+    /**
+     * Metrics compared against the baseline; for all of them higher is worse.
+     */
+    private static final List<String> COMPARED_METRICS = List.of(
+            "latencyMicros.p50",
+            "latencyMicros.p99",
+            "cpuMicrosPerRequest",
+            "allocBytesPerRequest",
+            "downstreamCalls"
+    );
+
+    private final Map<String, Object> root = new TreeMap<>();
+
+    LoadReport(LoadTestConfig config,
+               Map<String, OperationStats> stats,
+               Map<String, LoadGenerator.Calibration> calibrations,
+               double elapsedSeconds) {
+
+        long requests = 0;
+        long errors = 0;
+        Map<String, Object> operations = new TreeMap<>();
+        for (Map.Entry<String, OperationStats> entry : stats.entrySet()) {
+            OperationStats s = entry.getValue();
+            requests += s.count();
+            errors += s.errors();
+
+            Map<String, Object> op = new TreeMap<>();
+            op.put("count", s.count());
+            op.put("errors", s.errors());
+            op.put("latencyMicros", latency(s.latencyMicros()));
+
+            LoadGenerator.Calibration calibration = calibrations.get(entry.getKey());
+            if (calibration != null) {
+                op.put("downstreamCallsPerRequest", calibration.downstreamCallsPerRequest());
+                op.put("downstreamCalls", calibration.downstreamCallsPerRequest().values().stream()
+                        .mapToDouble(Double::doubleValue).sum());
+                op.put("cpuMicrosPerRequest", round(calibration.cpuMicrosPerRequest()));
+                op.put("allocBytesPerRequest", Math.round(calibration.allocBytesPerRequest()));
+                op.put("calibrationErrors", calibration.errors());
+            }
+            operations.put(entry.getKey(), op);
+        }
+
+        Map<String, Object> summary = new TreeMap<>();
+        summary.put("requests", requests);
+        summary.put("errors", errors);
+        summary.put("achievedRps", round(requests / Math.max(elapsedSeconds, 0.001)));
+
+        root.put("config", config.describe());
+        root.put("summary", summary);
+        root.put("operations", operations);
+    }
+
+    void write(ObjectMapper objectMapper, Path target) throws IOException {
+        Path parent = target.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        objectMapper.writeValue(target.toFile(), root);
+    }
+
+    /**
+     * Compare with a baseline report.
+     *
+     * @return human-readable lines; lines of metrics worse by more than {@code tolerance} start with {@code REGRESSION}
+     */
+    List<String> compareWith(ObjectMapper objectMapper, Path baselinePath, double tolerance) throws IOException {
+        JsonNode baseline = objectMapper.readTree(baselinePath.toFile());
+        JsonNode current = objectMapper.valueToTree(root);
+        List<String> lines = new ArrayList<>();
+
+        if (!baseline.path("config").equals(current.path("config"))) {
+            lines.add("WARNING workload config differs from baseline; comparison may be meaningless");
+        }
+
+        for (Map.Entry<String, JsonNode> op : current.path("operations").properties()) {
+            JsonNode base = baseline.path("operations").path(op.getKey());
+            if (base.isMissingNode()) {
+                lines.add("NEW        " + op.getKey());
+                continue;
+            }
+            for (String metric : COMPARED_METRICS) {
+                double before = at(base, metric);
+                double after = at(op.getValue(), metric);
+                if (Double.isNaN(before) || Double.isNaN(after)) {
+                    continue;
+                }
+                double change = before == 0 ? (after == 0 ? 0 : 1) : (after - before) / before;
+                String marker = change > tolerance ? "REGRESSION" : change < -tolerance ? "IMPROVED  " : "          ";
+                lines.add("%s %-18s %-22s %12.1f -> %12.1f (%+.1f%%)".formatted(
+                        marker, op.getKey(), metric, before, after, change * 100));
+            }
+        }
+
+        double rpsBefore = baseline.path("summary").path("achievedRps").asDouble(Double.NaN);
+        double rpsAfter = current.path("summary").path("achievedRps").asDouble(Double.NaN);
+        if (!Double.isNaN(rpsBefore) && rpsBefore > 0) {
+            double change = (rpsAfter - rpsBefore) / rpsBefore;
+            String marker = change < -tolerance ? "REGRESSION" : "          ";
+            lines.add("%s %-18s %-22s %12.1f -> %12.1f (%+.1f%%)".formatted(
+                    marker, "summary", "achievedRps", rpsBefore, rpsAfter, change * 100));
+        }
+        return lines;
+    }
+
+    private static Map<String, Object> latency(Histogram h) {
+        Map<String, Object> out = new TreeMap<>();
+        out.put("p50", h.getValueAtPercentile(50));
+        out.put("p90", h.getValueAtPercentile(90));
+        out.put("p99", h.getValueAtPercentile(99));
+        out.put("p999", h.getValueAtPercentile(99.9));
+        out.put("max", h.getMaxValue());
+        out.put("mean", round(h.getMean()));
+        return out;
+    }
+
+    private static double at(JsonNode node, String dottedPath) {
+        JsonNode current = node;
+        for (String part : dottedPath.split("\\.")) {
+            current = current.path(part);
+        }
+        return current.isNumber() ? current.asDouble() : Double.NaN;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
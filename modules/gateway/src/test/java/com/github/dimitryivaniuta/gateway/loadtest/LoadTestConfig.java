@@ -0,0 +1,131 @@
+package com.github.dimitryivaniuta.gateway.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Load harness settings, read from {@code loadtest.*} system properties.
+ *
+ * <pre>
+ * loadtest.rps=200                     # target arrival rate (open loop)
+ * loadtest.duration=60s
+ * loadtest.warmup=15s
+ * loadtest.calibration-requests=200    # sequential requests per operation for cost attribution
+ * loadtest.mix=ordersById:50,ordersWithDetails:30,inventoryItems:20
+ * loadtest.ids-per-request=10
+ * loadtest.items-per-order=3           # inventory rows per order returned by the stub
+ * loadtest.payments-per-order=1
+ * loadtest.padding-bytes=0             # extra bytes in every description/provider field
+ * loadtest.latency.order=lognormal:8:0.5
+ * loadtest.latency.inventory=lognormal:10:0.5
+ * loadtest.latency.payment=lognormal:12:0.6
+ * loadtest.jdbc-url=                   # empty = start a PostgreSQL Testcontainer
+ * loadtest.report=build/loadtest/report.json
+ * loadtest.baseline=                   # previous report to diff against
+ * loadtest.tolerance=0.10              # relative change flagged as regression
+ * loadtest.fail-on-regression=false
+ * loadtest.app.*                       # passed to the gateway as application properties
+ * </pre>
+ */
+record LoadTestConfig(
+        int rps,
+        Duration duration,
+        Duration warmup,
+        int calibrationRequests,
+        Map<String, Integer> mix,
+        int idsPerRequest,
+        int itemsPerOrder,
+        int paymentsPerOrder,
+        int paddingBytes,
+        String orderLatency,
+        String inventoryLatency,
+        String paymentLatency,
+        String jdbcUrl,
+        Path report,
+        Path baseline,
+        double tolerance,
+        boolean failOnRegression,
+        Map<String, String> appProperties
+) {
+
+    private static final String PREFIX = "loadtest.";
+    private static final String APP_PREFIX = PREFIX + "app.";
+
+    static LoadTestConfig fromSystemProperties() {
+        Map<String, String> app = new LinkedHashMap<>();
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith(APP_PREFIX))
+                .sorted()
+                .forEach(name -> app.put(name.substring(APP_PREFIX.length()), System.getProperty(name)));
+
+        String baseline = get("baseline", "");
+        return new LoadTestConfig(
+                Integer.parseInt(get("rps", "200")),
+                duration(get("duration", "60s")),
+                duration(get("warmup", "15s")),
+                Integer.parseInt(get("calibration-requests", "200")),
+                parseMix(get("mix", "ordersById:50,ordersWithDetails:30,inventoryItems:20")),
+                Integer.parseInt(get("ids-per-request", "10")),
+                Integer.parseInt(get("items-per-order", "3")),
+                Integer.parseInt(get("payments-per-order", "1")),
+                Integer.parseInt(get("padding-bytes", "0")),
+                get("latency.order", "lognormal:8:0.5"),
+                get("latency.inventory", "lognormal:10:0.5"),
+                get("latency.payment", "lognormal:12:0.6"),
+                get("jdbc-url", ""),
+                Path.of(get("report", "build/loadtest/report.json")),
+                baseline.isBlank() ? null : Path.of(baseline),
+                Double.parseDouble(get("tolerance", "0.10")),
+                Boolean.parseBoolean(get("fail-on-regression", "false")),
+                app
+        );
+    }
+
+    /**
+     * Settings that shape the workload; recorded in the report so two reports are only
+     * compared when they describe the same experiment.
+     */
+    Map<String, Object> describe() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("rps", rps);
+        out.put("durationSeconds", duration.toSeconds());
+        out.put("warmupSeconds", warmup.toSeconds());
+        out.put("mix", mix);
+        out.put("idsPerRequest", idsPerRequest);
+        out.put("itemsPerOrder", itemsPerOrder);
+        out.put("paymentsPerOrder", paymentsPerOrder);
+        out.put("paddingBytes", paddingBytes);
+        out.put("latency", Map.of("order", orderLatency, "inventory", inventoryLatency, "payment", paymentLatency));
+        out.put("app", appProperties);
+        return out;
+    }
+
+    private static String get(String key, String defaultValue) {
+        return System.getProperty(PREFIX + key, defaultValue);
+    }
+
+    private static Duration duration(String value) {
+        String v = value.trim().toLowerCase();
+        if (v.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(v.substring(0, v.length() - 2)));
+        }
+        if (v.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(v.substring(0, v.length() - 1)));
+        }
+        if (v.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(v.substring(0, v.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(v));
+    }
+
+    private static Map<String, Integer> parseMix(String spec) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (String entry : spec.split(",")) {
+            String[] kv = entry.trim().split(":");
+            mix.put(kv[0], kv.length > 1 ? Integer.parseInt(kv[1]) : 1);
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,41 @@
+package com.github.dimitryivaniuta.gateway.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and outcome counters of one operation during the measured phase.
+ *
+ * <p>Latencies are recorded in microseconds from the <em>intended</em> send time, so
+ * queueing inside the harness or the gateway is not hidden (no coordinated omission).</p>
+ */
+final class OperationStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Histogram latencyMicros = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+
+    void record(long latencyNanos, boolean success) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS);
+        latencyMicros.recordValue(micros);
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    Histogram latencyMicros() {
+        return latencyMicros;
+    }
+
+    long count() {
+        return latencyMicros.getTotalCount();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+}
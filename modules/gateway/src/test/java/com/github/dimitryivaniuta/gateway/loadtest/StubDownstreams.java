@@ -0,0 +1,208 @@
+package com.github.dimitryivaniuta.gateway.loadtest;
+
+import com.github.dimitryivaniuta.gateway.common.id.UuidListCodec;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process stand-ins for order-, inventory- and payment-service.
+ *
+ * <p>Each service is a {@link MockWebServer} answering the {@code /internal/*} read endpoints
+ * the gateway calls, with a synthetic payload whose size is driven by {@link LoadTestConfig}
+ * and a response delay drawn from the configured {@link LatencyDistribution}.
+ * Every call is counted per {@code service METHOD path}.</p>
+ */
+final class StubDownstreams implements AutoCloseable {
+
+    private static final String CREATED_AT = "2025-01-15T10:30:00Z";
+
+    private final LoadTestConfig config;
+    private final String padding;
+    private final Map<String, LongAdder> calls = new ConcurrentHashMap<>();
+
+    private final MockWebServer order = new MockWebServer();
+    private final MockWebServer inventory = new MockWebServer();
+    private final MockWebServer payment = new MockWebServer();
+
+    StubDownstreams(LoadTestConfig config) {
+        this.config = config;
+        this.padding = "x".repeat(config.paddingBytes());
+    }
+
+    void start() throws IOException {
+        order.setDispatcher(new StubDispatcher("order", LatencyDistribution.parse(config.orderLatency())));
+        inventory.setDispatcher(new StubDispatcher("inventory", LatencyDistribution.parse(config.inventoryLatency())));
+        payment.setDispatcher(new StubDispatcher("payment", LatencyDistribution.parse(config.paymentLatency())));
+        order.start();
+        inventory.start();
+        payment.start();
+    }
+
+    String orderBaseUrl() {
+        return baseUrl(order);
+    }
+
+    String inventoryBaseUrl() {
+        return baseUrl(inventory);
+    }
+
+    String paymentBaseUrl() {
+        return baseUrl(payment);
+    }
+
+    /**
+     * Snapshot of the call counters, sorted by key.
+     */
+    Map<String, Long> snapshot() {
+        Map<String, Long> out = new TreeMap<>();
+        calls.forEach((key, count) -> out.put(key, count.sum()));
+        return out;
+    }
+
+    @Override
+    public void close() throws IOException {
+        order.shutdown();
+        inventory.shutdown();
+        payment.shutdown();
+    }
+
+    private static String baseUrl(MockWebServer server) {
+        String url = server.url("/").toString();
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    // -------------------------------------------------------------------------
+    // Dispatch
+    // -------------------------------------------------------------------------
+
+    private final class StubDispatcher extends Dispatcher {
+
+        private final String service;
+        private final LatencyDistribution latency;
+
+        private StubDispatcher(String service, LatencyDistribution latency) {
+            this.service = service;
+            this.latency = latency;
+        }
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request) {
+            String path = request.getRequestUrl() != null ? request.getRequestUrl().encodedPath() : "?";
+            calls.computeIfAbsent(service + " " + request.getMethod() + " " + path, k -> new LongAdder())
+                    .increment();
+
+            String body = switch (path) {
+                case "/internal/orders" -> orders(ids(request, "ids"));
+                case "/internal/orders:batchGet" -> orders(UuidListCodec.fromBytes(request.getBody().readByteArray()));
+                case "/internal/inventory" -> inventoryItems(ids(request, "ids"));
+                case "/internal/payments" -> payments(ids(request, "ids"), false);
+                case "/internal/inventory/by-orders" -> inventoryByOrders(ids(request, "orderIds"));
+                case "/internal/payments/by-orders" -> payments(ids(request, "orderIds"), true);
+                default -> null;
+            };
+            if (body == null) {
+                return new MockResponse().setResponseCode(404);
+            }
+            return new MockResponse()
+                    .setHeadersDelay(latency.nextMillis(), TimeUnit.MILLISECONDS)
+                    .setResponseCode(200)
+                    .addHeader("Content-Type", "application/json")
+                    .setBody(body);
+        }
+
+        private List<UUID> ids(RecordedRequest request, String name) {
+            String value = request.getRequestUrl() != null ? request.getRequestUrl().queryParameter(name) : null;
+            return value == null ? List.of() : UuidListCodec.parse(value);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Payloads (shape of the downstream DTOs the gateway deserializes)
+    // -------------------------------------------------------------------------
+
+    private String orders(List<UUID> ids) {
+        StringBuilder sb = new StringBuilder(ids.size() * 256).append('[');
+        for (UUID id : ids) {
+            if (sb.length() > 1) {
+                sb.append(',');
+            }
+            sb.append("{\"id\":\"").append(id)
+                    .append("\",\"externalId\":\"ext-").append(id.toString(), 0, 8).append(padding)
+                    .append("\",\"status\":\"CONFIRMED\",\"customerId\":\"").append(id)
+                    .append("\",\"total\":{\"amount\":120.50,\"currency\":\"EUR\"}")
+                    .append(",\"createdAt\":\"").append(CREATED_AT)
+                    .append("\",\"updatedAt\":\"").append(CREATED_AT).append("\"}");
+        }
+        return sb.append(']').toString();
+    }
+
+    private String inventoryItems(List<UUID> ids) {
+        StringBuilder sb = new StringBuilder(ids.size() * 256).append('[');
+        for (UUID id : ids) {
+            if (sb.length() > 1) {
+                sb.append(',');
+            }
+            appendInventoryItem(sb, null, id);
+        }
+        return sb.append(']').toString();
+    }
+
+    private String inventoryByOrders(List<UUID> orderIds) {
+        StringBuilder sb = new StringBuilder(orderIds.size() * config.itemsPerOrder() * 256).append('[');
+        for (UUID orderId : orderIds) {
+            for (int i = 0; i < config.itemsPerOrder(); i++) {
+                if (sb.length() > 1) {
+                    sb.append(',');
+                }
+                appendInventoryItem(sb, orderId, UUID.randomUUID());
+            }
+        }
+        return sb.append(']').toString();
+    }
+
+    private void appendInventoryItem(StringBuilder sb, UUID orderId, UUID id) {
+        sb.append('{');
+        if (orderId != null) {
+            sb.append("\"orderId\":\"").append(orderId).append("\",");
+        }
+        sb.append("\"id\":\"").append(id)
+                .append("\",\"sku\":\"SKU-").append(id.toString(), 0, 8)
+                .append("\",\"name\":\"Item ").append(id.toString(), 0, 8)
+                .append("\",\"description\":\"Synthetic item").append(padding)
+                .append("\",\"availableQuantity\":42,\"reservedQuantity\":3")
+                .append(",\"updatedAt\":\"").append(CREATED_AT).append("\"}");
+    }
+
+    private String payments(List<UUID> ids, boolean byOrder) {
+        int perKey = byOrder ? config.paymentsPerOrder() : 1;
+        StringBuilder sb = new StringBuilder(ids.size() * perKey * 256).append('[');
+        for (UUID key : ids) {
+            for (int i = 0; i < perKey; i++) {
+                if (sb.length() > 1) {
+                    sb.append(',');
+                }
+                UUID id = byOrder ? UUID.randomUUID() : key;
+                UUID orderId = byOrder ? key : UUID.randomUUID();
+                sb.append("{\"id\":\"").append(id)
+                        .append("\",\"orderId\":\"").append(orderId)
+                        .append("\",\"status\":\"CAPTURED\"")
+                        .append(",\"total\":{\"amount\":120.50,\"currency\":\"EUR\"}")
+                        .append(",\"provider\":\"stripe").append(padding)
+                        .append("\",\"createdAt\":\"").append(CREATED_AT)
+                        .append("\",\"updatedAt\":\"").append(CREATED_AT).append("\"}");
+            }
+        }
+        return sb.append(']').toString();
+    }
+}
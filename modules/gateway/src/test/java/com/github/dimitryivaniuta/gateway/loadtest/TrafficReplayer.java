@@ -0,0 +1,315 @@
+package com.github.dimitryivaniuta.gateway.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Replays traffic captured by {@code TrafficCaptureInterceptor} against a running gateway.
+ *
+ * <p>Records ({@code traffic-*.jsonl} / {@code traffic-*.jsonl.gz}) are replayed in timestamp
+ * order. Variables are regenerated from their recorded pseudonyms, one stable value per
+ * pseudonym (strings become UUIDs, which is what almost all gateway arguments are); masked
+ * string and number literals in documents are sent as captured.</p>
+ *
+ * <pre>
+ * replay.input=./capture                       # file or directory
+ * replay.target=http://localhost:8080/api/graphql
+ * replay.speed=1.0                             # 1 = recorded pacing, 4 = 4x faster, 0 = as fast as possible
+ * replay.max-in-flight=256
+ * replay.header.X-API-Key=...                  # extra request headers
+ * replay.report=build/replay/report.json       # optional
+ * </pre>
+ *
+ * <p>Run with {@code ./gradlew :modules:gateway:replayTraffic -Dreplay.input=...}.</p>
+ */
+public final class TrafficReplayer {
+
+    private static final String PREFIX = "replay.";
+    private static final String HEADER_PREFIX = PREFIX + "header.";
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    private final Map<String, Histogram> replayedMicros = new ConcurrentHashMap<>();
+    private final Map<String, Histogram> recordedMicros = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final Map<String, Object> generatedByPseudonym = new ConcurrentHashMap<>();
+
+    private TrafficReplayer() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String input = System.getProperty(PREFIX + "input");
+        if (input == null || input.isBlank()) {
+            throw new IllegalArgumentException("replay.input (capture file or directory) is required");
+        }
+        new TrafficReplayer().run(
+                Path.of(input),
+                URI.create(System.getProperty(PREFIX + "target", "http://localhost:8080/api/graphql")),
+                Double.parseDouble(System.getProperty(PREFIX + "speed", "1.0")),
+                Integer.parseInt(System.getProperty(PREFIX + "max-in-flight", "256")),
+                headers(),
+                System.getProperty(PREFIX + "report", ""));
+    }
+
+    private void run(Path input, URI target, double speed, int maxInFlight,
+                     Map<String, String> headers, String report) throws Exception {
+        List<JsonNode> records = load(input);
+        if (records.isEmpty()) {
+            System.out.println("[replay] no records found in " + input.toAbsolutePath());
+            return;
+        }
+        System.out.printf("[replay] %d records, target=%s, speed=%s%n", records.size(), target,
+                speed > 0 ? speed + "x" : "max");
+
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long firstTs = records.get(0).path("ts").asLong();
+        long started = System.nanoTime();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (JsonNode record : records) {
+                if (speed > 0) {
+                    long offsetNanos = (long) (TimeUnit.MILLISECONDS.toNanos(record.path("ts").asLong() - firstTs) / speed);
+                    long wait = started + offsetNanos - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                }
+                inFlight.acquire();
+                clients.submit(() -> {
+                    try {
+                        replay(record, target, headers);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+
+        double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        Map<String, Object> summary = summary(records.size(), elapsedSeconds);
+        System.out.println(objectMapper.writeValueAsString(summary));
+        if (!report.isBlank()) {
+            Path reportPath = Path.of(report);
+            Path parent = reportPath.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            objectMapper.writeValue(reportPath.toFile(), summary);
+        }
+    }
+
+    private void replay(JsonNode record, URI target, Map<String, String> headers) {
+        String key = operationKey(record);
+        long started = System.nanoTime();
+        boolean ok;
+        try {
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("operationName", textOrNull(record, "operationName"));
+            String document = textOrNull(record, "document");
+            payload.put("query", document != null ? document : "");
+            payload.put("variables", regenerate(record.path("variables")));
+            String persistedId = textOrNull(record, "persistedQueryId");
+            if (persistedId != null) {
+                payload.put("extensions", Map.of("persistedQueryId", persistedId));
+            }
+
+            HttpRequest.Builder request = HttpRequest.newBuilder(target)
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(payload)));
+            headers.forEach(request::header);
+
+            HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            ok = response.statusCode() == 200 && !response.body().contains("\"errors\"");
+        } catch (IOException ex) {
+            ok = false;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            ok = false;
+        }
+
+        histogram(replayedMicros, key).recordValue(
+                Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - started), HIGHEST_TRACKABLE_MICROS));
+        histogram(recordedMicros, key).recordValue(
+                Math.min(record.path("durationMicros").asLong(), HIGHEST_TRACKABLE_MICROS));
+        if (!ok) {
+            errors.computeIfAbsent(key, k -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Rebuild variable values from what {@code QueryAnonymizer#pseudonymsOf} recorded. Each
+     * pseudonym always maps to the same generated value, so repeated keys in the capture stay
+     * repeated in the replay. Shapes from older captures ({@code "String"}, {@code "@list"})
+     * still get a fresh value each time.
+     */
+    private Object regenerate(JsonNode recorded) {
+        if (recorded == null || recorded.isMissingNode() || recorded.isNull()) {
+            return null;
+        }
+        if (recorded.isTextual()) {
+            String text = recorded.asText();
+            int hash = text.indexOf('#');
+            if (hash > 0) {
+                return generatedByPseudonym.computeIfAbsent(text, p -> generate(p.substring(0, hash), p));
+            }
+            return generate(text, UUID.randomUUID().toString());
+        }
+        if (recorded.isArray()) {
+            List<Object> list = new ArrayList<>(recorded.size());
+            recorded.forEach(element -> list.add(regenerate(element)));
+            return list;
+        }
+        if (recorded.has("@list")) {
+            int size = recorded.path("@list").asInt();
+            List<Object> list = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                list.add(regenerate(recorded.path("@of")));
+            }
+            return list;
+        }
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (Map.Entry<String, JsonNode> field : recorded.properties()) {
+            map.put(field.getKey(), regenerate(field.getValue()));
+        }
+        return map;
+    }
+
+    /**
+     * A value of {@code type} derived from {@code seed}: strings become name-based UUIDs, which
+     * is what almost all gateway arguments are; numbers land in 1..100 (magnitudes are not kept).
+     */
+    private static Object generate(String type, String seed) {
+        UUID uuid = UUID.nameUUIDFromBytes(seed.getBytes(StandardCharsets.UTF_8));
+        return switch (type) {
+            case "String" -> uuid.toString();
+            case "Int" -> 1 + (int) Math.floorMod(uuid.getLeastSignificantBits(), 100L);
+            case "Float" -> 1.0 + Math.floorMod(uuid.getLeastSignificantBits(), 100L);
+            case "Boolean" -> Boolean.TRUE;
+            default -> null;
+        };
+    }
+
+    private Map<String, Object> summary(int total, double elapsedSeconds) {
+        Map<String, Object> operations = new TreeMap<>();
+        replayedMicros.forEach((key, replayed) -> {
+            Histogram recorded = recordedMicros.get(key);
+            Map<String, Object> op = new TreeMap<>();
+            op.put("count", replayed.getTotalCount());
+            op.put("errors", errors.getOrDefault(key, new LongAdder()).sum());
+            op.put("replayedP50Micros", replayed.getValueAtPercentile(50));
+            op.put("replayedP99Micros", replayed.getValueAtPercentile(99));
+            op.put("recordedP50Micros", recorded.getValueAtPercentile(50));
+            op.put("recordedP99Micros", recorded.getValueAtPercentile(99));
+            operations.put(key, op);
+        });
+
+        Map<String, Object> summary = new TreeMap<>();
+        summary.put("records", total);
+        summary.put("elapsedSeconds", Math.round(elapsedSeconds * 100.0) / 100.0);
+        summary.put("operations", operations);
+        return summary;
+    }
+
+    private static List<JsonNode> load(Path input) throws IOException {
+        List<Path> files;
+        if (Files.isDirectory(input)) {
+            try (Stream<Path> list = Files.list(input)) {
+                files = list.filter(p -> {
+                            String name = p.getFileName().toString();
+                            return name.endsWith(".jsonl") || name.endsWith(".jsonl.gz");
+                        })
+                        .sorted()
+                        .toList();
+            }
+        } else {
+            files = List.of(input);
+        }
+
+        ObjectMapper reader = new ObjectMapper();
+        List<JsonNode> records = new ArrayList<>();
+        for (Path file : files) {
+            try (InputStream raw = Files.newInputStream(file);
+                 InputStream in = file.toString().endsWith(".gz") ? new GzipCompressorInputStream(raw) : raw;
+                 BufferedReader lines = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = lines.readLine()) != null) {
+                    if (!line.isBlank()) {
+                        records.add(reader.readTree(line));
+                    }
+                }
+            }
+        }
+        records.sort(Comparator.comparingLong(r -> r.path("ts").asLong()));
+        return records;
+    }
+
+    private static Map<String, String> headers() {
+        Map<String, String> headers = new LinkedHashMap<>();
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith(HEADER_PREFIX))
+                .forEach(name -> headers.put(name.substring(HEADER_PREFIX.length()), System.getProperty(name)));
+        return headers;
+    }
+
+    private static String operationKey(JsonNode record) {
+        String name = textOrNull(record, "operationName");
+        if (name != null) {
+            return name;
+        }
+        String persistedId = textOrNull(record, "persistedQueryId");
+        if (persistedId != null) {
+            return "persisted:" + persistedId;
+        }
+        String fingerprint = textOrNull(record, "fingerprint");
+        return fingerprint != null ? "doc:" + fingerprint : "unknown";
+    }
+
+    private static String textOrNull(JsonNode node, String field) {
+        JsonNode value = node.path(field);
+        return value.isTextual() ? value.asText() : null;
+    }
+
+    private static Histogram histogram(Map<String, Histogram> histograms, String key) {
+        return histograms.computeIfAbsent(key, k -> new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+    }
+}
@@ -0,0 +1,44 @@
+package com.github.dimitryivaniuta.gateway.observability;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthTimingTest {
+
+    @Test
+    void servletFiltersAddUp() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        AuthTiming.add(request, 1_000);
+        AuthTiming.add(request, 500);
+
+        assertThat(request.getAttribute(AuthTiming.ATTRIBUTE)).isEqualTo(1_500L);
+    }
+
+    @Test
+    void webFluxFiltersAddUp() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/graphql"));
+
+        AuthTiming.add(exchange, 1_000);
+        AuthTiming.add(exchange, 500);
+
+        assertThat(AuthTiming.nanos(exchange.getAttributes())).isEqualTo(1_500L);
+    }
+
+    @Test
+    void missingTimingIsReportedAsMinusOne() {
+        Map<String, Object> attributes = new HashMap<>();
+
+        assertThat(AuthTiming.nanos(attributes)).isEqualTo(-1);
+
+        attributes.put(AuthTiming.ATTRIBUTE, "not a number");
+        assertThat(AuthTiming.nanos(attributes)).isEqualTo(-1);
+    }
+}
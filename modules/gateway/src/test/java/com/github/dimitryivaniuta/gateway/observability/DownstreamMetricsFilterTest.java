@@ -0,0 +1,64 @@
+package com.github.dimitryivaniuta.gateway.observability;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DownstreamMetricsFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DownstreamMetricsFilter filter = new DownstreamMetricsFilter(DownstreamService.ORDER, meterRegistry);
+
+    @Test
+    void uriTemplateReplacesIdSegmentsAndKeepsNames() {
+        assertThat(DownstreamMetricsFilter.uriTemplate("/internal/orders/3f0c2a1e-9b7d-4c55-8e21-0a6f5d4b3c21/items/42"))
+                .isEqualTo("/internal/orders/{id}/items/{id}");
+        assertThat(DownstreamMetricsFilter.uriTemplate("/internal/orders/v2/order2")).isEqualTo("/internal/orders/v2/order2");
+        assertThat(DownstreamMetricsFilter.uriTemplate("")).isEqualTo("/");
+    }
+
+    @Test
+    void recordsTimeAndBodySizePerTemplateNotPerId() {
+        call("http://order-service/internal/orders/1?fields=all", ClientResponse.create(HttpStatus.OK).body("{\"id\":1}").build());
+        call("http://order-service/internal/orders/2", ClientResponse.create(HttpStatus.OK).body("{\"id\":22}").build());
+
+        var timer = meterRegistry.get("gateway.downstream.requests")
+                .tags("service", "order", "method", "GET", "uri", "/internal/orders/{id}", "status", "200")
+                .timer();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(meterRegistry.find("gateway.downstream.requests").timers()).hasSize(1);
+
+        var size = meterRegistry.get("gateway.downstream.response.size")
+                .tags("service", "order", "uri", "/internal/orders/{id}")
+                .summary();
+        assertThat(size.count()).isEqualTo(2);
+        assertThat(size.totalAmount()).isEqualTo(17);
+    }
+
+    @Test
+    void connectionFailuresAreTaggedIoError() {
+        ClientRequest request = ClientRequest.create(HttpMethod.POST, URI.create("http://order-service/internal/orders")).build();
+
+        assertThatThrownBy(() -> filter.filter(request, r -> Mono.error(new IOException("refused"))).block())
+                .hasRootCauseInstanceOf(IOException.class);
+
+        assertThat(meterRegistry.get("gateway.downstream.requests").tags("status", "IO_ERROR", "method", "POST")
+                .timer().count()).isEqualTo(1);
+    }
+
+    private void call(String url, ClientResponse response) {
+        ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create(url)).build();
+        ClientResponse filtered = filter.filter(request, r -> Mono.just(response)).block();
+        filtered.bodyToMono(String.class).block();
+    }
+}
@@ -0,0 +1,68 @@
+package com.github.dimitryivaniuta.gateway.observability;
+
+import com.github.dimitryivaniuta.gateway.config.properties.MetricsProperties;
+import graphql.ExecutionInput;
+import graphql.GraphQL;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GraphQlMetricsInstrumentationTest {
+
+    private static final String SDL = "type Query { hello: String, broken: String }";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GraphQL graphQL = GraphQL.newGraphQL(new SchemaGenerator().makeExecutableSchema(
+                    new SchemaParser().parse(SDL),
+                    RuntimeWiring.newRuntimeWiring()
+                            .type("Query", type -> type
+                                    .dataFetcher("hello", env -> CompletableFuture.completedFuture("world"))
+                                    .dataFetcher("broken", env -> {
+                                        throw new IllegalStateException("boom");
+                                    }))
+                            .build()))
+            .instrumentation(new GraphQlMetricsInstrumentation(meterRegistry, new MetricsProperties(1.0, 1, null, null)))
+            .build();
+
+    @Test
+    void recordsOperationParseValidateAndFieldTimersPerOperation() {
+        execute("query Hello { hello }", "Hello");
+        execute("query Hello { hello }", "Hello");
+
+        assertThat(timer("gateway.graphql.operation", "operation", "Hello", "outcome", "success").count()).isEqualTo(2);
+        assertThat(timer("gateway.graphql.parse", "operation", "Hello").count()).isEqualTo(2);
+        assertThat(timer("gateway.graphql.validate", "operation", "Hello").count()).isEqualTo(2);
+        assertThat(timer("gateway.graphql.field", "coordinate", "Query.hello").count()).isEqualTo(2);
+    }
+
+    @Test
+    void errorsAreTaggedAndOperationsBeyondTheCapShareOneSeries() {
+        execute("query Hello { hello }", "Hello");
+        execute("query Broken { broken }", "Broken");
+        execute("query Other { hello }", "Other");
+
+        assertThat(timer("gateway.graphql.operation", "operation", OperationTagLimiter.OTHER, "outcome", "error").count())
+                .isEqualTo(1);
+        assertThat(timer("gateway.graphql.operation", "operation", OperationTagLimiter.OTHER, "outcome", "success").count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.find("gateway.graphql.operation").tag("operation", "Broken").timer()).isNull();
+        assertThat(meterRegistry.find("gateway.graphql.operation").timers())
+                .extracting(t -> t.getId().getTag("operation"))
+                .containsOnly("Hello", OperationTagLimiter.OTHER);
+    }
+
+    private void execute(String query, String operationName) {
+        graphQL.execute(ExecutionInput.newExecutionInput(query).operationName(operationName).build());
+    }
+
+    private Timer timer(String name, String... tags) {
+        return meterRegistry.get(name).tags(tags).timer();
+    }
+}
@@ -0,0 +1,37 @@
+package com.github.dimitryivaniuta.gateway.observability;
+
+import com.github.dimitryivaniuta.gateway.graphql.interceptor.PersistedQueryInterceptor;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OperationTagLimiterTest {
+
+    private final OperationTagLimiter limiter = new OperationTagLimiter(2);
+
+    @Test
+    void namesBeyondTheCapFoldIntoOther() {
+        assertThat(limiter.tagFor(Map.of(), "OrdersById")).isEqualTo("OrdersById");
+        assertThat(limiter.tagFor(Map.of(), "Checkout")).isEqualTo("Checkout");
+
+        assertThat(limiter.tagFor(Map.of(), "Search")).isEqualTo(OperationTagLimiter.OTHER);
+        // admitted names keep their own tag after the cap is reached
+        assertThat(limiter.tagFor(Map.of(), "OrdersById")).isEqualTo("OrdersById");
+    }
+
+    @Test
+    void persistedIdWinsOverNameAndMissingBothIsAnonymous() {
+        Map<String, Object> persisted = Map.of(PersistedQueryInterceptor.EXT_KEY_PERSISTED_ID, "orders-by-id.v2");
+
+        assertThat(limiter.tagFor(persisted, "OrdersById")).isEqualTo("orders-by-id.v2");
+        assertThat(limiter.tagFor(null, " ")).isEqualTo(OperationTagLimiter.ANONYMOUS);
+    }
+
+    @Test
+    void overlongValuesAreNeverAdmitted() {
+        assertThat(limiter.tagFor(Map.of(), "Q".repeat(65))).isEqualTo(OperationTagLimiter.OTHER);
+        assertThat(limiter.tagFor(Map.of(), "Short")).isEqualTo("Short");
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.dimitryivaniuta.gateway.observability;
+
+import com.github.dimitryivaniuta.gateway.config.properties.MetricsProperties;
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestCostInstrumentationTest {
+
+    private static final String SDL = "type Query { hello: String }";
+
+    @Test
+    void reportsTheRequestCostAndRecordsParseAndValidateTime() {
+        RequestExecutionStats stats = new RequestExecutionStats();
+        stats.recordCall(DownstreamService.ORDER);
+        stats.recordCall(DownstreamService.INVENTORY);
+        stats.recordBatch("orderBatchLoader", 20);
+
+        ExecutionResult result = execute(true, stats);
+
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(result.getExtensions()).containsKey("cost");
+        @SuppressWarnings("unchecked")
+        Map<String, Object> cost = (Map<String, Object>) result.getExtensions().get("cost");
+        assertThat(cost).containsEntry("downstreamCalls", 2)
+                .containsEntry("dataLoaderBatches", 1)
+                .containsEntry("keysLoaded", 20)
+                .containsEntry("cacheHits", 0L);
+        assertThat(stats.parseNanos()).isPositive();
+        assertThat(stats.validateNanos()).isPositive();
+    }
+
+    @Test
+    void costExtensionCanBeTurnedOff() {
+        RequestExecutionStats stats = new RequestExecutionStats();
+
+        ExecutionResult result = execute(false, stats);
+
+        assertThat(result.getExtensions()).isNull();
+        assertThat(stats.parseNanos()).isPositive();
+    }
+
+    @Test
+    void requestsWithoutStatsAreLeftAlone() {
+        ExecutionResult result = execute(true, null);
+
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(result.getExtensions()).isNull();
+    }
+
+    private static ExecutionResult execute(boolean costExtension, RequestExecutionStats stats) {
+        var schema = new SchemaGenerator().makeExecutableSchema(
+                new SchemaParser().parse(SDL),
+                RuntimeWiring.newRuntimeWiring()
+                        .type("Query", type -> type.dataFetcher("hello", env -> "world"))
+                        .build());
+        GraphQL graphQL = GraphQL.newGraphQL(schema)
+                .instrumentation(new RequestCostInstrumentation(new MetricsProperties(0, 0, null, costExtension)))
+                .build();
+        ExecutionInput input = ExecutionInput.newExecutionInput("{ hello }")
+                .graphQLContext(context -> {
+                    if (stats != null) {
+                        context.put(RequestExecutionStats.class, stats);
+                    }
+                })
+                .build();
+        return graphQL.execute(input);
+    }
+}
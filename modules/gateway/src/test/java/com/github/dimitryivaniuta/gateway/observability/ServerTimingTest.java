@@ -0,0 +1,31 @@
+package com.github.dimitryivaniuta.gateway.observability;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServerTimingTest {
+
+    @Test
+    void listsAuthPhasesAndCalledServicesInMilliseconds() {
+        RequestExecutionStats stats = new RequestExecutionStats();
+        stats.recordParse(300_000);
+        stats.recordValidate(149_999);
+        stats.recordCall(DownstreamService.ORDER);
+        stats.recordDownstreamTime(DownstreamService.ORDER, 31_000_000);
+        stats.recordCall(DownstreamService.PAYMENT);
+        stats.recordDownstreamTime(DownstreamService.PAYMENT, 12_350_000);
+
+        String header = ServerTiming.format(stats, 1_240_000);
+
+        assertThat(header).matches(
+                "auth;dur=1\\.2, parse;dur=0\\.3, validate;dur=0\\.1, exec;dur=\\d+\\.\\d, order;dur=31\\.0, payment;dur=12\\.4");
+    }
+
+    @Test
+    void omitsAuthWhenNoFilterRanAndServicesThatWereNotCalled() {
+        String header = ServerTiming.format(new RequestExecutionStats(), -1);
+
+        assertThat(header).matches("parse;dur=0\\.0, validate;dur=0\\.0, exec;dur=\\d+\\.\\d");
+    }
+}
@@ -0,0 +1,95 @@
+package com.github.dimitryivaniuta.gateway.observability.slowlog;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.dimitryivaniuta.gateway.config.properties.SlowOperationProperties;
+import com.github.dimitryivaniuta.gateway.observability.DownstreamService;
+import com.github.dimitryivaniuta.gateway.observability.RequestExecutionStats;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlowOperationLogTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Logger slowLogger = (Logger) LoggerFactory.getLogger("gateway.slow-operations");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    private SlowOperationLog slowOperationLog;
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        slowLogger.addAppender(appender);
+        slowOperationLog = new SlowOperationLog(objectMapper, new SlowOperationProperties(true, 0, 16), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        slowOperationLog.shutdown();
+        slowLogger.detachAppender(appender);
+    }
+
+    @Test
+    void writesOneJsonLinePerOperationWithVariablesOnlyHashed() throws Exception {
+        RequestExecutionStats stats = new RequestExecutionStats();
+        stats.recordCall(DownstreamService.INVENTORY);
+        stats.recordDownstreamTime(DownstreamService.INVENTORY, TimeUnit.MILLISECONDS.toNanos(1_520));
+        stats.recordBatch("inventoryBatchLoader", 200);
+
+        slowOperationLog.offer(new SlowOperation(1_736_935_800_000L, "OrdersWithDetails", "orders-v1",
+                Map.of("customerId", "secret-customer"), TimeUnit.MILLISECONDS.toNanos(1_843), 0, stats));
+
+        JsonNode entry = objectMapper.readTree(awaitLines(1).get(0));
+        assertThat(entry.get("ts").asText()).isEqualTo("2025-01-15T10:10:00Z");
+        assertThat(entry.get("operationName").asText()).isEqualTo("OrdersWithDetails");
+        assertThat(entry.get("persistedQueryId").asText()).isEqualTo("orders-v1");
+        assertThat(entry.get("durationMs").asLong()).isEqualTo(1_843);
+        assertThat(entry.get("cost").get("downstreamCalls").asInt()).isEqualTo(1);
+        assertThat(entry.get("downstreamMs").get("inventory").asLong()).isEqualTo(1_520);
+        assertThat(entry.get("batchSizes").get("inventoryBatchLoader").get(0).asInt()).isEqualTo(200);
+        assertThat(entry.get("variablesHash").asText()).isNotBlank();
+        assertThat(entry.toString()).doesNotContain("secret-customer");
+        assertThat(meterRegistry.counter("gateway.slowlog.logged").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void variableHashIgnoresKeyOrder() throws Exception {
+        Map<String, Object> ab = new LinkedHashMap<>();
+        ab.put("a", 1);
+        ab.put("b", "x");
+        Map<String, Object> ba = new LinkedHashMap<>();
+        ba.put("b", "x");
+        ba.put("a", 1);
+
+        slowOperationLog.offer(new SlowOperation(0, "Op", null, ab, 0, 0, null));
+        slowOperationLog.offer(new SlowOperation(0, "Op", null, ba, 0, 0, null));
+
+        List<String> lines = awaitLines(2);
+        assertThat(objectMapper.readTree(lines.get(0)).get("variablesHash"))
+                .isEqualTo(objectMapper.readTree(lines.get(1)).get("variablesHash"));
+        assertThat(objectMapper.readTree(lines.get(0)).has("cost")).isFalse();
+    }
+
+    private List<String> awaitLines(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (appender.list.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(appender.list).hasSize(count);
+        return appender.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+    }
+}
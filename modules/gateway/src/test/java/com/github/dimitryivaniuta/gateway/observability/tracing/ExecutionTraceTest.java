@@ -0,0 +1,58 @@
+package com.github.dimitryivaniuta.gateway.observability.tracing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExecutionTraceTest {
+
+    private static final long MICROS = 1_000L;
+
+    @Test
+    void spansAreSortedByStartAndReportedInMicros() {
+        ExecutionTrace trace = new ExecutionTrace("Orders", true, 10);
+        long t0 = System.nanoTime();
+        trace.span(ExecutionTrace.Kind.FIELD, "Query.orders", t0 + 50 * MICROS, t0 + 80 * MICROS);
+        trace.span(ExecutionTrace.Kind.PARSE, "parse", t0, t0 + 20 * MICROS);
+        trace.finish();
+
+        Map<String, Object> map = trace.toMap();
+
+        assertThat(map).containsEntry("operation", "Orders")
+                .containsEntry("spanCount", 2)
+                .containsEntry("droppedSpans", 0);
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> spans = (List<Map<String, Object>>) map.get("spans");
+        assertThat(spans).extracting(span -> span.get("name")).containsExactly("parse", "Query.orders");
+        assertThat(spans.get(1)).containsEntry("kind", "FIELD").containsEntry("durationMicros", 30L);
+        assertThat((long) spans.get(1).get("startOffsetMicros"))
+                .isEqualTo((long) spans.get(0).get("startOffsetMicros") + 50);
+    }
+
+    @Test
+    void spansBeyondTheLimitAreOnlyCounted() {
+        ExecutionTrace trace = new ExecutionTrace(null, false, 2);
+        long now = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            trace.span(ExecutionTrace.Kind.HTTP, "call" + i, now, now + MICROS);
+        }
+
+        assertThat(trace.spanCount()).isEqualTo(2);
+        assertThat(trace.toMap()).containsEntry("droppedSpans", 3);
+        assertThat(trace.toSummary()).doesNotContainKey("spans");
+    }
+
+    @Test
+    void durationIsFixedByFinish() throws InterruptedException {
+        ExecutionTrace trace = new ExecutionTrace("op", false, 1);
+        trace.finish();
+        long duration = trace.durationMicros();
+
+        Thread.sleep(5);
+
+        assertThat(trace.durationMicros()).isEqualTo(duration);
+    }
+}
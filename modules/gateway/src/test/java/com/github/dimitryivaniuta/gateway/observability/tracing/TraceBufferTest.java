@@ -0,0 +1,46 @@
+package com.github.dimitryivaniuta.gateway.observability.tracing;
+
+import com.github.dimitryivaniuta.gateway.config.properties.TracingProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TraceBufferTest {
+
+    private final TraceBuffer buffer = new TraceBuffer(new TracingProperties(null, null, null, 0.0, 3, 0));
+
+    @Test
+    void keepsTheNewestTracesNewestFirst() {
+        List<ExecutionTrace> traces = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ExecutionTrace trace = new ExecutionTrace("op" + i, false, 10);
+            traces.add(trace);
+            buffer.add(trace);
+        }
+
+        assertThat(buffer.recent()).containsExactly(traces.get(4), traces.get(3), traces.get(2));
+    }
+
+    @Test
+    void findsBufferedTracesOnlyUntilEvicted() {
+        ExecutionTrace first = new ExecutionTrace("first", false, 10);
+        buffer.add(first);
+        assertThat(buffer.find(first.id())).isSameAs(first);
+
+        for (int i = 0; i < 3; i++) {
+            buffer.add(new ExecutionTrace("later", false, 10));
+        }
+
+        assertThat(buffer.find(first.id())).isNull();
+        assertThat(buffer.recent()).hasSize(3).doesNotContain(first);
+    }
+
+    @Test
+    void emptyBufferHasNoTraces() {
+        assertThat(buffer.recent()).isEmpty();
+        assertThat(buffer.find("missing")).isNull();
+    }
+}
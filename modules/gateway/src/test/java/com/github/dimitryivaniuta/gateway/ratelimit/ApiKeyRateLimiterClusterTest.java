@@ -0,0 +1,106 @@
+package com.github.dimitryivaniuta.gateway.ratelimit;
+
+import com.github.dimitryivaniuta.gateway.config.properties.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Several limiter instances ("replicas") sharing one PostgreSQL, each with its own local counts.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ApiKeyRateLimiterClusterTest {
+
+    private static final PostgreSQLContainer<?> POSTGRES =
+            new PostgreSQLContainer<>("postgres:latest")
+                    .withDatabaseName("gateway_test")
+                    .withUsername("test")
+                    .withPassword("test");
+
+    /** Fixed instants a few seconds into a window, one window per test so heartbeats do not mix. */
+    private static final long FIRST_WINDOW = 29_000_000L;
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void startDatabase() {
+        POSTGRES.start();
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .schemas("gateway")
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+    }
+
+    @AfterAll
+    static void stopDatabase() {
+        POSTGRES.stop();
+    }
+
+    @Test
+    void unevenTrafficAcrossReplicasStaysWithinTheLimit() {
+        List<ApiKeyRateLimiter> replicas = replicas(3, FIRST_WINDOW);
+        int[] demandPerRound = {5, 3, 1};
+
+        int admitted = drive(replicas, demandPerRound, UUID.randomUUID(), 600);
+
+        assertThat(replicas.get(0).activeReplicas()).isEqualTo(3);
+        assertThat(admitted).isCloseTo(600, within(18));
+    }
+
+    @Test
+    void singleBusyReplicaGetsTheWholeBudgetNotAThird() {
+        List<ApiKeyRateLimiter> replicas = replicas(3, FIRST_WINDOW + 10);
+        int[] demandPerRound = {10, 0, 0};
+
+        int admitted = drive(replicas, demandPerRound, UUID.randomUUID(), 600);
+
+        assertThat(admitted).isCloseTo(600, within(18));
+    }
+
+    private static List<ApiKeyRateLimiter> replicas(int count, long window) {
+        long now = window * ApiKeyRateLimiter.WINDOW_MILLIS + 5_000L;
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        List<ApiKeyRateLimiter> replicas = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            RateLimitProperties properties = new RateLimitProperties(true, 1_000L, 60_000L, run + "-" + i);
+            replicas.add(new ApiKeyRateLimiter(properties, jdbcTemplate, "gateway", new SimpleMeterRegistry(), () -> now));
+        }
+        replicas.forEach(ApiKeyRateLimiter::sync);
+        return replicas;
+    }
+
+    /**
+     * Rounds of traffic, each followed by a sync of every replica; returns the admitted total.
+     */
+    private static int drive(List<ApiKeyRateLimiter> replicas, int[] demandPerRound, UUID keyId, int limit) {
+        int admitted = 0;
+        for (int round = 0; round < 300; round++) {
+            for (int i = 0; i < replicas.size(); i++) {
+                for (int request = 0; request < demandPerRound[i]; request++) {
+                    if (replicas.get(i).tryAcquire(keyId, limit)) {
+                        admitted++;
+                    }
+                }
+            }
+            replicas.forEach(ApiKeyRateLimiter::sync);
+        }
+        return admitted;
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.dimitryivaniuta.gateway.resilience;
+
+import com.github.dimitryivaniuta.gateway.config.properties.StaleReadProperties;
+import com.github.dimitryivaniuta.gateway.observability.DownstreamService;
+import com.github.dimitryivaniuta.gateway.observability.RequestExecutionStats;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StaleReadGuardTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StaleReadGuard guard = new StaleReadGuard(
+            CircuitBreakerRegistry.ofDefaults(),
+            new StaleReadProperties(true, 1_000L, 100, 60_000L),
+            meterRegistry,
+            now::get);
+
+    @Test
+    void servesLastKnownValueAndFlagsRequestWhenDownstreamFails() throws InterruptedException {
+        UUID known = UUID.randomUUID();
+        UUID unknown = UUID.randomUUID();
+        guard.read("orders", DownstreamService.ORDER, List.of(known), Mono.just(Map.of(known, "v1"))).block();
+        awaitStored("orders");
+
+        RequestExecutionStats stats = new RequestExecutionStats();
+        Map<UUID, String> result = guard.<String>read("orders", DownstreamService.ORDER, List.of(known, unknown),
+                        Mono.error(new IllegalStateException("order-service down")))
+                .contextWrite(context -> context.put(RequestExecutionStats.class, stats))
+                .block();
+
+        assertThat(result).containsExactly(Map.entry(known, "v1"));
+        assertThat(stats.stale()).isTrue();
+    }
+
+    @Test
+    void propagatesErrorWhenNothingUsableIsStored() throws InterruptedException {
+        UUID id = UUID.randomUUID();
+        guard.read("orders", DownstreamService.ORDER, List.of(id), Mono.just(Map.of(id, "v1"))).block();
+        awaitStored("orders");
+        now.addAndGet(120_000L);
+
+        assertThatThrownBy(() -> guard.<String>read("orders", DownstreamService.ORDER, List.of(id),
+                Mono.error(new IllegalStateException("order-service down"))).block())
+                .hasMessageContaining("order-service down");
+    }
+
+    private void awaitStored(String resource) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            var gauge = meterRegistry.find("gateway.stale.entries").tag("resource", resource).gauge();
+            if (gauge != null && gauge.value() > 0) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+    }
+}
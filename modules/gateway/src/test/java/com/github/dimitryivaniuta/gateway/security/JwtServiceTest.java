@@ -1,9 +1,8 @@
 package com.github.dimitryivaniuta.gateway.security;
 
-package com.github.dimitryivaniuta.gateway.security;
-
 import com.github.dimitryivaniuta.gateway.config.properties.SecurityProperties;
-import com.github.dimitryivaniuta.gateway.user.UserEntity;
+import com.github.dimitryivaniuta.gateway.service.JwtService;
+import com.github.dimitryivaniuta.gateway.service.UserAccount;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
@@ -25,26 +24,23 @@ class JwtServiceTest {
         String secret = "change-me-at-least-32-chars-long-secret";
         long ttlSeconds = 3600L;
 
-        SecurityProperties.Jwt jwtProps = new SecurityProperties.Jwt(issuer, secret, ttlSeconds);
-        SecurityProperties securityProps = new SecurityProperties(jwtProps, null, null);
+        SecurityProperties.Jwt jwtProps = new SecurityProperties.Jwt(issuer, ttlSeconds, secret);
+        SecurityProperties securityProps = new SecurityProperties(false, null, jwtProps);
 
         var keyBytes = secret.getBytes(StandardCharsets.UTF_8);
         var key = new SecretKeySpec(keyBytes, "HmacSHA256");
 
         var jwtEncoder = JwtTestUtils.createHs256Encoder(key); // small helper below
-        var jwtService = new JwtService(securityProps, jwtEncoder);
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withSecretKey(key).build();
+        var jwtService = new JwtService(decoder, jwtEncoder, securityProps);
 
-        UserEntity user = new UserEntity();
-        user.setId(UUID.randomUUID());
-        user.setTenantId("default");
-        user.setUsername("admin");
-        user.setRoles("ROLE_ADMIN,ROLE_USER");
+        UserAccount user = new UserAccount(UUID.randomUUID(), "default", "admin", "{noop}x",
+                "ROLE_ADMIN,ROLE_USER", false);
 
         // when
         String token = jwtService.issueToken(user);
 
         // then: decode with same secret and verify claims
-        NimbusJwtDecoder decoder = NimbusJwtDecoder.withSecretKey(key).build();
         Jwt decoded = decoder.decode(token);
 
         assertThat(decoded.getIssuer().toString()).isEqualTo(issuer);
@@ -1,5 +1,6 @@
 package com.github.dimitryivaniuta.gateway.security;
 
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 
@@ -11,6 +12,6 @@ final class JwtTestUtils {
     }
 
     static JwtEncoder createHs256Encoder(SecretKey key) {
-        return NimbusJwtEncoder.withSecretKey(key).build();
+        return new NimbusJwtEncoder(new ImmutableSecret<>(key));
     }
 }
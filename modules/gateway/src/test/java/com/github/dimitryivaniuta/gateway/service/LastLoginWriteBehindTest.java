@@ -0,0 +1,87 @@
+package com.github.dimitryivaniuta.gateway.service;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class LastLoginWriteBehindTest {
+
+    private static final OffsetDateTime T0 = OffsetDateTime.parse("2025-01-15T10:00:00Z");
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final LastLoginWriteBehind writeBehind = new LastLoginWriteBehind(jdbcTemplate, "gateway");
+
+    @Test
+    void flushWritesTheLatestLoginPerUserInOneBatch() {
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        writeBehind.record(alice, T0.plusSeconds(1));
+        writeBehind.record(alice, T0.plusSeconds(3));
+        writeBehind.record(alice, T0.plusSeconds(2));
+        writeBehind.record(bob, T0);
+
+        writeBehind.flush();
+
+        Map<UUID, OffsetDateTime> written = flushedBatches(1).get(0).stream()
+                .collect(Collectors.toMap(row -> (UUID) row[1], row -> (OffsetDateTime) row[0]));
+        assertThat(written).containsExactlyInAnyOrderEntriesOf(Map.of(alice, T0.plusSeconds(3), bob, T0));
+
+        writeBehind.flush();
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void failedFlushKeepsTheTimestampsForTheNextOne() {
+        UUID alice = UUID.randomUUID();
+        writeBehind.record(alice, T0);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(new int[]{1});
+
+        writeBehind.flush();
+        writeBehind.flush();
+
+        assertThat(flushedBatches(2).get(1)).singleElement()
+                .satisfies(row -> assertThat(row).containsExactly(T0, alice, T0));
+    }
+
+    @Test
+    void shutdownDrainsThePendingLogins() {
+        UUID alice = UUID.randomUUID();
+        writeBehind.record(alice, T0);
+
+        writeBehind.flushOnShutdown();
+
+        assertThat(flushedBatches(1).get(0)).hasSize(1);
+    }
+
+    @Test
+    void nothingPendingMeansNoWrite() {
+        writeBehind.flush();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<Object[]>> flushedBatches(int expected) {
+        ArgumentCaptor<List<Object[]>> batches = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(expected)).batchUpdate(anyString(), batches.capture());
+        return batches.getAllValues();
+    }
+}
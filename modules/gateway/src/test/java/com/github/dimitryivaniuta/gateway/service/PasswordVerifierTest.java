@@ -0,0 +1,58 @@
+package com.github.dimitryivaniuta.gateway.service;
+
+import com.github.dimitryivaniuta.gateway.config.properties.LoginProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * One verifier thread and a one-slot queue: the third concurrent check is shed.
+ */
+class PasswordVerifierTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final PasswordEncoder encoder = mock(PasswordEncoder.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PasswordVerifier verifier =
+            new PasswordVerifier(encoder, new LoginProperties(1, 1, 3, 0), meterRegistry);
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        verifier.shutdown();
+    }
+
+    @Test
+    void fullQueueRejectsAndCountsTheVerification() throws Exception {
+        when(encoder.matches(anyString(), anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return true;
+        });
+
+        CompletableFuture<Boolean> running = verifier.matches("pw", "hash");
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Boolean> queued = verifier.matches("pw", "hash");
+        assertThat(meterRegistry.get("gateway.login.verifications.queued").gauge().value()).isEqualTo(1.0);
+
+        assertThrows(RejectedExecutionException.class, () -> verifier.matches("pw", "hash"));
+        assertThat(meterRegistry.get("gateway.login.verifications.rejected").counter().count()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
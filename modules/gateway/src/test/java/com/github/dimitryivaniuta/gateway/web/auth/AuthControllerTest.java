@@ -0,0 +1,83 @@
+package com.github.dimitryivaniuta.gateway.web.auth;
+
+import com.github.dimitryivaniuta.gateway.config.properties.LoginProperties;
+import com.github.dimitryivaniuta.gateway.config.properties.SecurityProperties;
+import com.github.dimitryivaniuta.gateway.service.JwtService;
+import com.github.dimitryivaniuta.gateway.service.UserAccount;
+import com.github.dimitryivaniuta.gateway.service.UserService;
+import com.github.dimitryivaniuta.gateway.web.error.GlobalExceptionHandler;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class AuthControllerTest {
+
+    private static final String LOGIN = """
+            {"tenantId": "default", "username": "admin", "password": "secret"}
+            """;
+
+    private final UserService userService = mock(UserService.class);
+    private final JwtService jwtService = mock(JwtService.class);
+
+    private final MockMvc mockMvc = MockMvcBuilders
+            .standaloneSetup(new AuthController(userService, jwtService,
+                    new SecurityProperties(false, null, new SecurityProperties.Jwt("gw", 600, "s")),
+                    new LoginProperties(1, 1, 7, 0)))
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+
+    @Test
+    void saturatedVerifierIsShedWith503AndRetryAfter() throws Exception {
+        when(userService.authenticate("default", "admin", "secret"))
+                .thenThrow(new RejectedExecutionException("queue full"));
+
+        mockMvc.perform(asyncDispatch(token()))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "7"));
+    }
+
+    @Test
+    void validCredentialsIssueAToken() throws Exception {
+        UserAccount user = new UserAccount(UUID.randomUUID(), "default", "admin", "hash", "ADMIN, USER", false);
+        when(userService.authenticate("default", "admin", "secret"))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(user)));
+        when(jwtService.issueToken(user)).thenReturn("jwt-token");
+
+        mockMvc.perform(asyncDispatch(token()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accessToken").value("jwt-token"))
+                .andExpect(jsonPath("$.expiresInSeconds").value(600))
+                .andExpect(jsonPath("$.roles[1]").value("USER"));
+    }
+
+    @Test
+    void invalidCredentialsGet401() throws Exception {
+        when(userService.authenticate("default", "admin", "secret"))
+                .thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+
+        mockMvc.perform(asyncDispatch(token()))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private MvcResult token() throws Exception {
+        return mockMvc.perform(post("/auth/token").contentType(MediaType.APPLICATION_JSON).content(LOGIN))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+}
@@ -0,0 +1,46 @@
+package com.github.dimitryivaniuta.gateway.web.error;
+
+import com.github.dimitryivaniuta.gateway.config.properties.ErrorLoggingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorLogLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ErrorLogLimiter limiter =
+            new ErrorLogLimiter(new ErrorLoggingProperties(60_000L, 3, 100), registry, now::get);
+
+    @Test
+    void logsFirstOccurrencesPerWindowAndCountsTheRest() {
+        int logged = 0;
+        for (int i = 0; i < 200; i++) {
+            if (limiter.shouldLog("Order.payments", new IllegalStateException("payment down"))) {
+                logged++;
+            }
+        }
+
+        assertThat(logged).isEqualTo(3);
+        assertThat(registry.get("gateway.graphql.errors.suppressed")
+                .tag("exception", "IllegalStateException")
+                .counter().count()).isEqualTo(197.0);
+    }
+
+    @Test
+    void keysAreIndependentAndWindowsReset() {
+        for (int i = 0; i < 3; i++) {
+            limiter.shouldLog("Order.payments", new IllegalStateException());
+        }
+        assertThat(limiter.shouldLog("Order.payments", new IllegalStateException())).isFalse();
+        assertThat(limiter.shouldLog("Order.items", new IllegalStateException())).isTrue();
+        assertThat(limiter.shouldLog("Order.payments", new IllegalArgumentException())).isTrue();
+
+        now.addAndGet(60_000L);
+
+        assertThat(limiter.shouldLog("Order.payments", new IllegalStateException())).isTrue();
+    }
+}
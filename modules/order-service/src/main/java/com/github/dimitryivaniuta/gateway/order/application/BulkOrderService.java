@@ -0,0 +1,206 @@
+package com.github.dimitryivaniuta.gateway.order.application;
+
+import com.github.dimitryivaniuta.gateway.common.money.Money;
+import com.github.dimitryivaniuta.gateway.order.application.command.CreateOrderCommand;
+import com.github.dimitryivaniuta.gateway.order.application.result.CreateOrderResult;
+import com.github.dimitryivaniuta.gateway.order.application.result.StatusChangeResult;
+import com.github.dimitryivaniuta.gateway.order.config.BulkImportProperties;
+import com.github.dimitryivaniuta.gateway.order.domain.Order;
+import com.github.dimitryivaniuta.gateway.order.domain.OrderDomainService;
+import com.github.dimitryivaniuta.gateway.order.domain.OrderId;
+import com.github.dimitryivaniuta.gateway.order.domain.OrderRepository;
+import com.github.dimitryivaniuta.gateway.order.domain.OrderStatus;
+import com.github.dimitryivaniuta.gateway.order.exception.DomainValidationException;
+import com.github.dimitryivaniuta.gateway.order.infrastructure.outbox.OrderChangeType;
+import com.github.dimitryivaniuta.gateway.order.infrastructure.outbox.OrderOutbox;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk order creation for imports (marketplace backlogs and the like).
+ *
+ * <p>Ids are generated here rather than by Hibernate, so rows can be written as plain JDBC
+ * batches (rewritten into multi-row INSERTs by pgjdbc's {@code reWriteBatchedInserts}) without
+ * going through the persistence context. Orders are converted and validated individually (a
+ * malformed order is reported against its index, not as a failure of the request) and committed in
+ * chunks of {@link BulkImportProperties#chunkSizeOrDefault()}; a chunk rejected by the database
+ * is retried row by row so the failure is reported against the offending order only. Each
+ * chunk records its orders in the outbox in the same transaction.</p>
+ *
+ * <p>Bulk status changes run as one conditional {@code UPDATE} over all ids.</p>
+ */
+@Service
+public class BulkOrderService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkOrderService.class);
+
+    private static final String INSERT_SQL = "INSERT INTO order_service.order_header "
+            + "(id, version, external_id, customer_id, status, total_amount, currency, created_at, updated_at) "
+            + "VALUES (?, 0, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderRepository orderRepository;
+    private final BulkImportProperties properties;
+    private final OrderOutbox outbox;
+
+    private final OrderDomainService domainService = new OrderDomainService();
+
+    public BulkOrderService(JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            OrderRepository orderRepository,
+                            BulkImportProperties properties,
+                            OrderOutbox outbox) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.orderRepository = orderRepository;
+        this.properties = properties;
+        this.outbox = outbox;
+    }
+
+    /**
+     * Create the given orders; the result list has one entry per order, in request order.
+     *
+     * @param toCommand converts (and validates) one order of the request; a
+     *                  {@link DomainValidationException} or {@link IllegalArgumentException} it
+     *                  throws fails that order only
+     * @throws DomainValidationException if the request exceeds {@link BulkImportProperties#maxOrdersOrDefault()}
+     */
+    public <T> List<CreateOrderResult> createOrders(List<T> orders, Function<? super T, CreateOrderCommand> toCommand) {
+        if (orders.size() > properties.maxOrdersOrDefault()) {
+            throw new DomainValidationException(
+                    "At most " + properties.maxOrdersOrDefault() + " orders per bulk request");
+        }
+
+        CreateOrderResult[] results = new CreateOrderResult[orders.size()];
+        List<PendingOrder> pending = new ArrayList<>(orders.size());
+
+        for (int i = 0; i < orders.size(); i++) {
+            try {
+                CreateOrderCommand cmd = toCommand.apply(orders.get(i));
+                Money total = OrderApplicationService.calculateTotal(cmd.items());
+                Order order = domainService.createNewOrder(cmd.customerId(), total, cmd.externalId())
+                        .withId(OrderId.of(UUID.randomUUID()));
+                pending.add(new PendingOrder(i, order));
+            } catch (DomainValidationException | IllegalArgumentException ex) {
+                results[i] = CreateOrderResult.failed(i, ex.getMessage());
+            }
+        }
+
+        int chunkSize = properties.chunkSizeOrDefault();
+        for (int from = 0; from < pending.size(); from += chunkSize) {
+            insert(pending.subList(from, Math.min(from + chunkSize, pending.size())), results);
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Move every order in {@code orderIds} to {@code target} where the domain rules allow it;
+     * one result per distinct id, in request order.
+     *
+     * @throws DomainValidationException if the request exceeds {@link BulkImportProperties#maxOrdersOrDefault()}
+     */
+    @Transactional
+    public List<StatusChangeResult> changeStatuses(Collection<UUID> orderIds, OrderStatus target) {
+        Set<UUID> ids = new LinkedHashSet<>(orderIds);
+        if (ids.size() > properties.maxOrdersOrDefault()) {
+            throw new DomainValidationException(
+                    "At most " + properties.maxOrdersOrDefault() + " orders per bulk request");
+        }
+
+        List<OrderId> orderIdList = ids.stream().map(OrderId::of).toList();
+        Map<UUID, Order> updated = byId(orderRepository.updateStatus(
+                orderIdList, Order.allowedPredecessors(target), target));
+
+        // Only the misses are read back, to tell "not found" from "not allowed"
+        Map<UUID, Order> refused = Map.of();
+        if (updated.size() < ids.size()) {
+            refused = byId(orderRepository.findByIds(orderIdList.stream()
+                    .filter(id -> !updated.containsKey(id.value()))
+                    .toList()));
+        }
+
+        List<StatusChangeResult> results = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            Order order = updated.get(id);
+            if (order != null) {
+                results.add(StatusChangeResult.updated(id, order.status()));
+                continue;
+            }
+            Order current = refused.get(id);
+            results.add(current == null
+                    ? StatusChangeResult.notFound(id)
+                    : StatusChangeResult.rejected(id, current.status(),
+                    OrderApplicationService.rejectionReason(current, target)));
+        }
+        return results;
+    }
+
+    private static Map<UUID, Order> byId(List<Order> orders) {
+        return orders.stream().collect(Collectors.toMap(o -> o.id().value(), Function.identity()));
+    }
+
+    private void insert(List<PendingOrder> chunk, CreateOrderResult[] results) {
+        List<Object[]> rows = new ArrayList<>(chunk.size());
+        List<UUID> ids = new ArrayList<>(chunk.size());
+        for (PendingOrder pendingOrder : chunk) {
+            rows.add(toRow(pendingOrder.order()));
+            ids.add(pendingOrder.order().id().value());
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+                outbox.record(OrderChangeType.CREATED, ids);
+            });
+        } catch (DataAccessException ex) {
+            if (chunk.size() == 1) {
+                PendingOrder failed = chunk.get(0);
+                results[failed.index()] = CreateOrderResult.failed(failed.index(), ex.getMostSpecificCause().getMessage());
+                return;
+            }
+            log.warn("Bulk insert of {} order(s) rejected, retrying one by one: {}",
+                    chunk.size(), ex.getMostSpecificCause().getMessage());
+            for (PendingOrder pendingOrder : chunk) {
+                insert(List.of(pendingOrder), results);
+            }
+            return;
+        }
+
+        for (PendingOrder pendingOrder : chunk) {
+            results[pendingOrder.index()] = CreateOrderResult.created(pendingOrder.index(), pendingOrder.order().id().value());
+        }
+    }
+
+    private static Object[] toRow(Order order) {
+        return new Object[]{
+                order.id().value(),
+                order.externalId(),
+                order.customerId(),
+                order.status().name(),
+                order.total().getAmount(),
+                order.total().getCurrencyCode(),
+                order.createdAt(),
+                order.updatedAt()
+        };
+    }
+
+    private record PendingOrder(int index, Order order) {
+    }
+}
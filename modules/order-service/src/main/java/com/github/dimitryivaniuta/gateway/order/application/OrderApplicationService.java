@@ -4,6 +4,8 @@ import com.github.dimitryivaniuta.gateway.common.money.Money;
 import com.github.dimitryivaniuta.gateway.order.application.command.ChangeOrderStatusCommand;
 import com.github.dimitryivaniuta.gateway.order.application.command.CreateOrderCommand;
 import com.github.dimitryivaniuta.gateway.order.application.command.CreateOrderItemCommand;
+import com.github.dimitryivaniuta.gateway.order.application.query.OrderCursor;
+import com.github.dimitryivaniuta.gateway.order.application.query.OrderSlice;
 import com.github.dimitryivaniuta.gateway.order.domain.*;
 import com.github.dimitryivaniuta.gateway.order.exception.DomainValidationException;
 import com.github.dimitryivaniuta.gateway.order.exception.OrderNotFoundException;
@@ -15,7 +17,6 @@ import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -49,22 +50,22 @@ public class OrderApplicationService {
     // CHANGE STATUS
     // -------------------------------------------------------------------------
 
+    /**
+     * One conditional {@code UPDATE ... WHERE status IN (allowed predecessors)}; the order is only
+     * read back when the update matched nothing, to report why.
+     */
     @Transactional
     public Order changeStatus(ChangeOrderStatusCommand cmd) {
         OrderId id = new OrderId(cmd.orderId());
-        Order current = orderRepository.findById(id)
-                .orElseThrow(() -> new OrderNotFoundException(cmd.orderId()));
-
-        Order updated;
-        switch (cmd.status()) {
-            case CONFIRMED -> updated = current.confirm();
-            case CANCELLED -> updated = current.cancel();
-            case FULFILLED -> updated = current.fulfill();
-            case CREATED -> updated = current;
-            default -> throw new DomainValidationException("Unsupported status: " + cmd.status());
+        List<Order> updated = orderRepository.updateStatus(
+                List.of(id), Order.allowedPredecessors(cmd.status()), cmd.status());
+        if (!updated.isEmpty()) {
+            return updated.get(0);
         }
 
-        return orderRepository.save(updated);
+        Order current = orderRepository.findById(id)
+                .orElseThrow(() -> new OrderNotFoundException(cmd.orderId()));
+        throw new DomainValidationException(rejectionReason(current, cmd.status()));
     }
 
     // -------------------------------------------------------------------------
@@ -88,6 +89,12 @@ public class OrderApplicationService {
         return orderRepository.findByIds(orderIds);
     }
 
+    /**
+     * Offset paging with an exact count; cost grows with the page number.
+     *
+     * @deprecated use {@link #findSlice(OrderCursor, int, boolean)}
+     */
+    @Deprecated
     @Transactional(readOnly = true)
     public Page<Order> findPage(int page, int size) {
         PageRequest pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
@@ -100,35 +107,69 @@ public class OrderApplicationService {
         return new PageImpl<>(content, pageable, jpaPage.getTotalElements());
     }
 
+    /**
+     * Keyset page of orders, newest first, after {@code cursor} ({@code null} for the first page).
+     *
+     * <p>Reads {@code size + 1} rows from the {@code (created_at, id)} index to learn whether
+     * another page exists, so no count query is needed. The optional total is the planner's
+     * row estimate, not an exact count.</p>
+     */
+    @Transactional(readOnly = true)
+    public OrderSlice findSlice(OrderCursor cursor, int size, boolean includeEstimatedTotal) {
+        List<OrderJpaEntity> rows = cursor == null
+                ? jpaRepository.findFirstKeysetPage(size + 1)
+                : jpaRepository.findKeysetPageAfter(cursor.createdAt(), cursor.id(), size + 1);
+
+        boolean hasMore = rows.size() > size;
+        List<Order> content = rows.stream()
+                .limit(size)
+                .map(OrderEntityMapper::toDomain)
+                .toList();
+
+        OrderCursor next = null;
+        if (hasMore) {
+            Order last = content.get(content.size() - 1);
+            next = new OrderCursor(last.createdAt(), last.id().value());
+        }
+
+        Long estimatedTotal = null;
+        if (includeEstimatedTotal) {
+            long estimate = jpaRepository.estimateRowCount();
+            estimatedTotal = estimate >= 0 ? estimate : null;
+        }
+        return new OrderSlice(content, next, estimatedTotal);
+    }
+
     // -------------------------------------------------------------------------
     // Helpers
     // -------------------------------------------------------------------------
 
-    private Money calculateTotal(List<CreateOrderItemCommand> items) {
+    /**
+     * The domain's message for a transition the conditional update refused.
+     */
+    static String rejectionReason(Order current, OrderStatus target) {
+        try {
+            current.transitionTo(target);
+        } catch (DomainValidationException ex) {
+            return ex.getMessage();
+        }
+        // Allowed now, so the status moved between the UPDATE and the read
+        return "Order " + current.id().value() + " changed status concurrently, retry";
+    }
+
+    /**
+     * {@link Money#total} of the items, with its rejections reported as validation errors.
+     */
+    static Money calculateTotal(List<CreateOrderItemCommand> items) {
         if (items == null || items.isEmpty()) {
             throw new DomainValidationException("Order must contain at least one item");
         }
-
-        String currency = null;
-        BigDecimal totalAmount = BigDecimal.ZERO;
-
-        for (CreateOrderItemCommand item : items) {
-            if (item == null || item.unitPrice() == null) {
-                throw new DomainValidationException("Item and unitPrice must not be null");
-            }
-
-            String itemCurrency = item.unitPrice().getCurrencyCode();
-            if (currency == null) {
-                currency = itemCurrency;
-            } else if (!currency.equals(itemCurrency)) {
-                throw new DomainValidationException("All items must have the same currency");
-            }
-
-            BigDecimal line = item.unitPrice().getAmount()
-                    .multiply(BigDecimal.valueOf(item.quantity()));
-            totalAmount = totalAmount.add(line);
+        try {
+            return Money.total(items, item -> item == null ? null : item.unitPrice(), CreateOrderItemCommand::quantity);
+        } catch (ArithmeticException ex) {
+            throw new DomainValidationException("Order total is out of range");
+        } catch (IllegalArgumentException ex) {
+            throw new DomainValidationException(ex.getMessage());
         }
-
-        return Money.of(totalAmount, currency);
     }
 }
@@ -0,0 +1,51 @@
+package com.github.dimitryivaniuta.gateway.order.application.query;
+
+import com.github.dimitryivaniuta.gateway.order.exception.DomainValidationException;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in the {@code (created_at DESC, id DESC)} order listing: the last row of a page.
+ *
+ * <p>Clients see it only as an opaque URL-safe token (24 bytes: created_at in epoch
+ * microseconds, which is PostgreSQL's timestamp precision, followed by the id).</p>
+ */
+public record OrderCursor(OffsetDateTime createdAt, UUID id) {
+
+    private static final int TOKEN_BYTES = Long.BYTES * 3;
+
+    public String encode() {
+        Instant instant = createdAt.toInstant();
+        long micros = ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+        ByteBuffer buffer = ByteBuffer.allocate(TOKEN_BYTES)
+                .putLong(micros)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * @throws DomainValidationException if the token was not produced by {@link #encode()}
+     */
+    public static OrderCursor decode(String token) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException ex) {
+            throw new DomainValidationException("Invalid cursor");
+        }
+        if (bytes.length != TOKEN_BYTES) {
+            throw new DomainValidationException("Invalid cursor");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        Instant createdAt = Instant.EPOCH.plus(buffer.getLong(), ChronoUnit.MICROS);
+        UUID id = new UUID(buffer.getLong(), buffer.getLong());
+        return new OrderCursor(createdAt.atOffset(ZoneOffset.UTC), id);
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.dimitryivaniuta.gateway.order.application.query;
+
+import com.github.dimitryivaniuta.gateway.order.config.OrderReadProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Batch order lookup rendered to JSON by PostgreSQL.
+ *
+ * <p>The database builds the same array the JPA path produces ({@code OrderResponseDto} fields,
+ * in request order, unknown ids dropped, duplicates repeated) and the bytes of that single
+ * value are handed to the response as-is: no entities, no domain objects, no DTOs and no
+ * Jackson. {@code unnest ... WITH ORDINALITY} keeps the requested order.</p>
+ *
+ * <p>Timestamps are rendered by PostgreSQL ({@code 2025-01-01T10:00:00.123456+00:00}) rather
+ * than Jackson ({@code ...Z}); both are ISO-8601 offsets. Amounts are stored with four
+ * decimals and rounded to the two {@code Money} carries ({@code 10.00}, not {@code 10.0000}).</p>
+ */
+@Service
+public class OrderJsonReader {
+
+    private static final String ORDERS_JSON_SQL = """
+            SELECT COALESCE(json_agg(json_build_object(
+                       'id', o.id,
+                       'externalId', o.external_id,
+                       'customerId', o.customer_id,
+                       'status', o.status,
+                       'total', json_build_object('amount', round(o.total_amount, 2), 'currency', o.currency),
+                       'createdAt', o.created_at,
+                       'updatedAt', o.updated_at
+                   ) ORDER BY requested.ord), '[]'::json)
+              FROM unnest(?::uuid[]) WITH ORDINALITY AS requested(id, ord)
+              JOIN order_service.order_header o ON o.id = requested.id
+            """;
+
+    private static final byte[] EMPTY_ARRAY = {'[', ']'};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    public OrderJsonReader(JdbcTemplate jdbcTemplate, OrderReadProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = properties.databaseJsonOrDefault();
+    }
+
+    /**
+     * Whether {@code GET /internal/orders?ids=} should be served from here.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * UTF-8 JSON array of the orders with the given ids, in the given order.
+     */
+    @Transactional(readOnly = true)
+    public byte[] getOrdersJson(List<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return EMPTY_ARRAY;
+        }
+        UUID[] idArray = ids.toArray(UUID[]::new);
+        return jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(ORDERS_JSON_SQL);
+            ps.setArray(1, con.createArrayOf("uuid", idArray));
+            return ps;
+        }, rs -> {
+            // pgjdbc hands back the raw wire bytes of a text-format json column
+            return rs.next() ? rs.getBytes(1) : EMPTY_ARRAY;
+        });
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.dimitryivaniuta.gateway.order.application.query;
+
+import com.github.dimitryivaniuta.gateway.order.domain.Order;
+
+import java.util.List;
+
+/**
+ * One keyset page of orders.
+ *
+ * @param content        orders, newest first
+ * @param nextCursor     position after the last order, or {@code null} on the last page
+ * @param estimatedTotal planner estimate of all orders, or {@code null} if not requested/unknown
+ */
+public record OrderSlice(
+        List<Order> content,
+        OrderCursor nextCursor,
+        Long estimatedTotal
+) {
+}
@@ -0,0 +1,27 @@
+package com.github.dimitryivaniuta.gateway.order.application.result;
+
+import java.util.UUID;
+
+/**
+ * Outcome of one order in a bulk create: either the generated {@code id} or an {@code error}.
+ *
+ * @param index position of the order in the request
+ */
+public record CreateOrderResult(
+        int index,
+        UUID id,
+        String error
+) {
+
+    public static CreateOrderResult created(int index, UUID id) {
+        return new CreateOrderResult(index, id, null);
+    }
+
+    public static CreateOrderResult failed(int index, String error) {
+        return new CreateOrderResult(index, null, error);
+    }
+
+    public boolean isCreated() {
+        return id != null;
+    }
+}
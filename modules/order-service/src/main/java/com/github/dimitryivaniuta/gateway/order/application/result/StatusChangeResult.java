@@ -0,0 +1,37 @@
+package com.github.dimitryivaniuta.gateway.order.application.result;
+
+import com.github.dimitryivaniuta.gateway.order.domain.OrderStatus;
+
+import java.util.UUID;
+
+/**
+ * Outcome of one order in a bulk status change.
+ *
+ * @param status the order's status after the call ({@code null} if not found)
+ * @param error  why the transition was rejected ({@code null} unless {@link Outcome#REJECTED})
+ */
+public record StatusChangeResult(
+        UUID id,
+        Outcome outcome,
+        OrderStatus status,
+        String error
+) {
+
+    public enum Outcome {
+        UPDATED,
+        REJECTED,
+        NOT_FOUND
+    }
+
+    public static StatusChangeResult updated(UUID id, OrderStatus status) {
+        return new StatusChangeResult(id, Outcome.UPDATED, status, null);
+    }
+
+    public static StatusChangeResult rejected(UUID id, OrderStatus status, String error) {
+        return new StatusChangeResult(id, Outcome.REJECTED, status, error);
+    }
+
+    public static StatusChangeResult notFound(UUID id) {
+        return new StatusChangeResult(id, Outcome.NOT_FOUND, null, null);
+    }
+}
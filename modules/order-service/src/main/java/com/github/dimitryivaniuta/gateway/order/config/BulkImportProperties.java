@@ -0,0 +1,28 @@
+package com.github.dimitryivaniuta.gateway.order.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Limits for {@code POST /internal/orders/bulk}.
+ *
+ * <pre>
+ * orders:
+ *   bulk:
+ *     chunk-size: 500     # orders per JDBC batch / transaction
+ *     max-orders: 10000   # orders accepted per request
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "orders.bulk")
+public record BulkImportProperties(
+        Integer chunkSize,
+        Integer maxOrders
+) {
+
+    public int chunkSizeOrDefault() {
+        return chunkSize != null && chunkSize > 0 ? chunkSize : 500;
+    }
+
+    public int maxOrdersOrDefault() {
+        return maxOrders != null && maxOrders > 0 ? maxOrders : 10_000;
+    }
+}
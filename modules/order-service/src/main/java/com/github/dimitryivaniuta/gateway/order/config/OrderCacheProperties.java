@@ -0,0 +1,50 @@
+package com.github.dimitryivaniuta.gateway.order.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * In-process cache of orders by id, validated by the {@code version} column and kept
+ * coherent across order-service replicas through PostgreSQL {@code LISTEN/NOTIFY}.
+ *
+ * <pre>
+ * orders:
+ *   cache:
+ *     enabled: true
+ *     max-entries: 100000
+ *     strict: false               # re-check cached versions with an index-only query on every hit
+ *     poll-timeout-ms: 500        # wait for notifications before checking the connection
+ *     reconnect-backoff-ms: 1000  # delay before re-opening a lost listener connection
+ * </pre>
+ *
+ * <p>When disabled, or while the listener connection is down, reads go straight to the
+ * database and nothing is cached.</p>
+ */
+@ConfigurationProperties(prefix = "orders.cache")
+public record OrderCacheProperties(
+        Boolean enabled,
+        int maxEntries,
+        Boolean strict,
+        long pollTimeoutMs,
+        long reconnectBackoffMs
+) {
+
+    public boolean enabledOrDefault() {
+        return enabled == null || enabled;
+    }
+
+    public int maxEntriesOrDefault() {
+        return maxEntries > 0 ? maxEntries : 100_000;
+    }
+
+    public boolean strictOrDefault() {
+        return strict != null && strict;
+    }
+
+    public long pollTimeoutMsOrDefault() {
+        return pollTimeoutMs > 0 ? pollTimeoutMs : 500L;
+    }
+
+    public long reconnectBackoffMsOrDefault() {
+        return reconnectBackoffMs > 0 ? reconnectBackoffMs : 1_000L;
+    }
+}
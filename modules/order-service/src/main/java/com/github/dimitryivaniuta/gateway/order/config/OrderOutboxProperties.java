@@ -0,0 +1,42 @@
+package com.github.dimitryivaniuta.gateway.order.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Transactional outbox of order changes and the change feed served from it.
+ *
+ * <pre>
+ * orders:
+ *   outbox:
+ *     relay-interval-ms: 200   # how often the relay drains committed outbox rows
+ *     batch-size: 500          # rows stamped with feed positions per relay transaction
+ *     feed-poll-ms: 200        # how often change-feed subscribers check for rows relayed elsewhere
+ *     feed-buffer-size: 2000   # events buffered per change-feed stream; a consumer further behind is disconnected
+ *     retention-hours: 24      # published rows older than this are purged; older cursors get a reset
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "orders.outbox")
+public record OrderOutboxProperties(
+        long relayIntervalMs,
+        int batchSize,
+        long feedPollMs,
+        int feedBufferSize,
+        int retentionHours
+) {
+
+    public int batchSizeOrDefault() {
+        return batchSize > 0 ? batchSize : 500;
+    }
+
+    public long feedPollMsOrDefault() {
+        return feedPollMs > 0 ? feedPollMs : 200L;
+    }
+
+    public int feedBufferSizeOrDefault() {
+        return feedBufferSize > 0 ? feedBufferSize : 2000;
+    }
+
+    public int retentionHoursOrDefault() {
+        return retentionHours > 0 ? retentionHours : 24;
+    }
+}
@@ -0,0 +1,22 @@
+package com.github.dimitryivaniuta.gateway.order.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Read-path options for {@code GET /internal/orders?ids=}.
+ *
+ * <pre>
+ * orders:
+ *   read:
+ *     database-json: true   # Postgres renders the response JSON, bypassing JPA and Jackson
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "orders.read")
+public record OrderReadProperties(
+        Boolean databaseJson
+) {
+
+    public boolean databaseJsonOrDefault() {
+        return databaseJson != null && databaseJson;
+    }
+}
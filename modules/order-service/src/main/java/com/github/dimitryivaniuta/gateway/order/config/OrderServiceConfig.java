@@ -21,7 +21,14 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 @EntityScan(
         basePackageClasses = OrderJpaEntity.class
 )
-@EnableConfigurationProperties(JwtResourceServerProperties.class)
+@EnableConfigurationProperties({
+        JwtResourceServerProperties.class,
+        BulkImportProperties.class,
+        OrderReadProperties.class,
+        OrderCacheProperties.class,
+        OrderOutboxProperties.class,
+        ReplicaRoutingProperties.class
+})
 public class OrderServiceConfig {
     // no extra beans needed for now
 }
\ No newline at end of file
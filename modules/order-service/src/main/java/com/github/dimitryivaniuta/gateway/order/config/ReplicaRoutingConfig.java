@@ -0,0 +1,76 @@
+package com.github.dimitryivaniuta.gateway.order.config;
+
+import com.github.dimitryivaniuta.gateway.order.infrastructure.datasource.ReplicaLagMonitor;
+import com.github.dimitryivaniuta.gateway.order.infrastructure.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+/**
+ * Primary and replica connection pools behind one routing {@link DataSource}
+ * ({@code orders.replica.enabled=true}).
+ *
+ * <p>The primary pool is the one Spring Boot would otherwise build from
+ * {@code spring.datasource.*}; JPA, JdbcTemplate and Flyway all get the routing proxy, which
+ * only sends read-only transactions to the replica. The cache and outbox listeners open their
+ * own connections from {@code spring.datasource.url} and stay on the primary.</p>
+ *
+ * <p>Locally: {@code docker compose --profile replica up} starts a streaming standby of the
+ * compose database on port 5450.</p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "orders.replica", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(ReplicaRoutingProperties replica, DataSourceProperties primary) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(replica.url());
+        dataSource.setUsername(replica.username() != null ? replica.username() : primary.determineUsername());
+        dataSource.setPassword(replica.password() != null ? replica.password() : primary.determinePassword());
+        dataSource.setMaximumPoolSize(replica.maxPoolSizeOrDefault());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") DataSource primary,
+                                               @Qualifier("replicaDataSource") DataSource replica,
+                                               ReplicaRoutingProperties properties,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(primary, replica, properties.maxLagBytesOrDefault(), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReplicaLagMonitor monitor,
+                                 MeterRegistry meterRegistry) {
+        LazyConnectionDataSourceProxy proxy =
+                new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica, monitor, meterRegistry));
+        // known up front, so the proxy does not have to open a connection to find out
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return proxy;
+    }
+}
@@ -0,0 +1,44 @@
+package com.github.dimitryivaniuta.gateway.order.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Read replica for read-only transactions.
+ *
+ * <pre>
+ * orders:
+ *   replica:
+ *     enabled: true
+ *     url: jdbc:postgresql://localhost:5450/app   # a streaming standby of spring.datasource.url
+ *     username: app                              # defaults to spring.datasource.username
+ *     password: app                              # defaults to spring.datasource.password
+ *     max-pool-size: 10
+ *     max-lag-bytes: 16777216                    # WAL the standby may be behind before reads go to the primary
+ *     lag-check-interval-ms: 1000
+ * </pre>
+ *
+ * <p>When disabled (the default) there is a single pool on the primary.</p>
+ */
+@ConfigurationProperties(prefix = "orders.replica")
+public record ReplicaRoutingProperties(
+        Boolean enabled,
+        String url,
+        String username,
+        String password,
+        int maxPoolSize,
+        long maxLagBytes,
+        long lagCheckIntervalMs
+) {
+
+    public boolean enabledOrDefault() {
+        return enabled != null && enabled;
+    }
+
+    public int maxPoolSizeOrDefault() {
+        return maxPoolSize > 0 ? maxPoolSize : 10;
+    }
+
+    public long maxLagBytesOrDefault() {
+        return maxLagBytes > 0 ? maxLagBytes : 16L * 1024 * 1024;
+    }
+}
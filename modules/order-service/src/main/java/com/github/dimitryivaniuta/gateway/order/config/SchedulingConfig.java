@@ -0,0 +1,13 @@
+package com.github.dimitryivaniuta.gateway.order.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs (outbox relay, housekeeping).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    // no beans needed – just switches scheduling on
+}
@@ -4,7 +4,13 @@ import com.github.dimitryivaniuta.gateway.common.money.Money;
 import com.github.dimitryivaniuta.gateway.order.exception.DomainValidationException;
 import lombok.Builder;
 
+import java.math.BigDecimal;
 import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -97,6 +103,33 @@ public record Order(
         return withStatus(OrderStatus.FULFILLED);
     }
 
+    /**
+     * Applies the transition to {@code target} under the rules of {@link #confirm()},
+     * {@link #cancel()} and {@link #fulfill()}. {@code CREATED} is only reachable from itself.
+     */
+    public Order transitionTo(OrderStatus target) {
+        return switch (target) {
+            case CONFIRMED -> confirm();
+            case CANCELLED -> cancel();
+            case FULFILLED -> fulfill();
+            case CREATED -> {
+                if (!isCreated()) {
+                    throw new DomainValidationException("Cannot move an order back to CREATED");
+                }
+                yield this;
+            }
+        };
+    }
+
+    /**
+     * Statuses from which {@code target} may be reached, for enforcing transitions in a single
+     * conditional {@code UPDATE}. Derived by probing {@link #transitionTo}, so it cannot drift
+     * from the rules above.
+     */
+    public static Set<OrderStatus> allowedPredecessors(OrderStatus target) {
+        return Predecessors.TABLE.get(target);
+    }
+
     public Order withStatus(OrderStatus newStatus) {
         return new Order(
                 this.id,
@@ -123,5 +156,29 @@ public record Order(
                 this.externalId
         );
     }
-}
 
+    private static final class Predecessors {
+
+        private static final Map<OrderStatus, Set<OrderStatus>> TABLE = build();
+
+        private static Map<OrderStatus, Set<OrderStatus>> build() {
+            OffsetDateTime now = OffsetDateTime.now();
+            Money probeTotal = Money.of(BigDecimal.ONE, "USD");
+            Map<OrderStatus, Set<OrderStatus>> table = new EnumMap<>(OrderStatus.class);
+            for (OrderStatus target : OrderStatus.values()) {
+                Set<OrderStatus> from = EnumSet.noneOf(OrderStatus.class);
+                for (OrderStatus source : OrderStatus.values()) {
+                    Order probe = new Order(null, null, source, probeTotal, now, now, null);
+                    try {
+                        probe.transitionTo(target);
+                        from.add(source);
+                    } catch (DomainValidationException ignored) {
+                        // not an allowed predecessor
+                    }
+                }
+                table.put(target, Collections.unmodifiableSet(from));
+            }
+            return table;
+        }
+    }
+}
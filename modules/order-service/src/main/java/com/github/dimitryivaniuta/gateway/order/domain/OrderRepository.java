@@ -3,6 +3,7 @@ package com.github.dimitryivaniuta.gateway.order.domain;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Domain repository port for Order aggregate.
@@ -17,4 +18,12 @@ public interface OrderRepository {
     List<Order> findByIds(Collection<OrderId> ids);
 
     Order save(Order order);
+
+    /**
+     * Moves the orders among {@code ids} whose current status is in {@code from} to {@code to},
+     * in one statement, bumping their version.
+     *
+     * @return the updated orders; ids that were missing or in another status are absent
+     */
+    List<Order> updateStatus(Collection<OrderId> ids, Set<OrderStatus> from, OrderStatus to);
 }
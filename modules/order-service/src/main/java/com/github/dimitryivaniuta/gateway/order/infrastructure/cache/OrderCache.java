@@ -0,0 +1,191 @@
+package com.github.dimitryivaniuta.gateway.order.infrastructure.cache;
+
+import com.github.dimitryivaniuta.gateway.order.config.OrderCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded read cache of orders by id, each entry tagged with the row {@code version}.
+ *
+ * <p>Entries are dropped when a change notification carries a newer version than the cached
+ * one (see {@link OrderCacheInvalidationListener}), so every write path must bump
+ * {@code version}; JPA saves and the conditional status update both do.</p>
+ *
+ * <p>As in the gateway's coherent caches, nothing is read or stored while the listener is
+ * not connected, and a loaded row is only stored if no notification arrived since the
+ * caller observed {@link #epoch()} before loading it; otherwise a read racing with another
+ * replica's commit could put back the row that commit's notification has just evicted.</p>
+ *
+ * <p>Rows may also be loaded from a lagging read replica, so the cache remembers the last
+ * notified version of up to {@code max-entries} recently changed ids and never stores a row
+ * older than that: a replica that has not replayed a change the listener already saw cannot
+ * put the old row back. Changes committed before the listener (re)connected are not known;
+ * they are bounded by the replica lag limit of {@code ReplicaLagMonitor}.</p>
+ */
+@Component
+public class OrderCache {
+
+    private final int maxEntries;
+    private final boolean strict;
+    private final ConcurrentHashMap<UUID, VersionedOrder> entries = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter stale;
+
+    private volatile boolean live;
+
+    // guarded by this; bumped by every notification
+    private long epoch;
+
+    // guarded by this; last notified version per id (Long.MAX_VALUE once deleted), oldest dropped first
+    private final Map<UUID, Long> notifiedVersions;
+
+    public OrderCache(OrderCacheProperties properties, MeterRegistry meterRegistry) {
+        this.maxEntries = properties.maxEntriesOrDefault();
+        this.strict = properties.strictOrDefault();
+        this.notifiedVersions = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Long> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.hits = Counter.builder("orders.cache.requests")
+                .description("Order lookups by id answered by the cache or the database")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("orders.cache.requests")
+                .description("Order lookups by id answered by the cache or the database")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.stale = Counter.builder("orders.cache.stale")
+                .description("Cached orders rejected by the strict-mode version check")
+                .register(meterRegistry);
+        Gauge.builder("orders.cache.hit.ratio", this, OrderCache::hitRatio)
+                .description("Share of order lookups by id answered by the cache")
+                .register(meterRegistry);
+        Gauge.builder("orders.cache.entries", entries, Map::size)
+                .description("Orders held by the cache")
+                .register(meterRegistry);
+        Gauge.builder("orders.cache.live", this, cache -> cache.live ? 1 : 0)
+                .description("1 while the invalidation listener is connected")
+                .register(meterRegistry);
+    }
+
+    public boolean isLive() {
+        return live;
+    }
+
+    /**
+     * Whether hits must be confirmed against the {@code version} column before use.
+     */
+    public boolean isStrict() {
+        return strict;
+    }
+
+    /**
+     * Cached entries among {@code ids}; empty while the cache is not live.
+     */
+    public Map<UUID, VersionedOrder> getAll(Collection<UUID> ids) {
+        Map<UUID, VersionedOrder> found = new HashMap<>();
+        if (!live) {
+            return found;
+        }
+        for (UUID id : ids) {
+            VersionedOrder cached = entries.get(id);
+            if (cached != null) {
+                found.put(id, cached);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Count one lookup batch, after any strict-mode rejections.
+     */
+    public void record(int hitCount, int missCount) {
+        hits.increment(hitCount);
+        misses.increment(missCount);
+    }
+
+    /**
+     * Drop an entry the strict-mode version check found outdated.
+     */
+    public void rejectStale(UUID id) {
+        entries.remove(id);
+        stale.increment();
+    }
+
+    public synchronized long epoch() {
+        return epoch;
+    }
+
+    /**
+     * Store rows loaded after {@code observedEpoch} was read, unless a notification arrived
+     * since; rows older than their id's last notified version are skipped either way.
+     */
+    public synchronized void putAllIfCurrent(Collection<VersionedOrder> loaded, long observedEpoch) {
+        if (!live || epoch != observedEpoch) {
+            return;
+        }
+        for (VersionedOrder order : loaded) {
+            Long notified = notifiedVersions.get(order.id());
+            if (notified != null && order.version() < notified) {
+                continue;
+            }
+            if (!entries.containsKey(order.id()) && entries.size() >= maxEntries) {
+                // no recency tracking on the hot path; dropping an arbitrary entry is enough
+                Iterator<UUID> victim = entries.keySet().iterator();
+                if (victim.hasNext()) {
+                    victim.next();
+                    victim.remove();
+                }
+            }
+            entries.merge(order.id(), order, (current, next) -> next.version() >= current.version() ? next : current);
+        }
+    }
+
+    /**
+     * A committed change to {@code id}; {@code version} is {@code null} for a delete.
+     */
+    synchronized void onChange(UUID id, Long version) {
+        epoch++;
+        notifiedVersions.merge(id, version == null ? Long.MAX_VALUE : version, Math::max);
+        VersionedOrder cached = entries.get(id);
+        if (cached != null && (version == null || cached.version() < version)) {
+            entries.remove(id);
+        }
+    }
+
+    synchronized void connected() {
+        epoch++;
+        entries.clear();
+        notifiedVersions.clear();
+        live = true;
+    }
+
+    synchronized void disconnected() {
+        live = false;
+        epoch++;
+        entries.clear();
+        notifiedVersions.clear();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0.0 : hits.count() / total;
+    }
+}
@@ -0,0 +1,190 @@
+package com.github.dimitryivaniuta.gateway.order.infrastructure.cache;
+
+import com.github.dimitryivaniuta.gateway.order.config.OrderCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feeds committed {@code order_header} changes from every replica into the {@link OrderCache}.
+ *
+ * <p>Statement-level triggers (migration {@code V20251201_000003}) send comma-separated
+ * {@code <id>:<version>} entries on channel {@value #CHANNEL} for updates and bare {@code <id>}
+ * entries for deletes. A daemon thread, started and stopped with the application context,
+ * holds one dedicated connection (outside the Hikari pool) listening on that channel, the
+ * same way the gateway's {@code CacheCoherenceChannel} does.</p>
+ *
+ * <p>Notifications sent while the listener is down are lost, so the cache is only live while
+ * the connection is up and is cleared on every (re)connect once {@code LISTEN} is in place.</p>
+ */
+@Component
+public class OrderCacheInvalidationListener implements SmartLifecycle {
+
+    public static final String CHANNEL = "order_cache";
+
+    private static final Logger log = LoggerFactory.getLogger(OrderCacheInvalidationListener.class);
+
+    private static final long VALIDATION_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final OrderCache cache;
+    private final OrderCacheProperties properties;
+    private final DataSourceProperties dataSource;
+    private final Counter reconnects;
+
+    private volatile boolean running;
+    private volatile Thread listener;
+    private volatile Connection connection;
+
+    public OrderCacheInvalidationListener(OrderCache cache,
+                                          OrderCacheProperties properties,
+                                          DataSourceProperties dataSource,
+                                          MeterRegistry meterRegistry) {
+        this.cache = cache;
+        this.properties = properties;
+        this.dataSource = dataSource;
+        this.reconnects = Counter.builder("orders.cache.reconnects")
+                .description("Times the order cache invalidation listener (re)connected and cleared the cache")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        if (!properties.enabledOrDefault()) {
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(this::listen, "order-cache-listener");
+        thread.setDaemon(true);
+        thread.start();
+        this.listener = thread;
+    }
+
+    @Override
+    public void stop() {
+        Thread thread = this.listener;
+        if (thread == null) {
+            return;
+        }
+        running = false;
+        thread.interrupt();
+        closeQuietly(connection);
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        this.listener = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return listener != null;
+    }
+
+    // -------------------------------------------------------------------------
+    // Listener thread
+    // -------------------------------------------------------------------------
+
+    private void listen() {
+        boolean failedBefore = false;
+        while (running) {
+            try (Connection conn = DriverManager.getConnection(
+                    dataSource.determineUrl(), dataSource.determineUsername(), dataSource.determinePassword())) {
+                connection = conn;
+                try (Statement statement = conn.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                // changes up to now may have been missed: start from the table again
+                cache.connected();
+                reconnects.increment();
+                log.info("Order cache listener connected on channel '{}'", CHANNEL);
+                failedBefore = false;
+
+                receive(conn);
+            } catch (SQLException | RuntimeException ex) {
+                if (running && !failedBefore) {
+                    log.warn("Order cache listener disconnected, cache bypassed until it reconnects: {}",
+                            ex.getMessage());
+                }
+                failedBefore = true;
+            } finally {
+                connection = null;
+                cache.disconnected();
+            }
+            backoff();
+        }
+    }
+
+    private void receive(Connection conn) throws SQLException {
+        PGConnection pg = conn.unwrap(PGConnection.class);
+        int timeoutMs = (int) properties.pollTimeoutMsOrDefault();
+        long lastValidated = System.nanoTime();
+        while (running) {
+            PGNotification[] notifications = pg.getNotifications(timeoutMs);
+            if (notifications != null && notifications.length > 0) {
+                for (PGNotification notification : notifications) {
+                    apply(notification.getParameter());
+                }
+                lastValidated = System.nanoTime();
+            } else if (System.nanoTime() - lastValidated > VALIDATION_INTERVAL_NANOS) {
+                // a half-open socket would otherwise look like a quiet channel forever
+                try (Statement statement = conn.createStatement()) {
+                    statement.execute("SELECT 1");
+                }
+                lastValidated = System.nanoTime();
+            }
+        }
+    }
+
+    void apply(String payload) {
+        for (String entry : payload.split(",")) {
+            int separator = entry.indexOf(':');
+            try {
+                if (separator < 0) {
+                    cache.onChange(UUID.fromString(entry), null);
+                } else {
+                    cache.onChange(UUID.fromString(entry.substring(0, separator)),
+                            Long.parseLong(entry.substring(separator + 1)));
+                }
+            } catch (IllegalArgumentException ex) {
+                log.debug("Ignoring malformed order cache invalidation '{}'", entry);
+            }
+        }
+    }
+
+    private void backoff() {
+        if (!running) {
+            return;
+        }
+        try {
+            Thread.sleep(properties.reconnectBackoffMsOrDefault());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private static void closeQuietly(Connection conn) {
+        if (conn == null) {
+            return;
+        }
+        try {
+            conn.close();
+        } catch (SQLException ignored) {
+            // shutting down
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.github.dimitryivaniuta.gateway.order.infrastructure.cache;
+
+import com.github.dimitryivaniuta.gateway.order.domain.Order;
+
+import java.util.UUID;
+
+/**
+ * An order as read from {@code order_header} together with its optimistic-lock version.
+ */
+public record VersionedOrder(Order order, long version) {
+
+    public UUID id() {
+        return order.id().value();
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.dimitryivaniuta.gateway.order.infrastructure.datasource;
+
+import java.util.function.Consumer;
+
+/**
+ * Read-your-writes across the primary and the replica, per request.
+ *
+ * <p>A request that commits a write is given the primary's WAL position after the commit
+ * ({@value #HEADER} response header). A later request presenting that token is only served
+ * by the replica once the replica has replayed up to it; until then its read-only
+ * transactions go to the primary. Requests without a token read whatever the replica has.</p>
+ *
+ * <p>The scope is opened by {@code ConsistencyTokenFilter} and consulted by
+ * {@link ReplicaRoutingDataSource} on the request thread.</p>
+ */
+public final class ConsistencyToken {
+
+    public static final String HEADER = "X-Consistency-Token";
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private ConsistencyToken() {
+    }
+
+    /**
+     * Start a scope requiring {@code required} (may be {@code null}); tokens issued by writes
+     * in the scope are handed to {@code issued}.
+     *
+     * @throws IllegalArgumentException if {@code required} is not a WAL position
+     */
+    public static Scope open(String required, Consumer<String> issued) {
+        Scope scope = new Scope(required == null || required.isBlank() ? null : WalLsn.parse(required.trim()), issued);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static boolean isScoped() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * WAL position the replica must have replayed for this request, or {@code null}.
+     */
+    static Long requiredLsn() {
+        Scope scope = CURRENT.get();
+        return scope == null ? null : scope.required;
+    }
+
+    static void issue(String token) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.issued.accept(token);
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Long required;
+        private final Consumer<String> issued;
+
+        private Scope(Long required, Consumer<String> issued) {
+            this.required = required;
+            this.issued = issued;
+        }
+
+        @Override
+        public void close() {
+            CURRENT.remove();
+        }
+    }
+}
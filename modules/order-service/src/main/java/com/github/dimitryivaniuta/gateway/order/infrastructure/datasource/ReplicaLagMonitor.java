@@ -0,0 +1,105 @@
+package com.github.dimitryivaniuta.gateway.order.infrastructure.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+/**
+ * Tracks how far the replica's WAL replay is behind the primary.
+ *
+ * <p>The replica is usable while it is a standby ({@code pg_last_wal_replay_lsn()} is not
+ * {@code null}), answers, and is at most {@code maxLagBytes} of WAL behind the primary's
+ * {@code pg_current_wal_lsn()}. Lag is measured in WAL bytes rather than replay time, which
+ * reads as growing on an idle primary. The replayed position is also the first, cheap check
+ * of consistency tokens: one at or below it needs no round trip to the replica.</p>
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final long maxLagBytes;
+
+    private volatile boolean usable;
+    private volatile long replayedLsn;
+    private volatile long lagBytes = -1;
+
+    // only touched by the scheduler thread
+    private boolean notStandbyLogged;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, long maxLagBytes, MeterRegistry meterRegistry) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxLagBytes = maxLagBytes;
+        Gauge.builder("orders.replica.lag.bytes", this, monitor -> monitor.lagBytes)
+                .description("WAL bytes the replica has not replayed yet (-1 while unknown)")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("orders.replica.usable", this, monitor -> monitor.usable ? 1 : 0)
+                .description("1 while read-only transactions may go to the replica")
+                .register(meterRegistry);
+    }
+
+    public boolean isUsable() {
+        return usable;
+    }
+
+    /**
+     * Replica replay position as of the last check.
+     */
+    public long replayedLsn() {
+        return replayedLsn;
+    }
+
+    @Scheduled(fixedDelayString = "${orders.replica.lag-check-interval-ms:1000}")
+    public void refresh() {
+        try {
+            // replica first: its position can only be behind the primary's read right after it
+            String replayed = replica.queryForObject("SELECT pg_last_wal_replay_lsn()::text", String.class);
+            String current = primary.queryForObject("SELECT pg_current_wal_lsn()::text", String.class);
+            update(WalLsn.parse(current), replayed == null ? null : WalLsn.parse(replayed));
+        } catch (DataAccessException | IllegalArgumentException ex) {
+            if (usable) {
+                log.warn("Replica lag check failed, reading from the primary until it succeeds: {}", ex.getMessage());
+            }
+            usable = false;
+            lagBytes = -1;
+        }
+    }
+
+    void update(long primaryLsn, Long replicaReplayedLsn) {
+        if (replicaReplayedLsn == null) {
+            if (!notStandbyLogged) {
+                log.warn("Replica is not a standby (pg_last_wal_replay_lsn() is null), reading from the primary");
+                notStandbyLogged = true;
+            }
+            usable = false;
+            lagBytes = -1;
+            return;
+        }
+        notStandbyLogged = false;
+        replayedLsn = replicaReplayedLsn;
+        lagBytes = Math.max(0, primaryLsn - replicaReplayedLsn);
+        boolean withinLimit = lagBytes <= maxLagBytes;
+        if (usable != withinLimit) {
+            log.info("Replica {} ({} WAL bytes behind, limit {})",
+                    withinLimit ? "caught up, serving read-only transactions" : "lagging, reads go to the primary",
+                    lagBytes, maxLagBytes);
+        }
+        usable = withinLimit;
+    }
+
+    /**
+     * Stop routing to the replica until the next successful check.
+     */
+    void markUnusable() {
+        usable = false;
+    }
+}
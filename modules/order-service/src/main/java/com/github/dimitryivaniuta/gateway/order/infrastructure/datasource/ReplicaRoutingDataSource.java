@@ -0,0 +1,198 @@
+package com.github.dimitryivaniuta.gateway.order.infrastructure.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.function.Supplier;
+
+/**
+ * Sends read-only transactions to the replica pool and everything else to the primary.
+ *
+ * <p>Must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}:
+ * the transaction manager asks for a connection before it marks the transaction read-only,
+ * and the proxy defers that request to the first statement.</p>
+ *
+ * <p>A read-only transaction still goes to the primary when:</p>
+ * <ul>
+ *   <li>the replica is lagging or unreachable ({@link ReplicaLagMonitor});</li>
+ *   <li>the request carries a {@link ConsistencyToken} the replica has not replayed yet;</li>
+ *   <li>the caller asked for it with {@link #usePrimary(Supplier)}.</li>
+ * </ul>
+ *
+ * <p>Read-write transactions in a {@link ConsistencyToken} scope issue a token after commit.</p>
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private static final ThreadLocal<Integer> PRIMARY_REQUIRED = ThreadLocal.withInitial(() -> 0);
+
+    // transaction resources marking "served by the replica" and "token issue registered"
+    private static final Object ON_REPLICA = new Object();
+    private static final Object TOKEN_REGISTERED = new Object();
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor monitor;
+    private final Counter replicaReads;
+    private final Counter primaryReads;
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    DataSource replica,
+                                    ReplicaLagMonitor monitor,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.monitor = monitor;
+        this.replicaReads = Counter.builder("orders.replica.reads")
+                .description("Read-only transactions by the pool that served them")
+                .tag("target", "replica")
+                .register(meterRegistry);
+        this.primaryReads = Counter.builder("orders.replica.reads")
+                .description("Read-only transactions by the pool that served them")
+                .tag("target", "primary")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run {@code action} with read-only transactions it starts (or whose first statement it
+     * issues) routed to the primary, e.g. when the result feeds a cache invalidated by
+     * primary-side notifications.
+     */
+    public static <T> T usePrimary(Supplier<T> action) {
+        PRIMARY_REQUIRED.set(PRIMARY_REQUIRED.get() + 1);
+        try {
+            return action.get();
+        } finally {
+            int depth = PRIMARY_REQUIRED.get() - 1;
+            if (depth == 0) {
+                PRIMARY_REQUIRED.remove();
+            } else {
+                PRIMARY_REQUIRED.set(depth);
+            }
+        }
+    }
+
+    /**
+     * Whether the current transaction reads from the replica (and may see data older than
+     * the primary's).
+     */
+    public static boolean isCurrentTransactionOnReplica() {
+        return TransactionSynchronizationManager.hasResource(ON_REPLICA);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            Connection connection = primary.getConnection();
+            if (ConsistencyToken.isScoped()) {
+                issueTokenAfterCommit(connection);
+            }
+            return connection;
+        }
+        if (PRIMARY_REQUIRED.get() > 0 || !monitor.isUsable()) {
+            primaryReads.increment();
+            return primary.getConnection();
+        }
+
+        Connection connection;
+        try {
+            connection = replica.getConnection();
+        } catch (SQLException ex) {
+            log.warn("Replica connection failed, reading from the primary: {}", ex.getMessage());
+            monitor.markUnusable();
+            primaryReads.increment();
+            return primary.getConnection();
+        }
+
+        Long required = ConsistencyToken.requiredLsn();
+        if (required != null && monitor.replayedLsn() < required && !hasReplayed(connection, required)) {
+            connection.close();
+            primaryReads.increment();
+            return primary.getConnection();
+        }
+
+        markOnReplica();
+        replicaReads.increment();
+        return connection;
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        // explicit credentials bypass routing: only the primary is guaranteed to accept them
+        return primary.getConnection(username, password);
+    }
+
+    // -------------------------------------------------------------------------
+    // Helpers
+    // -------------------------------------------------------------------------
+
+    private static boolean hasReplayed(Connection connection, long required) {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT pg_last_wal_replay_lsn() >= ?::pg_lsn")) {
+            ps.setString(1, WalLsn.format(required));
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        } catch (SQLException ex) {
+            log.debug("Replica replay position check failed, reading from the primary: {}", ex.getMessage());
+            return false;
+        }
+    }
+
+    private static void markOnReplica() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(ON_REPLICA)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(ON_REPLICA, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ON_REPLICA);
+            }
+        });
+    }
+
+    /**
+     * Issue a token from the transaction's own connection once it has committed. The
+     * connection is still bound (the transaction manager releases it after the
+     * {@code afterCommit} callbacks), so no second primary connection is needed.
+     */
+    private static void issueTokenAfterCommit(Connection connection) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(TOKEN_REGISTERED)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(TOKEN_REGISTERED, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // at or past this transaction's commit record, hence read after commit, not before
+                try (Statement statement = connection.createStatement();
+                     ResultSet rs = statement.executeQuery("SELECT pg_current_wal_lsn()::text")) {
+                    if (rs.next()) {
+                        ConsistencyToken.issue(rs.getString(1));
+                    }
+                } catch (SQLException ex) {
+                    log.warn("Could not read the primary WAL position for a consistency token: {}", ex.getMessage());
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TOKEN_REGISTERED);
+            }
+        });
+    }
+}
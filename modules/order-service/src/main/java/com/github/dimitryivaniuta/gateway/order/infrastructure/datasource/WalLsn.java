@@ -0,0 +1,34 @@
+package com.github.dimitryivaniuta.gateway.order.infrastructure.datasource;
+
+/**
+ * PostgreSQL WAL positions ({@code pg_lsn}, written {@code 16/B374D848}) as comparable longs.
+ */
+public final class WalLsn {
+
+    private WalLsn() {
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code text} is not an LSN
+     */
+    public static long parse(String text) {
+        int slash = text == null ? -1 : text.indexOf('/');
+        if (slash <= 0 || slash == text.length() - 1) {
+            throw new IllegalArgumentException("Malformed WAL position: " + text);
+        }
+        try {
+            long high = Long.parseLong(text.substring(0, slash), 16);
+            long low = Long.parseLong(text.substring(slash + 1), 16);
+            if (high > 0xFFFFFFFFL || low > 0xFFFFFFFFL || high < 0 || low < 0) {
+                throw new IllegalArgumentException("Malformed WAL position: " + text);
+            }
+            return (high << 32) | low;
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Malformed WAL position: " + text, ex);
+        }
+    }
+
+    public static String format(long lsn) {
+        return Long.toHexString(lsn >>> 32).toUpperCase() + "/" + Long.toHexString(lsn & 0xFFFFFFFFL).toUpperCase();
+    }
+}
@@ -0,0 +1,15 @@
+package com.github.dimitryivaniuta.gateway.order.infrastructure.outbox;
+
+import java.util.UUID;
+
+/**
+ * One published change-feed entry.
+ *
+ * @param position feed cursor; strictly increasing in publication order
+ * @param orderId  changed order
+ * @param version  order {@code version} after the change, for de-duplication by consumers
+ * @param type     kind of change
+ * @param payload  the order after the change, as the JSON {@code /internal/orders} returns
+ */
+public record OrderChange(long position, UUID orderId, long version, OrderChangeType type, String payload) {
+}
@@ -0,0 +1,293 @@
+package com.github.dimitryivaniuta.gateway.order.infrastructure.outbox;
+
+import com.github.dimitryivaniuta.gateway.order.config.OrderOutboxProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Server-sent-event streams of published order changes ({@code GET /internal/orders/changes}).
+ *
+ * <p>Each event carries its feed position as the SSE {@code id}, the change type as the event
+ * name and the order JSON as data. A consumer resumes after the last position it processed
+ * ({@code ?since=} or the standard {@code Last-Event-ID} header), so delivery is at-least-once
+ * and ordered per order; the order {@code version} in the payload lets it drop duplicates.
+ * A cursor older than the retained outbox gets a {@code reset} event first: the consumer must
+ * drop whatever it derived from the feed (a cache can simply be cleared).</p>
+ *
+ * <p>One pump thread per replica, started and stopped with the application context, reads
+ * the outbox for all streams. It is woken by the local {@link OrderOutboxRelay} and otherwise
+ * checks the feed head every {@link OrderOutboxProperties#feedPollMsOrDefault()}, which is how
+ * rows relayed by other replicas are picked up. The pump never writes to a client: it hands events to a bounded
+ * buffer per stream ({@link OrderOutboxProperties#feedBufferSizeOrDefault()}), drained by
+ * that stream's own writer (a virtual thread). A stream whose buffer is full is closed, so
+ * one slow consumer cannot hold up the others; it reconnects with {@code Last-Event-ID} and
+ * catches up from the outbox.</p>
+ */
+@Component
+public class OrderChangeFeed implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderChangeFeed.class);
+
+    private static final long STREAM_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(30);
+    private static final long HEARTBEAT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final int PAGE_SIZE = 500;
+
+    private static final String HEAD_SQL =
+            "SELECT COALESCE(max(position), 0) FROM order_service.order_outbox WHERE position IS NOT NULL";
+
+    private static final String OLDEST_SQL =
+            "SELECT min(position) FROM order_service.order_outbox WHERE position IS NOT NULL";
+
+    private static final String READ_SQL = """
+            SELECT position, order_id, version, change_type, payload
+              FROM order_service.order_outbox
+             WHERE position > ?
+             ORDER BY position
+             LIMIT ?
+            """;
+
+    // tells a writer to complete its stream and stop
+    private static final SseEmitter.SseEventBuilder END_OF_STREAM = SseEmitter.event();
+
+    private static final RowMapper<OrderChange> CHANGE_ROW_MAPPER = (rs, rowNum) -> new OrderChange(
+            rs.getLong("position"),
+            rs.getObject("order_id", UUID.class),
+            rs.getLong("version"),
+            OrderChangeType.valueOf(rs.getString("change_type")),
+            rs.getString("payload")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long pollMs;
+    private final int bufferSize;
+    private final Counter dropped;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final Object signal = new Object();
+
+    private volatile boolean running;
+    private volatile Thread pump;
+
+    // guarded by signal
+    private boolean pending;
+
+    public OrderChangeFeed(JdbcTemplate jdbcTemplate,
+                           OrderOutboxProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.pollMs = properties.feedPollMsOrDefault();
+        this.bufferSize = properties.feedBufferSizeOrDefault();
+        this.dropped = Counter.builder("orders.changes.dropped")
+                .description("Change-feed streams closed because the consumer fell behind")
+                .register(meterRegistry);
+        Gauge.builder("orders.changes.subscribers", subscribers, List::size)
+                .description("Open order change-feed streams")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        Thread thread = new Thread(this::pump, "order-change-feed");
+        thread.setDaemon(true);
+        thread.start();
+        this.pump = thread;
+    }
+
+    @Override
+    public void stop() {
+        Thread thread = this.pump;
+        if (thread == null) {
+            return;
+        }
+        running = false;
+        thread.interrupt();
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        subscribers.forEach(this::close);
+        this.pump = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return pump != null;
+    }
+
+    /**
+     * Open a stream of changes after position {@code since}; {@code null} starts at the current head.
+     */
+    public SseEmitter subscribe(Long since) {
+        long head = head();
+        long cursor = since == null ? head : since;
+
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MS);
+        Subscriber subscriber = new Subscriber(emitter, cursor, bufferSize);
+        emitter.onCompletion(() -> close(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(error -> close(subscriber));
+
+        Long oldest = jdbcTemplate.queryForObject(OLDEST_SQL, Long.class);
+        if (cursor > 0 && oldest != null && cursor + 1 < oldest) {
+            // changes between the cursor and the oldest retained row were purged
+            subscriber.buffer.add(SseEmitter.event().name("reset").id(Long.toString(oldest - 1)).data(""));
+            subscriber.cursor = oldest - 1;
+        }
+        subscribers.add(subscriber);
+        Thread.ofVirtual().name("order-change-feed-writer").start(() -> write(subscriber));
+        wakeUp();
+        return emitter;
+    }
+
+    /**
+     * New rows were published; deliver them without waiting for the next poll.
+     */
+    public void wakeUp() {
+        synchronized (signal) {
+            pending = true;
+            signal.notifyAll();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Pump thread
+    // -------------------------------------------------------------------------
+
+    private void pump() {
+        long lastHeartbeat = System.nanoTime();
+        while (running) {
+            try {
+                awaitSignal();
+                if (subscribers.isEmpty()) {
+                    continue;
+                }
+                long head = head();
+                for (Subscriber subscriber : subscribers) {
+                    if (subscriber.cursor < head) {
+                        deliver(subscriber, head);
+                    }
+                }
+                if (System.nanoTime() - lastHeartbeat > HEARTBEAT_INTERVAL_NANOS) {
+                    // keeps idle streams open through proxies and read timeouts, and finds dead ones;
+                    // a stream with events still buffered is not idle
+                    for (Subscriber subscriber : subscribers) {
+                        if (subscriber.buffer.isEmpty()) {
+                            subscriber.buffer.offer(SseEmitter.event().comment("keepalive"));
+                        }
+                    }
+                    lastHeartbeat = System.nanoTime();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (DataAccessException ex) {
+                log.warn("Order change feed could not read the outbox, will retry: {}", ex.getMessage());
+            }
+        }
+    }
+
+    private void awaitSignal() throws InterruptedException {
+        synchronized (signal) {
+            if (!pending) {
+                signal.wait(pollMs);
+            }
+            pending = false;
+        }
+    }
+
+    private void deliver(Subscriber subscriber, long head) {
+        while (subscriber.cursor < head) {
+            List<OrderChange> page = jdbcTemplate.query(READ_SQL, CHANGE_ROW_MAPPER, subscriber.cursor, PAGE_SIZE);
+            for (OrderChange change : page) {
+                if (subscriber.closed) {
+                    return;
+                }
+                boolean buffered = subscriber.buffer.offer(SseEmitter.event()
+                        .id(Long.toString(change.position()))
+                        .name(change.type().name())
+                        .data(change.payload(), MediaType.APPLICATION_JSON));
+                if (!buffered) {
+                    log.info("Closing order change stream {} events behind at position {}; the consumer will resume from there",
+                            subscriber.buffer.size(), subscriber.cursor);
+                    dropped.increment();
+                    close(subscriber);
+                    return;
+                }
+                subscriber.cursor = change.position();
+            }
+            if (page.size() < PAGE_SIZE) {
+                return;
+            }
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        subscriber.closed = true;
+        // the writer may be blocked on a slow client: leave the emitter to it, only replace
+        // whatever it has not written yet with the end marker
+        while (!subscriber.buffer.offer(END_OF_STREAM)) {
+            subscriber.buffer.clear();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Writer, one per stream
+    // -------------------------------------------------------------------------
+
+    private void write(Subscriber subscriber) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while ((event = subscriber.buffer.take()) != END_OF_STREAM) {
+                subscriber.emitter.send(event);
+            }
+            subscriber.emitter.complete();
+        } catch (IOException | IllegalStateException ex) {
+            // client went away or the stream already completed
+            close(subscriber);
+            subscriber.emitter.completeWithError(ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private long head() {
+        Long head = jdbcTemplate.queryForObject(HEAD_SQL, Long.class);
+        return head == null ? 0L : head;
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> buffer;
+
+        // position of the last event buffered; only advanced by the pump thread
+        private volatile long cursor;
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, long cursor, int bufferSize) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
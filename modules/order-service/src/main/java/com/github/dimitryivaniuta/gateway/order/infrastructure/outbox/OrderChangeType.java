@@ -0,0 +1,10 @@
+package com.github.dimitryivaniuta.gateway.order.infrastructure.outbox;
+
+/**
+ * Kind of change recorded in the order outbox.
+ */
+public enum OrderChangeType {
+    CREATED,
+    UPDATED,
+    STATUS_CHANGED
+}
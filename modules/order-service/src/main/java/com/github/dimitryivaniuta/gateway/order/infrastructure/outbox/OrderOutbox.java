@@ -0,0 +1,60 @@
+package com.github.dimitryivaniuta.gateway.order.infrastructure.outbox;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Writes order changes to {@code order_outbox} inside the transaction that made them.
+ *
+ * <p>The payload is a snapshot of the row as this transaction sees it, rendered like
+ * {@code OrderJsonReader} renders {@code /internal/orders}. Callers record after the
+ * {@code order_header} write, so the row lock is already held: a concurrent change to the
+ * same order gets its outbox row after this one commits, which keeps the feed ordered per
+ * order.</p>
+ */
+@Component
+public class OrderOutbox {
+
+    private static final String RECORD_SQL = """
+            INSERT INTO order_service.order_outbox (order_id, version, change_type, payload)
+            SELECT o.id, o.version, ?, jsonb_build_object(
+                       'id', o.id,
+                       'externalId', o.external_id,
+                       'customerId', o.customer_id,
+                       'status', o.status,
+                       'total', jsonb_build_object('amount', round(o.total_amount, 2), 'currency', o.currency),
+                       'createdAt', o.created_at,
+                       'updatedAt', o.updated_at)
+              FROM order_service.order_header o
+             WHERE o.id = ANY(?)
+             ORDER BY o.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderOutbox(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Record a change of each of {@code orderIds}; must run in the writing transaction.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(OrderChangeType type, Collection<UUID> orderIds) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        UUID[] uuids = orderIds.toArray(UUID[]::new);
+        jdbcTemplate.update(con -> {
+            var ps = con.prepareStatement(RECORD_SQL);
+            ps.setString(1, type.name());
+            ps.setArray(2, con.createArrayOf("uuid", uuids));
+            return ps;
+        });
+    }
+}
@@ -0,0 +1,138 @@
+package com.github.dimitryivaniuta.gateway.order.infrastructure.outbox;
+
+import com.github.dimitryivaniuta.gateway.order.config.OrderOutboxProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes committed outbox rows: stamps them with feed positions, announces them on
+ * channel {@value #CHANNEL} and wakes the local {@link OrderChangeFeed}.
+ *
+ * <p>Every replica runs the relay, but a transaction-scoped advisory lock lets only one of
+ * them stamp at a time. The next relay can only take the lock once the previous one has
+ * committed, so positions become visible in increasing order and a consumer resuming
+ * after position {@code n} can never miss a row stamped below {@code n} later. Rows are
+ * stamped in id order, which is write order for any single order (see {@link OrderOutbox}).</p>
+ *
+ * <p>The {@code NOTIFY} payload is a comma-separated list of {@code <position>:<order id>:<version>}
+ * entries, at most {@value #NOTIFY_CHUNK} per notification (payloads must stay under 8000 bytes),
+ * for listeners on the same database; HTTP consumers use the change feed.</p>
+ */
+@Component
+public class OrderOutboxRelay {
+
+    public static final String CHANNEL = "order_changes";
+
+    private static final Logger log = LoggerFactory.getLogger(OrderOutboxRelay.class);
+
+    private static final long RELAY_LOCK_KEY = 0x6f726465725f6f75L;   // "order_ou"
+    private static final int NOTIFY_CHUNK = 150;
+
+    private static final String STAMP_SQL = """
+            UPDATE order_service.order_outbox o
+               SET position = stamped.position, published_at = now()
+              FROM (SELECT id, nextval('order_service.order_change_position') AS position
+                      FROM (SELECT id
+                              FROM order_service.order_outbox
+                             WHERE position IS NULL
+                             ORDER BY id
+                             LIMIT ?) pending
+                     ORDER BY id) stamped
+             WHERE o.id = stamped.id
+            RETURNING o.position, o.order_id, o.version
+            """;
+
+    /**
+     * The newest row is always kept, so a cursor older than everything retained can be told
+     * apart from one that is simply up to date.
+     */
+    private static final String PURGE_SQL = """
+            DELETE FROM order_service.order_outbox
+             WHERE published_at < now() - make_interval(hours => ?)
+               AND position < (SELECT max(position) FROM order_service.order_outbox)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderChangeFeed feed;
+    private final int batchSize;
+    private final int retentionHours;
+    private final Counter published;
+
+    public OrderOutboxRelay(JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            OrderChangeFeed feed,
+                            OrderOutboxProperties properties,
+                            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.feed = feed;
+        this.batchSize = properties.batchSizeOrDefault();
+        this.retentionHours = properties.retentionHoursOrDefault();
+        this.published = Counter.builder("orders.outbox.published")
+                .description("Outbox rows stamped with a change-feed position")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Drain the outbox in batches until it is empty or another replica holds the relay lock.
+     */
+    @Scheduled(fixedDelayString = "${orders.outbox.relay-interval-ms:200}")
+    public void relay() {
+        try {
+            int stamped;
+            do {
+                stamped = transactionTemplate.execute(status -> relayBatch());
+                if (stamped > 0) {
+                    published.increment(stamped);
+                    feed.wakeUp();
+                }
+            } while (stamped == batchSize);
+        } catch (DataAccessException ex) {
+            // rows stay unstamped and are picked up by the next run
+            log.warn("Order outbox relay failed, will retry: {}", ex.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelay = 10, timeUnit = TimeUnit.MINUTES)
+    public void purge() {
+        try {
+            int purged = jdbcTemplate.update(PURGE_SQL, retentionHours);
+            if (purged > 0) {
+                log.debug("Purged {} published order outbox row(s)", purged);
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Order outbox purge failed, will retry: {}", ex.getMessage());
+        }
+    }
+
+    private int relayBatch() {
+        Boolean locked = jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, RELAY_LOCK_KEY);
+        if (!Boolean.TRUE.equals(locked)) {
+            return 0;
+        }
+
+        List<String> entries = jdbcTemplate.query(STAMP_SQL, (rs, rowNum) ->
+                rs.getLong("position") + ":" + rs.getObject("order_id", UUID.class) + ":" + rs.getLong("version"),
+                batchSize);
+        for (int from = 0; from < entries.size(); from += NOTIFY_CHUNK) {
+            String payload = String.join(",", entries.subList(from, Math.min(from + NOTIFY_CHUNK, entries.size())));
+            // NOTIFY is transactional: sent on commit, dropped on rollback
+            jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> {
+            }, CHANNEL, payload);
+        }
+        return entries.size();
+    }
+}
@@ -1,26 +1,86 @@
 package com.github.dimitryivaniuta.gateway.order.infrastructure.persistence;
 
+import com.github.dimitryivaniuta.gateway.common.money.Money;
 import com.github.dimitryivaniuta.gateway.order.domain.Order;
 import com.github.dimitryivaniuta.gateway.order.domain.OrderId;
 import com.github.dimitryivaniuta.gateway.order.domain.OrderRepository;
+import com.github.dimitryivaniuta.gateway.order.domain.OrderStatus;
+import com.github.dimitryivaniuta.gateway.order.infrastructure.cache.OrderCache;
+import com.github.dimitryivaniuta.gateway.order.infrastructure.cache.VersionedOrder;
+import com.github.dimitryivaniuta.gateway.order.infrastructure.datasource.ReplicaRoutingDataSource;
+import com.github.dimitryivaniuta.gateway.order.infrastructure.outbox.OrderChangeType;
+import com.github.dimitryivaniuta.gateway.order.infrastructure.outbox.OrderOutbox;
 import com.github.dimitryivaniuta.gateway.order.infrastructure.persistence.entity.OrderJpaEntity;
 import com.github.dimitryivaniuta.gateway.order.infrastructure.persistence.mapper.OrderEntityMapper;
 import com.github.dimitryivaniuta.gateway.order.infrastructure.persistence.repository.SpringDataOrderJpaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
 public class OrderRepositoryJpaAdapter implements OrderRepository {
 
+    /**
+     * One {@code uuid[]} parameter instead of {@code IN (?, ?, ...)}: the SQL text is the same
+     * for every batch size, so one server-side prepared statement serves them all.
+     */
+    private static final String FIND_BY_IDS_SQL = """
+            SELECT id, version, external_id, customer_id, status, total_amount, currency, created_at, updated_at
+              FROM order_service.order_header
+             WHERE id = ANY(?)
+            """;
+
+    /**
+     * Strict-mode check of cached entries, answered from {@code idx_order_header_id_version}.
+     */
+    private static final String FIND_VERSIONS_SQL = """
+            SELECT id, version
+              FROM order_service.order_header
+             WHERE id = ANY(?)
+            """;
+
+    /**
+     * Conditional transition: the status guard replaces load + optimistic-lock + save.
+     */
+    private static final String UPDATE_STATUS_SQL = """
+            UPDATE order_service.order_header
+               SET status = ?, updated_at = now(), version = version + 1
+             WHERE id = ANY(?) AND status = ANY(?)
+            RETURNING id, version, external_id, customer_id, status, total_amount, currency, created_at, updated_at
+            """;
+
+    private static final RowMapper<VersionedOrder> ORDER_ROW_MAPPER = (rs, rowNum) -> new VersionedOrder(
+            new Order(
+                    new OrderId(rs.getObject("id", UUID.class)),
+                    rs.getObject("customer_id", UUID.class),
+                    OrderStatus.valueOf(rs.getString("status")),
+                    Money.of(rs.getBigDecimal("total_amount"), rs.getString("currency")),
+                    rs.getObject("created_at", OffsetDateTime.class),
+                    rs.getObject("updated_at", OffsetDateTime.class),
+                    rs.getString("external_id")
+            ),
+            rs.getLong("version")
+    );
+
     private final SpringDataOrderJpaRepository delegate;
+    private final JdbcTemplate jdbcTemplate;
+    private final OrderCache cache;
+    private final OrderOutbox outbox;
 
     @Override
     @Transactional(readOnly = true)
@@ -28,10 +88,17 @@ public class OrderRepositoryJpaAdapter implements OrderRepository {
         if (id == null) {
             return Optional.empty();
         }
-        return delegate.findById(id.value())
-                .map(OrderEntityMapper::toDomain);
+        return findByIds(List.of(id)).stream().findFirst();
     }
 
+    /**
+     * Cached orders first, the rest in one query; loaded rows are cached unless a change
+     * notification arrived while they were being read (see {@link OrderCache}).
+     *
+     * <p>Misses are read wherever the transaction is routed, usually the replica; the cache
+     * itself refuses rows older than a version it has already been notified of. Strict-mode
+     * version checks read the primary, whose versions are the ones notified.</p>
+     */
     @Override
     @Transactional(readOnly = true)
     public List<Order> findByIds(Collection<OrderId> ids) {
@@ -39,23 +106,115 @@ public class OrderRepositoryJpaAdapter implements OrderRepository {
             return List.of();
         }
 
-        List<UUID> uuids = ids.stream()
-                .map(OrderId::value)
-                .collect(Collectors.toList());
+        List<UUID> requested = ids.stream().map(OrderId::value).distinct().toList();
+        Map<UUID, VersionedOrder> cached = cache.getAll(requested);
+        if (cache.isStrict() && !cached.isEmpty()) {
+            ReplicaRoutingDataSource.usePrimary(() -> rejectStale(cached));
+        }
+        cache.record(cached.size(), requested.size() - cached.size());
 
-        List<OrderJpaEntity> entities = delegate.findByIdIn(uuids);
+        List<Order> orders = new ArrayList<>(requested.size());
+        cached.values().forEach(hit -> orders.add(hit.order()));
+        if (cached.size() == requested.size()) {
+            return orders;
+        }
 
-        return entities.stream()
-                .map(OrderEntityMapper::toDomain)
-                .toList();
+        long epoch = cache.epoch();
+        UUID[] misses = requested.stream()
+                .filter(id -> !cached.containsKey(id))
+                .toArray(UUID[]::new);
+        List<VersionedOrder> loaded = load(misses);
+        cache.putAllIfCurrent(loaded, epoch);
+        loaded.forEach(row -> orders.add(row.order()));
+        return orders;
     }
 
     @Override
     @Transactional
     public Order save(Order order) {
+        long epoch = cache.epoch();
         OrderJpaEntity entity = OrderEntityMapper.toEntity(order);
-        OrderJpaEntity saved = delegate.save(entity);
-        return OrderEntityMapper.toDomain(saved);
+        // flushed now so the outbox snapshot sees the row and its final version
+        OrderJpaEntity saved = delegate.saveAndFlush(entity);
+        outbox.record(order.id() == null ? OrderChangeType.CREATED : OrderChangeType.UPDATED, List.of(saved.getId()));
+
+        VersionedOrder written = new VersionedOrder(OrderEntityMapper.toDomain(saved), saved.getVersion());
+        afterCommit(() -> cache.putAllIfCurrent(List.of(written), epoch));
+        return written.order();
+    }
+
+    @Override
+    @Transactional
+    public List<Order> updateStatus(Collection<OrderId> ids, Set<OrderStatus> from, OrderStatus to) {
+        if (ids == null || ids.isEmpty() || from.isEmpty()) {
+            return List.of();
+        }
+
+        UUID[] uuids = ids.stream().map(OrderId::value).toArray(UUID[]::new);
+        String[] statuses = from.stream().map(OrderStatus::name).toArray(String[]::new);
+
+        long epoch = cache.epoch();
+        List<VersionedOrder> updated = jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(UPDATE_STATUS_SQL);
+            ps.setString(1, to.name());
+            ps.setArray(2, con.createArrayOf("uuid", uuids));
+            ps.setArray(3, con.createArrayOf("varchar", statuses));
+            return ps;
+        }, ORDER_ROW_MAPPER);
+        outbox.record(OrderChangeType.STATUS_CHANGED, updated.stream().map(VersionedOrder::id).toList());
+        afterCommit(() -> cache.putAllIfCurrent(updated, epoch));
+        return updated.stream().map(VersionedOrder::order).toList();
+    }
+
+    // -------------------------------------------------------------------------
+    // Cache helpers
+    // -------------------------------------------------------------------------
+
+    private List<VersionedOrder> load(UUID[] uuids) {
+        return jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(FIND_BY_IDS_SQL);
+            ps.setArray(1, con.createArrayOf("uuid", uuids));
+            return ps;
+        }, ORDER_ROW_MAPPER);
+    }
+
+    /**
+     * Drop cached entries whose version no longer matches the row (or whose row is gone);
+     * returns {@code cached} without them.
+     */
+    private Map<UUID, VersionedOrder> rejectStale(Map<UUID, VersionedOrder> cached) {
+        UUID[] uuids = cached.keySet().toArray(UUID[]::new);
+        Map<UUID, Long> current = new HashMap<>();
+        jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(FIND_VERSIONS_SQL);
+            ps.setArray(1, con.createArrayOf("uuid", uuids));
+            return ps;
+        }, rs -> {
+            current.put(rs.getObject("id", UUID.class), rs.getLong("version"));
+        });
+        cached.entrySet().removeIf(entry -> {
+            Long version = current.get(entry.getKey());
+            if (version != null && version == entry.getValue().version()) {
+                return false;
+            }
+            cache.rejectStale(entry.getKey());
+            return true;
+        });
+        return cached;
     }
-}
 
+    /**
+     * Writes are only cached once committed, so no reader sees an order that may roll back.
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -4,8 +4,10 @@ import com.github.dimitryivaniuta.gateway.order.infrastructure.persistence.entit
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.Collection;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -17,7 +19,37 @@ import java.util.UUID;
  */
 public interface SpringDataOrderJpaRepository extends JpaRepository<OrderJpaEntity, UUID> {
 
-    List<OrderJpaEntity> findByIdIn(Collection<UUID> ids);
-
     Page<OrderJpaEntity> findAll(Pageable pageable);
+
+    /**
+     * First keyset page, newest first (index {@code idx_order_header_created_at_id}).
+     */
+    @Query(value = """
+            SELECT * FROM order_service.order_header
+            ORDER BY created_at DESC, id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<OrderJpaEntity> findFirstKeysetPage(@Param("limit") int limit);
+
+    /**
+     * Keyset page strictly after {@code (createdAt, id)}; costs the same at any depth.
+     */
+    @Query(value = """
+            SELECT * FROM order_service.order_header
+            WHERE (created_at, id) < (:createdAt, :id)
+            ORDER BY created_at DESC, id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<OrderJpaEntity> findKeysetPageAfter(@Param("createdAt") OffsetDateTime createdAt,
+                                             @Param("id") UUID id,
+                                             @Param("limit") int limit);
+
+    /**
+     * Row count estimate from planner statistics ({@code -1} if the table was never analyzed).
+     */
+    @Query(value = """
+            SELECT CAST(reltuples AS BIGINT) FROM pg_class
+            WHERE oid = CAST('order_service.order_header' AS regclass)
+            """, nativeQuery = true)
+    long estimateRowCount();
 }
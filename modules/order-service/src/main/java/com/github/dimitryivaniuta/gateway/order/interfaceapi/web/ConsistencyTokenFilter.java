@@ -0,0 +1,42 @@
+package com.github.dimitryivaniuta.gateway.order.interfaceapi.web;
+
+import com.github.dimitryivaniuta.gateway.order.infrastructure.datasource.ConsistencyToken;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Carries {@link ConsistencyToken#HEADER} in and out of a request: the token a client
+ * presents is honoured by its read-only transactions, and a request that commits a write
+ * answers with a fresh one.
+ *
+ * <p>The response header is set right after the commit, before the controller writes the
+ * body, so it reaches the client for every write endpoint.</p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "orders.replica", name = "enabled", havingValue = "true")
+public class ConsistencyTokenFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        ConsistencyToken.Scope scope;
+        try {
+            scope = ConsistencyToken.open(request.getHeader(ConsistencyToken.HEADER),
+                    token -> response.setHeader(ConsistencyToken.HEADER, token));
+        } catch (IllegalArgumentException ex) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, ex.getMessage());
+            return;
+        }
+        try (scope) {
+            chain.doFilter(request, response);
+        }
+    }
+}
@@ -1,23 +1,36 @@
 package com.github.dimitryivaniuta.gateway.order.interfaceapi.web;
 
+import com.github.dimitryivaniuta.gateway.common.id.UuidListCodec;
 import com.github.dimitryivaniuta.gateway.common.money.Money;
 import com.github.dimitryivaniuta.gateway.common.money.MoneyDto;
+import com.github.dimitryivaniuta.gateway.order.application.BulkOrderService;
 import com.github.dimitryivaniuta.gateway.order.application.OrderApplicationService;
 import com.github.dimitryivaniuta.gateway.order.application.command.ChangeOrderStatusCommand;
 import com.github.dimitryivaniuta.gateway.order.application.command.CreateOrderCommand;
 import com.github.dimitryivaniuta.gateway.order.application.command.CreateOrderItemCommand;
+import com.github.dimitryivaniuta.gateway.order.application.query.OrderCursor;
+import com.github.dimitryivaniuta.gateway.order.application.query.OrderJsonReader;
+import com.github.dimitryivaniuta.gateway.order.application.query.OrderSlice;
+import com.github.dimitryivaniuta.gateway.order.application.result.CreateOrderResult;
+import com.github.dimitryivaniuta.gateway.order.application.result.StatusChangeResult;
 import com.github.dimitryivaniuta.gateway.order.domain.Order;
+import com.github.dimitryivaniuta.gateway.order.exception.DomainValidationException;
+import com.github.dimitryivaniuta.gateway.order.infrastructure.outbox.OrderChangeFeed;
 import com.github.dimitryivaniuta.gateway.order.interfaceapi.web.dto.*;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -26,38 +39,53 @@ import java.util.stream.Collectors;
  * <p>
  * Exposes:
  * - GET  /internal/orders?ids=...        (for GraphQL gateway)
+ * - POST /internal/orders:batchGet       (same, ids in a JSON or binary body)
  * - POST /internal/orders                (create order)
+ * - POST /internal/orders/bulk           (create many orders, per-order outcome)
  * - PATCH /internal/orders/{id}/status   (change status)
- * - GET  /api/orders?page=&size=         (paged listing for backoffice/UI)
+ * - PATCH /internal/orders/bulk/status   (change status of many orders, per-order outcome)
+ * - GET  /internal/orders/changes?since= (change feed, server-sent events)
+ * - GET  /api/orders?size=&cursor=       (keyset listing for backoffice/UI)
+ * - GET  /api/orders?page=&size=         (offset listing, deprecated)
  */
 @RestController
 @RequiredArgsConstructor
 public class OrderController {
 
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final OrderApplicationService orderService;
+    private final BulkOrderService bulkOrderService;
+    private final OrderJsonReader orderJsonReader;
+    private final OrderChangeFeed orderChangeFeed;
+    private final Validator validator;
 
     // -------------------------------------------------------------------------
     // Internal API for gateway
     // -------------------------------------------------------------------------
 
     @GetMapping(path = "/internal/orders", params = "ids")
-    public List<OrderResponseDto> getByIds(@RequestParam("ids") String idsParam) {
-        List<UUID> ids = Arrays.stream(idsParam.split(","))
-                .map(String::trim)
-                .filter(s -> !s.isEmpty())
-                .map(UUID::fromString)
-                .toList();
-
-        List<Order> orders = orderService.getOrders(ids);
+    public ResponseEntity<?> getByIds(@RequestParam("ids") String idsParam) {
+        return ordersInRequestOrder(UuidListCodec.parse(idsParam));
+    }
 
-        Map<UUID, Order> byId = orders.stream()
-                .collect(Collectors.toMap(o -> o.id().value(), o -> o));
+    @PostMapping(path = "/internal/orders:batchGet", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> batchGet(@Valid @RequestBody BatchGetOrdersRequestDto body) {
+        return ordersInRequestOrder(body.ids());
+    }
 
-        return ids.stream()
-                .map(byId::get)
-                .filter(Objects::nonNull)
-                .map(this::toResponseDto)
-                .toList();
+    /**
+     * Binary variant: the body is the ids as consecutive 16-byte UUIDs ({@link UuidListCodec#toBytes}).
+     */
+    @PostMapping(path = "/internal/orders:batchGet", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<?> batchGetBinary(@RequestBody byte[] body) {
+        List<UUID> ids;
+        try {
+            ids = UuidListCodec.fromBytes(body);
+        } catch (IllegalArgumentException ex) {
+            throw new DomainValidationException(ex.getMessage());
+        }
+        return ordersInRequestOrder(ids);
     }
 
     @PostMapping("/internal/orders")
@@ -67,6 +95,24 @@ public class OrderController {
         return ResponseEntity.ok(toResponseDto(order));
     }
 
+    /**
+     * Creates every valid order; invalid ones are reported by index instead of failing the call,
+     * so orders are validated one by one rather than with the request body.
+     */
+    @PostMapping("/internal/orders/bulk")
+    public BulkCreateOrdersResponseDto createBulkInternal(@Valid @RequestBody BulkCreateOrdersRequestDto body) {
+        List<CreateOrderResult> results = bulkOrderService.createOrders(body.orders(), this::toValidatedCreateCommand);
+
+        int created = (int) results.stream().filter(CreateOrderResult::isCreated).count();
+        return new BulkCreateOrdersResponseDto(
+                created,
+                results.size() - created,
+                results.stream()
+                        .map(r -> new BulkCreateOrdersResponseDto.Result(r.index(), r.id(), r.error()))
+                        .toList()
+        );
+    }
+
     @PatchMapping("/internal/orders/{id}/status")
     public ResponseEntity<OrderResponseDto> changeStatusInternal(@PathVariable("id") UUID id,
                                                                  @Valid @RequestBody ChangeOrderStatusRequestDto body) {
@@ -75,10 +121,74 @@ public class OrderController {
         return ResponseEntity.ok(toResponseDto(order));
     }
 
+    @PatchMapping("/internal/orders/bulk/status")
+    public BulkChangeOrderStatusResponseDto changeStatusBulkInternal(
+            @Valid @RequestBody BulkChangeOrderStatusRequestDto body) {
+        List<StatusChangeResult> results = bulkOrderService.changeStatuses(body.ids(), body.status());
+
+        int updated = (int) results.stream()
+                .filter(r -> r.outcome() == StatusChangeResult.Outcome.UPDATED)
+                .count();
+        return new BulkChangeOrderStatusResponseDto(
+                updated,
+                results.size() - updated,
+                results.stream()
+                        .map(r -> new BulkChangeOrderStatusResponseDto.Result(r.id(), r.outcome(), r.status(), r.error()))
+                        .toList()
+        );
+    }
+
+    /**
+     * Stream of order changes after feed position {@code since}, or after the last event a
+     * reconnecting client saw ({@code Last-Event-ID}); with neither, from now on.
+     */
+    @GetMapping(path = "/internal/orders/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter changes(@RequestParam(name = "since", required = false) Long since,
+                              @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+        Long cursor = lastEventId != null ? lastEventId : since;
+        if (cursor != null && cursor < 0) {
+            throw new DomainValidationException("since must not be negative");
+        }
+        return orderChangeFeed.subscribe(cursor);
+    }
+
     // -------------------------------------------------------------------------
     // Public API with paging (for UI/backoffice)
     // -------------------------------------------------------------------------
 
+    /**
+     * Keyset listing, newest first. Every page costs the same regardless of depth.
+     */
+    @GetMapping(path = "/api/orders", params = "!page")
+    public OrderCursorPageResponseDto findSlice(@RequestParam(name = "size", defaultValue = "50") int size,
+                                                @RequestParam(name = "cursor", required = false) String cursor,
+                                                @RequestParam(name = "estimateTotal", defaultValue = "false")
+                                                boolean estimateTotal) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new DomainValidationException("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        OrderCursor after = cursor == null || cursor.isBlank() ? null : OrderCursor.decode(cursor);
+
+        OrderSlice slice = orderService.findSlice(after, size, estimateTotal);
+
+        List<OrderResponseDto> content = slice.content().stream()
+                .map(this::toResponseDto)
+                .toList();
+
+        return new OrderCursorPageResponseDto(
+                content,
+                size,
+                slice.nextCursor() != null ? slice.nextCursor().encode() : null,
+                slice.estimatedTotal()
+        );
+    }
+
+    /**
+     * Offset listing with an exact count.
+     *
+     * @deprecated deep pages get slower; use the cursor variant (no {@code page} parameter)
+     */
+    @Deprecated
     @GetMapping(path = "/api/orders", params = {"page", "size"})
     public OrderPageResponseDto findPage(@RequestParam("page") int page,
                                          @RequestParam("size") int size) {
@@ -100,6 +210,43 @@ public class OrderController {
     // Mapping
     // -------------------------------------------------------------------------
 
+    /**
+     * Orders in request order. With {@code orders.read.database-json} the array is rendered by
+     * PostgreSQL and written through unchanged; the JSON contract is the same either way.
+     */
+    private ResponseEntity<?> ordersInRequestOrder(List<UUID> ids) {
+        if (orderJsonReader.isEnabled()) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(orderJsonReader.getOrdersJson(ids));
+        }
+
+        List<Order> orders = orderService.getOrders(ids);
+
+        Map<UUID, Order> byId = orders.stream()
+                .collect(Collectors.toMap(o -> o.id().value(), o -> o));
+
+        return ResponseEntity.ok(ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(this::toResponseDto)
+                .toList());
+    }
+
+    private CreateOrderCommand toValidatedCreateCommand(CreateOrderRequestDto dto) {
+        if (dto == null) {
+            throw new DomainValidationException("order must not be null");
+        }
+        Set<ConstraintViolation<CreateOrderRequestDto>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            throw new DomainValidationException(violations.stream()
+                    .map(v -> v.getPropertyPath() + " " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+        return toCreateCommand(dto);
+    }
+
     private CreateOrderCommand toCreateCommand(CreateOrderRequestDto dto) {
         List<CreateOrderItemCommand> items = dto.items().stream()
                 .map(this::toCreateItemCommand)
@@ -0,0 +1,14 @@
+package com.github.dimitryivaniuta.gateway.order.interfaceapi.web.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JSON body of {@code POST /internal/orders:batchGet}.
+ */
+public record BatchGetOrdersRequestDto(
+        @NotNull List<@NotNull UUID> ids
+) {
+}
@@ -0,0 +1,17 @@
+package com.github.dimitryivaniuta.gateway.order.interfaceapi.web.dto;
+
+import com.github.dimitryivaniuta.gateway.order.domain.OrderStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request body for moving many orders to the same status.
+ */
+public record BulkChangeOrderStatusRequestDto(
+        @NotEmpty List<@NotNull UUID> ids,
+        @NotNull OrderStatus status
+) {
+}
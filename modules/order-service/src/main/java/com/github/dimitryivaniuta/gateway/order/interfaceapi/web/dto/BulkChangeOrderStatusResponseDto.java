@@ -0,0 +1,25 @@
+package com.github.dimitryivaniuta.gateway.order.interfaceapi.web.dto;
+
+import com.github.dimitryivaniuta.gateway.order.application.result.StatusChangeResult;
+import com.github.dimitryivaniuta.gateway.order.domain.OrderStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Per-order outcome of a bulk status change, one entry per distinct requested id.
+ */
+public record BulkChangeOrderStatusResponseDto(
+        int updated,
+        int failed,
+        List<Result> results
+) {
+
+    public record Result(
+            UUID id,
+            StatusChangeResult.Outcome outcome,
+            OrderStatus status,
+            String error
+    ) {
+    }
+}
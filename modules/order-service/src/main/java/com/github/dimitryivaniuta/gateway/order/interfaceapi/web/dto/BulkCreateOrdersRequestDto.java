@@ -0,0 +1,16 @@
+package com.github.dimitryivaniuta.gateway.order.interfaceapi.web.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * Request body for creating many orders in one call.
+ *
+ * <p>The orders are deliberately not cascaded into ({@code @Valid}): each one is validated on
+ * its own so a malformed order fails alone.</p>
+ */
+public record BulkCreateOrdersRequestDto(
+        @NotEmpty List<CreateOrderRequestDto> orders
+) {
+}
@@ -0,0 +1,24 @@
+package com.github.dimitryivaniuta.gateway.order.interfaceapi.web.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Per-order outcome of a bulk create, in request order.
+ */
+public record BulkCreateOrdersResponseDto(
+        int created,
+        int failed,
+        List<Result> results
+) {
+
+    /**
+     * Either {@code id} (created) or {@code error} (rejected) is set.
+     */
+    public record Result(
+            int index,
+            UUID id,
+            String error
+    ) {
+    }
+}
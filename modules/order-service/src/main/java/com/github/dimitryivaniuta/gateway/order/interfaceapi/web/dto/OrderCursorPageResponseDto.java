@@ -0,0 +1,15 @@
+package com.github.dimitryivaniuta.gateway.order.interfaceapi.web.dto;
+
+import java.util.List;
+
+/**
+ * Keyset page of orders; pass {@code nextCursor} back as {@code cursor} for the next page.
+ * {@code estimatedTotal} is approximate (planner statistics) and only present when requested.
+ */
+public record OrderCursorPageResponseDto(
+        List<OrderResponseDto> content,
+        int size,
+        String nextCursor,
+        Long estimatedTotal
+) {
+}
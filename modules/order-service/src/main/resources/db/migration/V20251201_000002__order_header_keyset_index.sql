@@ -0,0 +1,4 @@
+-- Supports keyset pagination of /api/orders: ORDER BY created_at DESC, id DESC
+-- with the (created_at, id) < (cursor) predicate served straight from the index.
+CREATE INDEX IF NOT EXISTS idx_order_header_created_at_id
+    ON order_service.order_header (created_at DESC, id DESC);
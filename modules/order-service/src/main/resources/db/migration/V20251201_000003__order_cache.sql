@@ -0,0 +1,39 @@
+-- Invalidation events for the order cache of order-service replicas (OrderCacheInvalidationListener).
+-- Every committed UPDATE/DELETE of order_header is broadcast on channel 'order_cache' as a
+-- comma-separated list of '<id>:<version>' (UPDATE) or '<id>' (DELETE) entries; NOTIFY is
+-- transactional, so listeners only see committed changes. INSERTs are not broadcast: a new id
+-- cannot be cached anywhere yet.
+--
+-- Statement-level triggers with transition tables send one notification per ~150 rows instead
+-- of one per row, which keeps bulk status updates cheap (payloads must stay under 8000 bytes).
+
+CREATE OR REPLACE FUNCTION order_service.notify_order_changed() RETURNS trigger AS $$
+DECLARE
+    payload TEXT;
+BEGIN
+    FOR payload IN
+        SELECT string_agg(entry, ',')
+          FROM (SELECT CASE WHEN TG_OP = 'DELETE' THEN id::text ELSE id::text || ':' || version END AS entry,
+                       (row_number() OVER () - 1) / 150 AS chunk
+                  FROM changed) AS entries
+         GROUP BY chunk
+    LOOP
+        PERFORM pg_notify('order_cache', payload);
+    END LOOP;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_order_header_updated
+    AFTER UPDATE ON order_service.order_header
+    REFERENCING NEW TABLE AS changed
+    FOR EACH STATEMENT EXECUTE FUNCTION order_service.notify_order_changed();
+
+CREATE TRIGGER trg_order_header_deleted
+    AFTER DELETE ON order_service.order_header
+    REFERENCING OLD TABLE AS changed
+    FOR EACH STATEMENT EXECUTE FUNCTION order_service.notify_order_changed();
+
+-- Strict mode confirms cached versions with an index-only scan instead of heap fetches
+CREATE INDEX IF NOT EXISTS idx_order_header_id_version
+    ON order_service.order_header (id) INCLUDE (version);
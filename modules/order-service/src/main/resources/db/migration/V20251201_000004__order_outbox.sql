@@ -0,0 +1,28 @@
+-- Transactional outbox of order changes (OrderOutbox / OrderOutboxRelay / OrderChangeFeed).
+-- Writers insert a row in the same transaction as the order_header change; the relay later
+-- stamps committed rows with a feed position. Positions, not ids, are the public cursor:
+-- ids are taken at insert time and may commit out of order, positions are handed out by a
+-- single relay at a time and only ever grow in commit order.
+
+CREATE SEQUENCE IF NOT EXISTS order_service.order_change_position;
+
+CREATE TABLE IF NOT EXISTS order_service.order_outbox (
+    id            BIGSERIAL    PRIMARY KEY,
+    order_id      UUID         NOT NULL,
+    version       BIGINT       NOT NULL,
+    change_type   VARCHAR(32)  NOT NULL,
+    payload       JSONB        NOT NULL,
+    created_at    TIMESTAMPTZ  NOT NULL DEFAULT now(),
+    position      BIGINT,
+    published_at  TIMESTAMPTZ
+);
+
+-- The relay's backlog: small, since rows leave it within one relay interval
+CREATE INDEX IF NOT EXISTS idx_order_outbox_unpublished
+    ON order_service.order_outbox (id)
+    WHERE position IS NULL;
+
+-- Change feed reads: position > :since ORDER BY position
+CREATE UNIQUE INDEX IF NOT EXISTS idx_order_outbox_position
+    ON order_service.order_outbox (position)
+    WHERE position IS NOT NULL;
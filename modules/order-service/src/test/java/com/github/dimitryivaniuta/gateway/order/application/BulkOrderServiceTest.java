@@ -0,0 +1,118 @@
+package com.github.dimitryivaniuta.gateway.order.application;
+
+import com.github.dimitryivaniuta.gateway.common.money.Money;
+import com.github.dimitryivaniuta.gateway.common.money.MoneyDto;
+import com.github.dimitryivaniuta.gateway.order.application.command.CreateOrderCommand;
+import com.github.dimitryivaniuta.gateway.order.application.command.CreateOrderItemCommand;
+import com.github.dimitryivaniuta.gateway.order.application.result.CreateOrderResult;
+import com.github.dimitryivaniuta.gateway.order.application.result.StatusChangeResult;
+import com.github.dimitryivaniuta.gateway.order.config.BulkImportProperties;
+import com.github.dimitryivaniuta.gateway.order.domain.Order;
+import com.github.dimitryivaniuta.gateway.order.domain.OrderId;
+import com.github.dimitryivaniuta.gateway.order.domain.OrderRepository;
+import com.github.dimitryivaniuta.gateway.order.domain.OrderStatus;
+import com.github.dimitryivaniuta.gateway.order.infrastructure.outbox.OrderChangeType;
+import com.github.dimitryivaniuta.gateway.order.infrastructure.outbox.OrderOutbox;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Per-order outcomes of bulk requests: a malformed order fails alone, and a status change
+ * tells updated, refused and unknown orders apart.
+ */
+class BulkOrderServiceTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final OrderOutbox outbox = mock(OrderOutbox.class);
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final BulkOrderService service = new BulkOrderService(
+            jdbcTemplate,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)),
+            orderRepository,
+            new BulkImportProperties(null, null),
+            outbox);
+
+    // the conversion the web layer does: Money.of rejects non-positive amounts
+    private static final Function<MoneyDto, CreateOrderCommand> TO_COMMAND = price -> new CreateOrderCommand(
+            UUID.randomUUID(),
+            null,
+            List.of(new CreateOrderItemCommand("SKU-1", 1, Money.of(price.amount(), price.currency()))));
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void malformedOrderIsReportedByIndexAndTheRestAreCreated() {
+        List<MoneyDto> prices = List.of(
+                new MoneyDto(new BigDecimal("10.00"), "USD"),
+                new MoneyDto(new BigDecimal("-1.00"), "USD"),
+                new MoneyDto(new BigDecimal("5.00"), "USD"));
+
+        List<CreateOrderResult> results = service.createOrders(prices, TO_COMMAND);
+
+        assertThat(results).extracting(CreateOrderResult::index).containsExactly(0, 1, 2);
+        assertThat(results).extracting(CreateOrderResult::isCreated).containsExactly(true, false, true);
+        assertThat(results.get(1).error()).isEqualTo("amount must be positive");
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        assertThat(rows.getValue()).hasSize(2);
+
+        ArgumentCaptor<Collection<UUID>> recorded = ArgumentCaptor.forClass(Collection.class);
+        verify(outbox).record(eq(OrderChangeType.CREATED), recorded.capture());
+        assertThat(recorded.getValue()).containsExactly(results.get(0).id(), results.get(2).id());
+    }
+
+    @Test
+    void nothingIsWrittenWhenEveryOrderIsMalformed() {
+        List<CreateOrderResult> results = service.createOrders(
+                List.of(new MoneyDto(BigDecimal.ONE, "NOPE")), TO_COMMAND);
+
+        assertThat(results).singleElement().satisfies(r -> assertThat(r.isCreated()).isFalse());
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void statusChangeReadsBackOnlyTheOrdersTheUpdateSkipped() {
+        UUID updated = UUID.randomUUID();
+        UUID refused = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        when(orderRepository.updateStatus(List.of(OrderId.of(updated), OrderId.of(refused), OrderId.of(missing)),
+                Order.allowedPredecessors(OrderStatus.CONFIRMED), OrderStatus.CONFIRMED))
+                .thenReturn(List.of(order(updated, OrderStatus.CONFIRMED)));
+        when(orderRepository.findByIds(List.of(OrderId.of(refused), OrderId.of(missing))))
+                .thenReturn(List.of(order(refused, OrderStatus.CANCELLED)));
+
+        List<StatusChangeResult> results = service.changeStatuses(
+                List.of(updated, refused, updated, missing), OrderStatus.CONFIRMED);
+
+        assertThat(results).extracting(StatusChangeResult::id).containsExactly(updated, refused, missing);
+        assertThat(results).extracting(StatusChangeResult::outcome).containsExactly(
+                StatusChangeResult.Outcome.UPDATED, StatusChangeResult.Outcome.REJECTED, StatusChangeResult.Outcome.NOT_FOUND);
+        assertThat(results.get(1).status()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(results.get(1).error()).isNotBlank();
+    }
+
+    private static Order order(UUID id, OrderStatus status) {
+        OffsetDateTime now = OffsetDateTime.now();
+        return new Order(OrderId.of(id), UUID.randomUUID(), status,
+                Money.of(new BigDecimal("10.00"), "USD"), now, now, null);
+    }
+}
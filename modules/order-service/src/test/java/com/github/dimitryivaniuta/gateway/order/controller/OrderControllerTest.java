@@ -1,9 +1,18 @@
 package com.github.dimitryivaniuta.gateway.order.controller;
+import com.github.dimitryivaniuta.gateway.common.id.UuidListCodec;
 import com.github.dimitryivaniuta.gateway.common.money.Money;
+import com.github.dimitryivaniuta.gateway.order.application.BulkOrderService;
 import com.github.dimitryivaniuta.gateway.order.application.OrderApplicationService;
+import com.github.dimitryivaniuta.gateway.order.application.query.OrderCursor;
+import com.github.dimitryivaniuta.gateway.order.application.query.OrderJsonReader;
+import com.github.dimitryivaniuta.gateway.order.application.query.OrderSlice;
+import com.github.dimitryivaniuta.gateway.order.application.command.CreateOrderCommand;
+import com.github.dimitryivaniuta.gateway.order.application.result.CreateOrderResult;
 import com.github.dimitryivaniuta.gateway.order.domain.Order;
 import com.github.dimitryivaniuta.gateway.order.domain.OrderId;
 import com.github.dimitryivaniuta.gateway.order.domain.OrderStatus;
+import com.github.dimitryivaniuta.gateway.order.exception.DomainValidationException;
+import com.github.dimitryivaniuta.gateway.order.infrastructure.outbox.OrderChangeFeed;
 import com.github.dimitryivaniuta.gateway.order.interfaceapi.web.OrderController;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -16,15 +25,22 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -47,6 +63,15 @@ class OrderControllerTest {
     @MockitoBean
     OrderApplicationService orderService;
 
+    @MockitoBean
+    BulkOrderService bulkOrderService;
+
+    @MockitoBean
+    OrderJsonReader orderJsonReader;
+
+    @MockitoBean
+    OrderChangeFeed orderChangeFeed;
+
     // -------------------------------------------------------------------------
     // /internal/orders?ids=...
     // -------------------------------------------------------------------------
@@ -98,6 +123,50 @@ class OrderControllerTest {
         verify(orderService).getOrders(List.of(id1, id2));
     }
 
+    @Test
+    void batchGet_acceptsBinaryIdsAndKeepsRequestOrder() throws Exception {
+        UUID id1 = UUID.randomUUID();
+        UUID id2 = UUID.randomUUID();
+        OffsetDateTime now = OffsetDateTime.now();
+
+        Order o1 = new Order(new OrderId(id1), null, OrderStatus.CREATED,
+                Money.of(new BigDecimal("1.00"), "USD"), now, now, "EXT-1");
+        Order o2 = new Order(new OrderId(id2), null, OrderStatus.CREATED,
+                Money.of(new BigDecimal("2.00"), "USD"), now, now, "EXT-2");
+
+        when(orderService.getOrders(List.of(id2, id1))).thenReturn(List.of(o1, o2));
+
+        mockMvc.perform(post("/internal/orders:batchGet")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(UuidListCodec.toBytes(List.of(id2, id1))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id", is(id2.toString())))
+                .andExpect(jsonPath("$[1].id", is(id1.toString())));
+
+        mockMvc.perform(post("/internal/orders:batchGet")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(new byte[17]))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getByIds_writesDatabaseRenderedJsonThrough() throws Exception {
+        UUID id = UUID.randomUUID();
+        byte[] json = ("[{\"id\":\"" + id + "\",\"status\":\"CREATED\"}]")
+                .getBytes(StandardCharsets.UTF_8);
+
+        when(orderJsonReader.isEnabled()).thenReturn(true);
+        when(orderJsonReader.getOrdersJson(List.of(id))).thenReturn(json);
+
+        mockMvc.perform(get("/internal/orders").param("ids", id.toString()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().bytes(json));
+
+        verify(orderService, never()).getOrders(any());
+    }
+
     // -------------------------------------------------------------------------
     // POST /internal/orders
     // -------------------------------------------------------------------------
@@ -185,11 +254,103 @@ class OrderControllerTest {
         verify(orderService).changeStatus(any());
     }
 
+    // -------------------------------------------------------------------------
+    // POST /internal/orders/bulk
+    // -------------------------------------------------------------------------
+
+    @Test
+    void createBulkInternal_reportsOutcomePerOrder() throws Exception {
+        UUID createdId = UUID.randomUUID();
+
+        when(bulkOrderService.createOrders(anyList(), any())).thenReturn(List.of(
+                CreateOrderResult.created(0, createdId),
+                CreateOrderResult.failed(1, "All items must have the same currency")
+        ));
+
+        String payload = """
+            {
+              "orders": [
+                { "items": [ { "sku": "SKU-1", "quantity": 1, "price": { "amount": 10.00, "currency": "USD" } } ] },
+                { "items": [
+                    { "sku": "SKU-1", "quantity": 1, "price": { "amount": 10.00, "currency": "USD" } },
+                    { "sku": "SKU-2", "quantity": 1, "price": { "amount": 10.00, "currency": "EUR" } }
+                ] }
+              ]
+            }
+            """;
+
+        mockMvc.perform(post("/internal/orders/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", is(1)))
+                .andExpect(jsonPath("$.failed", is(1)))
+                .andExpect(jsonPath("$.results[0].id", is(createdId.toString())))
+                .andExpect(jsonPath("$.results[1].index", is(1)))
+                .andExpect(jsonPath("$.results[1].error", is("All items must have the same currency")));
+
+        verify(bulkOrderService).createOrders(argThat(orders -> orders.size() == 2), any());
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void createBulkInternal_validatesEachOrderOnItsOwn() throws Exception {
+        when(bulkOrderService.createOrders(anyList(), any())).thenReturn(List.of(
+                CreateOrderResult.created(0, UUID.randomUUID()),
+                CreateOrderResult.failed(1, "invalid")
+        ));
+
+        String payload = """
+            {
+              "orders": [
+                { "items": [ { "sku": "SKU-1", "quantity": 1, "price": { "amount": 10.00, "currency": "USD" } } ] },
+                { "items": [ { "sku": "", "quantity": 0, "price": { "amount": 10.00, "currency": "USD" } } ] }
+              ]
+            }
+            """;
+
+        // one malformed order no longer turns the whole request into a 400
+        mockMvc.perform(post("/internal/orders/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.failed", is(1)));
+
+        ArgumentCaptor<List> orders = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Function> toCommand = ArgumentCaptor.forClass(Function.class);
+        verify(bulkOrderService).createOrders(orders.capture(), toCommand.capture());
+
+        CreateOrderCommand valid = (CreateOrderCommand) toCommand.getValue().apply(orders.getValue().get(0));
+        assertThat(valid.items()).hasSize(1);
+        assertThatThrownBy(() -> toCommand.getValue().apply(orders.getValue().get(1)))
+                .isInstanceOf(DomainValidationException.class)
+                .hasMessage("items[0].quantity must be greater than or equal to 1, items[0].sku must not be blank");
+    }
+
+    // -------------------------------------------------------------------------
+    // GET /internal/orders/changes
+    // -------------------------------------------------------------------------
+
+    @Test
+    void changes_resumesFromLastEventIdBeforeSince() throws Exception {
+        when(orderChangeFeed.subscribe(any())).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/internal/orders/changes")
+                        .param("since", "3")
+                        .header("Last-Event-ID", "7"))
+                .andExpect(request().asyncStarted());
+        verify(orderChangeFeed).subscribe(7L);
+
+        mockMvc.perform(get("/internal/orders/changes").param("since", "-1"))
+                .andExpect(status().isBadRequest());
+    }
+
     // -------------------------------------------------------------------------
     // GET /api/orders?page=&size=
     // -------------------------------------------------------------------------
 
     @Test
+    @SuppressWarnings("deprecation")   // covers the legacy offset endpoint until it is removed
     void findPage_returnsPagedResponse() throws Exception {
         UUID orderId = UUID.randomUUID();
         UUID customerId = UUID.randomUUID();
@@ -228,4 +389,53 @@ class OrderControllerTest {
 
         verify(orderService).findPage(0, 1);
     }
+
+    // -------------------------------------------------------------------------
+    // GET /api/orders?size=&cursor=
+    // -------------------------------------------------------------------------
+
+    @Test
+    void findSlice_returnsOpaqueCursorThatRoundTrips() throws Exception {
+        UUID orderId = UUID.randomUUID();
+        OffsetDateTime createdAt = OffsetDateTime.parse("2025-11-20T10:15:30.123456Z");
+
+        Order order = new Order(
+                new OrderId(orderId),
+                UUID.randomUUID(),
+                OrderStatus.CREATED,
+                Money.of(new BigDecimal("5.00"), "EUR"),
+                createdAt,
+                createdAt,
+                null
+        );
+        OrderCursor next = new OrderCursor(createdAt, orderId);
+
+        when(orderService.findSlice(isNull(), eq(1), eq(true)))
+                .thenReturn(new OrderSlice(List.of(order), next, 42L));
+        when(orderService.findSlice(eq(next), eq(1), eq(false)))
+                .thenReturn(new OrderSlice(List.of(), null, null));
+
+        mockMvc.perform(get("/api/orders")
+                        .param("size", "1")
+                        .param("estimateTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].id", is(orderId.toString())))
+                .andExpect(jsonPath("$.nextCursor", is(next.encode())))
+                .andExpect(jsonPath("$.estimatedTotal", is(42)));
+
+        mockMvc.perform(get("/api/orders")
+                        .param("size", "1")
+                        .param("cursor", next.encode()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(0)))
+                .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+    }
+
+    @Test
+    void findSlice_rejectsMalformedCursor() throws Exception {
+        mockMvc.perform(get("/api/orders")
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
 }
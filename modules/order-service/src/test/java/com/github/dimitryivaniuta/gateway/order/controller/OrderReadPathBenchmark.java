@@ -0,0 +1,161 @@
+package com.github.dimitryivaniuta.gateway.order.controller;
+
+import com.github.dimitryivaniuta.gateway.common.id.UuidListCodec;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Compares the two read paths of {@code GET /internal/orders?ids=}: JPA entities mapped to
+ * DTOs and serialized by Jackson, versus JSON rendered by PostgreSQL and written through
+ * ({@code orders.read.database-json}).
+ *
+ * <p>Both runs use the same database (seeded once with {@code benchmark.orders} orders, default
+ * 20,000) and fetch a random batch of {@code benchmark.batchSize} ids (default 500)
+ * {@code benchmark.iterations} times (default 500). Besides latency, the bytes allocated by
+ * the request thread per call are reported, which is where the object churn of the JPA path
+ * shows up.</p>
+ *
+ * <p>Run with {@code ./gradlew :modules:order-service:benchmarkTest} (needs Docker).</p>
+ */
+@Tag("benchmark")
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+class OrderReadPathBenchmark {
+
+    private static final int ORDERS = Integer.getInteger("benchmark.orders", 20_000);
+    private static final int BATCH_SIZE = Integer.getInteger("benchmark.batchSize", 500);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 500);
+    private static final int WARMUP_ITERATIONS = 200;
+
+    private static final PostgreSQLContainer<?> POSTGRES =
+            new PostgreSQLContainer<>("postgres:latest")
+                    .withDatabaseName("orders_benchmark")
+                    .withUsername("test")
+                    .withPassword("test");
+
+    static {
+        POSTGRES.start();   // shared by both contexts
+    }
+
+    @DynamicPropertySource
+    static void registerDataSource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        // measure the read paths themselves, not the order cache in front of the JPA one
+        registry.add("orders.cache.enabled", () -> "false");
+    }
+
+    @Nested
+    @TestPropertySource(properties = "orders.read.database-json=false")
+    class JpaAndJackson {
+
+        @Autowired
+        MockMvc mockMvc;
+
+        @Autowired
+        JdbcTemplate jdbcTemplate;
+
+        @Test
+        void readBatch() throws Exception {
+            run("jpa+jackson", mockMvc, jdbcTemplate);
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = "orders.read.database-json=true")
+    class DatabaseJson {
+
+        @Autowired
+        MockMvc mockMvc;
+
+        @Autowired
+        JdbcTemplate jdbcTemplate;
+
+        @Test
+        void readBatch() throws Exception {
+            run("database-json", mockMvc, jdbcTemplate);
+        }
+    }
+
+    private static void run(String mode, MockMvc mockMvc, JdbcTemplate jdbcTemplate) throws Exception {
+        seed(jdbcTemplate);
+        List<UUID> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM order_service.order_header ORDER BY random() LIMIT ?", UUID.class, BATCH_SIZE);
+        String idsParam = UuidListCodec.join(ids);
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            mockMvc.perform(get("/internal/orders").param("ids", idsParam))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(ids.size())));
+        }
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        long[] latenciesNanos = new long[ITERATIONS];
+        long responseBytes = 0;
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            long callStarted = System.nanoTime();
+            responseBytes = mockMvc.perform(get("/internal/orders").param("ids", idsParam))
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsByteArray()
+                    .length;
+            latenciesNanos[i] = System.nanoTime() - callStarted;
+        }
+        long elapsedNanos = System.nanoTime() - started;
+        long allocatedPerCall = (threads.getThreadAllocatedBytes(threadId) - allocatedBefore) / ITERATIONS;
+
+        Arrays.sort(latenciesNanos);
+        System.out.printf(
+                "[order-read-benchmark] mode=%s batch=%d calls=%d throughput=%.0f/s "
+                        + "p50=%.2fms p99=%.2fms allocated=%dKB/call response=%dKB%n",
+                mode,
+                ids.size(),
+                ITERATIONS,
+                ITERATIONS / (elapsedNanos / 1_000_000_000.0),
+                latenciesNanos[ITERATIONS / 2] / 1_000_000.0,
+                latenciesNanos[(int) Math.ceil(ITERATIONS * 0.99) - 1] / 1_000_000.0,
+                allocatedPerCall / 1024,
+                responseBytes / 1024);
+    }
+
+    /**
+     * Inserts the benchmark orders unless an earlier context already did.
+     */
+    private static void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("""
+                INSERT INTO order_service.order_header
+                    (id, external_id, customer_id, status, total_amount, currency, created_at, updated_at)
+                SELECT gen_random_uuid(), 'EXT-' || g, gen_random_uuid(), 'CREATED', 10.00 + g % 100, 'USD',
+                       now() - g * interval '1 second', now()
+                  FROM generate_series(1, ?) AS g
+                 WHERE NOT EXISTS (SELECT 1 FROM order_service.order_header)
+                """, ORDERS);
+        jdbcTemplate.execute("ANALYZE order_service.order_header");
+    }
+}
@@ -0,0 +1,25 @@
+package com.github.dimitryivaniuta.gateway.order.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The predecessor table backs the conditional status UPDATE, so it must match the domain rules.
+ */
+class OrderTest {
+
+    @Test
+    void allowedPredecessorsFollowTransitionRules() {
+        assertThat(Order.allowedPredecessors(OrderStatus.CONFIRMED))
+                .isEqualTo(EnumSet.of(OrderStatus.CREATED, OrderStatus.CONFIRMED));
+        assertThat(Order.allowedPredecessors(OrderStatus.CANCELLED))
+                .isEqualTo(EnumSet.of(OrderStatus.CREATED, OrderStatus.CONFIRMED, OrderStatus.CANCELLED));
+        assertThat(Order.allowedPredecessors(OrderStatus.FULFILLED))
+                .isEqualTo(EnumSet.of(OrderStatus.CONFIRMED));
+        assertThat(Order.allowedPredecessors(OrderStatus.CREATED))
+                .isEqualTo(EnumSet.of(OrderStatus.CREATED));
+    }
+}
@@ -0,0 +1,109 @@
+package com.github.dimitryivaniuta.gateway.order.infrastructure.cache;
+
+import com.github.dimitryivaniuta.gateway.common.money.Money;
+import com.github.dimitryivaniuta.gateway.order.config.OrderCacheProperties;
+import com.github.dimitryivaniuta.gateway.order.domain.Order;
+import com.github.dimitryivaniuta.gateway.order.domain.OrderId;
+import com.github.dimitryivaniuta.gateway.order.domain.OrderStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Version-aware invalidation and the epoch guard against re-caching rows read before a change.
+ */
+class OrderCacheTest {
+
+    private final OrderCache cache = new OrderCache(
+            new OrderCacheProperties(true, 10, false, 0, 0), new SimpleMeterRegistry());
+
+    @Test
+    void notificationOnlyEvictsOlderVersions() {
+        cache.connected();
+        VersionedOrder order = versioned(UUID.randomUUID(), 3);
+        cache.putAllIfCurrent(List.of(order), cache.epoch());
+
+        // the write that produced version 3 notifies after this replica cached it
+        cache.onChange(order.id(), 3L);
+        assertThat(cache.getAll(List.of(order.id()))).containsKey(order.id());
+
+        cache.onChange(order.id(), 4L);
+        assertThat(cache.getAll(List.of(order.id()))).isEmpty();
+    }
+
+    @Test
+    void rowsReadBeforeANotificationAreNotCached() {
+        cache.connected();
+        long observed = cache.epoch();
+        VersionedOrder order = versioned(UUID.randomUUID(), 1);
+
+        cache.onChange(order.id(), 2L);
+        cache.putAllIfCurrent(List.of(order), observed);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void anyNotificationDuringTheReadDiscardsTheWholeBatch() {
+        cache.connected();
+        long observed = cache.epoch();
+        VersionedOrder order = versioned(UUID.randomUUID(), 1);
+
+        cache.onChange(UUID.randomUUID(), 7L);
+        cache.putAllIfCurrent(List.of(order), observed);
+        assertThat(cache.size()).isZero();
+
+        cache.putAllIfCurrent(List.of(order), cache.epoch());
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void replicaRowsOlderThanTheLastNotifiedVersionAreNotCached() {
+        cache.connected();
+        UUID id = UUID.randomUUID();
+        cache.onChange(id, 5L);
+
+        // read after the notification, from a replica that has not replayed version 5 yet
+        cache.putAllIfCurrent(List.of(versioned(id, 4)), cache.epoch());
+        assertThat(cache.size()).isZero();
+
+        cache.putAllIfCurrent(List.of(versioned(id, 5)), cache.epoch());
+        assertThat(cache.getAll(List.of(id))).hasEntrySatisfying(id, o -> assertThat(o.version()).isEqualTo(5));
+    }
+
+    @Test
+    void deletedOrdersAreNeverCachedAgain() {
+        cache.connected();
+        UUID id = UUID.randomUUID();
+        cache.onChange(id, null);
+
+        cache.putAllIfCurrent(List.of(versioned(id, 9)), cache.epoch());
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void nothingIsCachedWhileDisconnected() {
+        VersionedOrder order = versioned(UUID.randomUUID(), 1);
+        cache.putAllIfCurrent(List.of(order), cache.epoch());
+        assertThat(cache.size()).isZero();
+
+        cache.connected();
+        cache.putAllIfCurrent(List.of(order), cache.epoch());
+        cache.disconnected();
+        assertThat(cache.getAll(List.of(order.id()))).isEmpty();
+    }
+
+    private static VersionedOrder versioned(UUID id, long version) {
+        OffsetDateTime now = OffsetDateTime.now();
+        Order order = new Order(new OrderId(id), UUID.randomUUID(), OrderStatus.CREATED,
+                Money.of(new BigDecimal("10.00"), "USD"), now, now, null);
+        return new VersionedOrder(order, version);
+    }
+}
@@ -0,0 +1,149 @@
+package com.github.dimitryivaniuta.gateway.order.infrastructure.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Routing decisions for read-only transactions: lag, consistency tokens and primary hints.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final long MAX_LAG = 1_000;
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private final ReplicaLagMonitor monitor =
+            new ReplicaLagMonitor(primary, replica, MAX_LAG, new SimpleMeterRegistry());
+    private final ReplicaRoutingDataSource routing =
+            new ReplicaRoutingDataSource(primary, replica, monitor, new SimpleMeterRegistry());
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplicaWhileItKeepsUp() throws SQLException {
+        monitor.update(5_000, 4_500L);
+
+        assertThat(routing.getConnection()).isSameAs(replicaConnection);
+        assertThat(ReplicaRoutingDataSource.isCurrentTransactionOnReplica()).isTrue();
+    }
+
+    @Test
+    void writesAndLaggingOrNonStandbyReplicasUseThePrimary() throws SQLException {
+        monitor.update(5_000, 3_000L);
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+
+        monitor.update(5_000, null);
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+
+        monitor.update(5_000, 5_000L);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        assertThat(ReplicaRoutingDataSource.isCurrentTransactionOnReplica()).isFalse();
+    }
+
+    @Test
+    void usePrimaryOverridesTheReplica() throws SQLException {
+        monitor.update(5_000, 5_000L);
+
+        Connection connection = ReplicaRoutingDataSource.usePrimary(() -> {
+            try {
+                return routing.getConnection();
+            } catch (SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+
+        assertThat(connection).isSameAs(primaryConnection);
+        assertThat(routing.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void tokenNotYetReplayedReadsThePrimary() throws SQLException {
+        PreparedStatement check = mock(PreparedStatement.class);
+        ResultSet result = mock(ResultSet.class);
+        when(replicaConnection.prepareStatement(anyString())).thenReturn(check);
+        when(check.executeQuery()).thenReturn(result);
+        when(result.next()).thenReturn(true);
+        when(result.getBoolean(1)).thenReturn(false);
+
+        // within the lag limit, but the token is ahead of the last known replay position
+        monitor.update(0x1_0000_0000L, 0x1_0000_0000L - MAX_LAG);
+        try (ConsistencyToken.Scope ignored = ConsistencyToken.open("1/10", token -> { })) {
+            assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        }
+        verify(replicaConnection).close();
+        verify(check).setString(1, "1/10");
+    }
+
+    @Test
+    void writeIssuesTheTokenFromItsOwnConnectionAfterCommit() throws SQLException {
+        Statement statement = mock(Statement.class);
+        ResultSet result = mock(ResultSet.class);
+        when(primaryConnection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(result);
+        when(result.next()).thenReturn(true);
+        when(result.getString(1)).thenReturn("1/20");
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+
+        List<String> issued = new ArrayList<>();
+        try (ConsistencyToken.Scope ignored = ConsistencyToken.open(null, issued::add)) {
+            assertThat(routing.getConnection()).isSameAs(primaryConnection);
+            assertThat(issued).isEmpty();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        }
+
+        assertThat(issued).containsExactly("1/20");
+        verify(primary, times(1)).getConnection();
+    }
+
+    @Test
+    void explicitCredentialsGoToThePrimary() throws SQLException {
+        when(primary.getConnection("app", "secret")).thenReturn(primaryConnection);
+
+        assertThat(routing.getConnection("app", "secret")).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void lsnTextRoundTrips() {
+        assertThat(WalLsn.parse("16/B374D848")).isEqualTo(0x16_B374D848L);
+        assertThat(WalLsn.format(0x16_B374D848L)).isEqualTo("16/B374D848");
+        assertThatThrownBy(() -> WalLsn.parse("B374D848")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
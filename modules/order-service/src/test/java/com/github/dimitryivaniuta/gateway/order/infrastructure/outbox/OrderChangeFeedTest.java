@@ -0,0 +1,248 @@
+package com.github.dimitryivaniuta.gateway.order.infrastructure.outbox;
+
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.crypto.spec.SecretKeySpec;
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * Relay and change feed against a real database: positions follow commit order, streams
+ * resume after {@code since} / {@code Last-Event-ID}, and a purged cursor gets a reset.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class OrderChangeFeedTest {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO order_service.order_outbox (order_id, version, change_type, payload)
+            VALUES (?, 1, 'CREATED', jsonb_build_object('id', ?::text))
+            """;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:latest")
+            .withDatabaseName("orders_feed")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void registerDataSource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        // the tests relay themselves, at the points they need
+        registry.add("orders.outbox.relay-interval-ms", () -> "3600000");
+        registry.add("orders.outbox.feed-poll-ms", () -> "50");
+    }
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    OrderOutboxRelay relay;
+
+    @Value("${security.jwt.issuer}")
+    String issuer;
+
+    @Value("${security.jwt.secret}")
+    String secret;
+
+    private final HttpClient http = HttpClient.newHttpClient();
+
+    @Test
+    void positionsFollowCommitOrderNotInsertOrder() throws Exception {
+        long head = head();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        try (Connection uncommitted = dataSource.getConnection()) {
+            uncommitted.setAutoCommit(false);
+            insert(uncommitted, first);        // lower id, still uncommitted
+            insertCommitted(second);
+            relay.relay();
+            uncommitted.commit();
+        }
+        relay.relay();
+
+        assertThat(positionOf(second)).isLessThan(positionOf(first));
+        try (Stream<String> lines = open("?since=" + head, null)) {
+            List<Event> events = read(lines, 2);
+            assertThat(events).extracting(Event::data)
+                    .containsExactly(payloadOf(second), payloadOf(first));
+            assertThat(events).extracting(Event::name).containsOnly("CREATED");
+        }
+    }
+
+    @Test
+    void streamResumesAfterSinceOrLastEventId() throws Exception {
+        long head = head();
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+        insertCommitted(a);
+        insertCommitted(b);
+        insertCommitted(c);
+        relay.relay();
+        long afterA = positionOf(a);
+
+        try (Stream<String> lines = open("?since=" + head, null)) {
+            assertThat(read(lines, 3)).extracting(Event::data)
+                    .containsExactly(payloadOf(a), payloadOf(b), payloadOf(c));
+        }
+        // Last-Event-ID wins over since, as on a browser reconnect
+        try (Stream<String> lines = open("?since=" + head, afterA)) {
+            List<Event> events = read(lines, 2);
+            assertThat(events).extracting(Event::data).containsExactly(payloadOf(b), payloadOf(c));
+            assertThat(events.get(1).id()).isEqualTo(Long.toString(positionOf(c)));
+        }
+    }
+
+    @Test
+    void purgedCursorGetsResetBeforeTheRetainedChanges() throws Exception {
+        UUID purged = UUID.randomUUID();
+        UUID kept = UUID.randomUUID();
+        insertCommitted(purged);
+        relay.relay();
+        long stale = positionOf(purged);
+        insertCommitted(UUID.randomUUID());
+        insertCommitted(kept);
+        relay.relay();
+        long keptAt = positionOf(kept);
+        jdbcTemplate.update("DELETE FROM order_service.order_outbox WHERE position < ?", keptAt);
+
+        try (Stream<String> lines = open("?since=" + stale, null)) {
+            List<Event> events = read(lines, 2);
+            assertThat(events.get(0).name()).isEqualTo("reset");
+            assertThat(events.get(0).id()).isEqualTo(Long.toString(keptAt - 1));
+            assertThat(events.get(1).data()).isEqualTo(payloadOf(kept));
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Helpers
+    // -------------------------------------------------------------------------
+
+    private record Event(String id, String name, String data) {
+    }
+
+    private Stream<String> open(String query, Long lastEventId) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + "/internal/orders/changes" + query))
+                .header("Authorization", "Bearer " + token())
+                .header("Accept", "text/event-stream");
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", Long.toString(lastEventId));
+        }
+        HttpResponse<Stream<String>> response = http.send(request.build(), HttpResponse.BodyHandlers.ofLines());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return response.body();
+    }
+
+    /**
+     * The first {@code count} events of a stream, skipping keep-alive comments.
+     */
+    private static List<Event> read(Stream<String> lines, int count) {
+        return assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            List<Event> events = new ArrayList<>();
+            Iterator<String> it = lines.iterator();
+            String id = null;
+            String name = null;
+            String data = null;
+            while (events.size() < count && it.hasNext()) {
+                String line = it.next();
+                if (line.isEmpty()) {
+                    if (id != null || name != null || data != null) {
+                        events.add(new Event(id, name, data));
+                    }
+                    id = name = data = null;
+                } else if (line.startsWith("id:")) {
+                    id = line.substring(3);
+                } else if (line.startsWith("event:")) {
+                    name = line.substring(6);
+                } else if (line.startsWith("data:")) {
+                    data = line.substring(5);
+                }
+            }
+            return events;
+        });
+    }
+
+    private String token() {
+        var key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        var claims = JwtClaimsSet.builder()
+                .issuer(issuer)
+                .subject("order-change-feed-test")
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(300))
+                .claim("scope", "orders.internal")
+                .build();
+        return new NimbusJwtEncoder(new ImmutableSecret<>(key))
+                .encode(JwtEncoderParameters.from(JwsHeader.with(MacAlgorithm.HS256).build(), claims))
+                .getTokenValue();
+    }
+
+    private long head() {
+        Long head = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(max(position), 0) FROM order_service.order_outbox", Long.class);
+        return head == null ? 0L : head;
+    }
+
+    private void insertCommitted(UUID orderId) {
+        jdbcTemplate.update(INSERT_SQL, orderId, orderId.toString());
+    }
+
+    private static void insert(Connection connection, UUID orderId) throws Exception {
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL)) {
+            ps.setObject(1, orderId);
+            ps.setString(2, orderId.toString());
+            ps.executeUpdate();
+        }
+    }
+
+    private long positionOf(UUID orderId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT position FROM order_service.order_outbox WHERE order_id = ?", Long.class, orderId);
+    }
+
+    private static String payloadOf(UUID orderId) {
+        return "{\"id\": \"" + orderId + "\"}";
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.dimitryivaniuta.gateway.order.infrastructure.persistence;
+
+import com.github.dimitryivaniuta.gateway.common.money.Money;
+import com.github.dimitryivaniuta.gateway.order.domain.Order;
+import com.github.dimitryivaniuta.gateway.order.domain.OrderId;
+import com.github.dimitryivaniuta.gateway.order.domain.OrderStatus;
+import com.github.dimitryivaniuta.gateway.order.infrastructure.cache.OrderCache;
+import com.github.dimitryivaniuta.gateway.order.infrastructure.cache.VersionedOrder;
+import com.github.dimitryivaniuta.gateway.order.infrastructure.outbox.OrderChangeType;
+import com.github.dimitryivaniuta.gateway.order.infrastructure.outbox.OrderOutbox;
+import com.github.dimitryivaniuta.gateway.order.infrastructure.persistence.repository.SpringDataOrderJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Bookkeeping around the conditional status update: outbox entries for the updated rows
+ * only, and the cache refreshed once the transaction has committed.
+ */
+class OrderRepositoryJpaAdapterTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final OrderCache cache = mock(OrderCache.class);
+    private final OrderOutbox outbox = mock(OrderOutbox.class);
+    private final OrderRepositoryJpaAdapter adapter = new OrderRepositoryJpaAdapter(
+            mock(SpringDataOrderJpaRepository.class), jdbcTemplate, cache, outbox);
+
+    @BeforeEach
+    void startTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void endTransaction() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void updatedRowsAreRecordedOnceAndCachedAfterCommit() {
+        UUID updatedId = UUID.randomUUID();
+        UUID refusedId = UUID.randomUUID();
+        VersionedOrder updated = versioned(updatedId, OrderStatus.CONFIRMED, 4);
+        when(cache.epoch()).thenReturn(11L);
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(RowMapper.class)))
+                .thenReturn(List.of(updated));
+
+        List<Order> result = adapter.updateStatus(
+                List.of(OrderId.of(updatedId), OrderId.of(refusedId)),
+                EnumSet.of(OrderStatus.CREATED), OrderStatus.CONFIRMED);
+
+        assertThat(result).containsExactly(updated.order());
+        verify(outbox).record(OrderChangeType.STATUS_CHANGED, List.of(updatedId));
+        verify(cache, never()).putAllIfCurrent(anyCollection(), anyLong());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(cache).putAllIfCurrent(List.of(updated), 11L);
+    }
+
+    @Test
+    void noIdsOrNoAllowedPredecessorsSkipTheUpdate() {
+        assertThat(adapter.updateStatus(List.of(), EnumSet.of(OrderStatus.CREATED), OrderStatus.CONFIRMED)).isEmpty();
+        assertThat(adapter.updateStatus(List.of(OrderId.of(UUID.randomUUID())),
+                EnumSet.noneOf(OrderStatus.class), OrderStatus.CREATED)).isEmpty();
+
+        verify(outbox, never()).record(any(), anyCollection());
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+    }
+
+    private static VersionedOrder versioned(UUID id, OrderStatus status, long version) {
+        OffsetDateTime now = OffsetDateTime.now();
+        Order order = new Order(new OrderId(id), UUID.randomUUID(), status,
+                Money.of(new BigDecimal("10.00"), "USD"), now, now, null);
+        return new VersionedOrder(order, version);
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.dimitryivaniuta.gateway.order.infrastructure.persistence;
+
+import com.github.dimitryivaniuta.gateway.order.application.BulkOrderService;
+import com.github.dimitryivaniuta.gateway.order.application.result.StatusChangeResult;
+import com.github.dimitryivaniuta.gateway.order.domain.OrderStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The conditional {@code UPDATE ... RETURNING} against a real database: only rows in an
+ * allowed status change, each gets a new version and one {@code STATUS_CHANGED} outbox entry.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest
+class OrderStatusUpdateTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:latest")
+            .withDatabaseName("orders_status")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void registerDataSource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("orders.outbox.relay-interval-ms", () -> "3600000");
+    }
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    BulkOrderService bulkOrderService;
+
+    @Test
+    void onlyRowsInAnAllowedStatusAreUpdated() {
+        UUID created = insert(OrderStatus.CREATED);
+        UUID cancelled = insert(OrderStatus.CANCELLED);
+
+        List<StatusChangeResult> results = bulkOrderService.changeStatuses(
+                List.of(created, cancelled), OrderStatus.CONFIRMED);
+
+        assertThat(results).extracting(StatusChangeResult::outcome).containsExactly(
+                StatusChangeResult.Outcome.UPDATED, StatusChangeResult.Outcome.REJECTED);
+
+        Map<String, Object> updatedRow = row(created);
+        assertThat(updatedRow).containsEntry("status", "CONFIRMED").containsEntry("version", 1L);
+        assertThat(updatedRow.get("updated_at")).isNotNull();
+
+        Map<String, Object> refusedRow = row(cancelled);
+        assertThat(refusedRow).containsEntry("status", "CANCELLED").containsEntry("version", 0L);
+        assertThat(refusedRow.get("updated_at")).isNull();
+
+        List<Map<String, Object>> outbox = jdbcTemplate.queryForList("""
+                SELECT order_id, version FROM order_service.order_outbox
+                 WHERE change_type = 'STATUS_CHANGED' AND order_id IN (?, ?)
+                """, created, cancelled);
+        assertThat(outbox).singleElement().satisfies(entry -> {
+            assertThat(entry).containsEntry("order_id", created);
+            assertThat(((Number) entry.get("version")).longValue()).isEqualTo(1L);
+        });
+    }
+
+    private UUID insert(OrderStatus status) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO order_service.order_header (id, customer_id, status, total_amount, currency)
+                VALUES (?, ?, ?, 10.00, 'USD')
+                """, id, UUID.randomUUID(), status.name());
+        return id;
+    }
+
+    private Map<String, Object> row(UUID id) {
+        return jdbcTemplate.queryForMap(
+                "SELECT status, version, updated_at FROM order_service.order_header WHERE id = ?", id);
+    }
+}
@@ -0,0 +1,5 @@
+#!/bin/bash
+# Lets the compose standby (profile "replica") stream WAL from the primary.
+# Runs once, when the primary's data volume is initialised.
+set -e
+echo "host replication ${POSTGRES_USER} all scram-sha-256" >> "$PGDATA/pg_hba.conf"